@@ -16,6 +16,7 @@
  */
 package org.operaton.bpm.client;
 
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.operaton.bpm.client.backoff.BackoffStrategy;
@@ -211,6 +212,34 @@ public interface ExternalTaskClientBuilder {
    */
   ExternalTaskClientBuilder disableBackoffStrategy();
 
+  /**
+   * Specifies an executor which runs the handlers of the fetched tasks. This information is optional.
+   * <p>
+   * If an executor is given, the tasks of a fetched batch are handled concurrently and the next batch
+   * is fetched while the current one is still handled. At most two batches of {@link #maxTasks(int)}
+   * tasks are in progress at the same time. Any executor can be used, e.g. a fixed thread pool or an
+   * executor which starts a virtual thread per task. The client does not shut the executor down.
+   * <p>
+   * If no executor is given, the tasks are handled sequentially by the thread which fetches them.
+   *
+   * @param handlerExecutor which runs the external task handlers
+   * @return the builder
+   */
+  ExternalTaskClientBuilder handlerExecutor(Executor handlerExecutor);
+
+  /**
+   * Specifies the maximum number of persistent HTTP connections to the Operaton REST API.
+   * Connections are kept alive and reused for fetching, completing and failing tasks.
+   * This information is optional. Unless a number is given, the defaults of the Apache HTTP client apply.
+   * <p>
+   * When handling tasks with a {@link #handlerExecutor(Executor)}, the number of connections should be
+   * high enough to let the handlers complete tasks concurrently.
+   *
+   * @param maxConnections of the connection pool
+   * @return the builder
+   */
+  ExternalTaskClientBuilder maxConnections(int maxConnections);
+
   /**
    * Exposes the internal Apache {@link HttpClientBuilder} for custom client configurations.
    * <p>
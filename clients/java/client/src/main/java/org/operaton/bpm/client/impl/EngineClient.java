@@ -205,6 +205,10 @@ public class EngineClient {
     this.typedValues = typedValues;
   }
 
+  public int getMaxTasks() {
+    return maxTasks;
+  }
+
   public boolean isUsePriority() {
     return usePriority;
   }
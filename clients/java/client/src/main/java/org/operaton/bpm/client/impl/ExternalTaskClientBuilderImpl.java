@@ -32,9 +32,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.operaton.bpm.client.ExternalTaskClient;
 import org.operaton.bpm.client.ExternalTaskClientBuilder;
 import org.operaton.bpm.client.UrlResolver;
@@ -95,6 +97,8 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
   protected BackoffStrategy backoffStrategy;
   protected boolean isBackoffStrategyDisabled;
   protected UrlResolver urlResolver;
+  protected Executor handlerExecutor;
+  protected Integer maxConnections;
 
   public ExternalTaskClientBuilderImpl() {
     // default values
@@ -214,6 +218,18 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
     return this;
   }
 
+  @Override
+  public ExternalTaskClientBuilder handlerExecutor(Executor handlerExecutor) {
+    this.handlerExecutor = handlerExecutor;
+    return this;
+  }
+
+  @Override
+  public ExternalTaskClientBuilder maxConnections(int maxConnections) {
+    this.maxConnections = maxConnections;
+    return this;
+  }
+
   @Override
   public ExternalTaskClientBuilder customizeHttpClient(Consumer<HttpClientBuilder> httpClientConsumer) {
     httpClientConsumer.accept(httpClientBuilder);
@@ -234,6 +250,10 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
       throw LOG.lockDurationIsNotGreaterThanZeroException(lockDuration);
     }
 
+    if (maxConnections != null && maxConnections <= 0) {
+      throw LOG.maxConnectionsNotGreaterThanZeroException(maxConnections);
+    }
+
     if (urlResolver == null || getBaseUrl() == null || getBaseUrl().isEmpty()) {
       throw LOG.baseUrlNullException();
     }
@@ -327,6 +347,13 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
   protected void initEngineClient() {
     RequestInterceptorHandler requestInterceptorHandler = new RequestInterceptorHandler(interceptors);
     httpClientBuilder.addRequestInterceptorLast(requestInterceptorHandler);
+    if (maxConnections != null) {
+      httpClientBuilder.setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+          .useSystemProperties()
+          .setMaxConnTotal(maxConnections)
+          .setMaxConnPerRoute(maxConnections)
+          .build());
+    }
     RequestExecutor requestExecutor = new RequestExecutor(httpClientBuilder.build(), objectMapper);
 
     engineClient = new EngineClient(workerId, maxTasks, asyncResponseTimeout, urlResolver, requestExecutor, usePriority,
@@ -336,6 +363,7 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
   protected void initTopicSubscriptionManager() {
     topicSubscriptionManager = new TopicSubscriptionManager(engineClient, typedValues, lockDuration);
     topicSubscriptionManager.setBackoffStrategy(getBackoffStrategy());
+    topicSubscriptionManager.setHandlerExecutor(handlerExecutor);
 
     if (isBackoffStrategyDisabled) {
       topicSubscriptionManager.disableBackoffStrategy();
@@ -444,6 +472,14 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
     return backoffStrategy;
   }
 
+  protected Executor getHandlerExecutor() {
+    return handlerExecutor;
+  }
+
+  protected Integer getMaxConnections() {
+    return maxConnections;
+  }
+
   public String getDefaultSerializationFormat() {
     return defaultSerializationFormat;
   }
@@ -164,6 +164,11 @@ public class ExternalTaskClientLogger extends BaseLogger {
       "014", "Maximum amount of fetched tasks must be greater than zero, but was '{}'", maxTasks));
   }
 
+  public ExternalTaskClientException maxConnectionsNotGreaterThanZeroException(Integer maxConnections) {
+    return new ExternalTaskClientException(exceptionMessage(
+      "032", "Maximum amount of connections must be greater than zero, but was '{}'", maxConnections));
+  }
+
   public ExternalTaskClientException asyncResponseTimeoutNotGreaterThanZeroException(Long asyncResponseTimeout) {
     return new ExternalTaskClientException(exceptionMessage(
       "015", "Asynchronous response timeout must be greater than zero, but was '{}'", asyncResponseTimeout));
@@ -21,6 +21,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Condition;
@@ -54,6 +56,10 @@ public class TopicSubscriptionManager implements Runnable {
   protected Condition IS_WAITING = ACQUISITION_MONITOR.newCondition();
   protected AtomicBoolean isRunning = new AtomicBoolean(false);
 
+  protected ReentrantLock HANDLER_MONITOR = new ReentrantLock(false);
+  protected Condition TASK_HANDLED = HANDLER_MONITOR.newCondition();
+  protected int tasksInProgress;
+
   protected ExternalTaskServiceImpl externalTaskService;
 
   protected EngineClient engineClient;
@@ -71,6 +77,8 @@ public class TopicSubscriptionManager implements Runnable {
 
   protected long clientLockDuration;
 
+  protected Executor handlerExecutor;
+
   public TopicSubscriptionManager(EngineClient engineClient, TypedValues typedValues, long clientLockDuration) {
     this.engineClient = engineClient;
     this.subscriptions = new CopyOnWriteArrayList<>();
@@ -100,6 +108,11 @@ public class TopicSubscriptionManager implements Runnable {
     subscriptions.forEach(this::prepareAcquisition);
 
     if (!taskTopicRequests.isEmpty()) {
+      if (handlerExecutor != null) {
+        // the next batch is fetched while at most one batch is still being handled
+        waitForTasksInProgress(engineClient.getMaxTasks());
+      }
+
       FetchAndLockResponseDto fetchAndLockResponse = fetchAndLock(taskTopicRequests);
 
       fetchAndLockResponse.getExternalTasks().forEach(externalTask -> {
@@ -107,7 +120,11 @@ public class TopicSubscriptionManager implements Runnable {
         ExternalTaskHandler taskHandler = externalTaskHandlers.get(topicName);
 
         if (taskHandler != null) {
-          handleExternalTask(externalTask, taskHandler);
+          if (handlerExecutor != null) {
+            submitExternalTask(externalTask, taskHandler);
+          } else {
+            handleExternalTask(externalTask, taskHandler);
+          }
         }
         else {
           LOG.taskHandlerIsNull(topicName);
@@ -161,6 +178,59 @@ public class TopicSubscriptionManager implements Runnable {
     }
   }
 
+  protected void submitExternalTask(ExternalTask externalTask, ExternalTaskHandler taskHandler) {
+    taskStarted();
+    try {
+      handlerExecutor.execute(() -> {
+        try {
+          handleExternalTask(externalTask, taskHandler);
+        } finally {
+          taskHandled();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      taskHandled();
+      // the task is unlocked by the engine once its lock expires
+      LOG.exceptionWhileSubmittingExternalTask(externalTask.getTopicName(), e);
+    }
+  }
+
+  protected void taskStarted() {
+    HANDLER_MONITOR.lock();
+    try {
+      tasksInProgress++;
+    } finally {
+      HANDLER_MONITOR.unlock();
+    }
+  }
+
+  protected void taskHandled() {
+    HANDLER_MONITOR.lock();
+    try {
+      tasksInProgress--;
+      TASK_HANDLED.signalAll();
+    } finally {
+      HANDLER_MONITOR.unlock();
+    }
+  }
+
+  /**
+   * Blocks until no more than the given number of tasks are being handled by the handler executor.
+   */
+  protected void waitForTasksInProgress(int maxTasksInProgress) {
+    HANDLER_MONITOR.lock();
+    try {
+      while (tasksInProgress > maxTasksInProgress) {
+        TASK_HANDLED.await();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.exceptionWhileShuttingDown(e);
+    } finally {
+      HANDLER_MONITOR.unlock();
+    }
+  }
+
   public synchronized void stop() {
     if (isRunning.compareAndSet(true, false)) {
       resume();
@@ -171,6 +241,10 @@ public class TopicSubscriptionManager implements Runnable {
         Thread.currentThread().interrupt();
         LOG.exceptionWhileShuttingDown(e);
       }
+
+      if (handlerExecutor != null) {
+        waitForTasksInProgress(0);
+      }
     }
   }
 
@@ -268,6 +342,19 @@ public class TopicSubscriptionManager implements Runnable {
     }
   }
 
+  /**
+   * Sets the executor which handles the fetched tasks. If an executor is set, the tasks of a
+   * batch are handled concurrently and the next batch is fetched while they are handled.
+   * Otherwise, all tasks are handled sequentially by the acquisition thread.
+   */
+  public void setHandlerExecutor(Executor handlerExecutor) {
+    this.handlerExecutor = handlerExecutor;
+  }
+
+  public Executor getHandlerExecutor() {
+    return handlerExecutor;
+  }
+
   public void disableBackoffStrategy() {
     this.isBackoffStrategyDisabled.set(true);
   }
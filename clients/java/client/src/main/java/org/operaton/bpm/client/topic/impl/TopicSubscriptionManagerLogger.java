@@ -78,4 +78,10 @@ public class TopicSubscriptionManagerLogger extends ExternalTaskClientLogger {
       String.format("Timed out after %d ms without a signal.", waitTime));
   }
 
+  protected void exceptionWhileSubmittingExternalTask(String topicName, Throwable e) {
+    logError(
+      "010",
+      String.format("Exception while submitting external task of topic '%s' to the handler executor.", topicName), e);
+  }
+
 }
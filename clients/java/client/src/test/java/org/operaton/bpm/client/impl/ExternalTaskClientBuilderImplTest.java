@@ -17,15 +17,19 @@
 package org.operaton.bpm.client.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
 import org.apache.hc.core5.util.Timeout;
 import org.junit.jupiter.api.Test;
 import org.operaton.bpm.client.ExternalTaskClient;
 import org.operaton.bpm.client.UrlResolver;
+import org.operaton.bpm.client.exception.ExternalTaskClientException;
 import org.operaton.bpm.engine.impl.util.ReflectUtil;
 import org.mockito.ArgumentCaptor;
 
@@ -64,6 +68,44 @@ class ExternalTaskClientBuilderImplTest {
     }
   }
 
+  @Test
+  void maxConnectionsConfiguresConnectionPool() {
+    // given
+    var clientBuilder = new ExternalTaskClientBuilderImpl();
+    var httpClientBuilderSpy = spy(HttpClientBuilder.class);
+    var httpClientBuilderField = ReflectUtil.getField("httpClientBuilder", clientBuilder);
+    ReflectUtil.setField(httpClientBuilderField, clientBuilder, httpClientBuilderSpy);
+
+    ExternalTaskClient client = null;
+    try {
+      // when
+      client = clientBuilder.baseUrl("localhost")
+          .maxConnections(50)
+          .disableAutoFetching()
+          .build();
+
+      // then
+      verify(httpClientBuilderSpy).setConnectionManager(any(HttpClientConnectionManager.class));
+    } finally {
+      if (client != null) {
+        client.stop();
+      }
+    }
+  }
+
+  @Test
+  void maxConnectionsMustBeGreaterThanZero() {
+    // given
+    var clientBuilder = new ExternalTaskClientBuilderImpl()
+        .baseUrl("localhost")
+        .maxConnections(0);
+
+    // when/then
+    assertThatThrownBy(clientBuilder::build)
+        .isInstanceOf(ExternalTaskClientException.class)
+        .hasMessageContaining("Maximum amount of connections must be greater than zero");
+  }
+
   @Test
  void testCustomBaseUrlResolver() {
     // given
@@ -29,6 +29,8 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -217,6 +219,42 @@ class TopicSubscriptionManagerTest {
 		assertEquals(2, t1Handler.getExecuteCount());
 	}
 
+	@Test
+	void tasksAreHandledByHandlerExecutor() {
+		ExecutorService handlerExecutor = Executors.newFixedThreadPool(2);
+		try {
+			topicSubscriptionManager.setHandlerExecutor(handlerExecutor);
+			subscribeTopicT0();
+			subscribeTopicT1();
+			topicSubscriptionManager.start();
+			waitMillies(500);
+			topicSubscriptionManager.stop();
+
+			assertEquals(1, t0Handler.getExecuteCount());
+			assertEquals(1, t1Handler.getExecuteCount());
+			assertTrue(t0Handler.getExecutingThread().getName().startsWith("pool-"));
+		} finally {
+			handlerExecutor.shutdownNow();
+		}
+	}
+
+	@Test
+	void stopWaitsForTasksHandledByHandlerExecutor() {
+		ExecutorService handlerExecutor = Executors.newSingleThreadExecutor();
+		try {
+			topicSubscriptionManager.setHandlerExecutor(handlerExecutor);
+			t0Handler = new RecordingExternalTaskHandler(300);
+			subscribeTopicT0();
+			topicSubscriptionManager.start();
+			waitMillies(100);
+			topicSubscriptionManager.stop();
+
+			assertEquals(1, t0Handler.getExecuteCount());
+		} finally {
+			handlerExecutor.shutdownNow();
+		}
+	}
+
 	private void waitMillies(int millies) {
 		await().pollDelay(Duration.ofMillis(millies)).until(() -> true);
 	}
@@ -261,16 +299,38 @@ class TopicSubscriptionManagerForTesting extends TopicSubscriptionManager {
 
 // Testing class to count the numbers of "execute" calls for a specific task
 class RecordingExternalTaskHandler implements ExternalTaskHandler {
-	private int executeCount = 0;
+	private final long executionTime;
+	private volatile int executeCount = 0;
+	private volatile Thread executingThread;
+
+	public RecordingExternalTaskHandler() {
+		this(0);
+	}
+
+	public RecordingExternalTaskHandler(long executionTime) {
+		this.executionTime = executionTime;
+	}
 
 	@Override
 	public void execute(ExternalTask externalTask, ExternalTaskService externalTaskService) {
+		executingThread = Thread.currentThread();
+		if (executionTime > 0) {
+			try {
+				Thread.sleep(executionTime);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
 		executeCount++;
 	}
 
 	public int getExecuteCount() {
 		return executeCount;
 	}
+
+	public Thread getExecutingThread() {
+		return executingThread;
+	}
 }
 
 // Backup strategy that waits one second to make thread testing reliable
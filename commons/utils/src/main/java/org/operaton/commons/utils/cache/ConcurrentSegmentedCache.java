@@ -0,0 +1,372 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.commons.utils.cache;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe {@link Cache} with a fixed capacity that uses a W-TinyLFU eviction policy.
+ * <p>
+ * The key space is split into independently locked segments, so concurrent readers of
+ * different keys rarely contend. Every segment keeps an admission window and a main region,
+ * both in access order. New entries always enter the window; an entry leaving the
+ * window is only admitted into the full main region if it has been used more frequently than
+ * the least recently used entry of the main region. Access frequencies are approximated by
+ * a small count-min sketch per segment that is periodically aged.
+ * <p>
+ * All operations are O(1). In contrast to {@link ConcurrentLruCache}, a hit does not scan
+ * a queue of keys.
+ * <p>
+ * *Note*: Since the capacity is divided among the segments, an entry may be evicted
+ * before the cache as a whole reaches its capacity if the keys are unevenly distributed.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of mapped values
+ */
+public class ConcurrentSegmentedCache<K, V> implements Cache<K, V> {
+
+  public static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+  /**
+   * A segment is only split further if every resulting segment can hold at least this many entries.
+   */
+  protected static final int MIN_SEGMENT_CAPACITY = 16;
+
+  /**
+   * The share of a segment reserved for the admission window, in percent. The window is large
+   * enough that all entries loaded together, e.g. the definitions of one resource, survive
+   * until they are used for the first time.
+   */
+  protected static final int WINDOW_PERCENTAGE = 20;
+
+  private final int capacity;
+  private final Segment<K, V>[] segments;
+  private final int segmentMask;
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+
+  /**
+   * Creates the cache with a fixed capacity and the default concurrency level.
+   *
+   * @param capacity max number of cache entries
+   * @throws IllegalArgumentException if capacity is negative
+   */
+  public ConcurrentSegmentedCache(int capacity) {
+    this(capacity, DEFAULT_CONCURRENCY_LEVEL);
+  }
+
+  /**
+   * Creates the cache with a fixed capacity.
+   *
+   * @param capacity max number of cache entries
+   * @param concurrencyLevel the estimated number of concurrently accessing threads
+   * @throws IllegalArgumentException if capacity is negative or the concurrency level is not positive
+   */
+  @SuppressWarnings("unchecked")
+  public ConcurrentSegmentedCache(int capacity, int concurrencyLevel) {
+    if (capacity < 0 || concurrencyLevel <= 0) {
+      throw new IllegalArgumentException();
+    }
+    this.capacity = capacity;
+
+    int segmentCount = 1;
+    while (segmentCount < concurrencyLevel && segmentCount * 2L * MIN_SEGMENT_CAPACITY <= capacity) {
+      segmentCount <<= 1;
+    }
+
+    this.segmentMask = segmentCount - 1;
+    this.segments = new Segment[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      // distribute the remainder so that the capacities of all segments add up to the total capacity
+      int segmentCapacity = capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0);
+      segments[i] = new Segment<>(segmentCapacity);
+    }
+  }
+
+  @Override
+  public V get(K key) {
+    int hash = hash(key);
+    V value = segmentFor(hash).get(key, hash);
+    if (value != null) {
+      hitCount.increment();
+    } else {
+      missCount.increment();
+    }
+    return value;
+  }
+
+  /**
+   * Puts the entry into the cache. The entry itself is always admitted; the admission policy
+   * only decides whether the entry which leaves the window in turn replaces the least recently
+   * used entry of the main region or is discarded.
+   */
+  @Override
+  public void put(K key, V value) {
+    if (key == null || value == null) {
+      throw new NullPointerException();
+    }
+
+    int hash = hash(key);
+    int evicted = segmentFor(hash).put(key, value, hash);
+    if (evicted > 0) {
+      evictionCount.add(evicted);
+    }
+  }
+
+  @Override
+  public void remove(K key) {
+    int hash = hash(key);
+    segmentFor(hash).remove(key);
+  }
+
+  @Override
+  public void clear() {
+    for (Segment<K, V> segment : segments) {
+      segment.clear();
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Returns a snapshot of the keys contained in this cache. In contrast to
+   * {@link ConcurrentLruCache#keySet()}, the returned set is not backed by the cache.
+   */
+  @Override
+  public Set<K> keySet() {
+    Set<K> keys = new HashSet<>();
+    for (Segment<K, V> segment : segments) {
+      segment.collectKeys(keys);
+    }
+    return Collections.unmodifiableSet(keys);
+  }
+
+  @Override
+  public int size() {
+    int size = 0;
+    for (Segment<K, V> segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * @return the number of {@link #get(Object)} calls that returned a value
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * @return the number of {@link #get(Object)} calls that returned <code>null</code>
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * @return the number of entries which were discarded to stay within the capacity
+   */
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+
+  /**
+   * Resets the hit, miss and eviction counters.
+   */
+  public void resetStatistics() {
+    hitCount.reset();
+    missCount.reset();
+    evictionCount.reset();
+  }
+
+  protected int getSegmentCount() {
+    return segments.length;
+  }
+
+  protected Segment<K, V> segmentFor(int hash) {
+    // use the upper bits for the segment, the sketch of the segment uses the lower bits
+    return segments[(hash >>> 16) & segmentMask];
+  }
+
+  protected static int hash(Object key) {
+    int h = key.hashCode() * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  protected static class Segment<K, V> {
+
+    protected final int windowCapacity;
+    protected final int mainCapacity;
+
+    protected final LinkedHashMap<K, V> window = new LinkedHashMap<>(16, 0.75f, true);
+    protected final LinkedHashMap<K, V> main = new LinkedHashMap<>(16, 0.75f, true);
+    protected final FrequencySketch sketch;
+
+    protected Segment(int capacity) {
+      this.windowCapacity = capacity == 0 ? 0 : Math.max(1, capacity * WINDOW_PERCENTAGE / 100);
+      this.mainCapacity = capacity - windowCapacity;
+      this.sketch = new FrequencySketch(capacity);
+    }
+
+    protected synchronized V get(K key, int hash) {
+      sketch.increment(hash);
+      V value = window.get(key);
+      if (value == null) {
+        value = main.get(key);
+      }
+      return value;
+    }
+
+    /**
+     * @return the number of evicted entries
+     */
+    protected synchronized int put(K key, V value, int hash) {
+      sketch.increment(hash);
+      if (main.containsKey(key)) {
+        main.put(key, value);
+        return 0;
+      }
+
+      window.put(key, value);
+      if (window.size() <= windowCapacity) {
+        return 0;
+      }
+
+      Map.Entry<K, V> candidate = pollEldest(window);
+      return admit(candidate.getKey(), candidate.getValue());
+    }
+
+    protected int admit(K candidateKey, V candidateValue) {
+      if (main.size() < mainCapacity) {
+        main.put(candidateKey, candidateValue);
+        return 0;
+      }
+      if (mainCapacity == 0) {
+        return 1;
+      }
+
+      Map.Entry<K, V> victim = main.entrySet().iterator().next();
+      if (sketch.frequency(hash(candidateKey)) > sketch.frequency(hash(victim.getKey()))) {
+        main.remove(victim.getKey());
+        main.put(candidateKey, candidateValue);
+      }
+      return 1;
+    }
+
+    protected synchronized void remove(K key) {
+      if (window.remove(key) == null) {
+        main.remove(key);
+      }
+    }
+
+    protected synchronized void clear() {
+      window.clear();
+      main.clear();
+    }
+
+    protected synchronized int size() {
+      return window.size() + main.size();
+    }
+
+    protected synchronized void collectKeys(Set<K> keys) {
+      keys.addAll(window.keySet());
+      keys.addAll(main.keySet());
+    }
+
+    protected static <K, V> Map.Entry<K, V> pollEldest(LinkedHashMap<K, V> map) {
+      Iterator<Map.Entry<K, V>> iterator = map.entrySet().iterator();
+      Map.Entry<K, V> eldest = iterator.next();
+      iterator.remove();
+      return eldest;
+    }
+  }
+
+  /**
+   * A count-min sketch with four rows of saturating 4-bit counters. All counters are halved
+   * once the number of recorded accesses reaches ten times the width of the sketch, so that
+   * the frequencies reflect recent usage.
+   */
+  protected static class FrequencySketch {
+
+    protected static final int DEPTH = 4;
+    protected static final int MAX_FREQUENCY = 15;
+    protected static final int[] SEEDS = { 0x97CB3127, 0xB492B66F, 0x9AE16A3B, 0xCBF29CE4 };
+
+    protected final byte[] table;
+    protected final int widthMask;
+    protected final int sampleSize;
+    protected int additions;
+
+    protected FrequencySketch(int capacity) {
+      int width = Integer.highestOneBit(Math.max(capacity, 8) - 1) << 1;
+      this.table = new byte[width * DEPTH];
+      this.widthMask = width - 1;
+      this.sampleSize = 10 * width;
+    }
+
+    protected void increment(int hash) {
+      boolean added = false;
+      for (int i = 0; i < DEPTH; i++) {
+        int index = indexOf(hash, i);
+        if (table[index] < MAX_FREQUENCY) {
+          table[index]++;
+          added = true;
+        }
+      }
+      if (added && ++additions >= sampleSize) {
+        reset();
+      }
+    }
+
+    protected int frequency(int hash) {
+      int frequency = MAX_FREQUENCY;
+      for (int i = 0; i < DEPTH; i++) {
+        frequency = Math.min(frequency, table[indexOf(hash, i)]);
+      }
+      return frequency;
+    }
+
+    protected int indexOf(int hash, int row) {
+      int h = (hash ^ SEEDS[row]) * SEEDS[row];
+      h ^= h >>> 15;
+      return row * (widthMask + 1) + (h & widthMask);
+    }
+
+    protected void reset() {
+      for (int i = 0; i < table.length; i++) {
+        table[i] = (byte) (table[i] >>> 1);
+      }
+      additions >>>= 1;
+    }
+  }
+
+}
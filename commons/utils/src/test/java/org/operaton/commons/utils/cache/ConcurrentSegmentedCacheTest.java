@@ -0,0 +1,255 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.commons.utils.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConcurrentSegmentedCacheTest {
+
+  private ConcurrentSegmentedCache<String, String> cache;
+
+  @BeforeEach
+  void createCache() {
+    cache = new ConcurrentSegmentedCache<>(3);
+  }
+
+  @Test
+  void getEntryWithNotExistingKey() {
+    assertThat(cache.get("not existing")).isNull();
+  }
+
+  @Test
+  void getEntry() {
+    cache.put("a", "1");
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.get("a")).isEqualTo("1");
+  }
+
+  @Test
+  void overrideEntry() {
+    cache.put("a", "1");
+    cache.put("a", "2");
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.get("a")).isEqualTo("2");
+  }
+
+  @Test
+  void keepCapacity() {
+    for (int i = 0; i < 100; i++) {
+      cache.put("key" + i, "value" + i);
+    }
+
+    assertThat(cache.size()).isEqualTo(3);
+    assertThat(cache.getEvictionCount()).isEqualTo(97);
+  }
+
+  @Test
+  void keepRecentlyInsertedEntry() {
+    cache.put("a", "1");
+    cache.put("b", "2");
+    cache.put("c", "3");
+    cache.put("d", "4");
+
+    assertThat(cache.size()).isEqualTo(3);
+    assertThat(cache.get("d")).isEqualTo("4");
+  }
+
+  @Test
+  void keepFrequentlyUsedEntryDuringScan() {
+    // given
+    ConcurrentSegmentedCache<String, String> cache = new ConcurrentSegmentedCache<>(100);
+    cache.put("hot", "value");
+    for (int i = 0; i < 10; i++) {
+      cache.get("hot");
+    }
+
+    // when
+    for (int i = 0; i < 1000; i++) {
+      cache.put("cold" + i, "value");
+    }
+
+    // then
+    assertThat(cache.get("hot")).isEqualTo("value");
+    assertThat(cache.size()).isEqualTo(100);
+  }
+
+  @Test
+  void keepEntryPutIntoFullCache() {
+    // given
+    ConcurrentSegmentedCache<String, String> cache = new ConcurrentSegmentedCache<>(100, 1);
+    for (int i = 0; i < 100; i++) {
+      cache.put("hot" + i, "value");
+      for (int j = 0; j < 10; j++) {
+        cache.get("hot" + i);
+      }
+    }
+
+    // when
+    cache.put("cold", "value");
+
+    // then
+    assertThat(cache.get("cold")).isEqualTo("value");
+    assertThat(cache.size()).isEqualTo(100);
+  }
+
+  @Test
+  void keepEntriesPutTogetherIntoFullCache() {
+    // given
+    ConcurrentSegmentedCache<String, String> cache = new ConcurrentSegmentedCache<>(100, 1);
+    for (int i = 0; i < 100; i++) {
+      cache.put("hot" + i, "value");
+      for (int j = 0; j < 10; j++) {
+        cache.get("hot" + i);
+      }
+    }
+
+    // when
+    cache.put("cold1", "value");
+    cache.put("cold2", "value");
+    cache.put("cold3", "value");
+
+    // then
+    assertThat(cache.get("cold1")).isEqualTo("value");
+    assertThat(cache.get("cold2")).isEqualTo("value");
+    assertThat(cache.get("cold3")).isEqualTo("value");
+    assertThat(cache.size()).isEqualTo(100);
+  }
+
+  @Test
+  void splitLargeCacheIntoSegments() {
+    ConcurrentSegmentedCache<String, String> cache = new ConcurrentSegmentedCache<>(1000, 8);
+
+    assertThat(cache.getSegmentCount()).isEqualTo(8);
+    assertThat(cache.getCapacity()).isEqualTo(1000);
+  }
+
+  @Test
+  void recordStatistics() {
+    cache.put("a", "1");
+
+    cache.get("a");
+    cache.get("a");
+    cache.get("b");
+
+    assertThat(cache.getHitCount()).isEqualTo(2);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+
+    cache.resetStatistics();
+    assertThat(cache.getHitCount()).isZero();
+    assertThat(cache.getMissCount()).isZero();
+  }
+
+  @Test
+  void returnKeySet() {
+    cache.put("a", "1");
+    cache.put("b", "2");
+
+    assertThat(cache.keySet()).containsExactlyInAnyOrder("a", "b");
+  }
+
+  @Test
+  void clearCache() {
+    cache.put("a", "1");
+
+    cache.clear();
+    assertThat(cache.size()).isZero();
+    assertThat(cache.get("a")).isNull();
+  }
+
+  @Test
+  void removeEntry() {
+    cache.put("a", "1");
+    cache.put("b", "2");
+
+    cache.remove("a");
+
+    assertThat(cache.get("a")).isNull();
+    assertThat(cache.get("b")).isEqualTo("2");
+  }
+
+  @Test
+  void storeNothingWithZeroCapacity() {
+    ConcurrentSegmentedCache<String, String> cache = new ConcurrentSegmentedCache<>(0);
+
+    cache.put("a", "1");
+
+    assertThat(cache.isEmpty()).isTrue();
+  }
+
+  @Test
+  void failToInsertInvalidKey() {
+    assertThrows(NullPointerException.class, () -> cache.put(null, "1"));
+  }
+
+  @Test
+  void failToInsertInvalidValue() {
+    assertThrows(NullPointerException.class, () -> cache.put("a", null));
+  }
+
+  @Test
+  void failToCreateCacheWithInvalidCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new ConcurrentSegmentedCache<String, String>(-1));
+  }
+
+  @Test
+  void failToCreateCacheWithInvalidConcurrencyLevel() {
+    assertThrows(IllegalArgumentException.class, () -> new ConcurrentSegmentedCache<String, String>(10, 0));
+  }
+
+  @Test
+  void keepCapacityUnderConcurrentAccess() throws Exception {
+    // given
+    ConcurrentSegmentedCache<Integer, Integer> cache = new ConcurrentSegmentedCache<>(500);
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+    // when
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      int offset = t;
+      futures.add(executorService.submit(() -> {
+        for (int i = 0; i < 10000; i++) {
+          int key = (i * 31 + offset) % 2000;
+          if (cache.get(key) == null) {
+            cache.put(key, key);
+          }
+        }
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executorService.shutdown();
+    executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+    // then
+    assertThat(cache.size()).isLessThanOrEqualTo(500);
+    assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo(80000);
+  }
+
+}
@@ -59,6 +59,15 @@ public class ManagedJobExecutor extends JobExecutor {
     }
   }
 
+  @Override
+  protected void startAdditionalJobAcquisition(Runnable acquisitionRunnable, String name) {
+    try {
+      managedExecutorService.execute(acquisitionRunnable);
+    } catch (Exception e) {
+      throw new ProcessEngineException("Could not schedule AcquireJobsRunnable for execution.", e);
+    }
+  }
+
   @Override
   protected void stopExecutingJobs() {
     // nothing to do
@@ -17,8 +17,11 @@
 package org.operaton.bpm.dmn.engine;
 
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 import org.operaton.bpm.engine.variable.context.VariableContext;
 import org.operaton.bpm.model.dmn.DmnModelInstance;
@@ -344,4 +347,50 @@ public interface DmnEngine {
    */
   DmnDecisionResult evaluateDecision(String decisionKey, DmnModelInstance dmnModelInstance, VariableContext variableContext);
 
+  /**
+   * Evaluates a decision once for each of the given variable maps. In contrast to
+   * calling {@link #evaluateDecision(DmnDecision, Map)} repeatedly, the evaluation
+   * context is only created once and reused for all evaluations.
+   *
+   * @param decision the {@link DmnDecision} to evaluate
+   * @param variables the variables of each evaluation
+   * @return the {@link DmnDecisionResult}s of the evaluations in the order of the given variables
+   *
+   * @throws DmnEngineException
+   *           if the decision logic is not supported
+   * @throws DmnEngineException
+   *           if an error occurs during an evaluation
+   */
+  List<DmnDecisionResult> evaluateDecisionBatch(DmnDecision decision, Collection<? extends Map<String, Object>> variables);
+
+  /**
+   * Evaluates a decision once for each of the given variable maps like
+   * {@link #evaluateDecisionBatch(DmnDecision, Collection)} but runs the evaluations
+   * in parallel on the given {@link ForkJoinPool}.
+   *
+   * @param decision the {@link DmnDecision} to evaluate
+   * @param variables the variables of each evaluation
+   * @param pool the pool which runs the evaluations
+   * @return the {@link DmnDecisionResult}s of the evaluations in the order of the given variables
+   *
+   * @throws DmnEngineException
+   *           if the decision logic is not supported
+   * @throws DmnEngineException
+   *           if an error occurs during an evaluation
+   */
+  List<DmnDecisionResult> evaluateDecisionBatch(DmnDecision decision, Collection<? extends Map<String, Object>> variables, ForkJoinPool pool);
+
+  /**
+   * Lazily evaluates a decision once for each of the variable maps of the given stream.
+   * The evaluations run in parallel if the given stream is parallel.
+   *
+   * @param decision the {@link DmnDecision} to evaluate
+   * @param variables the variables of each evaluation
+   * @return a stream of the {@link DmnDecisionResult}s of the evaluations
+   *
+   * @throws DmnEngineException
+   *           if the decision logic is not supported
+   */
+  Stream<DmnDecisionResult> evaluateDecisionBatch(DmnDecision decision, Stream<? extends Map<String, Object>> variables);
+
 }
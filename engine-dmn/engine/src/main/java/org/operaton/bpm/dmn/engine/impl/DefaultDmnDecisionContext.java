@@ -63,14 +63,37 @@ public class DefaultDmnDecisionContext {
    * @return the result of the decision evaluation
    */
   public DmnDecisionResult evaluateDecision(DmnDecision decision, VariableContext variableContext) {
+    return evaluateDecision(decision, getRequiredDecisions(decision), variableContext);
+  }
 
+  /**
+   * Returns the given decision and all decisions it requires, in the order in
+   * which they have to be evaluated. The list can be reused for evaluating the
+   * decision multiple times with {@link #evaluateDecision(DmnDecision, List, VariableContext)}.
+   *
+   * @param decision the decision to evaluate
+   * @return the decisions to evaluate, ending with the given decision
+   */
+  public List<DmnDecision> getRequiredDecisions(DmnDecision decision) {
     if(decision.getKey() == null) {
       throw LOG.unableToFindAnyDecisionTable();
     }
-    VariableMap variableMap = buildVariableMapFromVariableContext(variableContext);
 
     List<DmnDecision> requiredDecisions = new ArrayList<>();
     buildDecisionTree(decision, requiredDecisions);
+    return requiredDecisions;
+  }
+
+  /**
+   * Evaluate a decision with the given {@link VariableContext}
+   *
+   * @param decision the decision to evaluate
+   * @param requiredDecisions the decisions to evaluate as returned by {@link #getRequiredDecisions(DmnDecision)}
+   * @param variableContext the available variable context
+   * @return the result of the decision evaluation
+   */
+  public DmnDecisionResult evaluateDecision(DmnDecision decision, List<DmnDecision> requiredDecisions, VariableContext variableContext) {
+    VariableMap variableMap = buildVariableMapFromVariableContext(variableContext);
 
     List<DmnDecisionLogicEvaluationEvent> evaluatedEvents = new ArrayList<>();
     DmnDecisionResult evaluatedResult = null;
@@ -19,8 +19,11 @@ package org.operaton.bpm.dmn.engine.impl;
 import static org.operaton.commons.utils.EnsureUtil.ensureNotNull;
 
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 import org.operaton.bpm.dmn.engine.DmnDecision;
 import org.operaton.bpm.dmn.engine.DmnDecisionRequirementsGraph;
@@ -222,4 +225,39 @@ public class DefaultDmnEngine implements DmnEngine {
     throw LOG.unableToFindDecisionWithKey(decisionKey);
   }
 
+  @Override
+  public List<DmnDecisionResult> evaluateDecisionBatch(DmnDecision decision, Collection<? extends Map<String, Object>> variables) {
+    ensureNotNull("variables", variables);
+    return evaluateDecisionBatch(decision, variables.stream()).toList();
+  }
+
+  @Override
+  public List<DmnDecisionResult> evaluateDecisionBatch(DmnDecision decision, Collection<? extends Map<String, Object>> variables, ForkJoinPool pool) {
+    ensureNotNull("variables", variables);
+    ensureNotNull("pool", pool);
+    Stream<DmnDecisionResult> results = evaluateDecisionBatch(decision, variables.parallelStream());
+    // the parallel stream uses the pool of the task which runs the terminal operation
+    return pool.submit(results::toList).join();
+  }
+
+  @Override
+  public Stream<DmnDecisionResult> evaluateDecisionBatch(DmnDecision decision, Stream<? extends Map<String, Object>> variables) {
+    ensureNotNull("decision", decision);
+    ensureNotNull("variables", variables);
+
+    if (decision instanceof DmnDecisionImpl) {
+      // the context holds no state of a single evaluation and can be shared by all of them
+      DefaultDmnDecisionContext decisionContext = new DefaultDmnDecisionContext(dmnEngineConfiguration);
+      List<DmnDecision> requiredDecisions = decisionContext.getRequiredDecisions(decision);
+
+      return variables.map(variableMap -> {
+        ensureNotNull("variables", variableMap);
+        return decisionContext.evaluateDecision(decision, requiredDecisions, Variables.fromMap(variableMap).asVariableContext());
+      });
+    }
+    else {
+      throw LOG.decisionTypeNotSupported(decision);
+    }
+  }
+
 }
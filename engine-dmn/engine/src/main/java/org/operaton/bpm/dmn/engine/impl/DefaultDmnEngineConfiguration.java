@@ -85,6 +85,11 @@ public class DefaultDmnEngineConfiguration extends DmnEngineConfiguration {
 
   protected boolean returnBlankTableOutputAsNull = false;
 
+  /**
+   * Index the literal input entries of decision tables instead of evaluating them one by one
+   */
+  protected boolean enableDecisionTableIndex = false;
+
   @Override
   public DmnEngine buildEngine() {
     init();
@@ -625,4 +630,36 @@ public class DefaultDmnEngineConfiguration extends DmnEngineConfiguration {
     return this;
   }
 
+  /**
+   * @return whether the input entries of decision tables are indexed
+   */
+  public boolean isEnableDecisionTableIndex() {
+    return enableDecisionTableIndex;
+  }
+
+  /**
+   * Controls whether the input entries of decision tables are indexed. If enabled, input entries which
+   * are FEEL simple unary tests with literals (e.g. <code>"gold"</code>, <code>[1..10]</code> or
+   * <code>&lt; 5</code>) are looked up in an index which is built on the first evaluation of a decision
+   * table. All other input entries are still evaluated by the FEEL engine. The index is only used with
+   * the default (Scala) FEEL engine.
+   *
+   * @param enableDecisionTableIndex toggles whether the input entries of decision tables are indexed
+   */
+  public void setEnableDecisionTableIndex(boolean enableDecisionTableIndex) {
+    this.enableDecisionTableIndex = enableDecisionTableIndex;
+  }
+
+  /**
+   * Controls whether the input entries of decision tables are indexed,
+   * see {@link #setEnableDecisionTableIndex(boolean)}.
+   *
+   * @param enableDecisionTableIndex toggles whether the input entries of decision tables are indexed
+   * @return this
+   */
+  public DefaultDmnEngineConfiguration enableDecisionTableIndex(boolean enableDecisionTableIndex) {
+    setEnableDecisionTableIndex(enableDecisionTableIndex);
+    return this;
+  }
+
 }
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.operaton.bpm.dmn.engine.DmnDecisionLogic;
+import org.operaton.bpm.dmn.engine.impl.evaluation.DecisionTableIndex;
 import org.operaton.bpm.dmn.engine.impl.spi.hitpolicy.DmnHitPolicyHandler;
 
 public class DmnDecisionTableImpl implements DmnDecisionLogic {
@@ -30,6 +31,8 @@ public class DmnDecisionTableImpl implements DmnDecisionLogic {
   protected List<DmnDecisionTableOutputImpl> outputs = new ArrayList<>();
   protected List<DmnDecisionTableRuleImpl> rules = new ArrayList<>();
 
+  protected volatile DecisionTableIndex index;
+
   public DmnHitPolicyHandler getHitPolicyHandler() {
     return hitPolicyHandler;
   }
@@ -44,6 +47,7 @@ public class DmnDecisionTableImpl implements DmnDecisionLogic {
 
   public void setInputs(List<DmnDecisionTableInputImpl> inputs) {
     this.inputs = inputs;
+    this.index = null;
   }
 
   public List<DmnDecisionTableOutputImpl> getOutputs() {
@@ -60,6 +64,18 @@ public class DmnDecisionTableImpl implements DmnDecisionLogic {
 
   public void setRules(List<DmnDecisionTableRuleImpl> rules) {
     this.rules = rules;
+    this.index = null;
+  }
+
+  /**
+   * @return the index of the input entries, or null if the decision table has not been indexed yet
+   */
+  public DecisionTableIndex getIndex() {
+    return index;
+  }
+
+  public void setIndex(DecisionTableIndex index) {
+    this.index = index;
   }
 
   @Override
@@ -17,6 +17,7 @@
 package org.operaton.bpm.dmn.engine.impl.evaluation;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +44,7 @@ import org.operaton.bpm.dmn.engine.impl.delegate.DmnEvaluatedDecisionRuleImpl;
 import org.operaton.bpm.dmn.engine.impl.delegate.DmnEvaluatedInputImpl;
 import org.operaton.bpm.dmn.engine.impl.delegate.DmnEvaluatedOutputImpl;
 import org.operaton.bpm.dmn.feel.impl.FeelEngine;
+import org.operaton.bpm.dmn.feel.impl.scala.ScalaFeelEngineFactory;
 import org.operaton.bpm.engine.variable.Variables;
 import org.operaton.bpm.engine.variable.context.VariableContext;
 import org.operaton.bpm.engine.variable.impl.context.CompositeVariableContext;
@@ -61,6 +63,8 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
 
   protected final boolean returnBlankTableOutputAsNull;
 
+  protected final boolean decisionTableIndexEnabled;
+
   public DecisionTableEvaluationHandler(DefaultDmnEngineConfiguration configuration) {
     expressionEvaluationHandler = new ExpressionEvaluationHandler(configuration);
     feelEngine = configuration.getFeelEngine();
@@ -71,6 +75,9 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
     inputEntryExpressionLanguage = configuration.getDefaultInputEntryExpressionLanguage();
     outputEntryExpressionLanguage = configuration.getDefaultOutputEntryExpressionLanguage();
     returnBlankTableOutputAsNull = configuration.isReturnBlankTableOutputAsNull();
+    // the index implements the semantics of the default FEEL engine
+    decisionTableIndexEnabled = configuration.isEnableDecisionTableIndex()
+        && configuration.getFeelEngineFactory() instanceof ScalaFeelEngineFactory;
   }
 
   @Override
@@ -99,6 +106,12 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
   }
 
   protected void evaluateDecisionTable(DmnDecisionTableImpl decisionTable, VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+    DecisionTableIndex index = getDecisionTableIndex(decisionTable);
+    if (index != null) {
+      evaluateIndexedDecisionTable(decisionTable, index, variableContext, evaluationResult);
+      return;
+    }
+
     int inputSize = decisionTable.getInputs().size();
     List<DmnDecisionTableRuleImpl> matchingRules = new ArrayList<>(decisionTable.getRules());
     for (int inputIdx = 0; inputIdx < inputSize; inputIdx++) {
@@ -117,6 +130,76 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
     setEvaluationOutput(decisionTable, matchingRules, variableContext, evaluationResult);
   }
 
+  protected DecisionTableIndex getDecisionTableIndex(DmnDecisionTableImpl decisionTable) {
+    if (!decisionTableIndexEnabled) {
+      return null;
+    }
+    DecisionTableIndex index = decisionTable.getIndex();
+    if (index == null) {
+      // concurrent evaluations may build the index more than once, which is harmless
+      index = DecisionTableIndex.build(decisionTable, this::isFeelInputEntry);
+      decisionTable.setIndex(index);
+    }
+    return index;
+  }
+
+  protected boolean isFeelInputEntry(DmnExpressionImpl condition) {
+    String expressionLanguage = condition.getExpressionLanguage();
+    if (expressionLanguage == null) {
+      expressionLanguage = inputEntryExpressionLanguage;
+    }
+    return expressionEvaluationHandler.isFeelExpressionLanguage(expressionLanguage);
+  }
+
+  /**
+   * Evaluates the decision table like {@link #evaluateDecisionTable(DmnDecisionTableImpl, VariableContext, DmnDecisionTableEvaluationEventImpl)}
+   * but looks up the rules matching an input in the index. Only the input entries which are not indexed are
+   * evaluated, and only for the rules which matched all previous inputs.
+   */
+  protected void evaluateIndexedDecisionTable(DmnDecisionTableImpl decisionTable, DecisionTableIndex index, VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+    List<DmnDecisionTableRuleImpl> rules = decisionTable.getRules();
+    int inputSize = decisionTable.getInputs().size();
+
+    BitSet candidates = new BitSet(rules.size());
+    candidates.set(0, rules.size());
+    for (int inputIdx = 0; inputIdx < inputSize; inputIdx++) {
+      // evaluate input
+      DmnDecisionTableInputImpl input = decisionTable.getInputs().get(inputIdx);
+      DmnEvaluatedInput evaluatedInput = evaluateInput(input, variableContext);
+      evaluationResult.getInputs().add(evaluatedInput);
+
+      InputEntryIndex inputIndex = index.getInputIndex(inputIdx);
+      BitSet matches;
+      BitSet fallbackRules;
+      if (inputIndex != null) {
+        fallbackRules = new BitSet(rules.size());
+        matches = inputIndex.match(evaluatedInput.getValue().getValue(), candidates, fallbackRules);
+      } else {
+        matches = new BitSet(rules.size());
+        fallbackRules = candidates;
+      }
+
+      if (!fallbackRules.isEmpty()) {
+        VariableContext localVariableContext = getLocalVariableContext(input, evaluatedInput, variableContext);
+        for (int ruleIdx = fallbackRules.nextSetBit(0); ruleIdx >= 0; ruleIdx = fallbackRules.nextSetBit(ruleIdx + 1)) {
+          DmnExpressionImpl condition = rules.get(ruleIdx).getConditions().get(inputIdx);
+          if (isConditionApplicable(input, condition, localVariableContext)) {
+            matches.set(ruleIdx);
+          }
+        }
+      }
+
+      candidates = matches;
+    }
+
+    List<DmnDecisionTableRuleImpl> matchingRules = new ArrayList<>(candidates.cardinality());
+    for (int ruleIdx = candidates.nextSetBit(0); ruleIdx >= 0; ruleIdx = candidates.nextSetBit(ruleIdx + 1)) {
+      matchingRules.add(rules.get(ruleIdx));
+    }
+
+    setEvaluationOutput(decisionTable, matchingRules, variableContext, evaluationResult);
+  }
+
   protected DmnEvaluatedInput evaluateInput(DmnDecisionTableInputImpl input, VariableContext variableContext) {
     DmnEvaluatedInputImpl evaluatedInput = new DmnEvaluatedInputImpl(input);
 
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.dmn.engine.impl.evaluation;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
+import org.operaton.bpm.dmn.engine.impl.DmnExpressionImpl;
+
+/**
+ * Index of the input entries of a decision table, see {@link InputEntryIndex}. Instead of evaluating
+ * every input entry of every rule, the rules matching an input value are looked up and intersected
+ * with the rules matching the previous inputs.
+ */
+public class DecisionTableIndex {
+
+  /** the index per input or <code>null</code> if no input entry of the input can be indexed */
+  protected final InputEntryIndex[] inputIndexes;
+
+  protected DecisionTableIndex(InputEntryIndex[] inputIndexes) {
+    this.inputIndexes = inputIndexes;
+  }
+
+  /**
+   * @param decisionTable the decision table to index
+   * @param isFeelInputEntry tests whether a non-blank input entry is a FEEL simple unary test
+   * @return the index of the decision table
+   */
+  public static DecisionTableIndex build(DmnDecisionTableImpl decisionTable, Predicate<DmnExpressionImpl> isFeelInputEntry) {
+    int inputSize = decisionTable.getInputs().size();
+    List<DmnDecisionTableRuleImpl> rules = decisionTable.getRules();
+
+    InputEntryIndex[] inputIndexes = new InputEntryIndex[inputSize];
+    for (int inputIdx = 0; inputIdx < inputSize; inputIdx++) {
+      InputEntryIndex inputIndex = new InputEntryIndex();
+      boolean indexed = false;
+
+      for (int ruleIdx = 0; ruleIdx < rules.size(); ruleIdx++) {
+        DmnExpressionImpl condition = rules.get(ruleIdx).getConditions().get(inputIdx);
+        String expression = condition != null ? condition.getExpression() : null;
+
+        if (expression == null || expression.trim().isEmpty()) {
+          inputIndex.addAnyRule(ruleIdx);
+        } else if (isFeelInputEntry.test(condition)) {
+          indexed |= inputIndex.addRule(ruleIdx, expression);
+        } else {
+          inputIndex.addUnindexedRule(ruleIdx);
+        }
+      }
+
+      if (indexed) {
+        inputIndex.build();
+        inputIndexes[inputIdx] = inputIndex;
+      }
+    }
+
+    return new DecisionTableIndex(inputIndexes);
+  }
+
+  /**
+   * @return the index of the given input or <code>null</code> if the input entries are not indexed
+   */
+  public InputEntryIndex getInputIndex(int inputIdx) {
+    return inputIndexes[inputIdx];
+  }
+
+}
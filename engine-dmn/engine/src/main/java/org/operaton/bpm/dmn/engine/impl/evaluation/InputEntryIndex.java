@@ -0,0 +1,285 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.dmn.engine.impl.evaluation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Index of the input entries of one decision table input.
+ *
+ * <p>Input entries which consist of simple FEEL unary tests with literals are indexed:</p>
+ * <ul>
+ *   <li><code>-</code> and blank entries match every value,</li>
+ *   <li>string, number and boolean literals (e.g. <code>"gold"</code>, <code>42</code>, <code>true</code>)
+ *   are looked up in a hash map,</li>
+ *   <li>comparisons and intervals with number literals (e.g. <code>&lt; 10</code>, <code>[1..5[</code>)
+ *   are looked up in an {@link IntervalTree},</li>
+ *   <li>comma separated lists of such tests of the same type are indexed as each of their tests.</li>
+ * </ul>
+ *
+ * <p>All other entries are not indexed and have to be evaluated by the FEEL engine. An indexed entry is
+ * only decided by the index if the input value has the type of its literals, so comparing values of
+ * different types is still left to the FEEL engine.</p>
+ */
+public class InputEntryIndex {
+
+  public enum ValueType { STRING, NUMBER, BOOLEAN }
+
+  protected static final String ANY = "-";
+  protected static final Pattern NUMBER = Pattern.compile("-?\\d+(\\.\\d+)?");
+  protected static final Pattern COMPARISON = Pattern.compile("(<=|>=|<|>)\\s*(-?\\d+(?:\\.\\d+)?)");
+  protected static final Pattern INTERVAL =
+      Pattern.compile("([\\[(\\]])\\s*(-?\\d+(?:\\.\\d+)?)\\s*\\.\\.\\s*(-?\\d+(?:\\.\\d+)?)\\s*([\\])\\[])");
+
+  protected final BitSet anyRules = new BitSet();
+  protected final BitSet unindexedRules = new BitSet();
+  protected final Map<ValueType, BitSet> indexedRules = new EnumMap<>(ValueType.class);
+  protected final Map<Object, BitSet> equalityRules = new HashMap<>();
+  protected final List<IntervalTree.Interval> intervals = new ArrayList<>();
+  protected IntervalTree intervalTree;
+
+  public InputEntryIndex() {
+    for (ValueType valueType : ValueType.values()) {
+      indexedRules.put(valueType, new BitSet());
+    }
+  }
+
+  /**
+   * Adds a rule which always matches, e.g. because its input entry is blank.
+   */
+  public void addAnyRule(int ruleIndex) {
+    anyRules.set(ruleIndex);
+  }
+
+  /**
+   * Adds a rule whose input entry has to be evaluated by the FEEL engine.
+   */
+  public void addUnindexedRule(int ruleIndex) {
+    unindexedRules.set(ruleIndex);
+  }
+
+  /**
+   * Adds a rule with a FEEL simple unary tests input entry.
+   *
+   * @return true if the input entry could be indexed
+   */
+  public boolean addRule(int ruleIndex, String unaryTests) {
+    String text = unaryTests.trim();
+    if (ANY.equals(text)) {
+      addAnyRule(ruleIndex);
+      return true;
+    }
+
+    List<String> tests = splitTests(text);
+    if (tests == null) {
+      addUnindexedRule(ruleIndex);
+      return false;
+    }
+
+    ValueType entryType = null;
+    Set<Object> equalities = new HashSet<>();
+    List<IntervalTree.Interval> entryIntervals = new ArrayList<>();
+    for (String test : tests) {
+      ValueType testType = parseTest(test, ruleIndex, equalities, entryIntervals);
+      if (testType == null || (entryType != null && entryType != testType)) {
+        addUnindexedRule(ruleIndex);
+        return false;
+      }
+      entryType = testType;
+    }
+
+    for (Object value : equalities) {
+      equalityRules.computeIfAbsent(value, key -> new BitSet()).set(ruleIndex);
+    }
+    intervals.addAll(entryIntervals);
+    indexedRules.get(entryType).set(ruleIndex);
+    return true;
+  }
+
+  /**
+   * Completes the index once all rules are added.
+   */
+  public void build() {
+    intervalTree = new IntervalTree(intervals);
+    intervals.clear();
+  }
+
+  /**
+   * Determines the candidate rules matching the given input value.
+   *
+   * @param value the value of the input
+   * @param candidates the rules which matched all previous inputs
+   * @param fallbackRules is filled with the candidates which have to be evaluated by the FEEL engine
+   * @return the candidates which are known to match the value
+   */
+  public BitSet match(Object value, BitSet candidates, BitSet fallbackRules) {
+    BitSet matches = (BitSet) anyRules.clone();
+
+    ValueType valueType = getValueType(value);
+    BitSet decidedRules = (BitSet) anyRules.clone();
+    if (valueType != null) {
+      decidedRules.or(indexedRules.get(valueType));
+      Object key = toKey(value, valueType);
+      if (key != null) {
+        BitSet equalMatches = equalityRules.get(key);
+        if (equalMatches != null) {
+          matches.or(equalMatches);
+        }
+        if (valueType == ValueType.NUMBER) {
+          intervalTree.findRules((BigDecimal) key, matches);
+        }
+      } else {
+        decidedRules = (BitSet) anyRules.clone();
+      }
+    }
+
+    matches.and(candidates);
+
+    fallbackRules.or(candidates);
+    fallbackRules.andNot(decidedRules);
+    return matches;
+  }
+
+  protected ValueType getValueType(Object value) {
+    if (value instanceof String) {
+      return ValueType.STRING;
+    } else if (value instanceof Boolean) {
+      return ValueType.BOOLEAN;
+    } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+        || value instanceof BigInteger || value instanceof BigDecimal || value instanceof Double) {
+      return ValueType.NUMBER;
+    }
+    return null;
+  }
+
+  /**
+   * @return the key of the value in the index or <code>null</code> if the value cannot be looked up
+   */
+  protected Object toKey(Object value, ValueType valueType) {
+    if (valueType != ValueType.NUMBER) {
+      return value;
+    }
+    if (value instanceof Double doubleValue) {
+      if (doubleValue.isNaN() || doubleValue.isInfinite()) {
+        return null;
+      }
+      return normalize(BigDecimal.valueOf(doubleValue));
+    } else if (value instanceof BigDecimal bigDecimal) {
+      return normalize(bigDecimal);
+    } else if (value instanceof BigInteger bigInteger) {
+      return normalize(new BigDecimal(bigInteger));
+    } else {
+      return normalize(BigDecimal.valueOf(((Number) value).longValue()));
+    }
+  }
+
+  protected BigDecimal normalize(BigDecimal number) {
+    return number.signum() == 0 ? BigDecimal.ZERO : number.stripTrailingZeros();
+  }
+
+  /**
+   * @return the type of the literals of the test or <code>null</code> if the test cannot be indexed
+   */
+  protected ValueType parseTest(String test, int ruleIndex, Set<Object> equalities,
+                                List<IntervalTree.Interval> entryIntervals) {
+    if (test.length() >= 2 && test.startsWith("\"") && test.endsWith("\"")) {
+      String literal = test.substring(1, test.length() - 1);
+      if (literal.indexOf('"') >= 0 || literal.indexOf('\\') >= 0) {
+        return null;
+      }
+      equalities.add(literal);
+      return ValueType.STRING;
+    }
+
+    if ("true".equals(test) || "false".equals(test)) {
+      equalities.add(Boolean.valueOf(test));
+      return ValueType.BOOLEAN;
+    }
+
+    if (NUMBER.matcher(test).matches()) {
+      equalities.add(normalize(new BigDecimal(test)));
+      return ValueType.NUMBER;
+    }
+
+    Matcher comparison = COMPARISON.matcher(test);
+    if (comparison.matches()) {
+      String operator = comparison.group(1);
+      BigDecimal bound = new BigDecimal(comparison.group(2));
+      boolean inclusive = operator.length() == 2;
+      if (operator.startsWith("<")) {
+        entryIntervals.add(new IntervalTree.Interval(null, false, bound, inclusive, ruleIndex));
+      } else {
+        entryIntervals.add(new IntervalTree.Interval(bound, inclusive, null, false, ruleIndex));
+      }
+      return ValueType.NUMBER;
+    }
+
+    Matcher interval = INTERVAL.matcher(test);
+    if (interval.matches()) {
+      BigDecimal low = new BigDecimal(interval.group(2));
+      BigDecimal high = new BigDecimal(interval.group(3));
+      boolean lowInclusive = "[".equals(interval.group(1));
+      boolean highInclusive = "]".equals(interval.group(4));
+      entryIntervals.add(new IntervalTree.Interval(low, lowInclusive, high, highInclusive, ruleIndex));
+      return ValueType.NUMBER;
+    }
+
+    return null;
+  }
+
+  /**
+   * Splits a comma separated list of unary tests.
+   *
+   * @return the tests or <code>null</code> if the list is malformed
+   */
+  protected List<String> splitTests(String text) {
+    List<String> tests = new ArrayList<>();
+    boolean inString = false;
+    int start = 0;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '"') {
+        inString = !inString;
+      } else if (c == ',' && !inString) {
+        tests.add(text.substring(start, i).trim());
+        start = i + 1;
+      }
+    }
+    if (inString) {
+      return null;
+    }
+    tests.add(text.substring(start).trim());
+
+    for (String test : tests) {
+      if (test.isEmpty()) {
+        return null;
+      }
+    }
+    return tests;
+  }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.dmn.engine.impl.evaluation;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable centered interval tree over numeric intervals. Every interval belongs to a rule of a
+ * decision table; a lookup sets the bits of all rules with an interval containing the given value.
+ */
+public class IntervalTree {
+
+  protected final Node root;
+
+  public IntervalTree(List<Interval> intervals) {
+    this.root = build(intervals);
+  }
+
+  /**
+   * Sets the index of every rule with an interval containing the given value.
+   */
+  public void findRules(BigDecimal value, BitSet rules) {
+    Node node = root;
+    while (node != null) {
+      int comparison = value.compareTo(node.center);
+      if (comparison < 0) {
+        // all intervals of the node end at or after the center, so only the lower bound matters
+        for (Interval interval : node.byLow) {
+          if (!interval.isLowerBoundSatisfied(value)) {
+            break;
+          }
+          rules.set(interval.ruleIndex);
+        }
+        node = node.left;
+
+      } else if (comparison > 0) {
+        // all intervals of the node start at or before the center, so only the upper bound matters
+        for (Interval interval : node.byHigh) {
+          if (!interval.isUpperBoundSatisfied(value)) {
+            break;
+          }
+          rules.set(interval.ruleIndex);
+        }
+        node = node.right;
+
+      } else {
+        for (Interval interval : node.byLow) {
+          if (interval.contains(value)) {
+            rules.set(interval.ruleIndex);
+          }
+        }
+        node = null;
+      }
+    }
+  }
+
+  protected static Node build(List<Interval> intervals) {
+    if (intervals.isEmpty()) {
+      return null;
+    }
+
+    BigDecimal center = medianEndpoint(intervals);
+    List<Interval> left = new ArrayList<>();
+    List<Interval> right = new ArrayList<>();
+    List<Interval> overlapping = new ArrayList<>();
+    for (Interval interval : intervals) {
+      if (interval.high != null && interval.high.compareTo(center) < 0) {
+        left.add(interval);
+      } else if (interval.low != null && interval.low.compareTo(center) > 0) {
+        right.add(interval);
+      } else {
+        overlapping.add(interval);
+      }
+    }
+
+    Node node = new Node(center);
+    node.byLow = new ArrayList<>(overlapping);
+    node.byLow.sort(Interval.LOW_ASCENDING);
+    node.byHigh = new ArrayList<>(overlapping);
+    node.byHigh.sort(Interval.HIGH_DESCENDING);
+    node.left = build(left);
+    node.right = build(right);
+    return node;
+  }
+
+  protected static BigDecimal medianEndpoint(List<Interval> intervals) {
+    List<BigDecimal> endpoints = new ArrayList<>();
+    for (Interval interval : intervals) {
+      if (interval.low != null) {
+        endpoints.add(interval.low);
+      }
+      if (interval.high != null) {
+        endpoints.add(interval.high);
+      }
+    }
+    endpoints.sort(Comparator.naturalOrder());
+    // every interval has at least one bound, so the list is not empty
+    return endpoints.get(endpoints.size() / 2);
+  }
+
+  protected static class Node {
+
+    protected final BigDecimal center;
+    protected List<Interval> byLow;
+    protected List<Interval> byHigh;
+    protected Node left;
+    protected Node right;
+
+    protected Node(BigDecimal center) {
+      this.center = center;
+    }
+  }
+
+  /**
+   * A numeric interval; a <code>null</code> bound is unbounded.
+   */
+  public static class Interval {
+
+    protected static final Comparator<Interval> LOW_ASCENDING = (a, b) -> {
+      if (a.low == null || b.low == null) {
+        return a.low == null ? (b.low == null ? 0 : -1) : 1;
+      }
+      int comparison = a.low.compareTo(b.low);
+      if (comparison == 0 && a.lowInclusive != b.lowInclusive) {
+        return a.lowInclusive ? -1 : 1;
+      }
+      return comparison;
+    };
+
+    protected static final Comparator<Interval> HIGH_DESCENDING = (a, b) -> {
+      if (a.high == null || b.high == null) {
+        return a.high == null ? (b.high == null ? 0 : -1) : 1;
+      }
+      int comparison = b.high.compareTo(a.high);
+      if (comparison == 0 && a.highInclusive != b.highInclusive) {
+        return a.highInclusive ? -1 : 1;
+      }
+      return comparison;
+    };
+
+    protected final BigDecimal low;
+    protected final boolean lowInclusive;
+    protected final BigDecimal high;
+    protected final boolean highInclusive;
+    protected final int ruleIndex;
+
+    public Interval(BigDecimal low, boolean lowInclusive, BigDecimal high, boolean highInclusive, int ruleIndex) {
+      this.low = low;
+      this.lowInclusive = lowInclusive;
+      this.high = high;
+      this.highInclusive = highInclusive;
+      this.ruleIndex = ruleIndex;
+    }
+
+    public boolean contains(BigDecimal value) {
+      return isLowerBoundSatisfied(value) && isUpperBoundSatisfied(value);
+    }
+
+    protected boolean isLowerBoundSatisfied(BigDecimal value) {
+      if (low == null) {
+        return true;
+      }
+      int comparison = low.compareTo(value);
+      return comparison < 0 || (comparison == 0 && lowInclusive);
+    }
+
+    protected boolean isUpperBoundSatisfied(BigDecimal value) {
+      if (high == null) {
+        return true;
+      }
+      int comparison = high.compareTo(value);
+      return comparison > 0 || (comparison == 0 && highInclusive);
+    }
+  }
+
+}
@@ -34,7 +34,11 @@ import static org.operaton.bpm.engine.variable.Variables.emptyVariableContext;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 
@@ -539,8 +543,80 @@ class DmnEngineApiTest extends DmnEngineTest {
     assertThat(results).hasSingleResult().hasSingleEntry(EXPECTED_OUTPUT_VALUE);
   }
 
+  @Test
+  @DecisionResource(resource = ONE_RULE_DMN)
+  void shouldFailEvaluatingDecisionBatchIfVariablesIsNull() {
+    assertThatThrownBy(() -> dmnEngine.evaluateDecisionBatch(decision, (List<Map<String, Object>>) null))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageStartingWith("UTILS-02001");
+
+    assertThatThrownBy(() -> dmnEngine.evaluateDecisionBatch(decision, Collections.singletonList(null)))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageStartingWith("UTILS-02001");
+  }
+
+  @Test
+  void shouldFailEvaluatingDecisionBatchIfDecisionTypeIsNotSupported() {
+    List<Map<String, Object>> variablesList = List.of(variableMap);
+    DmnDecision unsupportedDecision = mock(DmnDecision.class);
+
+    assertThatThrownBy(() -> dmnEngine.evaluateDecisionBatch(unsupportedDecision, variablesList))
+      .isInstanceOf(DmnEngineException.class)
+      .hasMessageStartingWith("DMN-01012");
+  }
+
+  @Test
+  @DecisionResource(resource = ONE_RULE_DMN)
+  void shouldEvaluateDecisionBatch() {
+    List<DmnDecisionResult> results = dmnEngine.evaluateDecisionBatch(decision, createBatchVariables());
+
+    assertBatchResults(results);
+  }
+
+  @Test
+  @DecisionResource(resource = ONE_RULE_DMN)
+  void shouldEvaluateDecisionBatchInParallel() {
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      List<DmnDecisionResult> results = dmnEngine.evaluateDecisionBatch(decision, createBatchVariables(), pool);
+
+      assertBatchResults(results);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  @DecisionResource(resource = ONE_RULE_DMN)
+  void shouldEvaluateDecisionBatchStream() {
+    List<DmnDecisionResult> results = dmnEngine.evaluateDecisionBatch(decision, createBatchVariables().stream())
+      .toList();
+
+    assertBatchResults(results);
+  }
+
   // helper ///////////////////////////////////////////////////////////////////
 
+  private List<Map<String, Object>> createBatchVariables() {
+    List<Map<String, Object>> variablesList = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      variablesList.add(createVariables().putValue("input", i % 2 == 0 ? INPUT_VALUE : "not " + INPUT_VALUE));
+    }
+    return variablesList;
+  }
+
+  private void assertBatchResults(List<DmnDecisionResult> results) {
+    assertThat(results).hasSize(100);
+    for (int i = 0; i < results.size(); i++) {
+      if (i % 2 == 0) {
+        assertThat((String) results.get(i).getSingleEntry()).isEqualTo(EXPECTED_OUTPUT_VALUE);
+      } else {
+        assertThat(results.get(i)).isEmpty();
+      }
+    }
+  }
+
+
   private InputStream createInputStream() {
     return IoUtil.fileAsStream(ONE_RULE_DMN);
   }
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.dmn.engine.evaluate;
+
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import org.operaton.bpm.dmn.engine.DmnEngine;
+import org.operaton.bpm.dmn.engine.DmnEngineConfiguration;
+import org.operaton.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.operaton.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.operaton.bpm.dmn.engine.impl.evaluation.InputEntryIndex;
+import org.operaton.bpm.dmn.engine.test.DecisionResource;
+import org.operaton.bpm.dmn.engine.test.DmnEngineTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DecisionTableIndexTest extends DmnEngineTest {
+
+  protected static final String DMN = "DecisionTableIndexTest.dmn";
+
+  @Override
+  protected DmnEngineConfiguration getDmnEngineConfiguration() {
+    return new DefaultDmnEngineConfiguration()
+      .enableDecisionTableIndex(true);
+  }
+
+  @ParameterizedTest
+  @CsvSource(delimiter = ';', value = {
+    "gold;   50;   true;  rule1,rule2",
+    "silver; 42;   false; rule2,rule4",
+    "bronze; 300;  true;  rule3,rule4",
+    "gold;   500;  false; rule1,rule5",
+    "bronze; 99;   false; rule5"
+  })
+  @DecisionResource(resource = DMN)
+  void shouldMatchSameRulesAsWithoutIndex(String category, int amount, boolean vip, String expectedRules) {
+    // given
+    variables
+      .putValue("category", category)
+      .putValue("amount", amount)
+      .putValue("vip", vip);
+
+    // when
+    List<String> rules = evaluateDecisionTable().collectEntries("rule");
+
+    // then
+    assertThat(rules).containsExactly(expectedRules.split(","));
+    assertThat(rules).isEqualTo(evaluateWithoutIndex());
+  }
+
+  @Test
+  @DecisionResource(resource = DMN)
+  void shouldMatchDoubleInputOnIntervalBounds() {
+    // given
+    variables
+      .putValue("category", "gold")
+      .putValue("amount", 100.0)
+      .putValue("vip", true);
+
+    // when
+    List<String> rules = evaluateDecisionTable().collectEntries("rule");
+
+    // then
+    assertThat(rules).containsExactly("rule1", "rule3");
+    assertThat(rules).isEqualTo(evaluateWithoutIndex());
+  }
+
+  @Test
+  @DecisionResource(resource = DMN)
+  void shouldFallBackToFeelForUnsupportedInputType() {
+    // given
+    variables
+      .putValue("category", "bronze")
+      .putValue("amount", 300.0f)
+      .putValue("vip", true);
+
+    // when
+    List<String> rules = evaluateDecisionTable().collectEntries("rule");
+
+    // then
+    assertThat(rules).containsExactly("rule3", "rule4");
+    assertThat(rules).isEqualTo(evaluateWithoutIndex());
+  }
+
+  @Test
+  @DecisionResource(resource = DMN)
+  void shouldBuildIndexOnFirstEvaluation() {
+    // given
+    DmnDecisionTableImpl decisionTable = (DmnDecisionTableImpl) decision.getDecisionLogic();
+    assertThat(decisionTable.getIndex()).isNull();
+
+    variables
+      .putValue("category", "gold")
+      .putValue("amount", 1)
+      .putValue("vip", true);
+
+    // when
+    evaluateDecisionTable();
+
+    // then
+    assertThat(decisionTable.getIndex()).isNotNull();
+    assertThat(decisionTable.getIndex().getInputIndex(0)).isNotNull();
+    assertThat(decisionTable.getIndex().getInputIndex(1)).isNotNull();
+    assertThat(decisionTable.getIndex().getInputIndex(2)).isNotNull();
+  }
+
+  @Test
+  void shouldMatchEqualityAndIntervalEntries() {
+    // given
+    InputEntryIndex index = new InputEntryIndex();
+    index.addRule(0, "1, 2.50");
+    index.addRule(1, "< 2.5");
+    index.addRule(2, "[2.5..10)");
+    index.addRule(3, "-");
+    index.build();
+
+    // when
+    BitSet fallbackRules = new BitSet();
+    BitSet matches = index.match(new BigDecimal("2.5"), allRules(4), fallbackRules);
+
+    // then
+    assertThat(matches).isEqualTo(rules(0, 2, 3));
+    assertThat(fallbackRules.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldNotIndexComplexEntries() {
+    InputEntryIndex index = new InputEntryIndex();
+
+    assertThat(index.addRule(0, "\"a\", 1")).isFalse();
+    assertThat(index.addRule(1, "not(\"a\")")).isFalse();
+    assertThat(index.addRule(2, "\"a\\\"b\"")).isFalse();
+    assertThat(index.addRule(3, "\"a\", \"b\"")).isTrue();
+  }
+
+  @Test
+  void shouldReturnUndecidedRulesAsFallback() {
+    // given
+    InputEntryIndex index = new InputEntryIndex();
+    index.addRule(0, "\"a\"");
+    index.addRule(1, "> 5");
+    index.addRule(2, "not(\"a\")");
+    index.build();
+
+    // when
+    BitSet fallbackRules = new BitSet();
+    BitSet matches = index.match("a", allRules(3), fallbackRules);
+
+    // then
+    assertThat(matches).isEqualTo(rules(0));
+    assertThat(fallbackRules).isEqualTo(rules(1, 2));
+  }
+
+  @Test
+  void shouldOnlyMatchCandidates() {
+    // given
+    InputEntryIndex index = new InputEntryIndex();
+    index.addRule(0, "true");
+    index.addRule(1, "true");
+    index.addRule(2, "not(true)");
+    index.build();
+
+    // when
+    BitSet fallbackRules = new BitSet();
+    BitSet matches = index.match(true, rules(1, 2), fallbackRules);
+
+    // then
+    assertThat(matches).isEqualTo(rules(1));
+    assertThat(fallbackRules).isEqualTo(rules(2));
+  }
+
+  protected List<String> evaluateWithoutIndex() {
+    DmnEngine engine = new DefaultDmnEngineConfiguration().buildEngine();
+    return engine.evaluateDecisionTable(decision, variables).collectEntries("rule");
+  }
+
+  protected static BitSet allRules(int count) {
+    BitSet rules = new BitSet();
+    rules.set(0, count);
+    return rules;
+  }
+
+  protected static BitSet rules(int... indexes) {
+    BitSet rules = new BitSet();
+    for (int index : indexes) {
+      rules.set(index);
+    }
+    return rules;
+  }
+
+}
@@ -17,10 +17,17 @@
 package org.operaton.bpm.engine.rest.impl;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jakarta.servlet.ServletContext;
@@ -29,9 +36,15 @@ import jakarta.ws.rs.container.AsyncResponse;
 import jakarta.ws.rs.core.Response.Status;
 import org.operaton.bpm.engine.IdentityService;
 import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.ProcessEngineConfiguration;
 import org.operaton.bpm.engine.externaltask.ExternalTaskQueryTopicBuilder;
 import org.operaton.bpm.engine.externaltask.LockedExternalTask;
 import org.operaton.bpm.engine.impl.ProcessEngineImpl;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.cmd.FetchExternalTasksBatchCmd;
+import org.operaton.bpm.engine.impl.cmd.FetchExternalTasksCmd;
+import org.operaton.bpm.engine.impl.externaltask.ExternalTaskAvailableListener;
+import org.operaton.bpm.engine.impl.externaltask.ExternalTaskQueryTopicBuilderImpl;
 import org.operaton.bpm.engine.impl.identity.Authentication;
 import org.operaton.bpm.engine.impl.util.ClockUtil;
 import org.operaton.bpm.engine.impl.util.SingleConsumerCondition;
@@ -52,6 +65,7 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
 
   protected static final String UNIQUE_WORKER_REQUEST_PARAM_NAME = "fetch-and-lock-unique-worker-request";
   protected static final String BLOCKING_QUEUE_CAPACITY_PARAM_NAME = "fetch-and-lock-queue-capacity";
+  protected static final String BATCH_REQUESTS_PARAM_NAME = "fetch-and-lock-batch-requests";
 
   protected static final long PENDING_REQUEST_FETCH_INTERVAL = 30L * 1000;
   protected static final long MAX_BACK_OFF_TIME = Long.MAX_VALUE;
@@ -60,6 +74,17 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
 
   protected SingleConsumerCondition condition;
 
+  /**
+   * Collects the topics of external tasks which became available since the last acquisition,
+   * so that only the pending requests subscribed to these topics need to be fetched again.
+   */
+  protected Set<String> notifiedTopics = ConcurrentHashMap.newKeySet();
+  protected AtomicBoolean unknownTopicNotified = new AtomicBoolean();
+  protected ExternalTaskAvailableListener topicListener = this::onExternalTasksAvailable;
+
+  /** timestamp of the last acquisition that fetched all pending requests */
+  protected long lastFullFetchTime = 0;
+
   protected BlockingQueue<FetchAndLockRequest> queue;
   protected List<FetchAndLockRequest> pendingRequests = new ArrayList<>();
   protected List<FetchAndLockRequest> newRequests = new ArrayList<>();
@@ -70,6 +95,12 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
 
   protected boolean isUniqueWorkerRequest = false;
 
+  /**
+   * If enabled, the pending requests of the same process engine and authentication are
+   * fetched and locked together in a single transaction.
+   */
+  protected boolean isBatchRequests = false;
+
   public FetchAndLockHandlerImpl() {
     this.condition = new SingleConsumerCondition(handlerThread);
   }
@@ -91,9 +122,14 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
   protected void acquire() {
     LOG.log(Level.FINEST, "Acquire start");
 
+    Set<String> topics = drainNotifiedTopics();
+    boolean fetchAll = isFullFetchRequired(topics);
+
     queue.drainTo(newRequests);
 
     if (!newRequests.isEmpty()) {
+      fetchAll = true;
+
       if (isUniqueWorkerRequest) {
         removeDuplicates();
       }
@@ -104,16 +140,44 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
 
     LOG.log(Level.FINEST, "Number of pending requests {0}", pendingRequests.size());
 
+    if (fetchAll) {
+      lastFullFetchTime = ClockUtil.getCurrentTime().getTime();
+    }
+    else {
+      LOG.log(Level.FINEST, "Fetching only requests subscribed to topics {0}", topics);
+    }
+
     long backoffTime = MAX_BACK_OFF_TIME; //timestamp
 
+    Map<FetchAndLockRequest, FetchAndLockResult> batchedResults = new IdentityHashMap<>();
+    if (isBatchRequests) {
+      List<FetchAndLockRequest> requestsToFetch = new ArrayList<>();
+      for (FetchAndLockRequest pendingRequest : pendingRequests) {
+        if (fetchAll || pendingRequest.isSubscribedToAny(topics) || isExpired(pendingRequest)) {
+          requestsToFetch.add(pendingRequest);
+        }
+      }
+      batchedResults = tryFetchAndLockBatched(requestsToFetch);
+    }
+
     Iterator<FetchAndLockRequest> iterator = pendingRequests.iterator();
     while (iterator.hasNext()) {
 
       FetchAndLockRequest pendingRequest = iterator.next();
 
+      if (!fetchAll && !pendingRequest.isSubscribedToAny(topics) && !isExpired(pendingRequest)) {
+        // no task became available for this request, there is no need to query the database
+        final long msUntilTimeout = pendingRequest.getTimeoutTimestamp() - ClockUtil.getCurrentTime().getTime();
+        backoffTime = Math.min(backoffTime, msUntilTimeout);
+        continue;
+      }
+
       LOG.log(Level.FINEST, "Fetching tasks for request {0}", pendingRequest);
 
-      FetchAndLockResult result = tryFetchAndLock(pendingRequest);
+      FetchAndLockResult result = batchedResults.get(pendingRequest);
+      if (result == null) {
+        result = tryFetchAndLock(pendingRequest);
+      }
 
       LOG.log(Level.FINEST, "Fetch and lock result: {0}", result);
 
@@ -157,6 +221,46 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
     }
   }
 
+  /**
+   * A notification that names the topics of the available tasks allows to fetch only the
+   * requests subscribed to them. All pending requests are fetched if the acquisition was not
+   * triggered by such a notification, if the topic of a task is unknown, or if the last full
+   * fetch is longer ago than {@link #PENDING_REQUEST_FETCH_INTERVAL}, to ensure that tasks
+   * created on other cluster nodes are fetched in a timely manner.
+   */
+  protected boolean isFullFetchRequired(Set<String> topics) {
+    if (topics.isEmpty() || topics.contains(null)) {
+      return true;
+    }
+    long msSinceLastFullFetch = ClockUtil.getCurrentTime().getTime() - lastFullFetchTime;
+    return msSinceLastFullFetch >= PENDING_REQUEST_FETCH_INTERVAL;
+  }
+
+  protected Set<String> drainNotifiedTopics() {
+    Set<String> topics = new HashSet<>();
+    Iterator<String> iterator = notifiedTopics.iterator();
+    while (iterator.hasNext()) {
+      topics.add(iterator.next());
+      iterator.remove();
+    }
+    if (unknownTopicNotified.getAndSet(false)) {
+      topics.add(null);
+    }
+    return topics;
+  }
+
+  protected void onExternalTasksAvailable(Set<String> topicNames) {
+    for (String topicName : topicNames) {
+      if (topicName != null) {
+        notifiedTopics.add(topicName);
+      }
+      else {
+        unknownTopicNotified.set(true);
+      }
+    }
+    condition.signal();
+  }
+
   protected void removeDuplicates() {
     for (FetchAndLockRequest newRequest : newRequests) {
       // remove any request from pendingRequests with the same worker id
@@ -186,13 +290,13 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
       initializeQueue(DEFAULT_BLOCKING_QUEUE_CAPACITY);
     }
 
-    ProcessEngineImpl.EXT_TASK_CONDITIONS.addConsumer(condition);
+    ProcessEngineImpl.EXT_TASK_AVAILABLE_LISTENERS.addListener(topicListener);
   }
 
   @Override
   public void shutdown() {
     try {
-      ProcessEngineImpl.EXT_TASK_CONDITIONS.removeConsumer(condition);
+      ProcessEngineImpl.EXT_TASK_AVAILABLE_LISTENERS.removeListener(topicListener);
     }
     finally {
       isRunning = false;
@@ -266,6 +370,78 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
     return result;
   }
 
+  /**
+   * Fetches and locks the tasks of requests with the same process engine and authentication
+   * in one {@link FetchExternalTasksBatchCmd}. Requests which cannot be batched are omitted
+   * from the result and have to be fetched individually. If a batch fails, its requests are
+   * omitted as well, so that the failure of a single request does not affect the others.
+   */
+  protected Map<FetchAndLockRequest, FetchAndLockResult> tryFetchAndLockBatched(List<FetchAndLockRequest> requests) {
+    Map<String, List<FetchAndLockRequest>> batches = new LinkedHashMap<>();
+    for (FetchAndLockRequest request : requests) {
+      batches.computeIfAbsent(getBatchKey(request), key -> new ArrayList<>()).add(request);
+    }
+
+    Map<FetchAndLockRequest, FetchAndLockResult> results = new IdentityHashMap<>();
+    for (List<FetchAndLockRequest> batch : batches.values()) {
+      if (batch.size() > 1) {
+        tryFetchAndLockBatch(batch, results);
+      }
+    }
+
+    return results;
+  }
+
+  protected void tryFetchAndLockBatch(List<FetchAndLockRequest> batch, Map<FetchAndLockRequest, FetchAndLockResult> results) {
+    IdentityService identityService = null;
+
+    try {
+      ProcessEngine processEngine = getProcessEngine(batch.get(0));
+
+      ProcessEngineConfiguration configuration = processEngine.getProcessEngineConfiguration();
+      if (!(configuration instanceof ProcessEngineConfigurationImpl engineConfiguration)) {
+        return;
+      }
+
+      List<FetchExternalTasksCmd> fetchCommands = new ArrayList<>();
+      for (FetchAndLockRequest request : batch) {
+        ExternalTaskQueryTopicBuilder fetchBuilder = request.getDto().buildQuery(processEngine);
+        if (!(fetchBuilder instanceof ExternalTaskQueryTopicBuilderImpl fetchBuilderImpl)) {
+          return;
+        }
+        fetchCommands.add(fetchBuilderImpl.createFetchCommand());
+      }
+
+      identityService = processEngine.getIdentityService();
+      identityService.setAuthentication(batch.get(0).getAuthentication());
+
+      List<List<LockedExternalTask>> lockedTasks = engineConfiguration.getCommandExecutorTxRequired()
+          .execute(new FetchExternalTasksBatchCmd(fetchCommands));
+
+      for (int i = 0; i < batch.size(); i++) {
+        List<LockedExternalTaskDto> lockedTaskDtos = LockedExternalTaskDto.fromLockedExternalTasks(lockedTasks.get(i));
+        results.put(batch.get(i), FetchAndLockResult.successful(lockedTaskDtos));
+      }
+    }
+    catch (Exception e) {
+      LOG.log(Level.FINEST, "Batched fetch and lock failed, fetching requests individually", e);
+    }
+    finally {
+      if (identityService != null) {
+        identityService.clearAuthentication();
+      }
+    }
+  }
+
+  protected String getBatchKey(FetchAndLockRequest request) {
+    Authentication authentication = request.getAuthentication();
+    if (authentication == null) {
+      return request.getProcessEngineName();
+    }
+    return request.getProcessEngineName() + "|" + authentication.getUserId()
+        + "|" + authentication.getGroupIds() + "|" + authentication.getTenantIds();
+  }
+
   protected List<LockedExternalTaskDto> executeFetchAndLock(FetchExternalTasksExtendedDto fetchingDto, ProcessEngine processEngine) {
     ExternalTaskQueryTopicBuilder fetchBuilder = fetchingDto.buildQuery(processEngine);
     List<LockedExternalTask> externalTasks = fetchBuilder.execute();
@@ -351,6 +527,7 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
 
       if (servletContext != null) {
         parseUniqueWorkerRequestParam(servletContext.getInitParameter(UNIQUE_WORKER_REQUEST_PARAM_NAME));
+        parseBatchRequestsParam(servletContext.getInitParameter(BATCH_REQUESTS_PARAM_NAME));
         queueCapacity = parseBlockingQueueCapacityParam(servletContext.getInitParameter(BLOCKING_QUEUE_CAPACITY_PARAM_NAME));
       }
     }
@@ -366,6 +543,10 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
     }
   }
 
+  protected void parseBatchRequestsParam(String batchRequestsParam) {
+    isBatchRequests = Boolean.parseBoolean(batchRequestsParam); // disabled by default
+  }
+
   protected void initializeQueue(int capacity) {
     LOG.log(Level.FINEST, "Initializing queue with capacity [{0}]", capacity);
     queue = new ArrayBlockingQueue<>(capacity);
@@ -18,10 +18,13 @@ package org.operaton.bpm.engine.rest.impl;
 
 import org.operaton.bpm.engine.impl.identity.Authentication;
 import org.operaton.bpm.engine.impl.util.ClockUtil;
+import org.operaton.bpm.engine.rest.dto.externaltask.FetchExternalTasksDto.FetchExternalTaskTopicDto;
 import org.operaton.bpm.engine.rest.dto.externaltask.FetchExternalTasksExtendedDto;
 
 import jakarta.ws.rs.container.AsyncResponse;
 import java.util.Date;
+import java.util.List;
+import java.util.Set;
 
 /**
  * @author Tassilo Weidner
@@ -85,6 +88,21 @@ public class FetchAndLockRequest {
     return reqTime + asyncResponseTimeout;
   }
 
+  /**
+   * @return true if the request subscribes to at least one of the given topics
+   */
+  public boolean isSubscribedToAny(Set<String> topicNames) {
+    List<FetchExternalTaskTopicDto> topics = getDto().getTopics();
+    if (topics != null) {
+      for (FetchExternalTaskTopicDto topic : topics) {
+        if (topicNames.contains(topic.getTopicName())) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
   @Override
   public String toString() {
     return "FetchAndLockRequest [requestTime=" + requestTime + ", dto=" + dto + ", asyncResponse=" + asyncResponse + ", processEngineName=" + processEngineName
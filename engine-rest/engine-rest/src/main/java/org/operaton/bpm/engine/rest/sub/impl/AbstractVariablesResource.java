@@ -16,6 +16,7 @@
  */
 package org.operaton.bpm.engine.rest.sub.impl;
 
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -38,8 +39,10 @@ import org.operaton.bpm.engine.rest.mapper.MultipartFormData;
 import org.operaton.bpm.engine.rest.mapper.MultipartFormData.FormPart;
 import org.operaton.bpm.engine.rest.sub.VariableResource;
 import org.operaton.bpm.engine.runtime.DeserializationTypeValidator;
+import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.variable.VariableMap;
 import org.operaton.bpm.engine.variable.Variables;
+import org.operaton.bpm.engine.variable.type.ValueType;
 import org.operaton.bpm.engine.variable.value.TypedValue;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -93,10 +96,40 @@ public abstract class AbstractVariablesResource implements VariableResource {
     return value;
   }
 
+  /**
+   * Streams the content of bytes and file variables from the database in chunks
+   * instead of loading it into memory as a whole.
+   */
   @Override
   public Response getVariableBinary(String variableName) {
-    TypedValue typedValue = getTypedValueForVariable(variableName, false);
-    return new VariableResponseProvider().getResponseForTypedVariable(typedValue, resourceId);
+    VariableInstance variableInstance = getVariableInstanceForVariable(variableName);
+
+    TypedValue typedValue = variableInstance.getTypedValue();
+    VariableResponseProvider responseProvider = new VariableResponseProvider();
+    if (ValueType.BYTES.equals(typedValue.getType()) || ValueType.FILE.equals(typedValue.getType())) {
+      InputStream content = engine.getRuntimeService().getVariableInstanceContent(variableInstance.getId());
+      return responseProvider.getResponseForTypedVariable(typedValue, content, resourceId);
+    } else {
+      return responseProvider.getResponseForTypedVariable(typedValue, resourceId);
+    }
+  }
+
+  protected VariableInstance getVariableInstanceForVariable(String variableName) {
+    VariableInstance variableInstance = null;
+    try {
+      variableInstance = getVariableInstance(variableName);
+    } catch (AuthorizationException e) {
+      throw e;
+    } catch (ProcessEngineException e) {
+      String errorMessage = String.format("Cannot get %s variable %s: %s", getResourceTypeName(), variableName, e.getMessage());
+      throw new RestException(Status.INTERNAL_SERVER_ERROR, e, errorMessage);
+    }
+
+    if (variableInstance == null) {
+      String errorMessage = String.format("%s variable with name %s does not exist", getResourceTypeName(), variableName);
+      throw new InvalidRequestException(Status.NOT_FOUND, errorMessage);
+    }
+    return variableInstance;
   }
 
   @Override
@@ -265,6 +298,12 @@ public abstract class AbstractVariablesResource implements VariableResource {
 
   protected abstract TypedValue getVariableEntity(String variableKey, boolean deserializeValue);
 
+  /**
+   * @return the variable instance which provides the value of the variable, without the
+   *   content of bytes and file variables
+   */
+  protected abstract VariableInstance getVariableInstance(String variableKey);
+
   protected abstract void setVariableEntity(String variableKey, TypedValue variableValue);
 
   protected abstract void removeVariableEntity(String variableKey);
@@ -26,6 +26,7 @@ import org.operaton.bpm.engine.variable.value.TypedValue;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 
 /**
  * @author Christopher Zell <christopher.zell@camunda.com>
@@ -42,17 +43,33 @@ public class VariableResponseProvider {
     }
   }
 
+  /**
+   * Creates a response for a binary variable whose content is provided as a stream
+   * rather than by the typed value, e.g. because the value was fetched without its content.
+   *
+   * @param content the content of the variable, can be null
+   */
+  public Response getResponseForTypedVariable(TypedValue typedVariableValue, InputStream content, String id) {
+    if (ValueType.BYTES.equals(typedVariableValue.getType())) {
+      InputStream entity = content != null ? content : new ByteArrayInputStream(new byte[0]);
+      return Response.ok(entity, MediaType.APPLICATION_OCTET_STREAM).build();
+    } else if (ValueType.FILE.equals(typedVariableValue.getType())) {
+      FileValue fileValue = (FileValue) typedVariableValue;
+      Object entity = content != null ? content : "";
+      return Response.ok(entity, getFileMediaType(fileValue))
+          .header("Content-Disposition", URLEncodingUtil.buildAttachmentValue(fileValue.getFilename()))
+          .build();
+    } else {
+      throw new InvalidRequestException(Response.Status.BAD_REQUEST, String.format("Value of variable with id %s is not a binary value.", id));
+    }
+  }
 
   /**
    * Creates a response for a variable of type {@link ValueType#FILE}.
    */
   protected Response responseForFileVariable(FileValue fileValue) {
-    String type = fileValue.getMimeType() != null ? fileValue.getMimeType() : MediaType.APPLICATION_OCTET_STREAM;
-    if (fileValue.getEncoding() != null) {
-      type += "; charset=" + fileValue.getEncoding();
-    }
     Object value = fileValue.getValue() == null ? "" : fileValue.getValue();
-    return Response.ok(value, type).header("Content-Disposition", URLEncodingUtil.buildAttachmentValue(fileValue.getFilename())).build();
+    return Response.ok(value, getFileMediaType(fileValue)).header("Content-Disposition", URLEncodingUtil.buildAttachmentValue(fileValue.getFilename())).build();
   }
 
   /**
@@ -65,4 +82,12 @@ public class VariableResponseProvider {
     }
     return Response.ok(new ByteArrayInputStream(valueBytes), MediaType.APPLICATION_OCTET_STREAM).build();
   }
+
+  protected String getFileMediaType(FileValue fileValue) {
+    String type = fileValue.getMimeType() != null ? fileValue.getMimeType() : MediaType.APPLICATION_OCTET_STREAM;
+    if (fileValue.getEncoding() != null) {
+      type += "; charset=" + fileValue.getEncoding();
+    }
+    return type;
+  }
 }
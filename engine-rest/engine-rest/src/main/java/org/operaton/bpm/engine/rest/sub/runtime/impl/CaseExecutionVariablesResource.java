@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.operaton.bpm.engine.CaseService;
 import org.operaton.bpm.engine.ProcessEngine;
 import org.operaton.bpm.engine.rest.sub.impl.AbstractVariablesResource;
+import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.variable.VariableMap;
 import org.operaton.bpm.engine.variable.value.TypedValue;
 
@@ -67,6 +68,10 @@ public class CaseExecutionVariablesResource extends AbstractVariablesResource {
     return caseService.getVariableTyped(resourceId, variableKey, deserializeValue);
   }
 
+  protected VariableInstance getVariableInstance(String variableKey) {
+    return engine.getCaseService().getVariableInstance(resourceId, variableKey);
+  }
+
   protected void setVariableEntity(String variableKey, TypedValue variableValue) {
     CaseService caseService = engine.getCaseService();
     caseService
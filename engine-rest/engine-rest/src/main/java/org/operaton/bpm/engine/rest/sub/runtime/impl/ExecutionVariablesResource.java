@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.operaton.bpm.engine.ProcessEngine;
 import org.operaton.bpm.engine.impl.RuntimeServiceImpl;
 import org.operaton.bpm.engine.rest.sub.impl.AbstractVariablesResource;
+import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.variable.VariableMap;
 import org.operaton.bpm.engine.variable.value.TypedValue;
 
@@ -59,6 +60,10 @@ public class ExecutionVariablesResource extends AbstractVariablesResource {
     return engine.getRuntimeService().getVariableTyped(resourceId, variableKey, deserializeValue);
   }
 
+  protected VariableInstance getVariableInstance(String variableKey) {
+    return engine.getRuntimeService().getVariableInstance(resourceId, variableKey);
+  }
+
   protected void setVariableEntity(String variableKey, TypedValue variableValue) {
     engine.getRuntimeService().setVariable(resourceId, variableKey, variableValue);
   }
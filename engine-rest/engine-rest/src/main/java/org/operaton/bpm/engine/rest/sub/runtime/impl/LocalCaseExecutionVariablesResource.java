@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.operaton.bpm.engine.CaseService;
 import org.operaton.bpm.engine.ProcessEngine;
 import org.operaton.bpm.engine.rest.sub.impl.AbstractVariablesResource;
+import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.variable.VariableMap;
 import org.operaton.bpm.engine.variable.value.TypedValue;
 
@@ -55,6 +56,10 @@ public class LocalCaseExecutionVariablesResource extends AbstractVariablesResour
     return caseService.getVariableLocalTyped(resourceId, variableKey, deserializeValue);
   }
 
+  protected VariableInstance getVariableInstance(String variableKey) {
+    return engine.getCaseService().getVariableInstanceLocal(resourceId, variableKey);
+  }
+
   protected void setVariableEntity(String variableKey, TypedValue variableValue) {
     CaseService caseService = engine.getCaseService();
     caseService.withCaseExecution(resourceId)
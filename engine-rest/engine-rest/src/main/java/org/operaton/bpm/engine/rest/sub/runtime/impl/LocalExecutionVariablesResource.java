@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.operaton.bpm.engine.ProcessEngine;
 import org.operaton.bpm.engine.impl.RuntimeServiceImpl;
 import org.operaton.bpm.engine.rest.sub.impl.AbstractVariablesResource;
+import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.variable.VariableMap;
 import org.operaton.bpm.engine.variable.value.TypedValue;
 
@@ -56,6 +57,10 @@ public class LocalExecutionVariablesResource extends AbstractVariablesResource {
     return engine.getRuntimeService().getVariableLocalTyped(resourceId, variableKey, deserializeValue);
   }
 
+  protected VariableInstance getVariableInstance(String variableKey) {
+    return engine.getRuntimeService().getVariableInstanceLocal(resourceId, variableKey);
+  }
+
   protected void setVariableEntity(String variableKey, TypedValue variableValue) {
     engine.getRuntimeService().setVariableLocal(resourceId, variableKey, variableValue);
   }
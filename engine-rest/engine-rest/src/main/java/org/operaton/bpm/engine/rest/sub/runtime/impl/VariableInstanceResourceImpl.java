@@ -16,13 +16,21 @@
  */
 package org.operaton.bpm.engine.rest.sub.runtime.impl;
 
+import java.io.InputStream;
+
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+
 import org.operaton.bpm.engine.ProcessEngine;
 import org.operaton.bpm.engine.query.Query;
 import org.operaton.bpm.engine.rest.dto.runtime.VariableInstanceDto;
+import org.operaton.bpm.engine.rest.exception.InvalidRequestException;
 import org.operaton.bpm.engine.rest.sub.AbstractResourceProvider;
+import org.operaton.bpm.engine.rest.sub.impl.VariableResponseProvider;
 import org.operaton.bpm.engine.rest.sub.runtime.VariableInstanceResource;
 import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.runtime.VariableInstanceQuery;
+import org.operaton.bpm.engine.variable.type.ValueType;
 import org.operaton.bpm.engine.variable.value.TypedValue;
 
 /**
@@ -41,9 +49,36 @@ public class VariableInstanceResourceImpl extends AbstractResourceProvider<Varia
     return getEngine().getRuntimeService().createVariableInstanceQuery().variableId(getId());
   }
 
+  /**
+   * Streams the content of bytes and file variables from the database in chunks
+   * instead of loading it into memory as a whole.
+   */
+  @Override
+  public Response getResourceBinary() {
+    VariableInstance variableInstance = baseQueryForBinaryVariable().singleResult();
+    if (variableInstance == null) {
+      throw new InvalidRequestException(Status.NOT_FOUND, getResourceNameForErrorMessage() + " with Id '" + getId() + "' does not exist.");
+    }
+
+    TypedValue typedValue = transformQueryResultIntoTypedValue(variableInstance);
+    VariableResponseProvider responseProvider = new VariableResponseProvider();
+    if (ValueType.BYTES.equals(typedValue.getType()) || ValueType.FILE.equals(typedValue.getType())) {
+      InputStream content = getEngine().getRuntimeService().getVariableInstanceContent(getId());
+      return responseProvider.getResponseForTypedVariable(typedValue, content, getId());
+    } else {
+      return responseProvider.getResponseForTypedVariable(typedValue, getId());
+    }
+  }
+
   @Override
   protected Query<VariableInstanceQuery, VariableInstance> baseQueryForBinaryVariable() {
-    return baseQuery().disableCustomObjectDeserialization();
+    VariableInstanceQuery baseQuery = baseQuery();
+
+    // the content is streamed separately
+    baseQuery.disableBinaryFetching();
+    baseQuery.disableCustomObjectDeserialization();
+
+    return baseQuery;
   }
 
   @Override
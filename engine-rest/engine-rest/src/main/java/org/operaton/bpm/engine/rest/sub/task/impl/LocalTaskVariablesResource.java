@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.operaton.bpm.engine.ProcessEngine;
 import org.operaton.bpm.engine.impl.TaskServiceImpl;
 import org.operaton.bpm.engine.rest.sub.impl.AbstractVariablesResource;
+import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.variable.VariableMap;
 import org.operaton.bpm.engine.variable.value.TypedValue;
 
@@ -52,6 +53,10 @@ public class LocalTaskVariablesResource extends AbstractVariablesResource {
     return engine.getTaskService().getVariableLocalTyped(resourceId, variableKey, deserializeValue);
   }
 
+  protected VariableInstance getVariableInstance(String variableKey) {
+    return engine.getTaskService().getVariableInstanceLocal(resourceId, variableKey);
+  }
+
   protected void setVariableEntity(String variableKey, TypedValue variableValue) {
     engine.getTaskService().setVariableLocal(resourceId, variableKey, variableValue);
   }
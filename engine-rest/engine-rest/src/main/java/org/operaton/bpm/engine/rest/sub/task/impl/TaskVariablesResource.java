@@ -21,6 +21,7 @@ import java.util.List;
 import org.operaton.bpm.engine.ProcessEngine;
 import org.operaton.bpm.engine.impl.TaskServiceImpl;
 import org.operaton.bpm.engine.rest.sub.impl.AbstractVariablesResource;
+import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.variable.VariableMap;
 import org.operaton.bpm.engine.variable.value.TypedValue;
 
@@ -44,6 +45,10 @@ public class TaskVariablesResource extends AbstractVariablesResource {
     return engine.getTaskService().getVariableTyped(resourceId, variableKey, deserializeValue);
   }
 
+  protected VariableInstance getVariableInstance(String variableKey) {
+    return engine.getTaskService().getVariableInstance(resourceId, variableKey);
+  }
+
   protected VariableMap getVariableEntities(boolean deserializeValues) {
     return engine.getTaskService().getVariablesTyped(resourceId, deserializeValues);
   }
@@ -62,6 +62,7 @@ import org.operaton.bpm.engine.rest.util.container.TestContainerRule;
 import org.operaton.bpm.engine.runtime.CaseExecution;
 import org.operaton.bpm.engine.runtime.CaseExecutionCommandBuilder;
 import org.operaton.bpm.engine.runtime.CaseExecutionQuery;
+import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.variable.Variables;
 import org.operaton.bpm.engine.variable.type.SerializableValueType;
 import org.operaton.bpm.engine.variable.value.BooleanValue;
@@ -131,6 +132,11 @@ public class CaseExecutionRestServiceInteractionTest extends AbstractRestService
 
     when(caseServiceMock.getVariableLocalTyped(anyString(), eq(EXAMPLE_VARIABLE_KEY), anyBoolean())).thenReturn(EXAMPLE_VARIABLE_VALUE);
     when(caseServiceMock.getVariableLocalTyped(anyString(), eq(EXAMPLE_BYTES_VARIABLE_KEY), eq(false))).thenReturn(EXAMPLE_VARIABLE_VALUE_BYTES);
+
+    VariableInstance variableInstanceMock = MockProvider.createMockVariableInstance(EXAMPLE_VARIABLE_VALUE);
+    when(caseServiceMock.getVariableInstanceLocal(anyString(), eq(EXAMPLE_VARIABLE_KEY))).thenReturn(variableInstanceMock);
+    VariableInstance bytesVariableInstanceMock = MockProvider.createMockBinaryVariableInstance(EXAMPLE_VARIABLE_VALUE_BYTES, processEngine.getRuntimeService());
+    when(caseServiceMock.getVariableInstanceLocal(anyString(), eq(EXAMPLE_BYTES_VARIABLE_KEY))).thenReturn(bytesVariableInstanceMock);
     when(caseServiceMock.getVariablesLocalTyped(anyString(), eq(true))).thenReturn(EXAMPLE_VARIABLES);
 
     when(caseServiceMock.getVariablesTyped(anyString(), Mockito.any(), eq(true))).thenReturn(EXAMPLE_VARIABLES);
@@ -1523,8 +1529,8 @@ public class CaseExecutionRestServiceInteractionTest extends AbstractRestService
     String mimeType = "text/plain";
     FileValue variableValue = Variables.fileValue(filename).mimeType(mimeType).create();
 
-    when(caseServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_CASE_INSTANCE_ID), eq(variableKey), anyBoolean()))
-    .thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(caseServiceMock.getVariableInstance(eq(MockProvider.EXAMPLE_CASE_INSTANCE_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_CASE_INSTANCE_ID)
@@ -1544,8 +1550,8 @@ public class CaseExecutionRestServiceInteractionTest extends AbstractRestService
     String filename = "test.txt";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).create();
 
-    when(caseServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_CASE_INSTANCE_ID), eq(variableKey), anyBoolean()))
-    .thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(caseServiceMock.getVariableInstance(eq(MockProvider.EXAMPLE_CASE_INSTANCE_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_CASE_INSTANCE_ID)
@@ -1566,8 +1572,8 @@ public class CaseExecutionRestServiceInteractionTest extends AbstractRestService
     String encoding = UTF_8.name();
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).encoding(encoding).create();
 
-    when(caseServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_CASE_INSTANCE_ID), eq(variableKey), anyBoolean()))
-    .thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(caseServiceMock.getVariableInstance(eq(MockProvider.EXAMPLE_CASE_INSTANCE_ID), eq(variableKey))).thenReturn(variableInstance);
 
     Response response = given()
       .pathParam("id", MockProvider.EXAMPLE_CASE_INSTANCE_ID)
@@ -1588,8 +1594,8 @@ public class CaseExecutionRestServiceInteractionTest extends AbstractRestService
     String filename = "test.txt";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).create();
 
-    when(caseServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_CASE_INSTANCE_ID), eq(variableKey), anyBoolean()))
-    .thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(caseServiceMock.getVariableInstance(eq(MockProvider.EXAMPLE_CASE_INSTANCE_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_CASE_INSTANCE_ID)
@@ -1608,8 +1614,8 @@ public class CaseExecutionRestServiceInteractionTest extends AbstractRestService
     String variableKey = "aVariableKey";
     BooleanValue variableValue = Variables.booleanValue(true);
 
-    when(caseServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_CASE_INSTANCE_ID), eq(variableKey), anyBoolean()))
-    .thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(caseServiceMock.getVariableInstance(eq(MockProvider.EXAMPLE_CASE_INSTANCE_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_CASE_INSTANCE_ID)
@@ -1830,7 +1836,7 @@ public class CaseExecutionRestServiceInteractionTest extends AbstractRestService
     .when()
       .get(SINGLE_CASE_EXECUTION_LOCAL_BINARY_VARIABLE_URL);
 
-    verify(caseServiceMock).getVariableLocalTyped(MockProvider.EXAMPLE_CASE_EXECUTION_ID, EXAMPLE_BYTES_VARIABLE_KEY, false);
+    verify(caseServiceMock).getVariableInstanceLocal(MockProvider.EXAMPLE_CASE_EXECUTION_ID, EXAMPLE_BYTES_VARIABLE_KEY);
   }
 
   @Test
@@ -1846,7 +1852,7 @@ public class CaseExecutionRestServiceInteractionTest extends AbstractRestService
     .when()
       .get(SINGLE_CASE_EXECUTION_LOCAL_BINARY_VARIABLE_URL);
 
-    verify(caseServiceMock).getVariableLocalTyped(MockProvider.EXAMPLE_CASE_EXECUTION_ID, "nonExisting", false);
+    verify(caseServiceMock).getVariableInstanceLocal(MockProvider.EXAMPLE_CASE_EXECUTION_ID, "nonExisting");
   }
 
   @Test
@@ -1860,7 +1866,7 @@ public class CaseExecutionRestServiceInteractionTest extends AbstractRestService
     .when()
       .get(SINGLE_CASE_EXECUTION_LOCAL_BINARY_VARIABLE_URL);
 
-    verify(caseServiceMock).getVariableLocalTyped(MockProvider.EXAMPLE_CASE_EXECUTION_ID, EXAMPLE_VARIABLE_KEY, false);
+    verify(caseServiceMock).getVariableInstanceLocal(MockProvider.EXAMPLE_CASE_EXECUTION_ID, EXAMPLE_VARIABLE_KEY);
   }
 
   @Test
@@ -67,6 +67,7 @@ import org.operaton.bpm.engine.rest.util.container.TestContainerRule;
 import org.operaton.bpm.engine.runtime.CaseExecutionCommandBuilder;
 import org.operaton.bpm.engine.runtime.CaseInstance;
 import org.operaton.bpm.engine.runtime.CaseInstanceQuery;
+import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.variable.VariableMap;
 import org.operaton.bpm.engine.variable.Variables;
 import org.operaton.bpm.engine.variable.type.SerializableValueType;
@@ -139,6 +140,11 @@ public class CaseInstanceRestServiceInteractionTest extends AbstractRestServiceT
     when(caseServiceMock.getVariableTyped(anyString(), eq(EXAMPLE_VARIABLE_KEY), anyBoolean())).thenReturn(EXAMPLE_VARIABLE_VALUE);
     when(caseServiceMock.getVariableTyped(anyString(), eq(EXAMPLE_BYTES_VARIABLE_KEY), eq(false))).thenReturn(EXAMPLE_VARIABLE_VALUE_BYTES);
 
+    VariableInstance variableInstanceMock = MockProvider.createMockVariableInstance(EXAMPLE_VARIABLE_VALUE);
+    when(caseServiceMock.getVariableInstance(anyString(), eq(EXAMPLE_VARIABLE_KEY))).thenReturn(variableInstanceMock);
+    VariableInstance bytesVariableInstanceMock = MockProvider.createMockBinaryVariableInstance(EXAMPLE_VARIABLE_VALUE_BYTES, processEngine.getRuntimeService());
+    when(caseServiceMock.getVariableInstance(anyString(), eq(EXAMPLE_BYTES_VARIABLE_KEY))).thenReturn(bytesVariableInstanceMock);
+
     when(caseServiceMock.getVariablesTyped(anyString(), eq(true))).thenReturn(EXAMPLE_VARIABLES);
     when(caseServiceMock.getVariablesTyped(anyString(), Mockito.any(), eq(true))).thenReturn(EXAMPLE_VARIABLES);
 
@@ -480,7 +486,7 @@ public class CaseInstanceRestServiceInteractionTest extends AbstractRestServiceT
     .when()
       .get(SINGLE_CASE_INSTANCE_BINARY_VARIABLE_URL);
 
-    verify(caseServiceMock).getVariableTyped(MockProvider.EXAMPLE_CASE_INSTANCE_ID, EXAMPLE_BYTES_VARIABLE_KEY, false);
+    verify(caseServiceMock).getVariableInstance(MockProvider.EXAMPLE_CASE_INSTANCE_ID, EXAMPLE_BYTES_VARIABLE_KEY);
   }
 
   @Test
@@ -496,7 +502,7 @@ public class CaseInstanceRestServiceInteractionTest extends AbstractRestServiceT
     .when()
       .get(SINGLE_CASE_INSTANCE_BINARY_VARIABLE_URL);
 
-    verify(caseServiceMock).getVariableTyped(MockProvider.EXAMPLE_CASE_INSTANCE_ID, "nonExisting", false);
+    verify(caseServiceMock).getVariableInstance(MockProvider.EXAMPLE_CASE_INSTANCE_ID, "nonExisting");
   }
 
   @Test
@@ -510,7 +516,7 @@ public class CaseInstanceRestServiceInteractionTest extends AbstractRestServiceT
     .when()
       .get(SINGLE_CASE_INSTANCE_BINARY_VARIABLE_URL);
 
-    verify(caseServiceMock).getVariableTyped(MockProvider.EXAMPLE_CASE_INSTANCE_ID, EXAMPLE_VARIABLE_KEY, false);
+    verify(caseServiceMock).getVariableInstance(MockProvider.EXAMPLE_CASE_INSTANCE_ID, EXAMPLE_VARIABLE_KEY);
   }
 
   @Test
@@ -616,8 +622,8 @@ public class CaseInstanceRestServiceInteractionTest extends AbstractRestServiceT
     String mimeType = "text/plain";
     FileValue variableValue = Variables.fileValue(filename).mimeType(mimeType).create();
 
-    when(caseServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_CASE_INSTANCE_ID), eq(variableKey), anyBoolean()))
-    .thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(caseServiceMock.getVariableInstance(eq(MockProvider.EXAMPLE_CASE_INSTANCE_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_CASE_INSTANCE_ID)
@@ -637,8 +643,8 @@ public class CaseInstanceRestServiceInteractionTest extends AbstractRestServiceT
     String filename = "test.txt";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).create();
 
-    when(caseServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_CASE_INSTANCE_ID), eq(variableKey), anyBoolean()))
-    .thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(caseServiceMock.getVariableInstance(eq(MockProvider.EXAMPLE_CASE_INSTANCE_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_CASE_INSTANCE_ID)
@@ -659,8 +665,8 @@ public class CaseInstanceRestServiceInteractionTest extends AbstractRestServiceT
     String encoding = UTF_8.name();
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).encoding(encoding).create();
 
-    when(caseServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_CASE_INSTANCE_ID), eq(variableKey), anyBoolean()))
-    .thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(caseServiceMock.getVariableInstance(eq(MockProvider.EXAMPLE_CASE_INSTANCE_ID), eq(variableKey))).thenReturn(variableInstance);
 
     Response response = given()
       .pathParam("id", MockProvider.EXAMPLE_CASE_INSTANCE_ID)
@@ -681,8 +687,8 @@ public class CaseInstanceRestServiceInteractionTest extends AbstractRestServiceT
     String filename = "test.txt";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).create();
 
-    when(caseServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_CASE_INSTANCE_ID), eq(variableKey), anyBoolean()))
-    .thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(caseServiceMock.getVariableInstance(eq(MockProvider.EXAMPLE_CASE_INSTANCE_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_CASE_INSTANCE_ID)
@@ -701,7 +707,8 @@ public class CaseInstanceRestServiceInteractionTest extends AbstractRestServiceT
     String variableKey = "aVariableKey";
     BooleanValue variableValue = Variables.booleanValue(true);
 
-    when(caseServiceMock.getVariableLocalTyped(eq(EXAMPLE_TASK_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(caseServiceMock.getVariableInstanceLocal(eq(EXAMPLE_TASK_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", EXAMPLE_TASK_ID)
@@ -72,6 +72,7 @@ import org.operaton.bpm.engine.runtime.EventSubscriptionQuery;
 import org.operaton.bpm.engine.runtime.Execution;
 import org.operaton.bpm.engine.runtime.ExecutionQuery;
 import org.operaton.bpm.engine.runtime.Incident;
+import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.variable.Variables;
 import org.operaton.bpm.engine.variable.type.SerializableValueType;
 import org.operaton.bpm.engine.variable.type.ValueType;
@@ -507,7 +508,8 @@ public class ExecutionRestServiceInteractionTest extends AbstractRestServiceTest
   @Test
   public void testGetSingleLocalVariableData() {
 
-    when(runtimeServiceMock.getVariableLocalTyped(anyString(), eq(EXAMPLE_BYTES_VARIABLE_KEY), eq(false))).thenReturn(EXAMPLE_VARIABLE_VALUE_BYTES);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(EXAMPLE_VARIABLE_VALUE_BYTES, processEngine.getRuntimeService());
+    when(runtimeServiceMock.getVariableInstanceLocal(anyString(), eq(EXAMPLE_BYTES_VARIABLE_KEY))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_EXECUTION_ID)
@@ -519,13 +521,13 @@ public class ExecutionRestServiceInteractionTest extends AbstractRestServiceTest
     .when()
       .get(SINGLE_EXECUTION_LOCAL_BINARY_VARIABLE_URL);
 
-    verify(runtimeServiceMock).getVariableLocalTyped(MockProvider.EXAMPLE_EXECUTION_ID, EXAMPLE_BYTES_VARIABLE_KEY, false);
+    verify(runtimeServiceMock).getVariableInstanceLocal(MockProvider.EXAMPLE_EXECUTION_ID, EXAMPLE_BYTES_VARIABLE_KEY);
   }
 
   @Test
   public void testGetSingleLocalVariableDataNonExisting() {
 
-    when(runtimeServiceMock.getVariableLocalTyped(anyString(), eq("nonExisting"), eq(false))).thenReturn(null);
+    when(runtimeServiceMock.getVariableInstanceLocal(anyString(), eq("nonExisting"))).thenReturn(null);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_EXECUTION_ID)
@@ -538,13 +540,14 @@ public class ExecutionRestServiceInteractionTest extends AbstractRestServiceTest
     .when()
       .get(SINGLE_EXECUTION_LOCAL_BINARY_VARIABLE_URL);
 
-    verify(runtimeServiceMock).getVariableLocalTyped(MockProvider.EXAMPLE_EXECUTION_ID, "nonExisting", false);
+    verify(runtimeServiceMock).getVariableInstanceLocal(MockProvider.EXAMPLE_EXECUTION_ID, "nonExisting");
   }
 
   @Test
   public void testGetSingleLocalVariabledataNotBinary() {
 
-    when(runtimeServiceMock.getVariableLocalTyped(anyString(), eq(EXAMPLE_VARIABLE_KEY), eq(false))).thenReturn(EXAMPLE_VARIABLE_VALUE);
+    VariableInstance variableInstance = MockProvider.createMockVariableInstance(EXAMPLE_VARIABLE_VALUE);
+    when(runtimeServiceMock.getVariableInstanceLocal(anyString(), eq(EXAMPLE_VARIABLE_KEY))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_EXECUTION_ID)
@@ -555,7 +558,8 @@ public class ExecutionRestServiceInteractionTest extends AbstractRestServiceTest
     .when()
       .get(SINGLE_EXECUTION_LOCAL_BINARY_VARIABLE_URL);
 
-    verify(runtimeServiceMock).getVariableLocalTyped(MockProvider.EXAMPLE_EXECUTION_ID, EXAMPLE_VARIABLE_KEY, false);
+    verify(runtimeServiceMock).getVariableInstanceLocal(MockProvider.EXAMPLE_EXECUTION_ID, EXAMPLE_VARIABLE_KEY);
+    verify(runtimeServiceMock, never()).getVariableInstanceContent(anyString());
   }
 
   @Test
@@ -694,8 +698,8 @@ public class ExecutionRestServiceInteractionTest extends AbstractRestServiceTest
     String mimeType = "text/plain";
     FileValue variableValue = Variables.fileValue(filename).mimeType(mimeType).create();
 
-    when(runtimeServiceMock.getVariableLocalTyped(eq(MockProvider.EXAMPLE_EXECUTION_ID), eq(variableKey), anyBoolean()))
-      .thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(runtimeServiceMock.getVariableInstanceLocal(eq(MockProvider.EXAMPLE_EXECUTION_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_EXECUTION_ID)
@@ -715,7 +719,8 @@ public class ExecutionRestServiceInteractionTest extends AbstractRestServiceTest
     String filename = "test.txt";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).create();
 
-    when(runtimeServiceMock.getVariableLocalTyped(eq(MockProvider.EXAMPLE_EXECUTION_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(runtimeServiceMock.getVariableInstanceLocal(eq(MockProvider.EXAMPLE_EXECUTION_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_EXECUTION_ID)
@@ -736,7 +741,8 @@ public class ExecutionRestServiceInteractionTest extends AbstractRestServiceTest
     String encoding = UTF_8.name();
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).encoding(encoding).create();
 
-    when(runtimeServiceMock.getVariableLocalTyped(eq(MockProvider.EXAMPLE_EXECUTION_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(runtimeServiceMock.getVariableInstanceLocal(eq(MockProvider.EXAMPLE_EXECUTION_ID), eq(variableKey))).thenReturn(variableInstance);
 
     Response response = given()
       .pathParam("id", MockProvider.EXAMPLE_EXECUTION_ID)
@@ -757,7 +763,8 @@ public class ExecutionRestServiceInteractionTest extends AbstractRestServiceTest
     String filename = "test.txt";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).create();
 
-    when(runtimeServiceMock.getVariableLocalTyped(eq(MockProvider.EXAMPLE_EXECUTION_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(runtimeServiceMock.getVariableInstanceLocal(eq(MockProvider.EXAMPLE_EXECUTION_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_EXECUTION_ID)
@@ -776,7 +783,8 @@ public class ExecutionRestServiceInteractionTest extends AbstractRestServiceTest
     String variableKey = "aVariableKey";
     BooleanValue variableValue = Variables.booleanValue(true);
 
-    when(runtimeServiceMock.getVariableLocalTyped(eq(EXAMPLE_TASK_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(runtimeServiceMock.getVariableInstanceLocal(eq(EXAMPLE_TASK_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", EXAMPLE_TASK_ID)
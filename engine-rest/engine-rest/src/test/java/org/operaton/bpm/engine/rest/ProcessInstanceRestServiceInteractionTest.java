@@ -112,6 +112,7 @@ import org.operaton.bpm.engine.runtime.ProcessInstanceQuery;
 import org.operaton.bpm.engine.runtime.UpdateProcessInstanceSuspensionStateSelectBuilder;
 import org.operaton.bpm.engine.runtime.UpdateProcessInstanceSuspensionStateTenantBuilder;
 import org.operaton.bpm.engine.runtime.UpdateProcessInstancesSuspensionStateBuilder;
+import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.task.Comment;
 import org.operaton.bpm.engine.variable.VariableMap;
 import org.operaton.bpm.engine.variable.Variables;
@@ -1209,8 +1210,8 @@ public class ProcessInstanceRestServiceInteractionTest extends AbstractRestServi
     String mimeType = "text/plain";
     FileValue variableValue = Variables.fileValue(filename).mimeType(mimeType).create();
 
-    when(runtimeServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID), eq(variableKey), anyBoolean()))
-      .thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(runtimeServiceMock.getVariableInstance(eq(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID)
@@ -1230,8 +1231,8 @@ public class ProcessInstanceRestServiceInteractionTest extends AbstractRestServi
     String filename = "test.txt";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).create();
 
-    when(runtimeServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID), eq(variableKey), anyBoolean()))
-    .thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(runtimeServiceMock.getVariableInstance(eq(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID), eq(variableKey))).thenReturn(variableInstance);
 
   given()
     .pathParam("id", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID)
@@ -1252,8 +1253,8 @@ public class ProcessInstanceRestServiceInteractionTest extends AbstractRestServi
     String encoding = UTF_8.name();
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).encoding(encoding).create();
 
-    when(runtimeServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID), eq(variableKey), anyBoolean()))
-    .thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(runtimeServiceMock.getVariableInstance(eq(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID), eq(variableKey))).thenReturn(variableInstance);
 
     Response response = given()
       .pathParam("id", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID)
@@ -1274,8 +1275,8 @@ public class ProcessInstanceRestServiceInteractionTest extends AbstractRestServi
     String filename = "test.txt";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).create();
 
-    when(runtimeServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID), eq(variableKey), anyBoolean()))
-    .thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(runtimeServiceMock.getVariableInstance(eq(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID), eq(variableKey))).thenReturn(variableInstance);
 
    given()
     .pathParam("id", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID)
@@ -1294,8 +1295,8 @@ public class ProcessInstanceRestServiceInteractionTest extends AbstractRestServi
     String variableKey = "aVariableKey";
     LongValue variableValue = Variables.longValue(123L);
 
-    when(runtimeServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID), eq(variableKey), anyBoolean()))
-    .thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(runtimeServiceMock.getVariableInstance(eq(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID), eq(variableKey))).thenReturn(variableInstance);
 
    given()
     .pathParam("id", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID)
@@ -1781,7 +1782,8 @@ public class ProcessInstanceRestServiceInteractionTest extends AbstractRestServi
   @Test
   public void testGetSingleLocalVariableData() {
 
-    when(runtimeServiceMock.getVariableTyped(anyString(), eq(EXAMPLE_BYTES_VARIABLE_KEY), eq(false))).thenReturn(EXAMPLE_VARIABLE_VALUE_BYTES);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(EXAMPLE_VARIABLE_VALUE_BYTES, processEngine.getRuntimeService());
+    when(runtimeServiceMock.getVariableInstance(anyString(), eq(EXAMPLE_BYTES_VARIABLE_KEY))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID)
@@ -1793,13 +1795,13 @@ public class ProcessInstanceRestServiceInteractionTest extends AbstractRestServi
     .when()
       .get(SINGLE_PROCESS_INSTANCE_BINARY_VARIABLE_URL);
 
-    verify(runtimeServiceMock).getVariableTyped(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, EXAMPLE_BYTES_VARIABLE_KEY, false);
+    verify(runtimeServiceMock).getVariableInstance(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, EXAMPLE_BYTES_VARIABLE_KEY);
   }
 
   @Test
   public void testGetSingleLocalVariableDataNonExisting() {
 
-    when(runtimeServiceMock.getVariableTyped(anyString(), eq("nonExisting"), eq(false))).thenReturn(null);
+    when(runtimeServiceMock.getVariableInstance(anyString(), eq("nonExisting"))).thenReturn(null);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID)
@@ -1812,13 +1814,14 @@ public class ProcessInstanceRestServiceInteractionTest extends AbstractRestServi
     .when()
       .get(SINGLE_PROCESS_INSTANCE_BINARY_VARIABLE_URL);
 
-    verify(runtimeServiceMock).getVariableTyped(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, "nonExisting", false);
+    verify(runtimeServiceMock).getVariableInstance(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, "nonExisting");
   }
 
   @Test
   public void testGetSingleLocalVariabledataNotBinary() {
 
-    when(runtimeServiceMock.getVariableTyped(anyString(), eq(EXAMPLE_VARIABLE_KEY), eq(false))).thenReturn(EXAMPLE_VARIABLE_VALUE);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(EXAMPLE_VARIABLE_VALUE, processEngine.getRuntimeService());
+    when(runtimeServiceMock.getVariableInstance(anyString(), eq(EXAMPLE_VARIABLE_KEY))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID)
@@ -1829,7 +1832,7 @@ public class ProcessInstanceRestServiceInteractionTest extends AbstractRestServi
     .when()
       .get(SINGLE_PROCESS_INSTANCE_BINARY_VARIABLE_URL);
 
-    verify(runtimeServiceMock).getVariableTyped(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, EXAMPLE_VARIABLE_KEY, false);
+    verify(runtimeServiceMock).getVariableInstance(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, EXAMPLE_VARIABLE_KEY);
   }
 
   @Test
@@ -30,6 +30,7 @@ import org.operaton.bpm.engine.rest.helper.variable.EqualsPrimitiveValue;
 import org.operaton.bpm.engine.rest.helper.variable.EqualsUntypedValue;
 import org.operaton.bpm.engine.rest.util.VariablesBuilder;
 import org.operaton.bpm.engine.rest.util.container.TestContainerRule;
+import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.variable.Variables;
 import org.operaton.bpm.engine.variable.type.SerializableValueType;
 import org.operaton.bpm.engine.variable.type.ValueType;
@@ -305,7 +306,8 @@ public class TaskVariableLocalRestResourceInteractionTest extends
   @Test
   public void testGetSingleLocalVariableData() {
 
-    when(taskServiceMock.getVariableLocalTyped(anyString(), eq(EXAMPLE_BYTES_VARIABLE_KEY), eq(false))).thenReturn(EXAMPLE_VARIABLE_VALUE_BYTES);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(EXAMPLE_VARIABLE_VALUE_BYTES, processEngine.getRuntimeService());
+    when(taskServiceMock.getVariableInstanceLocal(anyString(), eq(EXAMPLE_BYTES_VARIABLE_KEY))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_TASK_ID)
@@ -317,13 +319,13 @@ public class TaskVariableLocalRestResourceInteractionTest extends
     .when()
       .get(SINGLE_TASK_SINGLE_BINARY_VARIABLE_URL);
 
-    verify(taskServiceMock).getVariableLocalTyped(MockProvider.EXAMPLE_TASK_ID, EXAMPLE_BYTES_VARIABLE_KEY, false);
+    verify(taskServiceMock).getVariableInstanceLocal(MockProvider.EXAMPLE_TASK_ID, EXAMPLE_BYTES_VARIABLE_KEY);
   }
 
   @Test
   public void testGetSingleLocalVariableDataNonExisting() {
 
-    when(taskServiceMock.getVariableLocalTyped(anyString(), eq("nonExisting"), eq(false))).thenReturn(null);
+    when(taskServiceMock.getVariableInstanceLocal(anyString(), eq("nonExisting"))).thenReturn(null);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_TASK_ID)
@@ -336,13 +338,14 @@ public class TaskVariableLocalRestResourceInteractionTest extends
     .when()
       .get(SINGLE_TASK_SINGLE_BINARY_VARIABLE_URL);
 
-    verify(taskServiceMock).getVariableLocalTyped(MockProvider.EXAMPLE_TASK_ID, "nonExisting", false);
+    verify(taskServiceMock).getVariableInstanceLocal(MockProvider.EXAMPLE_TASK_ID, "nonExisting");
   }
 
   @Test
   public void testGetSingleLocalVariableDataNotBinary() {
 
-    when(taskServiceMock.getVariableLocalTyped(anyString(), eq(EXAMPLE_VARIABLE_KEY), eq(false))).thenReturn(EXAMPLE_VARIABLE_VALUE);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(EXAMPLE_VARIABLE_VALUE, processEngine.getRuntimeService());
+    when(taskServiceMock.getVariableInstanceLocal(anyString(), eq(EXAMPLE_VARIABLE_KEY))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_TASK_ID)
@@ -353,7 +356,7 @@ public class TaskVariableLocalRestResourceInteractionTest extends
     .when()
       .get(SINGLE_TASK_SINGLE_BINARY_VARIABLE_URL);
 
-    verify(taskServiceMock).getVariableLocalTyped(MockProvider.EXAMPLE_TASK_ID, EXAMPLE_VARIABLE_KEY, false);
+    verify(taskServiceMock).getVariableInstanceLocal(MockProvider.EXAMPLE_TASK_ID, EXAMPLE_VARIABLE_KEY);
   }
 
   @Test
@@ -491,8 +494,8 @@ public class TaskVariableLocalRestResourceInteractionTest extends
     String mimeType = "text/plain";
     FileValue variableValue = Variables.fileValue(filename).mimeType(mimeType).create();
 
-    when(taskServiceMock.getVariableLocalTyped(eq(MockProvider.EXAMPLE_TASK_ID), eq(variableKey), anyBoolean()))
-      .thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(taskServiceMock.getVariableInstanceLocal(eq(MockProvider.EXAMPLE_TASK_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_TASK_ID)
@@ -512,7 +515,8 @@ public class TaskVariableLocalRestResourceInteractionTest extends
     String filename = "test.txt";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).create();
 
-    when(taskServiceMock.getVariableLocalTyped(eq(EXAMPLE_TASK_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(taskServiceMock.getVariableInstanceLocal(eq(EXAMPLE_TASK_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", EXAMPLE_TASK_ID)
@@ -533,7 +537,8 @@ public class TaskVariableLocalRestResourceInteractionTest extends
     String encoding = UTF_8.name();
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).encoding(encoding).create();
 
-    when(taskServiceMock.getVariableLocalTyped(eq(EXAMPLE_TASK_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(taskServiceMock.getVariableInstanceLocal(eq(EXAMPLE_TASK_ID), eq(variableKey))).thenReturn(variableInstance);
 
     Response response = given()
       .pathParam("id", EXAMPLE_TASK_ID)
@@ -554,7 +559,8 @@ public class TaskVariableLocalRestResourceInteractionTest extends
     String filename = "test.txt";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).create();
 
-    when(taskServiceMock.getVariableLocalTyped(eq(EXAMPLE_TASK_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(taskServiceMock.getVariableInstanceLocal(eq(EXAMPLE_TASK_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", EXAMPLE_TASK_ID)
@@ -573,7 +579,8 @@ public class TaskVariableLocalRestResourceInteractionTest extends
     String variableKey = "aVariableKey";
     BooleanValue variableValue = Variables.booleanValue(true);
 
-    when(taskServiceMock.getVariableLocalTyped(eq(EXAMPLE_TASK_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(taskServiceMock.getVariableInstanceLocal(eq(EXAMPLE_TASK_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", EXAMPLE_TASK_ID)
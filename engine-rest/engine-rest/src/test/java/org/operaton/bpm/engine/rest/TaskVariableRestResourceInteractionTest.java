@@ -30,6 +30,7 @@ import org.operaton.bpm.engine.rest.helper.variable.EqualsPrimitiveValue;
 import org.operaton.bpm.engine.rest.helper.variable.EqualsUntypedValue;
 import org.operaton.bpm.engine.rest.util.VariablesBuilder;
 import org.operaton.bpm.engine.rest.util.container.TestContainerRule;
+import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.variable.Variables;
 import org.operaton.bpm.engine.variable.type.SerializableValueType;
 import org.operaton.bpm.engine.variable.type.ValueType;
@@ -329,7 +330,8 @@ public class TaskVariableRestResourceInteractionTest extends
   @Test
   public void testGetSingleVariableData() {
 
-    when(taskServiceMock.getVariableTyped(anyString(), eq(EXAMPLE_BYTES_VARIABLE_KEY), eq(false))).thenReturn(EXAMPLE_VARIABLE_VALUE_BYTES);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(EXAMPLE_VARIABLE_VALUE_BYTES, processEngine.getRuntimeService());
+    when(taskServiceMock.getVariableInstance(anyString(), eq(EXAMPLE_BYTES_VARIABLE_KEY))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_TASK_ID)
@@ -341,13 +343,13 @@ public class TaskVariableRestResourceInteractionTest extends
     .when()
       .get(SINGLE_TASK_SINGLE_BINARY_VARIABLE_URL);
 
-    verify(taskServiceMock).getVariableTyped(MockProvider.EXAMPLE_TASK_ID, EXAMPLE_BYTES_VARIABLE_KEY, false);
+    verify(taskServiceMock).getVariableInstance(MockProvider.EXAMPLE_TASK_ID, EXAMPLE_BYTES_VARIABLE_KEY);
   }
 
   @Test
   public void testGetSingleVariableDataNonExisting() {
 
-    when(taskServiceMock.getVariableTyped(anyString(), eq("nonExisting"), eq(false))).thenReturn(null);
+    when(taskServiceMock.getVariableInstance(anyString(), eq("nonExisting"))).thenReturn(null);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_TASK_ID)
@@ -360,13 +362,14 @@ public class TaskVariableRestResourceInteractionTest extends
     .when()
       .get(SINGLE_TASK_SINGLE_BINARY_VARIABLE_URL);
 
-    verify(taskServiceMock).getVariableTyped(MockProvider.EXAMPLE_TASK_ID, "nonExisting", false);
+    verify(taskServiceMock).getVariableInstance(MockProvider.EXAMPLE_TASK_ID, "nonExisting");
   }
 
   @Test
   public void testGetSingleVariableDataNotBinary() {
 
-    when(taskServiceMock.getVariableTyped(anyString(), eq(EXAMPLE_VARIABLE_KEY), eq(false))).thenReturn(EXAMPLE_VARIABLE_VALUE);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(EXAMPLE_VARIABLE_VALUE, processEngine.getRuntimeService());
+    when(taskServiceMock.getVariableInstance(anyString(), eq(EXAMPLE_VARIABLE_KEY))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_TASK_ID)
@@ -377,7 +380,7 @@ public class TaskVariableRestResourceInteractionTest extends
     .when()
       .get(SINGLE_TASK_SINGLE_BINARY_VARIABLE_URL);
 
-    verify(taskServiceMock).getVariableTyped(MockProvider.EXAMPLE_TASK_ID, EXAMPLE_VARIABLE_KEY, false);
+    verify(taskServiceMock).getVariableInstance(MockProvider.EXAMPLE_TASK_ID, EXAMPLE_VARIABLE_KEY);
   }
 
   @Test
@@ -515,8 +518,8 @@ public class TaskVariableRestResourceInteractionTest extends
     String mimeType = "text/plain";
     FileValue variableValue = Variables.fileValue(filename).mimeType(mimeType).create();
 
-    when(taskServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_TASK_ID), eq(variableKey), anyBoolean()))
-      .thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(taskServiceMock.getVariableInstance(eq(MockProvider.EXAMPLE_TASK_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_TASK_ID)
@@ -536,7 +539,8 @@ public class TaskVariableRestResourceInteractionTest extends
     String filename = "test.txt";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).create();
 
-    when(taskServiceMock.getVariableTyped(eq(EXAMPLE_TASK_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(taskServiceMock.getVariableInstance(eq(EXAMPLE_TASK_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", EXAMPLE_TASK_ID)
@@ -557,7 +561,8 @@ public class TaskVariableRestResourceInteractionTest extends
     String encoding = UTF_8.name();
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).encoding(encoding).create();
 
-    when(taskServiceMock.getVariableTyped(eq(EXAMPLE_TASK_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(taskServiceMock.getVariableInstance(eq(EXAMPLE_TASK_ID), eq(variableKey))).thenReturn(variableInstance);
 
     Response response = given()
       .pathParam("id", EXAMPLE_TASK_ID)
@@ -578,7 +583,8 @@ public class TaskVariableRestResourceInteractionTest extends
     String filename = "test.txt";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).create();
 
-    when(taskServiceMock.getVariableTyped(eq(EXAMPLE_TASK_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(taskServiceMock.getVariableInstance(eq(EXAMPLE_TASK_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", EXAMPLE_TASK_ID)
@@ -597,7 +603,8 @@ public class TaskVariableRestResourceInteractionTest extends
     String variableKey = "aVariableKey";
     BooleanValue variableValue = Variables.booleanValue(true);
 
-    when(taskServiceMock.getVariableTyped(eq(EXAMPLE_TASK_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    VariableInstance variableInstance = MockProvider.createMockBinaryVariableInstance(variableValue, processEngine.getRuntimeService());
+    when(taskServiceMock.getVariableInstance(eq(EXAMPLE_TASK_ID), eq(variableKey))).thenReturn(variableInstance);
 
     given()
       .pathParam("id", EXAMPLE_TASK_ID)
@@ -29,6 +29,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import jakarta.ws.rs.core.Response.Status;
@@ -241,6 +243,8 @@ public class VariableInstanceRestServiceInteractionTest extends AbstractRestServ
     when(variableInstanceQueryMock.variableId(variableInstanceMock.getId())).thenReturn(variableInstanceQueryMock);
     when(variableInstanceQueryMock.disableCustomObjectDeserialization()).thenReturn(variableInstanceQueryMock);
     when(variableInstanceQueryMock.singleResult()).thenReturn(variableInstanceMock);
+    when(runtimeServiceMock.getVariableInstanceContent(variableInstanceMock.getId()))
+      .thenReturn(new ByteArrayInputStream(byteContent));
 
     Response response = given().pathParam("id", MockProvider.EXAMPLE_VARIABLE_INSTANCE_ID)
     .then().expect()
@@ -250,7 +254,7 @@ public class VariableInstanceRestServiceInteractionTest extends AbstractRestServ
 
     byte[] responseBytes = response.getBody().asByteArray();
     Assert.assertEquals(new String(byteContent), new String(responseBytes));
-    verify(variableInstanceQueryMock, never()).disableBinaryFetching();
+    verify(variableInstanceQueryMock).disableBinaryFetching();
     verify(variableInstanceQueryMock).disableCustomObjectDeserialization();
 
   }
@@ -269,7 +273,7 @@ public class VariableInstanceRestServiceInteractionTest extends AbstractRestServ
       .body(containsString("Value of variable with id aVariableInstanceId is not a binary value"))
     .when().get(VARIABLE_INSTANCE_BINARY_DATA_URL);
 
-    verify(variableInstanceQueryMock, never()).disableBinaryFetching();
+    verify(variableInstanceQueryMock).disableBinaryFetching();
     verify(variableInstanceQueryMock).disableCustomObjectDeserialization();
 
   }
@@ -288,7 +292,7 @@ public class VariableInstanceRestServiceInteractionTest extends AbstractRestServ
     .body(containsString("Variable instance with Id 'nonExistingId' does not exist."))
     .when().get(VARIABLE_INSTANCE_BINARY_DATA_URL);
 
-    verify(variableInstanceQueryMock, never()).disableBinaryFetching();
+    verify(variableInstanceQueryMock).disableBinaryFetching();
     verify(variableInstanceQueryMock).disableCustomObjectDeserialization();
   }
 
@@ -309,6 +313,8 @@ public class VariableInstanceRestServiceInteractionTest extends AbstractRestServ
     when(variableInstanceQueryMock.disableBinaryFetching()).thenReturn(variableInstanceQueryMock);
     when(variableInstanceQueryMock.disableCustomObjectDeserialization()).thenReturn(variableInstanceQueryMock);
     when(variableInstanceQueryMock.singleResult()).thenReturn(variableInstanceMock);
+    when(runtimeServiceMock.getVariableInstanceContent(variableInstanceMock.getId()))
+      .thenReturn(new ByteArrayInputStream(byteContent));
 
     Response response = given().pathParam("id", MockProvider.EXAMPLE_VARIABLE_INSTANCE_ID)
     .then().expect().statusCode(Status.OK.getStatusCode())
@@ -322,6 +328,8 @@ public class VariableInstanceRestServiceInteractionTest extends AbstractRestServ
     //due to some problems with wildfly we gotta check this separately
     String contentType = response.getContentType();
     assertThat(contentType).isEqualTo(ContentType.TEXT.toString() + ";charset=UTF-8");
+
+    verify(variableInstanceQueryMock).disableBinaryFetching();
   }
 
   @Test
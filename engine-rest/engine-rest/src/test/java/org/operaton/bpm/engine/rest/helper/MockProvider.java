@@ -23,6 +23,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.operaton.bpm.engine.rest.util.DateTimeUtils.withTimezone;
 
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -41,6 +42,7 @@ import org.operaton.bpm.dmn.engine.DmnDecisionResult;
 import org.operaton.bpm.engine.EntityTypes;
 import org.operaton.bpm.engine.ManagementService;
 import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.RuntimeService;
 import org.operaton.bpm.engine.authorization.Authorization;
 import org.operaton.bpm.engine.authorization.Permission;
 import org.operaton.bpm.engine.authorization.Permissions;
@@ -138,6 +140,7 @@ import org.operaton.bpm.engine.variable.VariableMap;
 import org.operaton.bpm.engine.variable.Variables;
 import org.operaton.bpm.engine.variable.impl.value.ObjectValueImpl;
 import org.operaton.bpm.engine.variable.value.BytesValue;
+import org.operaton.bpm.engine.variable.value.FileValue;
 import org.operaton.bpm.engine.variable.value.ObjectValue;
 import org.operaton.bpm.engine.variable.value.StringValue;
 import org.operaton.bpm.engine.variable.value.TypedValue;
@@ -1347,6 +1350,24 @@ public abstract class MockProvider {
     return mockVariableInstance().typedValue(value).build();
   }
 
+  /**
+   * Creates a variable instance mock for the given value and stubs the given runtime service
+   * to stream the content of the value if it is a bytes or file value.
+   */
+  public static VariableInstance createMockBinaryVariableInstance(TypedValue value, RuntimeService runtimeService) {
+    VariableInstance variableInstance = createMockVariableInstance(value);
+
+    if (value instanceof FileValue fileValue) {
+      when(runtimeService.getVariableInstanceContent(EXAMPLE_VARIABLE_INSTANCE_ID))
+        .thenAnswer(invocation -> fileValue.getValue());
+    } else if (value.getValue() instanceof byte[] bytes) {
+      when(runtimeService.getVariableInstanceContent(EXAMPLE_VARIABLE_INSTANCE_ID))
+        .thenAnswer(invocation -> new ByteArrayInputStream(bytes));
+    }
+
+    return variableInstance;
+  }
+
   public static VariableMap createMockSerializedVariables() {
     VariableMap variables = Variables.createVariables();
     ObjectValue serializedVar = Variables.serializedObjectValue(EXAMPLE_VARIABLE_INSTANCE_SERIALIZED_VALUE)
@@ -16,6 +16,7 @@
  */
 package org.operaton.bpm.engine.rest.impl;
 
+import static org.operaton.bpm.engine.rest.impl.FetchAndLockHandlerImpl.BATCH_REQUESTS_PARAM_NAME;
 import static org.operaton.bpm.engine.rest.impl.FetchAndLockHandlerImpl.BLOCKING_QUEUE_CAPACITY_PARAM_NAME;
 import static org.operaton.bpm.engine.rest.impl.FetchAndLockHandlerImpl.DEFAULT_BLOCKING_QUEUE_CAPACITY;
 import org.hamcrest.Matchers;
@@ -482,6 +483,111 @@ public class FetchAndLockHandlerTest {
     assertThat(handler.queue.remainingCapacity()).isEqualTo(DEFAULT_BLOCKING_QUEUE_CAPACITY);
   }
 
+  @Test
+  public void shouldFetchOnlyRequestsSubscribedToNotifiedTopic() {
+    // given
+    when(externalTaskQueryTopicBuilder.execute()).thenReturn(Collections.emptyList());
+
+    AsyncResponse asyncResponse = mock(AsyncResponse.class);
+    handler.addPendingRequest(createDto(5000L), asyncResponse, processEngine);
+    handler.acquire();
+
+    // assume
+    verify(externalTaskQueryTopicBuilder, times(2)).execute();
+
+    // when
+    handler.onExternalTasksAvailable(Collections.singleton("anotherTopicName"));
+    handler.acquire();
+
+    // then
+    verify(externalTaskQueryTopicBuilder, times(2)).execute();
+    assertThat(handler.getPendingRequests()).hasSize(1);
+    verify(handler, times(2)).suspend(5000L);
+
+    // when
+    handler.onExternalTasksAvailable(Collections.singleton("aTopicName"));
+    handler.acquire();
+
+    // then
+    verify(externalTaskQueryTopicBuilder, times(3)).execute();
+  }
+
+  @Test
+  public void shouldFetchAllRequestsOnUnknownTopic() {
+    // given
+    when(externalTaskQueryTopicBuilder.execute()).thenReturn(Collections.emptyList());
+
+    AsyncResponse asyncResponse = mock(AsyncResponse.class);
+    handler.addPendingRequest(createDto(5000L), asyncResponse, processEngine);
+    handler.acquire();
+
+    // when
+    handler.onExternalTasksAvailable(Collections.singleton(null));
+    handler.acquire();
+
+    // then
+    verify(externalTaskQueryTopicBuilder, times(3)).execute();
+  }
+
+  @Test
+  public void shouldFetchAllRequestsPeriodicallyDespiteNotifiedTopics() {
+    // given
+    when(externalTaskQueryTopicBuilder.execute()).thenReturn(Collections.emptyList());
+
+    AsyncResponse asyncResponse = mock(AsyncResponse.class);
+    handler.addPendingRequest(createDto(FetchAndLockHandlerImpl.MAX_REQUEST_TIMEOUT), asyncResponse, processEngine);
+    handler.acquire();
+
+    addSecondsToClock(31);
+
+    // when
+    handler.onExternalTasksAvailable(Collections.singleton("anotherTopicName"));
+    handler.acquire();
+
+    // then
+    verify(externalTaskQueryTopicBuilder, times(3)).execute();
+  }
+
+  @Test
+  public void shouldResumeExpiredRequestOnNotifiedTopic() {
+    // given
+    when(externalTaskQueryTopicBuilder.execute()).thenReturn(Collections.emptyList());
+
+    AsyncResponse asyncResponse = mock(AsyncResponse.class);
+    handler.addPendingRequest(createDto(5000L), asyncResponse, processEngine);
+    handler.acquire();
+
+    addSecondsToClock(5);
+
+    // when
+    handler.onExternalTasksAvailable(Collections.singleton("anotherTopicName"));
+    handler.acquire();
+
+    // then
+    verify(asyncResponse).resume(argThat(Matchers.hasSize(0)));
+    assertThat(handler.getPendingRequests()).isEmpty();
+  }
+
+  @Test
+  public void shouldFetchIndividuallyIfRequestsCannotBeBatched() {
+    // given
+    when(servletContext.getInitParameter(BATCH_REQUESTS_PARAM_NAME)).thenReturn("true");
+    handler.contextInitialized(servletContextEvent);
+
+    when(externalTaskQueryTopicBuilder.execute()).thenReturn(Collections.emptyList());
+
+    AsyncResponse asyncResponse = mock(AsyncResponse.class);
+    handler.addPendingRequest(createDto(5000L, "aWorkerId"), asyncResponse, processEngine);
+    handler.addPendingRequest(createDto(5000L, "anotherWorkerId"), asyncResponse, processEngine);
+
+    // when
+    handler.acquire();
+
+    // then the mocked process engine does not support batching
+    verify(externalTaskQueryTopicBuilder, times(4)).execute();
+    assertThat(handler.getPendingRequests()).hasSize(2);
+  }
+
   protected FetchExternalTasksExtendedDto createDto(Long responseTimeout, String workerId) {
     FetchExternalTasksExtendedDto externalTask = new FetchExternalTasksExtendedDto();
 
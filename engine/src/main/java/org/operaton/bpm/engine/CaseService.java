@@ -29,6 +29,7 @@ import org.operaton.bpm.engine.runtime.CaseInstance;
 import org.operaton.bpm.engine.runtime.CaseInstanceBuilder;
 import org.operaton.bpm.engine.runtime.CaseInstanceQuery;
 import org.operaton.bpm.engine.runtime.ProcessInstance;
+import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.task.Task;
 import org.operaton.bpm.engine.variable.VariableMap;
 import org.operaton.bpm.engine.variable.value.SerializableValue;
@@ -812,6 +813,42 @@ public interface CaseService {
    */
   <T extends TypedValue> T getVariableLocalTyped(String caseExecutionId, String variableName, boolean deserializeValue);
 
+  /**
+   * <p>The variable instance which provides the value of a variable for a case execution,
+   * searching parent scopes like {@link #getVariable(String, String)} does.</p>
+   *
+   * <p>The content of a bytes or file variable is not fetched; it can be streamed by
+   * {@link RuntimeService#getVariableInstanceContent(String)}.</p>
+   *
+   * @param caseExecutionId the id of a case instance or case execution, cannot be null
+   * @param variableName the name of a variable, cannot be null
+   *
+   * @return the variable instance or null if the variable is undefined
+   *
+   * @throws NotValidException when the given case execution id or variable name is null
+   * @throws NotFoundException when no case execution is found for the given case execution id
+   * @throws ProcessEngineException when an internal exception happens during the execution of the command
+   */
+  VariableInstance getVariableInstance(String caseExecutionId, String variableName);
+
+  /**
+   * <p>The variable instance which provides the value of a variable for a case execution,
+   * not searching parent scopes.</p>
+   *
+   * <p>The content of a bytes or file variable is not fetched; it can be streamed by
+   * {@link RuntimeService#getVariableInstanceContent(String)}.</p>
+   *
+   * @param caseExecutionId the id of a case instance or case execution, cannot be null
+   * @param variableName the name of a variable, cannot be null
+   *
+   * @return the variable instance or null if the variable is undefined
+   *
+   * @throws NotValidException when the given case execution id or variable name is null
+   * @throws NotFoundException when no case execution is found for the given case execution id
+   * @throws ProcessEngineException when an internal exception happens during the execution of the command
+   */
+  VariableInstance getVariableInstanceLocal(String caseExecutionId, String variableName);
+
   /**
    * <p>Pass a map of variables to the case execution. If the variables do not already
    * exist, they are created in the case instance (which is the root execution).
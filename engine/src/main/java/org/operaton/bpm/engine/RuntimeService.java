@@ -16,6 +16,7 @@
  */
 package org.operaton.bpm.engine;
 
+import java.io.InputStream;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +46,7 @@ import org.operaton.bpm.engine.runtime.Incident;
 import org.operaton.bpm.engine.runtime.IncidentQuery;
 import org.operaton.bpm.engine.runtime.MessageCorrelationAsyncBuilder;
 import org.operaton.bpm.engine.runtime.MessageCorrelationBuilder;
+import org.operaton.bpm.engine.runtime.MessageCorrelationBulkBuilder;
 import org.operaton.bpm.engine.runtime.ModificationBuilder;
 import org.operaton.bpm.engine.runtime.NativeExecutionQuery;
 import org.operaton.bpm.engine.runtime.NativeProcessInstanceQuery;
@@ -56,6 +58,7 @@ import org.operaton.bpm.engine.runtime.RestartProcessInstanceBuilder;
 import org.operaton.bpm.engine.runtime.SignalEventReceivedBuilder;
 import org.operaton.bpm.engine.runtime.UpdateProcessInstanceSuspensionStateBuilder;
 import org.operaton.bpm.engine.runtime.UpdateProcessInstanceSuspensionStateSelectBuilder;
+import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.runtime.VariableInstanceQuery;
 import org.operaton.bpm.engine.variable.VariableMap;
 import org.operaton.bpm.engine.variable.value.SerializableValue;
@@ -1705,6 +1708,68 @@ public interface RuntimeService {
    */
   VariableInstanceQuery createVariableInstanceQuery();
 
+  /**
+   * Returns a stream over the content of a binary variable instance, such as a
+   * bytes or file variable. The content is loaded from the database in chunks
+   * while the stream is read, so that large contents are never held in memory
+   * as a whole. The chunk size can be configured by
+   * {@link org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl#setByteArrayChunkSize(Integer)}.
+   * On PostgreSQL, MySQL and MariaDB, the database reads the whole content for every chunk,
+   * so the default chunk size is larger on these databases.
+   *
+   * @param variableInstanceId id of the variable instance, cannot be null.
+   *
+   * @return the content of the variable instance or <code>null</code> if the
+   *   variable instance has no binary content.
+   *
+   * @throws NotFoundException
+   *          when no variable instance is found for the given id.
+   * @throws AuthorizationException
+   *          if the user is not allowed to read the variable instance.
+   */
+  InputStream getVariableInstanceContent(String variableInstanceId);
+
+  /**
+   * The variable instance which provides the value of a variable for an execution,
+   * searching parent scopes like {@link #getVariable(String, String)} does. The content
+   * of a bytes or file variable is not fetched; it can be streamed by
+   * {@link #getVariableInstanceContent(String)}.
+   *
+   * @param executionId id of process instance or execution, cannot be null.
+   * @param variableName name of variable, cannot be null.
+   *
+   * @return the variable instance or null if the variable is undefined.
+   *
+   * @throws ProcessEngineException
+   *          when no execution is found for the given executionId.
+   * @throws AuthorizationException
+   *          <li>if the user has no {@link Permissions#READ} permission on {@link Resources#PROCESS_INSTANCE} or
+   *          no {@link Permissions#READ_INSTANCE} permission on {@link Resources#PROCESS_DEFINITION}</li>
+   *          <li> In case {@link ProcessEngineConfiguration#enforceSpecificVariablePermission this} config is enabled and
+   *          the user has no {@link ProcessDefinitionPermissions#READ_INSTANCE_VARIABLE} permission on {@link Resources#PROCESS_DEFINITION}</li>
+   */
+  VariableInstance getVariableInstance(String executionId, String variableName);
+
+  /**
+   * The variable instance which provides the value of a variable for an execution,
+   * not searching parent scopes. The content of a bytes or file variable is not fetched;
+   * it can be streamed by {@link #getVariableInstanceContent(String)}.
+   *
+   * @param executionId id of process instance or execution, cannot be null.
+   * @param variableName name of variable, cannot be null.
+   *
+   * @return the variable instance or null if the variable is undefined.
+   *
+   * @throws ProcessEngineException
+   *          when no execution is found for the given executionId.
+   * @throws AuthorizationException
+   *          <li>if the user has no {@link Permissions#READ} permission on {@link Resources#PROCESS_INSTANCE} or
+   *          no {@link Permissions#READ_INSTANCE} permission on {@link Resources#PROCESS_DEFINITION}</li>
+   *          <li> In case {@link ProcessEngineConfiguration#enforceSpecificVariablePermission this} config is enabled and
+   *          the user has no {@link ProcessDefinitionPermissions#READ_INSTANCE_VARIABLE} permission on {@link Resources#PROCESS_DEFINITION}</li>
+   */
+  VariableInstance getVariableInstanceLocal(String executionId, String variableName);
+
   // Process instance state //////////////////////////////////////////
 
   /**
@@ -2234,6 +2299,14 @@ public interface RuntimeService {
    */
   MessageCorrelationAsyncBuilder createMessageCorrelationAsync(String messageName);
 
+  /**
+   * Define the correlation of many messages using a fluent builder. The messages are correlated
+   * in chunks, each chunk in one transaction.
+   *
+   * @return the fluent builder for defining the bulk message correlation.
+   */
+  MessageCorrelationBulkBuilder createMessageCorrelationBulk();
+
   /**
    * Define a modification of a process instance in terms of activity cancellations
    * and instantiations via a fluent builder. Instructions are executed in the order they are specified.
@@ -30,6 +30,7 @@ import org.operaton.bpm.engine.exception.NotFoundException;
 import org.operaton.bpm.engine.exception.NullValueException;
 import org.operaton.bpm.engine.history.UserOperationLogEntry;
 import org.operaton.bpm.engine.history.UserOperationLogQuery;
+import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.task.Attachment;
 import org.operaton.bpm.engine.task.Comment;
 import org.operaton.bpm.engine.task.DelegationState;
@@ -790,6 +791,53 @@ public interface TaskService {
    */
   <T extends TypedValue> T getVariableLocalTyped(String taskId, String variableName, boolean deserializeValue);
 
+  /**
+   * Get the variable instance which provides the value of a variable, searching
+   * parent scopes like {@link #getVariable(String, String)} does. The content of a
+   * bytes or file variable is not fetched; it can be streamed by
+   * {@link RuntimeService#getVariableInstanceContent(String)}.
+   *
+   * @return the variable instance or null if the variable is undefined.
+   *
+   * @throws ProcessEngineException
+   *          when the task doesn't exist.
+   * @throws AuthorizationException
+   *          <p>In case of standalone tasks:
+   *          <li>if the user has no {@link Permissions#READ} permission on {@link Resources#TASK} or</li>
+   *          <li>if {@link ProcessEngineConfiguration#enforceSpecificVariablePermission this} configuration is enabled and
+   *          the user has no {@link TaskPermissions#READ_VARIABLE} permission on {@link Resources#TASK}</li></p>
+   *          <p>In case the task is part of a running process instance:</li>
+   *          <li>if the user has no {@link Permissions#READ} permission on {@link Resources#TASK} and
+   *           no {@link Permissions#READ_TASK} permission on {@link Resources#PROCESS_DEFINITION} </li>
+   *          <li>in case {@link ProcessEngineConfiguration#enforceSpecificVariablePermission this} configuration is enabled and
+   *          the user has no {@link TaskPermissions#READ_VARIABLE} permission on {@link Resources#TASK} and
+   *          no {@link ProcessDefinitionPermissions#READ_TASK_VARIABLE} permission on {@link Resources#PROCESS_DEFINITION}</li></p>
+   */
+  VariableInstance getVariableInstance(String taskId, String variableName);
+
+  /**
+   * Get the variable instance which provides the value of a variable and only search
+   * in the task scope. The content of a bytes or file variable is not fetched; it can
+   * be streamed by {@link RuntimeService#getVariableInstanceContent(String)}.
+   *
+   * @return the variable instance or null if the variable is undefined.
+   *
+   * @throws ProcessEngineException
+   *          when the task doesn't exist.
+   * @throws AuthorizationException
+   *          <p>In case of standalone tasks:
+   *          <li>if the user has no {@link Permissions#READ} permission on {@link Resources#TASK} or</li>
+   *          <li>if {@link ProcessEngineConfiguration#enforceSpecificVariablePermission this} configuration is enabled and
+   *          the user has no {@link TaskPermissions#READ_VARIABLE} permission on {@link Resources#TASK}</li></p>
+   *          <p>In case the task is part of a running process instance:</li>
+   *          <li>if the user has no {@link Permissions#READ} permission on {@link Resources#TASK} and
+   *           no {@link Permissions#READ_TASK} permission on {@link Resources#PROCESS_DEFINITION} </li>
+   *          <li>in case {@link ProcessEngineConfiguration#enforceSpecificVariablePermission this} configuration is enabled and
+   *          the user has no {@link TaskPermissions#READ_VARIABLE} permission on {@link Resources#TASK} and
+   *          no {@link ProcessDefinitionPermissions#READ_TASK_VARIABLE} permission on {@link Resources#PROCESS_DEFINITION}</li></p>
+   */
+  VariableInstance getVariableInstanceLocal(String taskId, String variableName);
+
   /**
    * Get all variables and search in the task scope and if available also the execution scopes.
    * If you have many variables and you only need a few, consider using {@link #getVariables(String, Collection)}
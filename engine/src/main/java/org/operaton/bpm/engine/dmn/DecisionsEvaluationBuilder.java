@@ -16,6 +16,8 @@
  */
 package org.operaton.bpm.engine.dmn;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 import org.operaton.bpm.dmn.engine.DmnDecisionResult;
@@ -70,4 +72,26 @@ public interface DecisionsEvaluationBuilder {
    */
   DmnDecisionResult evaluate();
 
+  /**
+   * Evaluates the decision once for each of the given input values. The
+   * decision definition is resolved and authorized only once, and all
+   * evaluations run in a single command, so that their history is written
+   * together when the command completes. The input values set by
+   * {@link #variables(Map)} are ignored.
+   *
+   * @param variables the input values of each evaluation
+   * @return the results of the evaluations in the order of the given input values.
+   *
+   * @throws NotFoundException
+   *           when no decision definition is deployed with the given id / key.
+   *
+   * @throws NotValidException
+   *           when the given decision definition id / key or the input values are null.
+   *
+   * @throws AuthorizationException
+   *           if the user has no {@link Permissions#CREATE_INSTANCE} permission
+   *           on {@link Resources#DECISION_DEFINITION}.
+   */
+  List<DmnDecisionResult> evaluateAll(Collection<? extends Map<String, Object>> variables);
+
 }
@@ -21,6 +21,7 @@ import java.util.UUID;
 import org.operaton.bpm.engine.ProcessEngineBootstrapCommand;
 import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.operaton.bpm.engine.impl.context.Context;
+import org.operaton.bpm.engine.impl.db.AuthorizationDecisionCache;
 import org.operaton.bpm.engine.impl.db.DbEntity;
 import org.operaton.bpm.engine.impl.db.EnginePersistenceLogger;
 import org.operaton.bpm.engine.impl.db.entitymanager.OptimisticLockingListener;
@@ -48,6 +49,10 @@ public class BootstrapEngineCommand implements ProcessEngineBootstrapCommand {
 
     checkDeploymentLockExists(commandContext);
 
+    if (isAuthorizationCacheEnabled(commandContext)) {
+      initializeAuthorizationVersion(commandContext);
+    }
+
     if (isHistoryCleanupEnabled(commandContext)) {
       checkHistoryCleanupLockExists(commandContext);
       createHistoryCleanupJob(commandContext);
@@ -99,6 +104,22 @@ public class BootstrapEngineCommand implements ProcessEngineBootstrapCommand {
         .isHistoryCleanupEnabled();
   }
 
+  protected boolean isAuthorizationCacheEnabled(CommandContext commandContext) {
+    return commandContext.getProcessEngineConfiguration()
+        .isAuthorizationCacheEnabled();
+  }
+
+  protected void initializeAuthorizationVersion(CommandContext commandContext) {
+    PropertyManager propertyManager = commandContext.getPropertyManager();
+    if (propertyManager.findPropertyById(AuthorizationDecisionCache.VERSION_PROPERTY_NAME) == null) {
+      // make sure that only one engine of the cluster creates the property
+      propertyManager.acquireExclusiveLockForStartup();
+      if (propertyManager.findPropertyById(AuthorizationDecisionCache.VERSION_PROPERTY_NAME) == null) {
+        propertyManager.insert(new PropertyEntity(AuthorizationDecisionCache.VERSION_PROPERTY_NAME, "0"));
+      }
+    }
+  }
+
   public void initializeInstallationId(CommandContext commandContext) {
     checkInstallationIdLockExists(commandContext);
 
@@ -16,10 +16,12 @@
  */
 package org.operaton.bpm.engine.impl;
 
+import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureNotEmpty;
 import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import org.operaton.bpm.engine.impl.event.EventType;
 
 import org.operaton.bpm.engine.impl.interceptor.CommandContext;
@@ -44,6 +46,7 @@ public class ExecutionQueryImpl extends AbstractVariableQueryImpl<ExecutionQuery
   protected String activityId;
   protected String executionId;
   protected String processInstanceId;
+  protected Set<String> processInstanceIds;
   protected List<EventSubscriptionQueryValue> eventSubscriptions;
   protected SuspensionState suspensionState;
   protected String incidentType;
@@ -82,6 +85,15 @@ public class ExecutionQueryImpl extends AbstractVariableQueryImpl<ExecutionQuery
     return this;
   }
 
+  /**
+   * Only select executions of the process instances with the given ids.
+   */
+  public ExecutionQueryImpl processInstanceIds(Set<String> processInstanceIds) {
+    ensureNotEmpty("Set of process instance ids", processInstanceIds);
+    this.processInstanceIds = processInstanceIds;
+    return this;
+  }
+
   @Override
   public ExecutionQuery processInstanceBusinessKey(String businessKey) {
     ensureNotNull("Business key", businessKey);
@@ -262,6 +274,10 @@ public class ExecutionQueryImpl extends AbstractVariableQueryImpl<ExecutionQuery
     return processInstanceId;
   }
 
+  public Set<String> getProcessInstanceIds() {
+    return processInstanceIds;
+  }
+
   public String getProcessInstanceIds() {
     return null;
   }
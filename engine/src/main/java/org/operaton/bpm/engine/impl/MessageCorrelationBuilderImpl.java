@@ -424,4 +424,8 @@ public class MessageCorrelationBuilderImpl implements MessageCorrelationBuilder
     return executionsOnly;
   }
 
+  public boolean isStartMessagesOnly() {
+    return startMessagesOnly;
+  }
+
 }
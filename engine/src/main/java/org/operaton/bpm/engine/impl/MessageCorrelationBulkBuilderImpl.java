@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl;
+
+import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureInstanceOf;
+import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensurePositive;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.operaton.bpm.engine.impl.cmd.CorrelateMessageBulkCmd;
+import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
+import org.operaton.bpm.engine.impl.runtime.MessageCorrelationResultImpl;
+import org.operaton.bpm.engine.runtime.MessageCorrelationBuilder;
+import org.operaton.bpm.engine.runtime.MessageCorrelationBulkBuilder;
+import org.operaton.bpm.engine.runtime.MessageCorrelationResult;
+
+public class MessageCorrelationBulkBuilderImpl implements MessageCorrelationBulkBuilder {
+
+  public static final int DEFAULT_CHUNK_SIZE = 100;
+
+  protected CommandExecutor commandExecutor;
+
+  protected List<MessageCorrelationBuilderImpl> correlations = new ArrayList<>();
+  protected int chunkSize = DEFAULT_CHUNK_SIZE;
+
+  public MessageCorrelationBulkBuilderImpl(CommandExecutor commandExecutor) {
+    ensureNotNull("commandExecutor", commandExecutor);
+    this.commandExecutor = commandExecutor;
+  }
+
+  @Override
+  public MessageCorrelationBulkBuilder correlation(MessageCorrelationBuilder correlation) {
+    ensureNotNull("correlation", correlation);
+    ensureInstanceOf("correlation", correlation, MessageCorrelationBuilderImpl.class);
+
+    MessageCorrelationBuilderImpl builder = (MessageCorrelationBuilderImpl) correlation;
+    // the same restrictions as for a single message which is correlated to all targets
+    if (builder.isStartMessagesOnly()) {
+      builder.ensureCorrelationVariablesNotSet();
+      builder.ensureProcessDefinitionAndTenantIdNotSet();
+    } else {
+      builder.ensureProcessDefinitionIdNotSet();
+      builder.ensureProcessInstanceAndTenantIdNotSet();
+    }
+
+    correlations.add(builder);
+    return this;
+  }
+
+  @Override
+  public MessageCorrelationBulkBuilder correlations(List<MessageCorrelationBuilder> correlations) {
+    ensureNotNull("correlations", correlations);
+    for (MessageCorrelationBuilder correlation : correlations) {
+      correlation(correlation);
+    }
+    return this;
+  }
+
+  @Override
+  public MessageCorrelationBulkBuilder chunkSize(int chunkSize) {
+    ensurePositive("chunkSize", (long) chunkSize);
+    this.chunkSize = chunkSize;
+    return this;
+  }
+
+  @Override
+  public void correlateAll() {
+    correlateAllWithResult();
+  }
+
+  @Override
+  public List<MessageCorrelationResult> correlateAllWithResult() {
+    List<MessageCorrelationResult> results = new ArrayList<>();
+    if (correlations.isEmpty()) {
+      return results;
+    }
+
+    int messageIndex = 0;
+    while (messageIndex < correlations.size()) {
+      List<MessageCorrelationBuilderImpl> chunk = new ArrayList<>(
+          correlations.subList(messageIndex, Math.min(messageIndex + chunkSize, correlations.size())));
+
+      // the command may stop before the end of the chunk, see CorrelateMessageBulkCmd
+      List<List<MessageCorrelationResultImpl>> chunkResults = commandExecutor.execute(new CorrelateMessageBulkCmd(chunk));
+      for (List<MessageCorrelationResultImpl> messageResults : chunkResults) {
+        results.addAll(messageResults);
+      }
+      messageIndex += chunkResults.size();
+    }
+    return results;
+  }
+
+  // getters //////////////////////////////////
+
+  public List<MessageCorrelationBuilderImpl> getCorrelations() {
+    return correlations;
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+}
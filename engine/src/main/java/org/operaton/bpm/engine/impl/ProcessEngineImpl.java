@@ -17,6 +17,9 @@
 package org.operaton.bpm.engine.impl;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.operaton.bpm.engine.AuthorizationService;
 import org.operaton.bpm.engine.CaseService;
@@ -29,19 +32,24 @@ import org.operaton.bpm.engine.IdentityService;
 import org.operaton.bpm.engine.ManagementService;
 import org.operaton.bpm.engine.OptimisticLockingException;
 import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.ProcessEngineException;
 import org.operaton.bpm.engine.ProcessEngines;
 import org.operaton.bpm.engine.RepositoryService;
 import org.operaton.bpm.engine.RuntimeService;
 import org.operaton.bpm.engine.TaskService;
 import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.operaton.bpm.engine.impl.cfg.TransactionContextFactory;
+import org.operaton.bpm.engine.impl.cmd.IndexCorrelationKeyVariablesCmd;
 import org.operaton.bpm.engine.impl.el.ExpressionManager;
+import org.operaton.bpm.engine.impl.externaltask.CompositeExternalTaskAvailableListener;
 import org.operaton.bpm.engine.impl.history.HistoryLevel;
 import org.operaton.bpm.engine.impl.history.event.SimpleIpBasedProvider;
+import org.operaton.bpm.engine.impl.history.handler.HistoryEventOutboxWriter;
 import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
 import org.operaton.bpm.engine.impl.interceptor.SessionFactory;
 import org.operaton.bpm.engine.impl.jobexecutor.JobExecutor;
 import org.operaton.bpm.engine.impl.metrics.reporter.DbMetricsReporter;
+import org.operaton.bpm.engine.impl.persistence.deploy.cache.DeploymentCacheWarmer;
 import org.operaton.bpm.engine.impl.util.CompositeCondition;
 
 /**
@@ -52,8 +60,14 @@ public class ProcessEngineImpl implements ProcessEngine {
   /** external task conditions used to signal long polling in rest API */
   public static final CompositeCondition EXT_TASK_CONDITIONS = new CompositeCondition();
 
+  /** listeners notified about the topics of created or unlocked external tasks */
+  public static final CompositeExternalTaskAvailableListener EXT_TASK_AVAILABLE_LISTENERS = new CompositeExternalTaskAvailableListener();
+
   private static final ProcessEngineLogger LOG = ProcessEngineLogger.INSTANCE;
 
+  /** The max time in seconds {@link #close()} waits for the batch of correlation keys which is currently indexed. */
+  protected static final long CORRELATION_KEY_INDEXING_SHUTDOWN_TIMEOUT = 10L;
+
   protected String name;
 
   protected RepositoryService repositoryService;
@@ -78,6 +92,7 @@ public class ProcessEngineImpl implements ProcessEngine {
   protected HistoryLevel historyLevel;
   protected TransactionContextFactory transactionContextFactory;
   protected ProcessEngineConfigurationImpl processEngineConfiguration;
+  protected ExecutorService correlationKeyIndexingExecutor;
 
   public ProcessEngineImpl(ProcessEngineConfigurationImpl processEngineConfiguration) {
 
@@ -139,6 +154,18 @@ public class ProcessEngineImpl implements ProcessEngine {
         dbMetricsReporter.start();
       }
     }
+
+    HistoryEventOutboxWriter historyEventOutboxWriter = processEngineConfiguration.getHistoryEventOutboxWriter();
+    if (historyEventOutboxWriter != null) {
+      historyEventOutboxWriter.start();
+    }
+
+    DeploymentCacheWarmer deploymentCacheWarmer = processEngineConfiguration.getDeploymentCacheWarmer();
+    if (deploymentCacheWarmer != null) {
+      deploymentCacheWarmer.start();
+    }
+
+    startIndexingCorrelationKeyVariables();
   }
 
   protected void executeSchemaOperations() {
@@ -154,6 +181,62 @@ public class ProcessEngineImpl implements ProcessEngine {
     }
   }
 
+  /**
+   * Indexes the existing variables of the declared correlation keys in the background, so that a large
+   * backfill does not delay the start of the process engine. Until a variable name is indexed, messages
+   * are correlated without the index for this name.
+   */
+  protected void startIndexingCorrelationKeyVariables() {
+    if (processEngineConfiguration.getCorrelationKeyVariableNames().isEmpty()) {
+      return;
+    }
+    correlationKeyIndexingExecutor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "operaton-correlation-key-indexer");
+      thread.setDaemon(true);
+      return thread;
+    });
+    correlationKeyIndexingExecutor.execute(this::indexCorrelationKeyVariables);
+  }
+
+  protected void stopIndexingCorrelationKeyVariables() {
+    if (correlationKeyIndexingExecutor == null) {
+      return;
+    }
+    correlationKeyIndexingExecutor.shutdownNow();
+    try {
+      correlationKeyIndexingExecutor.awaitTermination(CORRELATION_KEY_INDEXING_SHUTDOWN_TIMEOUT, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    correlationKeyIndexingExecutor = null;
+  }
+
+  /**
+   * Adds the existing variables of the declared correlation keys to the correlation key index, unless
+   * this was already done before. Messages are correlated by the index for a variable name only if all
+   * variables with this name are indexed. Indexing stops after the current batch if the calling thread
+   * is interrupted and is started again on the next start of the process engine.
+   */
+  public void indexCorrelationKeyVariables() {
+    for (String variableName : processEngineConfiguration.getCorrelationKeyVariableNames()) {
+      try {
+        String lastVariableId = null;
+        do {
+          if (Thread.currentThread().isInterrupted()) {
+            return;
+          }
+          lastVariableId = commandExecutor.execute(new IndexCorrelationKeyVariablesCmd(variableName, lastVariableId));
+        } while (lastVariableId != null);
+
+        processEngineConfiguration.getIndexedCorrelationKeyVariableNames().add(variableName);
+        ProcessEngineLogger.PERSISTENCE_LOGGER.correlationKeyVariablesIndexed(variableName);
+
+      } catch (ProcessEngineException e) {
+        ProcessEngineLogger.PERSISTENCE_LOGGER.exceptionWhileIndexingCorrelationKeyVariables(variableName, e);
+      }
+    }
+  }
+
   @Override
   public void close() {
     ProcessEngines.unregister(this);
@@ -162,6 +245,19 @@ public class ProcessEngineImpl implements ProcessEngine {
       processEngineConfiguration.getDbMetricsReporter().stop();
     }
 
+    stopIndexingCorrelationKeyVariables();
+
+    DeploymentCacheWarmer deploymentCacheWarmer = processEngineConfiguration.getDeploymentCacheWarmer();
+    if (deploymentCacheWarmer != null) {
+      deploymentCacheWarmer.stop();
+    }
+
+    HistoryEventOutboxWriter historyEventOutboxWriter = processEngineConfiguration.getHistoryEventOutboxWriter();
+    if (historyEventOutboxWriter != null) {
+      // write the remaining history before the engine shuts down
+      historyEventOutboxWriter.stop();
+    }
+
     if ((jobExecutor != null)) {
       // unregister process engine with Job Executor
       jobExecutor.unregisterProcessEngine(this);
@@ -188,5 +188,11 @@ public class ProcessEngineLogger extends BaseLogger {
         "009", "Could not determine local IP address for generating a host name", e);
   }
 
+  public void processEngineStartupDurations(String name, long initMillis, long bootstrapMillis, long postBuildMillis) {
+    logInfo(
+        "010", "Process Engine {} started: initialization took {} ms, bootstrap took {} ms, post build plugins took {} ms",
+        name, initMillis, bootstrapMillis, postBuildMillis);
+  }
+
 }
 
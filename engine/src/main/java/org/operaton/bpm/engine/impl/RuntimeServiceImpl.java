@@ -18,6 +18,7 @@ package org.operaton.bpm.engine.impl;
 
 import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -35,9 +36,11 @@ import org.operaton.bpm.engine.impl.cmd.DeleteProcessInstancesCmd;
 import org.operaton.bpm.engine.impl.cmd.FindActiveActivityIdsCmd;
 import org.operaton.bpm.engine.impl.cmd.GetActivityInstanceCmd;
 import org.operaton.bpm.engine.impl.cmd.GetExecutionVariableCmd;
+import org.operaton.bpm.engine.impl.cmd.GetExecutionVariableInstanceCmd;
 import org.operaton.bpm.engine.impl.cmd.GetExecutionVariableTypedCmd;
 import org.operaton.bpm.engine.impl.cmd.GetExecutionVariablesCmd;
 import org.operaton.bpm.engine.impl.cmd.GetStartFormCmd;
+import org.operaton.bpm.engine.impl.cmd.GetVariableInstanceContentCmd;
 import org.operaton.bpm.engine.impl.cmd.MessageEventReceivedCmd;
 import org.operaton.bpm.engine.impl.cmd.PatchExecutionVariablesCmd;
 import org.operaton.bpm.engine.impl.cmd.RemoveExecutionVariablesCmd;
@@ -62,6 +65,7 @@ import org.operaton.bpm.engine.runtime.Incident;
 import org.operaton.bpm.engine.runtime.IncidentQuery;
 import org.operaton.bpm.engine.runtime.MessageCorrelationAsyncBuilder;
 import org.operaton.bpm.engine.runtime.MessageCorrelationBuilder;
+import org.operaton.bpm.engine.runtime.MessageCorrelationBulkBuilder;
 import org.operaton.bpm.engine.runtime.ModificationBuilder;
 import org.operaton.bpm.engine.runtime.NativeExecutionQuery;
 import org.operaton.bpm.engine.runtime.NativeProcessInstanceQuery;
@@ -72,6 +76,7 @@ import org.operaton.bpm.engine.runtime.ProcessInstantiationBuilder;
 import org.operaton.bpm.engine.runtime.RestartProcessInstanceBuilder;
 import org.operaton.bpm.engine.runtime.SignalEventReceivedBuilder;
 import org.operaton.bpm.engine.runtime.UpdateProcessInstanceSuspensionStateSelectBuilder;
+import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.runtime.VariableInstanceQuery;
 import org.operaton.bpm.engine.variable.VariableMap;
 import org.operaton.bpm.engine.variable.value.TypedValue;
@@ -323,6 +328,21 @@ public class RuntimeServiceImpl extends ServiceImpl implements RuntimeService {
     return new VariableInstanceQueryImpl(commandExecutor);
   }
 
+  @Override
+  public InputStream getVariableInstanceContent(String variableInstanceId) {
+    return commandExecutor.execute(new GetVariableInstanceContentCmd(variableInstanceId));
+  }
+
+  @Override
+  public VariableInstance getVariableInstance(String executionId, String variableName) {
+    return commandExecutor.execute(new GetExecutionVariableInstanceCmd(executionId, variableName, false));
+  }
+
+  @Override
+  public VariableInstance getVariableInstanceLocal(String executionId, String variableName) {
+    return commandExecutor.execute(new GetExecutionVariableInstanceCmd(executionId, variableName, true));
+  }
+
   @Override
   public VariableMap getVariables(String executionId) {
     return getVariablesTyped(executionId);
@@ -765,6 +785,11 @@ public class RuntimeServiceImpl extends ServiceImpl implements RuntimeService {
     return new MessageCorrelationAsyncBuilderImpl(commandExecutor, messageName);
   }
 
+  @Override
+  public MessageCorrelationBulkBuilder createMessageCorrelationBulk() {
+    return new MessageCorrelationBulkBuilderImpl(commandExecutor);
+  }
+
   @Override
   public ProcessInstanceModificationBuilder createProcessInstanceModification(String processInstanceId) {
     return new ProcessInstanceModificationBuilderImpl(commandExecutor, processInstanceId);
@@ -58,6 +58,7 @@ import org.operaton.bpm.engine.impl.cmd.GetTaskCommentsCmd;
 import org.operaton.bpm.engine.impl.cmd.GetTaskEventsCmd;
 import org.operaton.bpm.engine.impl.cmd.GetTaskVariableCmd;
 import org.operaton.bpm.engine.impl.cmd.GetTaskVariableCmdTyped;
+import org.operaton.bpm.engine.impl.cmd.GetTaskVariableInstanceCmd;
 import org.operaton.bpm.engine.impl.cmd.GetTaskVariablesCmd;
 import org.operaton.bpm.engine.impl.cmd.HandleTaskBpmnErrorCmd;
 import org.operaton.bpm.engine.impl.cmd.HandleTaskEscalationCmd;
@@ -75,6 +76,7 @@ import org.operaton.bpm.engine.impl.cmd.SetTaskPriorityCmd;
 import org.operaton.bpm.engine.impl.cmd.SetTaskVariablesCmd;
 import org.operaton.bpm.engine.impl.cmd.UpdateCommentCmd;
 import org.operaton.bpm.engine.impl.util.ExceptionUtil;
+import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.task.Attachment;
 import org.operaton.bpm.engine.task.Comment;
 import org.operaton.bpm.engine.task.Event;
@@ -349,6 +351,16 @@ public class TaskServiceImpl extends ServiceImpl implements TaskService {
     return (T) commandExecutor.execute(new GetTaskVariableCmdTyped(taskId, variableName, isLocal, deserializeValue));
   }
 
+  @Override
+  public VariableInstance getVariableInstance(String taskId, String variableName) {
+    return commandExecutor.execute(new GetTaskVariableInstanceCmd(taskId, variableName, false));
+  }
+
+  @Override
+  public VariableInstance getVariableInstanceLocal(String taskId, String variableName) {
+    return commandExecutor.execute(new GetTaskVariableInstanceCmd(taskId, variableName, true));
+  }
+
   @Override
   public void setVariable(String taskId, String variableName, Object value) {
     ensureNotNull("variableName", variableName);
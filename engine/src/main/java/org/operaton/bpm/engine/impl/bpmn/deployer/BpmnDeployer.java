@@ -57,6 +57,7 @@ import org.operaton.bpm.engine.impl.pvm.runtime.LegacyBehavior;
 import org.operaton.bpm.engine.management.JobDefinition;
 import org.operaton.bpm.engine.repository.ProcessDefinition;
 import org.operaton.bpm.engine.task.IdentityLinkType;
+import org.operaton.bpm.model.bpmn.BpmnModelInstance;
 
 /**
  * {@link Deployer} responsible to parse BPMN 2.0 XML files and create the proper
@@ -76,6 +77,10 @@ public class BpmnDeployer extends AbstractDefinitionDeployer<ProcessDefinitionEn
   protected static final PropertyMapKey<String, List<JobDeclaration<?, ?>>> JOB_DECLARATIONS_PROPERTY =
       new PropertyMapKey<>("JOB_DECLARATIONS_PROPERTY");
 
+  /** the model instances which were built while parsing, by resource name */
+  protected static final PropertyMapKey<String, BpmnModelInstance> BPMN_MODEL_INSTANCES_PROPERTY =
+      new PropertyMapKey<>("BPMN_MODEL_INSTANCES_PROPERTY");
+
   protected ExpressionManager expressionManager;
   protected BpmnParser bpmnParser;
 
@@ -101,6 +106,7 @@ public class BpmnDeployer extends AbstractDefinitionDeployer<ProcessDefinitionEn
       bpmnParse.setSchemaResource(null);
     }
 
+    bpmnParse.buildModelInstance(getProcessEngineConfiguration().isSinglePassBpmnParsingEnabled());
     bpmnParse.execute();
 
     if (!properties.contains(JOB_DECLARATIONS_PROPERTY)) {
@@ -108,6 +114,14 @@ public class BpmnDeployer extends AbstractDefinitionDeployer<ProcessDefinitionEn
     }
     properties.get(JOB_DECLARATIONS_PROPERTY).putAll(bpmnParse.getJobDeclarations());
 
+    BpmnModelInstance bpmnModelInstance = bpmnParse.getBpmnModelInstance();
+    if (bpmnModelInstance != null) {
+      if (!properties.contains(BPMN_MODEL_INSTANCES_PROPERTY)) {
+        properties.set(BPMN_MODEL_INSTANCES_PROPERTY, new HashMap<String, BpmnModelInstance>());
+      }
+      properties.get(BPMN_MODEL_INSTANCES_PROPERTY).put(resource.getName(), bpmnModelInstance);
+    }
+
     return bpmnParse.getProcessDefinitions();
   }
 
@@ -137,6 +151,13 @@ public class BpmnDeployer extends AbstractDefinitionDeployer<ProcessDefinitionEn
 
     updateJobDeclarations(declarations, definition, deployment.isNew());
 
+    if (properties.contains(BPMN_MODEL_INSTANCES_PROPERTY)) {
+      BpmnModelInstance bpmnModelInstance = properties.get(BPMN_MODEL_INSTANCES_PROPERTY).get(definition.getResourceName());
+      if (bpmnModelInstance != null) {
+        getDeploymentCache().addBpmnModelInstance(definition.getId(), bpmnModelInstance);
+      }
+    }
+
     ProcessDefinitionEntity latestDefinition = findLatestDefinitionByKeyAndTenantId(definition.getKey(), definition.getTenantId());
 
     if (deployment.isNew()) {
@@ -138,8 +138,12 @@ import org.operaton.bpm.engine.impl.util.StringUtil;
 import org.operaton.bpm.engine.impl.util.xml.Element;
 import org.operaton.bpm.engine.impl.util.xml.Namespace;
 import org.operaton.bpm.engine.impl.util.xml.Parse;
+import org.operaton.bpm.engine.impl.util.xml.ParseHandler;
 import org.operaton.bpm.engine.impl.variable.VariableDeclaration;
 import org.operaton.bpm.engine.repository.ProcessDefinition;
+import org.operaton.bpm.model.bpmn.Bpmn;
+import org.operaton.bpm.model.bpmn.BpmnModelInstance;
+import org.w3c.dom.Document;
 
 import java.io.InputStream;
 import java.net.URL;
@@ -154,6 +158,15 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.SAXParser;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.sax.SAXTransformerFactory;
+import javax.xml.transform.sax.TransformerHandler;
 
 import static org.operaton.bpm.engine.impl.bpmn.parser.BpmnParseUtil.findOperatonExtensionElement;
 import static org.operaton.bpm.engine.impl.bpmn.parser.BpmnParseUtil.parseInputOutput;
@@ -190,6 +203,18 @@ public class BpmnParse extends Parse {
 
   protected static final BpmnParseLogger LOG = ProcessEngineLogger.BPMN_PARSE_LOGGER;
 
+  protected static final String LEXICAL_HANDLER = "http://xml.org/sax/properties/lexical-handler";
+
+  protected static final ThreadLocal<SAXTransformerFactory> TRANSFORMER_FACTORY_INSTANCE = ThreadLocal.withInitial(() -> {
+    SAXTransformerFactory transformerFactory = (SAXTransformerFactory) TransformerFactory.newInstance();
+    try {
+      transformerFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+    } catch (TransformerConfigurationException e) {
+      // ignore unavailable option, the transformer does not access external resources
+    }
+    return transformerFactory;
+  });
+
   public static final String PROPERTYNAME_DOCUMENTATION = "documentation";
   public static final String PROPERTYNAME_INITIATOR_VARIABLE_NAME = "initiatorVariableName";
   public static final String PROPERTYNAME_HAS_CONDITIONAL_EVENTS = "hasConditionalEvents";
@@ -335,6 +360,17 @@ public class BpmnParse extends Parse {
   private final Map<String, String> eventLinkTargets = new HashMap<>();
   private final Map<String, String> eventLinkSources = new HashMap<>();
 
+  /**
+   * If true, the DOM document of the {@link BpmnModelInstance} is built from the same
+   * SAX events the process definitions are parsed from.
+   */
+  protected boolean buildModelInstance = false;
+  protected DOMResult modelInstanceDocument;
+  protected BpmnModelInstance bpmnModelInstance;
+
+  protected long xmlParseDuration;
+  protected long processDefinitionParseDuration;
+
   /**
    * Constructor to be called by the {@link BpmnParser}.
    */
@@ -351,12 +387,27 @@ public class BpmnParse extends Parse {
     return this;
   }
 
+  /**
+   * Enables building the DOM document of the {@link BpmnModelInstance} while the XML is parsed,
+   * so that it does not have to be parsed again when the model instance is requested. The document
+   * is only built if the schema is validated, since it has to be namespace aware.
+   */
+  public BpmnParse buildModelInstance(boolean buildModelInstance) {
+    this.buildModelInstance = buildModelInstance;
+    return this;
+  }
+
   @Override
   public BpmnParse execute() {
+    long startTime = System.nanoTime();
     super.execute(); // schema validation
+    xmlParseDuration = System.nanoTime() - startTime;
 
     try {
       parseRootElement();
+      processDefinitionParseDuration = System.nanoTime() - startTime - xmlParseDuration;
+      LOG.parseDurations(name, TimeUnit.NANOSECONDS.toMillis(xmlParseDuration),
+          TimeUnit.NANOSECONDS.toMillis(processDefinitionParseDuration), modelInstanceDocument != null);
     } catch (BpmnParseException e) {
       addError(e);
 
@@ -380,6 +431,52 @@ public class BpmnParse extends Parse {
     return this;
   }
 
+  @Override
+  protected ParseHandler createParseHandler(SAXParser saxParser) throws Exception {
+    if (buildModelInstance && schemaResource != null) {
+      try {
+        TransformerHandler documentBuilder = TRANSFORMER_FACTORY_INSTANCE.get().newTransformerHandler();
+        DOMResult document = new DOMResult();
+        documentBuilder.setResult(document);
+        // comments and CDATA sections are kept, like in a document parsed by the model API
+        saxParser.setProperty(LEXICAL_HANDLER, documentBuilder);
+
+        modelInstanceDocument = document;
+        return new ParseHandler(this, documentBuilder);
+
+      } catch (Exception e) {
+        LOG.unableToBuildModelInstanceDocument(name, e);
+      }
+    }
+    return super.createParseHandler(saxParser);
+  }
+
+  /**
+   * @return the model instance of the parsed XML which is created from the document built
+   *   during parsing, or <code>null</code> if no document was built
+   * @see #buildModelInstance(boolean)
+   */
+  public BpmnModelInstance getBpmnModelInstance() {
+    if (bpmnModelInstance == null && modelInstanceDocument != null && !hasErrors()) {
+      bpmnModelInstance = Bpmn.readModelFromDocument((Document) modelInstanceDocument.getNode());
+    }
+    return bpmnModelInstance;
+  }
+
+  /**
+   * @return the time in nanoseconds it took to parse and validate the XML
+   */
+  public long getXmlParseDuration() {
+    return xmlParseDuration;
+  }
+
+  /**
+   * @return the time in nanoseconds it took to parse the process definitions from the XML elements
+   */
+  public long getProcessDefinitionParseDuration() {
+    return processDefinitionParseDuration;
+  }
+
   /**
    * Parses the 'definitions' root element
    */
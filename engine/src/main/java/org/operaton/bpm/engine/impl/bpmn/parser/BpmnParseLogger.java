@@ -49,6 +49,16 @@ public class BpmnParseLogger extends ProcessEngineLogger {
         "element with id '{}'.", definitionKey, elementId);
   }
 
+  public void parseDurations(String resourceName, long xmlParseMillis, long processDefinitionParseMillis, boolean modelInstanceDocumentBuilt) {
+    logDebug("006", "Parsed resource '{}': parsing and validation of the XML took {} ms, parsing of the process definitions took {} ms, " +
+        "model instance document built: {}", resourceName, xmlParseMillis, processDefinitionParseMillis, modelInstanceDocumentBuilt);
+  }
+
+  public void unableToBuildModelInstanceDocument(String resourceName, Exception cause) {
+    logWarn("007", "Unable to build the model instance document while parsing resource '{}', " +
+        "it will be parsed again when it is requested: {}", resourceName, cause.getMessage());
+  }
+
   // EXCEPTIONS
 
   public ProcessEngineException parsingProcessException(Exception cause) {
@@ -48,6 +48,10 @@ public class ConditionalEventDefinition extends EventSubscriptionDeclaration imp
     this.condition = condition;
   }
 
+  public Condition getCondition() {
+    return condition;
+  }
+
   public ActivityImpl getConditionalActivity() {
     return conditionalActivity;
   }
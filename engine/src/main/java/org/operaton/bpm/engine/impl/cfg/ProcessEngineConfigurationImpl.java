@@ -35,12 +35,16 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import javax.naming.InitialContext;
 import javax.sql.DataSource;
@@ -142,7 +146,9 @@ import org.operaton.bpm.engine.impl.cmmn.transformer.CmmnTransformFactory;
 import org.operaton.bpm.engine.impl.cmmn.transformer.CmmnTransformListener;
 import org.operaton.bpm.engine.impl.cmmn.transformer.CmmnTransformer;
 import org.operaton.bpm.engine.impl.cmmn.transformer.DefaultCmmnTransformFactory;
+import org.operaton.bpm.engine.impl.db.AuthorizationDecisionCache;
 import org.operaton.bpm.engine.impl.db.DbIdGenerator;
+import org.operaton.bpm.engine.impl.db.PrefetchingDbIdGenerator;
 import org.operaton.bpm.engine.impl.db.entitymanager.DbEntityManagerFactory;
 import org.operaton.bpm.engine.impl.db.entitymanager.cache.DbEntityCacheKeyMapping;
 import org.operaton.bpm.engine.impl.db.sql.DbSqlPersistenceProviderFactory;
@@ -199,10 +205,12 @@ import org.operaton.bpm.engine.impl.history.HistoryRemovalTimeProvider;
 import org.operaton.bpm.engine.impl.history.event.HistoricDecisionInstanceManager;
 import org.operaton.bpm.engine.impl.history.event.HostnameProvider;
 import org.operaton.bpm.engine.impl.history.event.SimpleIpBasedProvider;
+import org.operaton.bpm.engine.impl.history.handler.AsyncDbHistoryEventHandler;
 import org.operaton.bpm.engine.impl.history.handler.CompositeDbHistoryEventHandler;
 import org.operaton.bpm.engine.impl.history.handler.CompositeHistoryEventHandler;
 import org.operaton.bpm.engine.impl.history.handler.DbHistoryEventHandler;
 import org.operaton.bpm.engine.impl.history.handler.HistoryEventHandler;
+import org.operaton.bpm.engine.impl.history.handler.HistoryEventOutboxWriter;
 import org.operaton.bpm.engine.impl.history.parser.HistoryParseListener;
 import org.operaton.bpm.engine.impl.history.producer.CacheAwareCmmnHistoryEventProducer;
 import org.operaton.bpm.engine.impl.history.producer.CacheAwareHistoryEventProducer;
@@ -294,11 +302,13 @@ import org.operaton.bpm.engine.impl.persistence.deploy.Deployer;
 import org.operaton.bpm.engine.impl.persistence.deploy.cache.CacheFactory;
 import org.operaton.bpm.engine.impl.persistence.deploy.cache.DefaultCacheFactory;
 import org.operaton.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
+import org.operaton.bpm.engine.impl.persistence.deploy.cache.DeploymentCacheWarmer;
 import org.operaton.bpm.engine.impl.persistence.entity.AttachmentManager;
 import org.operaton.bpm.engine.impl.persistence.entity.AuthorizationManager;
 import org.operaton.bpm.engine.impl.persistence.entity.BatchManager;
 import org.operaton.bpm.engine.impl.persistence.entity.ByteArrayManager;
 import org.operaton.bpm.engine.impl.persistence.entity.CommentManager;
+import org.operaton.bpm.engine.impl.persistence.entity.CorrelationKeyManager;
 import org.operaton.bpm.engine.impl.persistence.entity.DeploymentManager;
 import org.operaton.bpm.engine.impl.persistence.entity.EventSubscriptionManager;
 import org.operaton.bpm.engine.impl.persistence.entity.ExecutionManager;
@@ -317,6 +327,7 @@ import org.operaton.bpm.engine.impl.persistence.entity.HistoricProcessInstanceMa
 import org.operaton.bpm.engine.impl.persistence.entity.HistoricStatisticsManager;
 import org.operaton.bpm.engine.impl.persistence.entity.HistoricTaskInstanceManager;
 import org.operaton.bpm.engine.impl.persistence.entity.HistoricVariableInstanceManager;
+import org.operaton.bpm.engine.impl.persistence.entity.HistoryEventOutboxManager;
 import org.operaton.bpm.engine.impl.persistence.entity.IdentityInfoManager;
 import org.operaton.bpm.engine.impl.persistence.entity.IdentityLinkManager;
 import org.operaton.bpm.engine.impl.persistence.entity.IncidentManager;
@@ -335,6 +346,7 @@ import org.operaton.bpm.engine.impl.persistence.entity.TaskReportManager;
 import org.operaton.bpm.engine.impl.persistence.entity.TenantManager;
 import org.operaton.bpm.engine.impl.persistence.entity.UserOperationLogManager;
 import org.operaton.bpm.engine.impl.persistence.entity.VariableInstanceManager;
+import org.operaton.bpm.engine.impl.persistence.entity.util.ByteArrayChunkInputStream;
 import org.operaton.bpm.engine.impl.repository.DefaultDeploymentHandlerFactory;
 import org.operaton.bpm.engine.impl.runtime.ConditionHandler;
 import org.operaton.bpm.engine.impl.runtime.CorrelationHandler;
@@ -347,6 +359,7 @@ import org.operaton.bpm.engine.impl.scripting.engine.DefaultScriptEngineResolver
 import org.operaton.bpm.engine.impl.scripting.engine.OperatonScriptEngineManager;
 import org.operaton.bpm.engine.impl.scripting.engine.ResolverFactory;
 import org.operaton.bpm.engine.impl.scripting.engine.ScriptBindingsFactory;
+import org.operaton.bpm.engine.impl.scripting.engine.ScriptEnginePool;
 import org.operaton.bpm.engine.impl.scripting.engine.ScriptEngineResolver;
 import org.operaton.bpm.engine.impl.scripting.engine.ScriptingEngines;
 import org.operaton.bpm.engine.impl.scripting.engine.VariableScopeResolverFactory;
@@ -387,6 +400,7 @@ import org.operaton.bpm.engine.runtime.Incident;
 import org.operaton.bpm.engine.runtime.WhitelistingDeserializationTypeValidator;
 import org.operaton.bpm.engine.task.TaskQuery;
 import org.operaton.bpm.engine.variable.Variables;
+import org.operaton.bpm.impl.juel.ExpressionFactoryImpl;
 
 /**
  * @author Tom Baeyens
@@ -479,6 +493,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected volatile DbSqlSessionFactory dbSqlSessionFactory;
   protected volatile Map<Class<?>, SessionFactory> sessionFactories;
 
+  /**
+   * If true and {@link #jdbcBatchProcessing} is enabled, runs of inserts of the same entity
+   * type are flushed as multi-row insert statements where the mapping files provide one.
+   * Not supported on Oracle.
+   */
+  protected boolean jdbcMultiRowInsert = false;
+
+  /**
+   * The maximum number of rows inserted by a single multi-row insert statement.
+   */
+  protected int jdbcMultiRowInsertMaxRows = DbSqlSessionFactory.DEFAULT_MULTI_ROW_INSERT_MAX_ROWS;
+
   // DEPLOYERS ////////////////////////////////////////////////////////////////
 
   protected volatile List<Deployer> customPreDeployers;
@@ -490,6 +516,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected volatile CacheFactory cacheFactory;
   protected volatile int cacheCapacity = 1000;
+
+  /**
+   * The implementation of the deployment caches created by the {@link DefaultCacheFactory},
+   * either {@value DefaultCacheFactory#CACHE_TYPE_LRU} or {@value DefaultCacheFactory#CACHE_TYPE_SEGMENTED}.
+   * Ignored if a custom {@link CacheFactory} is configured.
+   */
+  protected String cacheType = DefaultCacheFactory.CACHE_TYPE_LRU;
   protected volatile boolean enableFetchProcessDefinitionDescription = true;
 
   // JOB EXECUTOR /////////////////////////////////////////////////////////////
@@ -536,6 +569,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected volatile DataSource idGeneratorDataSource;
   protected volatile String idGeneratorDataSourceJndiName;
 
+  /**
+   * If true, the default id generator hands out ids without locking and prefetches
+   * the next id block in the background, see {@link PrefetchingDbIdGenerator}.
+   */
+  protected boolean idBlockPrefetchEnabled = false;
+
+  /**
+   * The maximum size an id block can grow to if {@link #idBlockPrefetchEnabled} is true.
+   */
+  protected int idBlockMaxSize = 10000;
+
   // INCIDENT HANDLER /////////////////////////////////////////////////////////
 
   protected volatile Map<String, IncidentHandler> incidentHandlers;
@@ -591,10 +635,25 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected volatile String defaultSerializationFormat = Variables.SerializationDataFormats.JAVA.getName();
   protected volatile boolean javaSerializationFormatEnabled = false;
+  /**
+   * The number of bytes which are loaded per command when the content of a binary variable is streamed.
+   * Defaults to a database specific size, see {@link DbSqlSessionFactory#databaseSpecificByteArrayChunkSize}.
+   */
+  protected volatile Integer byteArrayChunkSize;
   protected volatile String defaultCharsetName = null;
   protected volatile Charset defaultCharset = null;
 
   protected volatile ExpressionManager expressionManager;
+  /**
+   * The type of the cache of parsed expressions used by the default {@link JuelExpressionManager},
+   * see {@link ExpressionFactoryImpl#PROP_CACHE_TYPE}. If not set, the default of the expression factory is used.
+   */
+  protected volatile String expressionCacheType;
+  /**
+   * The number of evaluations after which an expression is compiled by the default {@link JuelExpressionManager},
+   * see {@link ExpressionFactoryImpl#PROP_COMPILE_THRESHOLD}. Compilation is disabled by default.
+   */
+  protected volatile int expressionCompileThreshold = 0;
   protected volatile ElProvider dmnElProvider;
   protected volatile ScriptingEngines scriptingEngines;
   protected volatile List<ResolverFactory> resolverFactories;
@@ -606,6 +665,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected volatile boolean autoStoreScriptVariables = false;
   protected volatile boolean enableScriptCompilation = true;
   protected volatile boolean enableScriptEngineCaching = true;
+  /**
+   * If true, script engines which are not thread-safe (e.g. Graal JS) are pooled instead of being created for every
+   * script evaluation, see {@link ScriptEnginePool}. Requires script engine caching.
+   */
+  protected volatile boolean enableScriptEnginePooling = false;
+  /** The maximum number of idle pooled script engines per language. */
+  protected volatile int scriptEnginePoolSize = ScriptEnginePool.DEFAULT_MAX_IDLE_ENGINES;
+  protected volatile ScriptEnginePool scriptEnginePool;
   protected volatile boolean enableFetchScriptEngineFromProcessApplication = true;
   protected volatile boolean enableScriptEngineLoadExternalResources = false;
   protected volatile boolean enableScriptEngineNashornCompatibility = false;
@@ -720,10 +787,28 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected volatile boolean isCreateDiagramOnDeploy = false;
 
+  /**
+   * If true, the BPMN model instance of a resource is built while the resource is parsed,
+   * see {@link #setSinglePassBpmnParsingEnabled(boolean)}.
+   */
+  protected volatile boolean singlePassBpmnParsingEnabled = false;
+
   protected volatile ProcessApplicationManager processApplicationManager;
 
   protected volatile CorrelationHandler correlationHandler;
 
+  /**
+   * Names of process variables which are maintained in the correlation key index,
+   * see {@link #setCorrelationKeyVariableNames(Set)}.
+   */
+  protected volatile Set<String> correlationKeyVariableNames = Collections.emptySet();
+
+  /**
+   * Names of the {@link #correlationKeyVariableNames} whose existing variables were all added to the
+   * correlation key index. Messages are only correlated by the index for these names.
+   */
+  protected final Set<String> indexedCorrelationKeyVariableNames = ConcurrentHashMap.newKeySet();
+
   protected volatile ConditionHandler conditionHandler;
 
   /**
@@ -771,6 +856,50 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    */
   protected volatile boolean enableDefaultDbHistoryEventHandler = true;
 
+  /**
+   * If true, the default history event handler appends the history events of a command
+   * to the history event outbox instead of writing them to the history tables. The outbox
+   * is written to the history tables in the background by the {@link HistoryEventOutboxWriter}.
+   */
+  protected volatile boolean asyncHistoryEnabled = false;
+
+  /** The max number of outbox entries which are written in one transaction. */
+  protected volatile int asyncHistoryBatchSize = HistoryEventOutboxWriter.DEFAULT_BATCH_SIZE;
+
+  /** The max time in milliseconds the {@link HistoryEventOutboxWriter} waits before it writes pending entries. */
+  protected volatile long asyncHistoryWriteInterval = HistoryEventOutboxWriter.DEFAULT_WRITE_INTERVAL;
+
+  /** The number of pending outbox entries above which committing commands are slowed down. */
+  protected volatile int asyncHistoryMaxBacklog = HistoryEventOutboxWriter.DEFAULT_MAX_BACKLOG;
+
+  /**
+   * Creates the thread of the {@link HistoryEventOutboxWriter}, e.g. a managed thread factory of
+   * the application server. If not set, the writer runs in a daemon thread.
+   */
+  protected ThreadFactory asyncHistoryThreadFactory;
+
+  protected volatile HistoryEventOutboxWriter historyEventOutboxWriter;
+
+  /**
+   * If true, the latest versions of the deployed process definitions are loaded into the
+   * deployment cache in the background by the {@link DeploymentCacheWarmer} after the
+   * process engine was started.
+   */
+  protected volatile boolean deploymentCacheWarmingEnabled = false;
+
+  /** The number of threads which load process definitions into the deployment cache. */
+  protected volatile int deploymentCacheWarmingPoolSize = DeploymentCacheWarmer.DEFAULT_POOL_SIZE;
+
+  protected volatile DeploymentCacheWarmer deploymentCacheWarmer;
+
+  /**
+   * If true, the identifiers of the conditions of conditional start events are taken as variable
+   * names, so a condition is only evaluated if one of its variables is given. Identifiers which
+   * are {@link #beans} are excluded. Enable this only if the conditions do not use beans which
+   * are resolved otherwise, e.g. by Spring, CDI or a process application.
+   */
+  protected volatile boolean conditionalStartEventExpressionIndexEnabled = false;
+
   protected volatile PermissionProvider permissionProvider;
 
   protected volatile boolean isExecutionTreePrefetchEnabled = true;
@@ -808,6 +937,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    */
   protected volatile boolean isDbEntityCacheReuseEnabled = false;
 
+  /**
+   * If true, the entity cache does not keep a copy of the persistent state of entities which
+   * track their changes themselves (jobs and external tasks) and skips comparing it on flush.
+   */
+  protected volatile boolean isDbEntityDirtyTrackingEnabled = false;
+
   protected volatile boolean isInvokeCustomVariableListeners = true;
 
   /**
@@ -911,6 +1046,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    */
   protected volatile boolean enableHistoricInstancePermissions = false;
 
+  /**
+   * If enabled, the results of authorization checks are cached across commands. Every write to the
+   * authorization table then also increments the revision of the
+   * {@value AuthorizationDecisionCache#VERSION_PROPERTY_NAME} property, which invalidates the cached
+   * results on all engines. Writes of authorizations are serialized by this.
+   */
+  protected volatile boolean authorizationCacheEnabled = false;
+
+  protected volatile int authorizationCacheCapacity = 10000;
+
+  protected volatile AuthorizationDecisionCache authorizationDecisionCache;
+
   protected volatile boolean isUseSharedSqlSessionFactory = false;
 
   //History cleanup configuration
@@ -1120,9 +1267,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   @Override
   public ProcessEngine buildProcessEngine() {
+    long startTime = System.nanoTime();
     init();
+    long initTime = System.nanoTime();
     processEngine = new ProcessEngineImpl(this);
+    long bootstrapTime = System.nanoTime();
     invokePostProcessEngineBuild(processEngine);
+    long postBuildTime = System.nanoTime();
+
+    ProcessEngineLogger.INSTANCE.processEngineStartupDurations(processEngineName,
+        TimeUnit.NANOSECONDS.toMillis(initTime - startTime),
+        TimeUnit.NANOSECONDS.toMillis(bootstrapTime - initTime),
+        TimeUnit.NANOSECONDS.toMillis(postBuildTime - bootstrapTime));
     return processEngine;
   }
 
@@ -1150,6 +1306,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     // Database type needs to be detected before CommandExecutors are initialized
     initDataSource();
+    initByteArrayChunkSize();
 
     initExceptionCodeProvider();
     initCommandExecutors();
@@ -1179,8 +1336,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     initDeploymentHandlerFactory();
     initResourceAuthorizationProvider();
     initPermissionProvider();
+    initAuthorizationDecisionCache();
     initHostName();
     initMetrics();
+    initAsyncHistory();
+    initDeploymentCacheWarmer();
     initDiagnostics();
     initMigration();
     initCommandCheckers();
@@ -1698,6 +1858,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     }
   }
 
+  protected void initByteArrayChunkSize() {
+    if (byteArrayChunkSize == null) {
+      byteArrayChunkSize = DbSqlSessionFactory.databaseSpecificByteArrayChunkSize
+          .getOrDefault(databaseType, ByteArrayChunkInputStream.DEFAULT_CHUNK_SIZE);
+    }
+  }
+
   protected void checkTransactionIsolationLevel() {
     Integer currentIsolationLevel = getCurrentTransactionIsolationLevel();
     if (currentIsolationLevel != null && currentIsolationLevel != Connection.TRANSACTION_READ_COMMITTED) {
@@ -1971,6 +2138,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
       addSessionFactory(new GenericManagerFactory(AttachmentManager.class));
       addSessionFactory(new GenericManagerFactory(CommentManager.class));
+      addSessionFactory(new GenericManagerFactory(CorrelationKeyManager.class));
       addSessionFactory(new GenericManagerFactory(DeploymentManager.class));
       addSessionFactory(new GenericManagerFactory(ExecutionManager.class));
       addSessionFactory(new GenericManagerFactory(HistoricActivityInstanceManager.class));
@@ -1986,6 +2154,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
       addSessionFactory(new GenericManagerFactory(HistoricIdentityLinkLogManager.class));
       addSessionFactory(new GenericManagerFactory(HistoricJobLogManager.class));
       addSessionFactory(new GenericManagerFactory(HistoricExternalTaskLogManager.class));
+      addSessionFactory(new GenericManagerFactory(HistoryEventOutboxManager.class));
       addSessionFactory(new GenericManagerFactory(IdentityInfoManager.class));
       addSessionFactory(new GenericManagerFactory(IdentityLinkManager.class));
       addSessionFactory(new GenericManagerFactory(JobManager.class));
@@ -2043,6 +2212,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     ensurePrefixAndSchemaFitToegether(databaseTablePrefix, databaseSchema);
     dbSqlSessionFactory = new DbSqlSessionFactory(jdbcBatchProcessing);
     dbSqlSessionFactory.setDatabaseType(databaseType);
+    dbSqlSessionFactory.setJdbcMultiRowInsert(jdbcMultiRowInsert);
+    dbSqlSessionFactory.setJdbcMultiRowInsertMaxRows(jdbcMultiRowInsertMaxRows);
     dbSqlSessionFactory.setIdGenerator(idGenerator);
     dbSqlSessionFactory.setSqlSessionFactory(sqlSessionFactory);
     dbSqlSessionFactory.setDbIdentityUsed(isDbIdentityUsed);
@@ -2472,7 +2643,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         idGeneratorCommandExecutor = commandExecutorTxRequiresNew;
       }
 
-      DbIdGenerator dbIdGenerator = new DbIdGenerator();
+      DbIdGenerator dbIdGenerator;
+      if (idBlockPrefetchEnabled) {
+        PrefetchingDbIdGenerator prefetchingDbIdGenerator = new PrefetchingDbIdGenerator();
+        prefetchingDbIdGenerator.setMaxIdBlockSize(idBlockMaxSize);
+        dbIdGenerator = prefetchingDbIdGenerator;
+      } else {
+        dbIdGenerator = new DbIdGenerator();
+      }
       dbIdGenerator.setIdBlockSize(idBlockSize);
       dbIdGenerator.setCommandExecutor(idGeneratorCommandExecutor);
       idGenerator = dbIdGenerator;
@@ -2524,6 +2702,26 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     }
   }
 
+  protected void initAsyncHistory() {
+    if (asyncHistoryEnabled && enableDefaultDbHistoryEventHandler && historyEventOutboxWriter == null) {
+      historyEventOutboxWriter = new HistoryEventOutboxWriter(commandExecutorTxRequired);
+      historyEventOutboxWriter.setBatchSize(asyncHistoryBatchSize);
+      historyEventOutboxWriter.setWriteInterval(asyncHistoryWriteInterval);
+      historyEventOutboxWriter.setMaxBacklog(asyncHistoryMaxBacklog);
+      if (asyncHistoryThreadFactory != null) {
+        historyEventOutboxWriter.setThreadFactory(asyncHistoryThreadFactory);
+      }
+    }
+  }
+
+  protected void initDeploymentCacheWarmer() {
+    if (deploymentCacheWarmingEnabled && deploymentCacheWarmer == null) {
+      // do not load more process definitions than the cache can hold
+      deploymentCacheWarmer = new DeploymentCacheWarmer(commandExecutorTxRequired, cacheCapacity);
+      deploymentCacheWarmer.setPoolSize(deploymentCacheWarmingPoolSize);
+    }
+  }
+
   protected void initHostName() {
     if (hostname == null) {
       if (hostnameProvider == null) {
@@ -2549,6 +2747,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     metricsRegistry.createMeter(Metrics.EXECUTED_DECISION_INSTANCES);
     metricsRegistry.createMeter(Metrics.EXECUTED_DECISION_ELEMENTS);
+
+    metricsRegistry.createHistogram(Metrics.COMMAND_EXECUTION_DURATION);
+    metricsRegistry.createHistogram(Metrics.JOB_EXECUTION_DURATION);
+    metricsRegistry.createHistogram(Metrics.JOB_ACQUISITION_DURATION);
   }
 
   protected void initSerialization() {
@@ -2644,6 +2846,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     if (scriptEngineResolver == null) {
       scriptEngineResolver = new DefaultScriptEngineResolver(new OperatonScriptEngineManager());
     }
+    if (enableScriptEnginePooling && enableScriptEngineCaching) {
+      if (scriptEnginePool == null) {
+        scriptEnginePool = new ScriptEnginePool(scriptEnginePoolSize, ScriptEnginePool.DEFAULT_COMPILED_SCRIPT_CAPACITY);
+      }
+      if (scriptEngineResolver instanceof DefaultScriptEngineResolver defaultScriptEngineResolver
+          && defaultScriptEngineResolver.getScriptEnginePool() == null) {
+        defaultScriptEngineResolver.setScriptEnginePool(scriptEnginePool);
+      }
+    }
     if (scriptingEngines == null) {
       scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(resolverFactories), scriptEngineResolver);
       scriptingEngines.setEnableScriptEngineCaching(enableScriptEngineCaching);
@@ -2690,7 +2901,19 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected void initExpressionManager() {
     if (expressionManager == null) {
-      expressionManager = new JuelExpressionManager(beans);
+      if (expressionCacheType != null || expressionCompileThreshold > 0) {
+        Properties expressionFactoryProperties = new Properties();
+        if (expressionCacheType != null) {
+          expressionFactoryProperties.setProperty(ExpressionFactoryImpl.PROP_CACHE_TYPE, expressionCacheType);
+        }
+        if (expressionCompileThreshold > 0) {
+          expressionFactoryProperties.setProperty(ExpressionFactoryImpl.PROP_COMPILE_THRESHOLD,
+              String.valueOf(expressionCompileThreshold));
+        }
+        expressionManager = new JuelExpressionManager(beans, expressionFactoryProperties);
+      } else {
+        expressionManager = new JuelExpressionManager(beans);
+      }
     }
 
 
@@ -2818,7 +3041,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected void initHistoryEventHandler() {
     if (historyEventHandler == null) {
-      if (enableDefaultDbHistoryEventHandler) {
+      if (enableDefaultDbHistoryEventHandler && asyncHistoryEnabled) {
+        CompositeHistoryEventHandler compositeHandler = new CompositeHistoryEventHandler(customHistoryEventHandlers);
+        compositeHandler.add(new AsyncDbHistoryEventHandler());
+        historyEventHandler = compositeHandler;
+      } else if (enableDefaultDbHistoryEventHandler) {
         historyEventHandler = new CompositeDbHistoryEventHandler(customHistoryEventHandlers);
       } else {
         historyEventHandler = new CompositeHistoryEventHandler(customHistoryEventHandlers);
@@ -2867,7 +3094,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected void initCacheFactory() {
     if (cacheFactory == null) {
-      cacheFactory = new DefaultCacheFactory();
+      cacheFactory = new DefaultCacheFactory(cacheType);
     }
   }
 
@@ -2885,6 +3112,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     }
   }
 
+  protected void initAuthorizationDecisionCache() {
+    if (authorizationDecisionCache == null && authorizationCacheEnabled) {
+      authorizationDecisionCache = new AuthorizationDecisionCache(authorizationCacheCapacity);
+    }
+  }
+
   protected void initDefaultUserPermissionForTask() {
     if (defaultUserPermissionForTask == null) {
       if (Permissions.UPDATE.getName().equals(defaultUserPermissionNameForTask)) {
@@ -3298,6 +3531,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public String getExpressionCacheType() {
+    return expressionCacheType;
+  }
+
+  public ProcessEngineConfigurationImpl setExpressionCacheType(String expressionCacheType) {
+    this.expressionCacheType = expressionCacheType;
+    return this;
+  }
+
+  public int getExpressionCompileThreshold() {
+    return expressionCompileThreshold;
+  }
+
+  public ProcessEngineConfigurationImpl setExpressionCompileThreshold(int expressionCompileThreshold) {
+    this.expressionCompileThreshold = expressionCompileThreshold;
+    return this;
+  }
+
   public ElProvider getDmnElProvider() {
     return dmnElProvider;
   }
@@ -3373,6 +3624,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.cacheCapacity = cacheCapacity;
   }
 
+  public String getCacheType() {
+    return cacheType;
+  }
+
+  public void setCacheType(String cacheType) {
+    this.cacheType = cacheType;
+  }
+
   public void setEnableFetchProcessDefinitionDescription(boolean enableFetchProcessDefinitionDescription){
     this.enableFetchProcessDefinitionDescription = enableFetchProcessDefinitionDescription;
   }
@@ -3399,6 +3658,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return enableHistoricInstancePermissions;
   }
 
+  public boolean isAuthorizationCacheEnabled() {
+    return authorizationCacheEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setAuthorizationCacheEnabled(boolean authorizationCacheEnabled) {
+    this.authorizationCacheEnabled = authorizationCacheEnabled;
+    return this;
+  }
+
+  public int getAuthorizationCacheCapacity() {
+    return authorizationCacheCapacity;
+  }
+
+  public ProcessEngineConfigurationImpl setAuthorizationCacheCapacity(int authorizationCacheCapacity) {
+    this.authorizationCacheCapacity = authorizationCacheCapacity;
+    return this;
+  }
+
+  public AuthorizationDecisionCache getAuthorizationDecisionCache() {
+    return authorizationDecisionCache;
+  }
+
+  public ProcessEngineConfigurationImpl setAuthorizationDecisionCache(AuthorizationDecisionCache authorizationDecisionCache) {
+    this.authorizationDecisionCache = authorizationDecisionCache;
+    return this;
+  }
+
   public Map<String, JobHandler> getJobHandlers() {
     return jobHandlers;
   }
@@ -3430,6 +3716,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public boolean isJdbcMultiRowInsert() {
+    return jdbcMultiRowInsert;
+  }
+
+  public ProcessEngineConfigurationImpl setJdbcMultiRowInsert(boolean jdbcMultiRowInsert) {
+    this.jdbcMultiRowInsert = jdbcMultiRowInsert;
+    return this;
+  }
+
+  public int getJdbcMultiRowInsertMaxRows() {
+    return jdbcMultiRowInsertMaxRows;
+  }
+
+  public ProcessEngineConfigurationImpl setJdbcMultiRowInsertMaxRows(int jdbcMultiRowInsertMaxRows) {
+    this.jdbcMultiRowInsertMaxRows = jdbcMultiRowInsertMaxRows;
+    return this;
+  }
+
   public TransactionFactory getTransactionFactory() {
     return transactionFactory;
   }
@@ -3848,6 +4152,23 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public boolean isSinglePassBpmnParsingEnabled() {
+    return singlePassBpmnParsingEnabled;
+  }
+
+  /**
+   * If enabled, the DOM document of the BPMN model instance is built from the same SAX events
+   * the process definitions are parsed from, when a BPMN resource is deployed or reloaded into
+   * the deployment cache. The model instance is put into the BPMN model instance cache, so the
+   * XML is not read and parsed a second time when the model instance is requested. Since the
+   * documents of all parsed resources are cached, this is disabled by default. Resources of
+   * deployments without schema validation are always parsed again.
+   */
+  public ProcessEngineConfigurationImpl setSinglePassBpmnParsingEnabled(boolean singlePassBpmnParsingEnabled) {
+    this.singlePassBpmnParsingEnabled = singlePassBpmnParsingEnabled;
+    return this;
+  }
+
   public String getDatabaseSchema() {
     return databaseSchema;
   }
@@ -3872,6 +4193,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.idGeneratorDataSourceJndiName = idGeneratorDataSourceJndiName;
   }
 
+  public boolean isIdBlockPrefetchEnabled() {
+    return idBlockPrefetchEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setIdBlockPrefetchEnabled(boolean idBlockPrefetchEnabled) {
+    this.idBlockPrefetchEnabled = idBlockPrefetchEnabled;
+    return this;
+  }
+
+  public int getIdBlockMaxSize() {
+    return idBlockMaxSize;
+  }
+
+  public ProcessEngineConfigurationImpl setIdBlockMaxSize(int idBlockMaxSize) {
+    this.idBlockMaxSize = idBlockMaxSize;
+    return this;
+  }
+
   public ProcessApplicationManager getProcessApplicationManager() {
     return processApplicationManager;
   }
@@ -3896,6 +4235,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.correlationHandler = correlationHandler;
   }
 
+  public Set<String> getCorrelationKeyVariableNames() {
+    return correlationKeyVariableNames;
+  }
+
+  /**
+   * Declares process variables as correlation keys. The values of these variables
+   * are maintained in a dedicated index table, so that a message which is correlated
+   * by one of them is matched with a single index lookup instead of a join against
+   * the variable table. Variables which were written before the name was declared are
+   * added to the index when the process engine is started. Until then, messages are
+   * correlated by the variable table.
+   */
+  public ProcessEngineConfigurationImpl setCorrelationKeyVariableNames(Set<String> correlationKeyVariableNames) {
+    this.correlationKeyVariableNames = correlationKeyVariableNames != null
+        ? Collections.unmodifiableSet(new HashSet<>(correlationKeyVariableNames))
+        : Collections.emptySet();
+    return this;
+  }
+
+  /**
+   * @return the names of the correlation key variables which are completely contained in the
+   *         correlation key index, see {@link org.operaton.bpm.engine.impl.cmd.IndexCorrelationKeyVariablesCmd}
+   */
+  public Set<String> getIndexedCorrelationKeyVariableNames() {
+    return indexedCorrelationKeyVariableNames;
+  }
+
   public ConditionHandler getConditionHandler() {
     return conditionHandler;
   }
@@ -3913,6 +4279,96 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return historyEventHandler;
   }
 
+  public boolean isAsyncHistoryEnabled() {
+    return asyncHistoryEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncHistoryEnabled(boolean asyncHistoryEnabled) {
+    this.asyncHistoryEnabled = asyncHistoryEnabled;
+    return this;
+  }
+
+  public int getAsyncHistoryBatchSize() {
+    return asyncHistoryBatchSize;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncHistoryBatchSize(int asyncHistoryBatchSize) {
+    this.asyncHistoryBatchSize = asyncHistoryBatchSize;
+    return this;
+  }
+
+  public long getAsyncHistoryWriteInterval() {
+    return asyncHistoryWriteInterval;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncHistoryWriteInterval(long asyncHistoryWriteInterval) {
+    this.asyncHistoryWriteInterval = asyncHistoryWriteInterval;
+    return this;
+  }
+
+  public int getAsyncHistoryMaxBacklog() {
+    return asyncHistoryMaxBacklog;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncHistoryMaxBacklog(int asyncHistoryMaxBacklog) {
+    this.asyncHistoryMaxBacklog = asyncHistoryMaxBacklog;
+    return this;
+  }
+
+  public ThreadFactory getAsyncHistoryThreadFactory() {
+    return asyncHistoryThreadFactory;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncHistoryThreadFactory(ThreadFactory asyncHistoryThreadFactory) {
+    this.asyncHistoryThreadFactory = asyncHistoryThreadFactory;
+    return this;
+  }
+
+  public HistoryEventOutboxWriter getHistoryEventOutboxWriter() {
+    return historyEventOutboxWriter;
+  }
+
+  public ProcessEngineConfigurationImpl setHistoryEventOutboxWriter(HistoryEventOutboxWriter historyEventOutboxWriter) {
+    this.historyEventOutboxWriter = historyEventOutboxWriter;
+    return this;
+  }
+
+  public boolean isDeploymentCacheWarmingEnabled() {
+    return deploymentCacheWarmingEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setDeploymentCacheWarmingEnabled(boolean deploymentCacheWarmingEnabled) {
+    this.deploymentCacheWarmingEnabled = deploymentCacheWarmingEnabled;
+    return this;
+  }
+
+  public int getDeploymentCacheWarmingPoolSize() {
+    return deploymentCacheWarmingPoolSize;
+  }
+
+  public ProcessEngineConfigurationImpl setDeploymentCacheWarmingPoolSize(int deploymentCacheWarmingPoolSize) {
+    this.deploymentCacheWarmingPoolSize = deploymentCacheWarmingPoolSize;
+    return this;
+  }
+
+  public boolean isConditionalStartEventExpressionIndexEnabled() {
+    return conditionalStartEventExpressionIndexEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setConditionalStartEventExpressionIndexEnabled(boolean conditionalStartEventExpressionIndexEnabled) {
+    this.conditionalStartEventExpressionIndexEnabled = conditionalStartEventExpressionIndexEnabled;
+    return this;
+  }
+
+  public DeploymentCacheWarmer getDeploymentCacheWarmer() {
+    return deploymentCacheWarmer;
+  }
+
+  public ProcessEngineConfigurationImpl setDeploymentCacheWarmer(DeploymentCacheWarmer deploymentCacheWarmer) {
+    this.deploymentCacheWarmer = deploymentCacheWarmer;
+    return this;
+  }
+
   public boolean isEnableDefaultDbHistoryEventHandler() {
     return enableDefaultDbHistoryEventHandler;
   }
@@ -4296,6 +4752,36 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.scriptFactory = scriptFactory;
   }
 
+  public boolean isEnableScriptEnginePooling() {
+    return enableScriptEnginePooling;
+  }
+
+  public ProcessEngineConfigurationImpl setEnableScriptEnginePooling(boolean enableScriptEnginePooling) {
+    this.enableScriptEnginePooling = enableScriptEnginePooling;
+    return this;
+  }
+
+  public int getScriptEnginePoolSize() {
+    return scriptEnginePoolSize;
+  }
+
+  public ProcessEngineConfigurationImpl setScriptEnginePoolSize(int scriptEnginePoolSize) {
+    this.scriptEnginePoolSize = scriptEnginePoolSize;
+    return this;
+  }
+
+  /**
+   * @return the pool of script engines, which provides the pool hit and miss counts, or null if pooling is disabled
+   */
+  public ScriptEnginePool getScriptEnginePool() {
+    return scriptEnginePool;
+  }
+
+  public ProcessEngineConfigurationImpl setScriptEnginePool(ScriptEnginePool scriptEnginePool) {
+    this.scriptEnginePool = scriptEnginePool;
+    return this;
+  }
+
   public ScriptEngineResolver getScriptEngineResolver() {
     return scriptEngineResolver;
   }
@@ -4355,6 +4841,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.javaSerializationFormatEnabled = javaSerializationFormatEnabled;
   }
 
+  public Integer getByteArrayChunkSize() {
+    return byteArrayChunkSize;
+  }
+
+  public ProcessEngineConfigurationImpl setByteArrayChunkSize(Integer byteArrayChunkSize) {
+    this.byteArrayChunkSize = byteArrayChunkSize;
+    return this;
+  }
+
   public ProcessEngineConfigurationImpl setDefaultCharsetName(String defaultCharsetName) {
     this.defaultCharsetName = defaultCharsetName;
     return this;
@@ -4378,6 +4873,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public boolean isDbEntityDirtyTrackingEnabled() {
+    return isDbEntityDirtyTrackingEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setDbEntityDirtyTrackingEnabled(boolean isDbEntityDirtyTrackingEnabled) {
+    this.isDbEntityDirtyTrackingEnabled = isDbEntityDirtyTrackingEnabled;
+    return this;
+  }
+
   public DbEntityCacheKeyMapping getDbEntityCacheKeyMapping() {
     return dbEntityCacheKeyMapping;
   }
@@ -4414,6 +4918,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
       // ACT-233: connection pool of Ibatis is not properely initialized if this is not called!
       pooledDataSource.forceCloseAll();
     }
+    if (idGenerator instanceof PrefetchingDbIdGenerator prefetchingDbIdGenerator) {
+      prefetchingDbIdGenerator.close();
+    }
   }
 
   public MetricsRegistry getMetricsRegistry() {
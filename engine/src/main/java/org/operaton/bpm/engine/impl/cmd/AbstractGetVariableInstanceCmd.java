@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.cmd;
+
+import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import java.io.Serializable;
+
+import org.operaton.bpm.engine.impl.core.variable.CoreVariableInstance;
+import org.operaton.bpm.engine.impl.core.variable.scope.AbstractVariableScope;
+import org.operaton.bpm.engine.impl.interceptor.Command;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.operaton.bpm.engine.impl.variable.serializer.AbstractTypedValueSerializer;
+import org.operaton.bpm.engine.runtime.VariableInstance;
+
+/**
+ * Resolves a variable by its name in a variable scope like
+ * {@link AbstractVariableScope#getVariableInstance(String)} does. The value of a
+ * binary variable is not fetched, so that its content can be streamed by
+ * {@link GetVariableInstanceContentCmd} instead.
+ */
+public abstract class AbstractGetVariableInstanceCmd implements Command<VariableInstance>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  protected String variableName;
+  protected boolean isLocal;
+
+  protected AbstractGetVariableInstanceCmd(String variableName, boolean isLocal) {
+    this.variableName = variableName;
+    this.isLocal = isLocal;
+  }
+
+  @Override
+  public VariableInstance execute(CommandContext commandContext) {
+    ensureNotNull("variableName", variableName);
+
+    AbstractVariableScope variableScope = getVariableScope(commandContext);
+
+    CoreVariableInstance variableInstance;
+    if (isLocal) {
+      variableInstance = variableScope.getVariableInstanceLocal(variableName);
+    } else {
+      variableInstance = variableScope.getVariableInstance(variableName);
+    }
+
+    if (!(variableInstance instanceof VariableInstanceEntity variableInstanceEntity)) {
+      return null;
+    }
+
+    if (!AbstractTypedValueSerializer.BINARY_VALUE_TYPES.contains(variableInstanceEntity.getSerializer().getType().getName())) {
+      variableInstanceEntity.getTypedValue(false);
+    }
+
+    return variableInstanceEntity;
+  }
+
+  /**
+   * @return the variable scope in which the variable is resolved, after the
+   *   authorization to read its variables has been checked
+   */
+  protected abstract AbstractVariableScope getVariableScope(CommandContext commandContext);
+
+}
@@ -31,6 +31,7 @@ import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.operaton.bpm.engine.impl.interceptor.Command;
 import org.operaton.bpm.engine.impl.interceptor.CommandContext;
 import org.operaton.bpm.engine.impl.jobexecutor.AcquiredJobs;
+import org.operaton.bpm.engine.impl.jobexecutor.JobAcquisitionPartition;
 import org.operaton.bpm.engine.impl.jobexecutor.JobExecutor;
 import org.operaton.bpm.engine.impl.persistence.entity.AcquirableJobEntity;
 import org.operaton.bpm.engine.impl.util.ClockUtil;
@@ -46,14 +47,20 @@ public class AcquireJobsCmd implements Command<AcquiredJobs>, OptimisticLockingL
 
   protected AcquiredJobs acquiredJobs;
   protected int numJobsToAcquire;
+  protected JobAcquisitionPartition partition;
 
   public AcquireJobsCmd(JobExecutor jobExecutor) {
     this(jobExecutor, jobExecutor.getMaxJobsPerAcquisition());
   }
 
   public AcquireJobsCmd(JobExecutor jobExecutor, int numJobsToAcquire) {
+    this(jobExecutor, numJobsToAcquire, null);
+  }
+
+  public AcquireJobsCmd(JobExecutor jobExecutor, int numJobsToAcquire, JobAcquisitionPartition partition) {
     this.jobExecutor = jobExecutor;
     this.numJobsToAcquire = numJobsToAcquire;
+    this.partition = partition;
   }
 
   @Override
@@ -63,7 +70,7 @@ public class AcquireJobsCmd implements Command<AcquiredJobs>, OptimisticLockingL
 
     List<AcquirableJobEntity> jobs = commandContext
       .getJobManager()
-      .findNextJobsToExecute(new Page(0, numJobsToAcquire));
+      .findNextJobsToExecute(new Page(0, numJobsToAcquire), partition);
 
     Map<String, List<String>> exclusiveJobsByProcessInstance = new HashMap<>();
 
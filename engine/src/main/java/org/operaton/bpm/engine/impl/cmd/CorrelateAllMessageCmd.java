@@ -63,6 +63,14 @@ public class CorrelateAllMessageCmd extends AbstractCorrelateMessageCmd implemen
     final CorrelationSet correlationSet = new CorrelationSet(builder);
     List<CorrelationHandlerResult> correlationResults = commandContext.runWithoutAuthorization((Callable<List<CorrelationHandlerResult>>) () -> correlationHandler.correlateMessages(commandContext, messageName, correlationSet));
 
+    return correlate(commandContext, correlationResults);
+  }
+
+  /**
+   * Delivers the message to the given correlation targets after checking the authorization
+   * for all of them and produces the operation log.
+   */
+  protected List<MessageCorrelationResultImpl> correlate(CommandContext commandContext, List<CorrelationHandlerResult> correlationResults) {
     // check authorization
     for (CorrelationHandlerResult correlationResult : correlationResults) {
       checkAuthorization(correlationResult);
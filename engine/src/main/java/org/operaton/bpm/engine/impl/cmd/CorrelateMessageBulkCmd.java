@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.cmd;
+
+import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureAtLeastOneNotNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import org.operaton.bpm.engine.impl.MessageCorrelationBuilderImpl;
+import org.operaton.bpm.engine.impl.context.Context;
+import org.operaton.bpm.engine.impl.db.entitymanager.cache.DbEntityCache;
+import org.operaton.bpm.engine.impl.event.EventType;
+import org.operaton.bpm.engine.impl.interceptor.Command;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.persistence.entity.EventSubscriptionEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.operaton.bpm.engine.impl.runtime.CorrelationHandler;
+import org.operaton.bpm.engine.impl.runtime.CorrelationHandlerResult;
+import org.operaton.bpm.engine.impl.runtime.CorrelationSet;
+import org.operaton.bpm.engine.impl.runtime.MessageCorrelationResultImpl;
+import org.operaton.bpm.engine.runtime.MessageCorrelationResultType;
+
+/**
+ * Correlates several messages in one command. Each message is correlated to all matching executions
+ * and process definitions, like {@link CorrelateAllMessageCmd} does.
+ *
+ * <p>The correlation targets of all messages are resolved up front with the
+ * {@link CorrelationHandler#correlateMessages(CommandContext, List)} of the correlation handler. Then
+ * the messages are delivered in their order. A target whose event subscription was consumed by an
+ * earlier message is skipped.</p>
+ *
+ * <p>Since the targets are resolved at the beginning of the command, a message does not see the event
+ * subscriptions which were created by an earlier message of the same command, e.g. by a process
+ * instance it started or moved on to the next message catch event. The command therefore stops before
+ * a message which might be waited for by such a subscription and returns the results of the messages
+ * correlated so far, one list of results per message. The remaining messages have to be correlated by
+ * a new command.</p>
+ */
+public class CorrelateMessageBulkCmd implements Command<List<List<MessageCorrelationResultImpl>>> {
+
+  protected final List<MessageCorrelationBuilderImpl> builders;
+
+  public CorrelateMessageBulkCmd(List<MessageCorrelationBuilderImpl> builders) {
+    this.builders = builders;
+  }
+
+  @Override
+  public List<List<MessageCorrelationResultImpl>> execute(final CommandContext commandContext) {
+    final List<CorrelationSet> correlationSets = new ArrayList<>(builders.size());
+    for (MessageCorrelationBuilderImpl builder : builders) {
+      ensureAtLeastOneNotNull(
+          "At least one of the following correlation criteria has to be present: " + "messageName, businessKey, correlationKeys, processInstanceId", builder.getMessageName(),
+          builder.getBusinessKey(), builder.getCorrelationProcessInstanceVariables(), builder.getProcessInstanceId());
+      correlationSets.add(new CorrelationSet(builder));
+    }
+
+    List<List<CorrelationHandlerResult>> correlations = commandContext.runWithoutAuthorization(
+        (Callable<List<List<CorrelationHandlerResult>>>) () -> resolveCorrelations(commandContext, correlationSets));
+
+    List<List<MessageCorrelationResultImpl>> resultsPerMessage = new ArrayList<>(builders.size());
+    Set<String> correlatedProcessInstanceIds = new HashSet<>();
+    for (int i = 0; i < builders.size(); i++) {
+      MessageCorrelationBuilderImpl builder = builders.get(i);
+      if (i > 0 && !builder.isStartMessagesOnly() && hasCreatedMessageEventSubscription(commandContext, builder.getMessageName())) {
+        // the targets of the message were resolved before the subscription was created
+        break;
+      }
+
+      List<CorrelationHandlerResult> targets = filterConsumedTargets(commandContext, builder.getMessageName(),
+          correlations.get(i), correlatedProcessInstanceIds);
+
+      List<MessageCorrelationResultImpl> results = new CorrelateAllMessageCmd(builder, false, false)
+          .correlate(commandContext, targets);
+
+      for (MessageCorrelationResultImpl result : results) {
+        if (result.getProcessInstance() != null) {
+          correlatedProcessInstanceIds.add(result.getProcessInstance().getId());
+        }
+      }
+      resultsPerMessage.add(results);
+    }
+    return resultsPerMessage;
+  }
+
+  protected List<List<CorrelationHandlerResult>> resolveCorrelations(CommandContext commandContext, List<CorrelationSet> correlationSets) {
+    CorrelationHandler correlationHandler = Context.getProcessEngineConfiguration().getCorrelationHandler();
+
+    List<CorrelationSet> messageCorrelationSets = new ArrayList<>();
+    for (int i = 0; i < builders.size(); i++) {
+      if (!builders.get(i).isStartMessagesOnly()) {
+        messageCorrelationSets.add(correlationSets.get(i));
+      }
+    }
+    List<List<CorrelationHandlerResult>> messageCorrelations = correlationHandler.correlateMessages(commandContext, messageCorrelationSets);
+
+    List<List<CorrelationHandlerResult>> correlations = new ArrayList<>(builders.size());
+    int messageCorrelationIndex = 0;
+    for (int i = 0; i < builders.size(); i++) {
+      MessageCorrelationBuilderImpl builder = builders.get(i);
+      if (builder.isStartMessagesOnly()) {
+        correlations.add(correlationHandler.correlateStartMessages(commandContext, builder.getMessageName(), correlationSets.get(i)));
+      } else {
+        correlations.add(messageCorrelations.get(messageCorrelationIndex++));
+      }
+    }
+    return correlations;
+  }
+
+  /**
+   * @return true if this command created a message event subscription which waits for a message with
+   *   the given name, or for any message if the name is <code>null</code>
+   */
+  protected boolean hasCreatedMessageEventSubscription(CommandContext commandContext, String messageName) {
+    DbEntityCache dbEntityCache = commandContext.getDbEntityManager().getDbEntityCache();
+    for (EventSubscriptionEntity eventSubscription : dbEntityCache.getEntitiesByType(EventSubscriptionEntity.class)) {
+      if (dbEntityCache.isTransient(eventSubscription)
+          && EventType.MESSAGE.name().equals(eventSubscription.getEventType())
+          && (messageName == null || messageName.equals(eventSubscription.getEventName()))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Removes the executions which no longer wait for the message because an earlier message of
+   * this command was delivered to their process instance.
+   */
+  protected List<CorrelationHandlerResult> filterConsumedTargets(CommandContext commandContext, String messageName,
+      List<CorrelationHandlerResult> correlations, Set<String> correlatedProcessInstanceIds) {
+
+    List<CorrelationHandlerResult> targets = new ArrayList<>(correlations.size());
+    for (CorrelationHandlerResult correlation : correlations) {
+      if (MessageCorrelationResultType.ProcessDefinition.equals(correlation.getResultType())
+          || !correlatedProcessInstanceIds.contains(correlation.getExecutionEntity().getProcessInstanceId())
+          || isWaitingForMessage(commandContext, correlation.getExecutionEntity(), messageName)) {
+        targets.add(correlation);
+      }
+    }
+    return targets;
+  }
+
+  protected boolean isWaitingForMessage(CommandContext commandContext, ExecutionEntity execution, String messageName) {
+    if (commandContext.getDbEntityManager().isDeleted(execution) || execution.isEnded()) {
+      return false;
+    }
+
+    for (EventSubscriptionEntity eventSubscription : execution.getEventSubscriptions()) {
+      if (EventType.MESSAGE.name().equals(eventSubscription.getEventType())
+          && (messageName == null || messageName.equals(eventSubscription.getEventName()))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
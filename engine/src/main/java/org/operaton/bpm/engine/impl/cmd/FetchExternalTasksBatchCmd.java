@@ -0,0 +1,288 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.operaton.bpm.engine.externaltask.LockedExternalTask;
+import org.operaton.bpm.engine.impl.externaltask.TopicFetchInstruction;
+import org.operaton.bpm.engine.impl.interceptor.Command;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.persistence.entity.ExternalTaskEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.ExternalTaskManager;
+import org.operaton.bpm.engine.impl.util.EnsureUtil;
+
+/**
+ * Fetches and locks external tasks for several workers in a single transaction.
+ * <p>
+ * The fetch instructions of all workers that use the same ordering are combined into one
+ * query for at most the sum of their <code>maxResults</code>. The selected tasks are then
+ * distributed in query order (i.e. respecting the priority if requested) among the workers
+ * whose instructions match a task, always preferring the worker that received the fewest
+ * tasks so far. If the query result may have been truncated, workers that still have
+ * capacity left are fetched for individually.
+ * <p>
+ * Instructions that filter by process variables cannot be matched against a selected task
+ * without querying the variables, so workers using them are fetched for individually.
+ * <p>
+ * The result contains the locked tasks of each worker in the order of the given fetch commands.
+ */
+public class FetchExternalTasksBatchCmd implements Command<List<List<LockedExternalTask>>> {
+
+  protected List<FetchExternalTasksCmd> fetchCommands;
+
+  public FetchExternalTasksBatchCmd(List<FetchExternalTasksCmd> fetchCommands) {
+    this.fetchCommands = fetchCommands;
+  }
+
+  @Override
+  public List<List<LockedExternalTask>> execute(CommandContext commandContext) {
+    EnsureUtil.ensureNotNull("fetchCommands", fetchCommands);
+
+    List<List<LockedExternalTask>> results = new ArrayList<>();
+    Map<String, List<Integer>> batchesByOrdering = new LinkedHashMap<>();
+    List<Integer> individualFetches = new ArrayList<>();
+
+    for (int i = 0; i < fetchCommands.size(); i++) {
+      FetchExternalTasksCmd fetchCommand = fetchCommands.get(i);
+      fetchCommand.validateInput();
+
+      for (TopicFetchInstruction instruction : fetchCommand.fetchInstructions.values()) {
+        instruction.ensureVariablesInitialized();
+      }
+
+      results.add(new ArrayList<>());
+
+      if (isBatchable(fetchCommand)) {
+        String ordering = fetchCommand.orderingProperties.toString();
+        batchesByOrdering.computeIfAbsent(ordering, key -> new ArrayList<>()).add(i);
+      }
+      else {
+        individualFetches.add(i);
+      }
+    }
+
+    Set<String> lockedTaskIds = new HashSet<>();
+
+    for (List<Integer> batch : batchesByOrdering.values()) {
+      fetchBatch(commandContext, batch, results, lockedTaskIds);
+    }
+
+    for (Integer index : individualFetches) {
+      fetchIndividually(commandContext, index, results, lockedTaskIds);
+    }
+
+    FetchExternalTasksCmd.filterOnOptimisticLockingFailure(commandContext, results);
+
+    return results;
+  }
+
+  protected boolean isBatchable(FetchExternalTasksCmd fetchCommand) {
+    for (TopicFetchInstruction instruction : fetchCommand.fetchInstructions.values()) {
+      if (!instruction.getFilterVariables().isEmpty()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  protected void fetchBatch(CommandContext commandContext,
+                            List<Integer> batch,
+                            List<List<LockedExternalTask>> results,
+                            Set<String> lockedTaskIds) {
+
+    List<TopicFetchInstruction> instructions = new ArrayList<>();
+    long maxResults = 0;
+    for (Integer index : batch) {
+      FetchExternalTasksCmd fetchCommand = fetchCommands.get(index);
+      instructions.addAll(fetchCommand.fetchInstructions.values());
+      maxResults += fetchCommand.maxResults;
+    }
+
+    int limit = (int) Math.min(Integer.MAX_VALUE, maxResults + lockedTaskIds.size());
+    List<ExternalTaskEntity> externalTasks = selectExternalTasks(commandContext, instructions, limit,
+        fetchCommands.get(batch.get(0)));
+
+    for (ExternalTaskEntity entity : externalTasks) {
+      if (lockedTaskIds.contains(entity.getId())) {
+        continue;
+      }
+
+      Integer assignee = null;
+      for (Integer index : batch) {
+        FetchExternalTasksCmd fetchCommand = fetchCommands.get(index);
+        int lockedCount = results.get(index).size();
+
+        if (lockedCount < fetchCommand.maxResults
+            && (assignee == null || lockedCount < results.get(assignee).size())
+            && matches(fetchCommand.fetchInstructions.get(entity.getTopicName()), entity)) {
+          assignee = index;
+        }
+      }
+
+      if (assignee != null) {
+        lockTask(assignee, entity, results, lockedTaskIds);
+      }
+    }
+
+    if (externalTasks.size() >= limit) {
+      // the result may have been truncated, so the workers that are not satisfied yet
+      // might miss tasks which only they are able to fetch
+      for (Integer index : batch) {
+        if (results.get(index).size() < fetchCommands.get(index).maxResults) {
+          fetchIndividually(commandContext, index, results, lockedTaskIds);
+        }
+      }
+    }
+  }
+
+  protected void fetchIndividually(CommandContext commandContext,
+                                   int index,
+                                   List<List<LockedExternalTask>> results,
+                                   Set<String> lockedTaskIds) {
+
+    FetchExternalTasksCmd fetchCommand = fetchCommands.get(index);
+    List<LockedExternalTask> result = results.get(index);
+
+    // tasks locked within this command are not yet flushed and may be selected again
+    int limit = (int) Math.min(Integer.MAX_VALUE, (long) fetchCommand.maxResults + lockedTaskIds.size());
+    List<ExternalTaskEntity> externalTasks = selectExternalTasks(commandContext,
+        fetchCommand.fetchInstructions.values(), limit, fetchCommand);
+
+    for (ExternalTaskEntity entity : externalTasks) {
+      if (result.size() >= fetchCommand.maxResults) {
+        break;
+      }
+      if (!lockedTaskIds.contains(entity.getId())) {
+        lockTask(index, entity, results, lockedTaskIds);
+      }
+    }
+  }
+
+  protected List<ExternalTaskEntity> selectExternalTasks(CommandContext commandContext,
+                                                         Collection<TopicFetchInstruction> instructions,
+                                                         int maxResults,
+                                                         FetchExternalTasksCmd orderingCommand) {
+    ExternalTaskManager externalTaskManager = commandContext.getExternalTaskManager();
+    return externalTaskManager.selectExternalTasksForTopics(instructions, maxResults, orderingCommand.orderingProperties);
+  }
+
+  protected void lockTask(int index, ExternalTaskEntity entity, List<List<LockedExternalTask>> results, Set<String> lockedTaskIds) {
+    LockedExternalTask resultTask = fetchCommands.get(index).lockTask(entity);
+    lockedTaskIds.add(entity.getId());
+    if (resultTask != null) {
+      results.get(index).add(resultTask);
+    }
+  }
+
+  /**
+   * Evaluates the filters of the instruction that the query applies in the database,
+   * except for the process variable filters.
+   */
+  protected boolean matches(TopicFetchInstruction instruction, ExternalTaskEntity entity) {
+    if (instruction == null) {
+      return false;
+    }
+
+    String businessKey = instruction.getBusinessKey();
+    if (businessKey != null && !businessKey.isEmpty() && !businessKey.equals(entity.getBusinessKey())) {
+      return false;
+    }
+
+    if (instruction.getProcessDefinitionId() != null
+        && !instruction.getProcessDefinitionId().equals(entity.getProcessDefinitionId())) {
+      return false;
+    }
+
+    if (!isContainedIn(entity.getProcessDefinitionId(), instruction.getProcessDefinitionIds())) {
+      return false;
+    }
+
+    if (instruction.getProcessDefinitionKey() != null
+        && !instruction.getProcessDefinitionKey().equals(entity.getProcessDefinitionKey())) {
+      return false;
+    }
+
+    if (!isContainedIn(entity.getProcessDefinitionKey(), instruction.getProcessDefinitionKeys())) {
+      return false;
+    }
+
+    if (instruction.isTenantIdSet()) {
+      if (instruction.getTenantIds() == null) {
+        if (entity.getTenantId() != null) {
+          return false;
+        }
+      }
+      else if (!isContainedIn(entity.getTenantId(), instruction.getTenantIds())) {
+        return false;
+      }
+    }
+
+    String versionTag = instruction.getProcessDefinitionVersionTag();
+    return versionTag == null || isLike(entity.getProcessDefinitionVersionTag(), versionTag);
+  }
+
+  /**
+   * @return true if the values are not restricted or the value is one of them
+   */
+  protected static boolean isContainedIn(String value, String[] values) {
+    if (values == null || values.length == 0) {
+      return true;
+    }
+    for (String candidate : values) {
+      if (candidate.equals(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Evaluates an SQL <code>like</code> condition with the wildcards <code>%</code> and <code>_</code>.
+   */
+  protected static boolean isLike(String value, String pattern) {
+    if (value == null) {
+      return false;
+    }
+
+    StringBuilder regex = new StringBuilder();
+    StringBuilder literal = new StringBuilder();
+    for (char c : pattern.toCharArray()) {
+      if (c == '%' || c == '_') {
+        if (!literal.isEmpty()) {
+          regex.append(Pattern.quote(literal.toString()));
+          literal.setLength(0);
+        }
+        regex.append(c == '%' ? ".*" : ".");
+      }
+      else {
+        literal.append(c);
+      }
+    }
+    if (!literal.isEmpty()) {
+      regex.append(Pattern.quote(literal.toString()));
+    }
+    return Pattern.compile(regex.toString(), Pattern.DOTALL).matcher(value).matches();
+  }
+
+}
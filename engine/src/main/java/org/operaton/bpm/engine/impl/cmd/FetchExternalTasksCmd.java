@@ -20,6 +20,7 @@ import static org.operaton.bpm.engine.impl.Direction.DESCENDING;
 import static org.operaton.bpm.engine.impl.ExternalTaskQueryProperty.PRIORITY;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -86,26 +87,9 @@ public class FetchExternalTasksCmd implements Command<List<LockedExternalTask>>
     final List<LockedExternalTask> result = new ArrayList<>();
 
     for (ExternalTaskEntity entity : externalTasks) {
-
-      TopicFetchInstruction fetchInstruction = fetchInstructions.get(entity.getTopicName());
-
-      // retrieve the execution first to detect concurrent modifications @https://jira.camunda.com/browse/CAM-10750
-      ExecutionEntity execution = entity.getExecution(false);
-
-      if (execution != null) {
-        entity.lock(workerId, fetchInstruction.getLockDuration());
-
-        LockedExternalTaskImpl resultTask = LockedExternalTaskImpl.fromEntity(
-            entity,
-            fetchInstruction.getVariablesToFetch(),
-            fetchInstruction.isLocalVariables(),
-            fetchInstruction.isDeserializeVariables(),
-            fetchInstruction.isIncludeExtensionProperties()
-        );
-
+      LockedExternalTask resultTask = lockTask(entity);
+      if (resultTask != null) {
         result.add(resultTask);
-      } else {
-        LOG.logTaskWithoutExecution(workerId);
       }
     }
 
@@ -114,7 +98,43 @@ public class FetchExternalTasksCmd implements Command<List<LockedExternalTask>>
     return result;
   }
 
+  /**
+   * Locks the task for the worker of this command according to the fetch instruction of its topic.
+   *
+   * @return the locked task or <code>null</code> if the task has no execution anymore
+   */
+  protected LockedExternalTask lockTask(ExternalTaskEntity entity) {
+    TopicFetchInstruction fetchInstruction = fetchInstructions.get(entity.getTopicName());
+
+    // retrieve the execution first to detect concurrent modifications @https://jira.camunda.com/browse/CAM-10750
+    ExecutionEntity execution = entity.getExecution(false);
+
+    if (execution != null) {
+      entity.lock(workerId, fetchInstruction.getLockDuration());
+
+      return LockedExternalTaskImpl.fromEntity(
+          entity,
+          fetchInstruction.getVariablesToFetch(),
+          fetchInstruction.isLocalVariables(),
+          fetchInstruction.isDeserializeVariables(),
+          fetchInstruction.isIncludeExtensionProperties()
+      );
+    } else {
+      LOG.logTaskWithoutExecution(workerId);
+      return null;
+    }
+  }
+
   protected void filterOnOptimisticLockingFailure(CommandContext commandContext, final List<LockedExternalTask> tasks) {
+    filterOnOptimisticLockingFailure(commandContext, Collections.singletonList(tasks));
+  }
+
+  /**
+   * Removes tasks that could not be locked due to a concurrent modification from the given
+   * result lists. Only a single listener may be registered per command, since the result of
+   * the last applicable listener decides whether the failure is ignored.
+   */
+  protected static void filterOnOptimisticLockingFailure(CommandContext commandContext, final Collection<List<LockedExternalTask>> results) {
     commandContext.getDbEntityManager().registerOptimisticLockingListener(new OptimisticLockingListener() {
 
       @Override
@@ -130,13 +150,14 @@ public class FetchExternalTasksCmd implements Command<List<LockedExternalTask>>
 
           boolean failedOperationEntityInList = false;
 
-          Iterator<LockedExternalTask> it = tasks.iterator();
-          while (it.hasNext()) {
-            LockedExternalTask resultTask = it.next();
-            if (resultTask.getId().equals(dbEntity.getId())) {
-              it.remove();
-              failedOperationEntityInList = true;
-              break;
+          for (List<LockedExternalTask> tasks : results) {
+            Iterator<LockedExternalTask> it = tasks.iterator();
+            while (it.hasNext() && !failedOperationEntityInList) {
+              LockedExternalTask resultTask = it.next();
+              if (resultTask.getId().equals(dbEntity.getId())) {
+                it.remove();
+                failedOperationEntityInList = true;
+              }
             }
           }
 
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.cmd;
+
+import org.operaton.bpm.engine.impl.interceptor.Command;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+
+/**
+ * Loads a part of the content of a byte array.
+ *
+ * @see org.operaton.bpm.engine.impl.persistence.entity.util.ByteArrayChunkInputStream
+ */
+public class GetByteArrayChunkCmd implements Command<byte[]> {
+
+  protected String byteArrayId;
+  protected int revision;
+  protected long offset;
+  protected int length;
+
+  public GetByteArrayChunkCmd(String byteArrayId, int revision, long offset, int length) {
+    this.byteArrayId = byteArrayId;
+    this.revision = revision;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  @Override
+  public byte[] execute(CommandContext commandContext) {
+    return commandContext
+      .getByteArrayManager()
+      .findByteArrayChunk(byteArrayId, revision, offset, length);
+  }
+
+}
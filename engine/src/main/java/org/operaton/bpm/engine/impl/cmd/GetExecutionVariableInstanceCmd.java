@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.cmd;
+
+import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import org.operaton.bpm.engine.impl.cfg.CommandChecker;
+import org.operaton.bpm.engine.impl.core.variable.scope.AbstractVariableScope;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.persistence.entity.ExecutionEntity;
+
+public class GetExecutionVariableInstanceCmd extends AbstractGetVariableInstanceCmd {
+
+  private static final long serialVersionUID = 1L;
+
+  protected String executionId;
+
+  public GetExecutionVariableInstanceCmd(String executionId, String variableName, boolean isLocal) {
+    super(variableName, isLocal);
+    this.executionId = executionId;
+  }
+
+  @Override
+  protected AbstractVariableScope getVariableScope(CommandContext commandContext) {
+    ensureNotNull("executionId", executionId);
+
+    ExecutionEntity execution = commandContext
+      .getExecutionManager()
+      .findExecutionById(executionId);
+
+    ensureNotNull("execution " + executionId + " doesn't exist", "execution", execution);
+
+    for(CommandChecker checker : commandContext.getProcessEngineConfiguration().getCommandCheckers()) {
+      checker.checkReadProcessInstanceVariable(execution);
+    }
+
+    return execution;
+  }
+
+}
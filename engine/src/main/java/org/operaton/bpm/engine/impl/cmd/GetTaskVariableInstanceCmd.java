@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.cmd;
+
+import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import org.operaton.bpm.engine.impl.cfg.CommandChecker;
+import org.operaton.bpm.engine.impl.core.variable.scope.AbstractVariableScope;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.persistence.entity.TaskEntity;
+
+public class GetTaskVariableInstanceCmd extends AbstractGetVariableInstanceCmd {
+
+  private static final long serialVersionUID = 1L;
+
+  protected String taskId;
+
+  public GetTaskVariableInstanceCmd(String taskId, String variableName, boolean isLocal) {
+    super(variableName, isLocal);
+    this.taskId = taskId;
+  }
+
+  @Override
+  protected AbstractVariableScope getVariableScope(CommandContext commandContext) {
+    ensureNotNull("taskId", taskId);
+
+    TaskEntity task = commandContext
+      .getTaskManager()
+      .findTaskById(taskId);
+
+    ensureNotNull("task " + taskId + " doesn't exist", "task", task);
+
+    for(CommandChecker checker : commandContext.getProcessEngineConfiguration().getCommandCheckers()) {
+      checker.checkReadTaskVariable(task);
+    }
+
+    return task;
+  }
+
+}
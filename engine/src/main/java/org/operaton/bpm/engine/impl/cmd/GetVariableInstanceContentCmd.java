@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.cmd;
+
+import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureNotEmpty;
+import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import java.io.InputStream;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+import org.operaton.bpm.engine.exception.NotFoundException;
+import org.operaton.bpm.engine.impl.VariableInstanceQueryImpl;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.interceptor.Command;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.util.ByteArrayChunkInputStream;
+import org.operaton.bpm.engine.runtime.VariableInstance;
+
+/**
+ * Opens a stream over the binary content of a variable instance which loads the
+ * content in chunks while it is read.
+ *
+ * The variable instance is looked up by a {@link VariableInstanceQueryImpl}, so the
+ * same authorization and tenant checks apply as for querying the variable.
+ */
+public class GetVariableInstanceContentCmd implements Command<InputStream>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  protected String variableInstanceId;
+
+  public GetVariableInstanceContentCmd(String variableInstanceId) {
+    this.variableInstanceId = variableInstanceId;
+  }
+
+  @Override
+  public InputStream execute(CommandContext commandContext) {
+    ensureNotNull("variableInstanceId", variableInstanceId);
+
+    VariableInstanceQueryImpl query = new VariableInstanceQueryImpl();
+    query.variableId(variableInstanceId)
+      .disableBinaryFetching()
+      .disableCustomObjectDeserialization();
+
+    List<VariableInstance> variableInstances = query.executeList(commandContext, null);
+    ensureNotEmpty(NotFoundException.class, "Variable instance with id '" + variableInstanceId + "' does not exist",
+        "variableInstance", variableInstances);
+
+    VariableInstanceEntity variableInstance = (VariableInstanceEntity) variableInstances.get(0);
+    String byteArrayId = variableInstance.getByteArrayValueId();
+    if (byteArrayId == null) {
+      return null;
+    }
+
+    Map<String, Object> byteArrayLength = commandContext.getByteArrayManager().findByteArrayLength(byteArrayId);
+    if (byteArrayLength == null || byteArrayLength.get("length") == null) {
+      return null;
+    }
+
+    // every chunk is selected with the revision, so that the stream fails instead of mixing contents
+    int revision = (Integer) byteArrayLength.get("revision");
+    long length = (Long) byteArrayLength.get("length");
+
+    ProcessEngineConfigurationImpl processEngineConfiguration = commandContext.getProcessEngineConfiguration();
+    return new ByteArrayChunkInputStream(processEngineConfiguration.getCommandExecutorTxRequired(), byteArrayId, revision,
+        length, processEngineConfiguration.getByteArrayChunkSize());
+  }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.cmd;
+
+import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import org.operaton.bpm.engine.impl.interceptor.Command;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.persistence.entity.CorrelationKeyManager;
+import org.operaton.bpm.engine.impl.persistence.entity.PropertyEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.PropertyManager;
+import org.operaton.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+
+/**
+ * Adds the next batch of existing process variables with the given name to the correlation key index.
+ * Variables which are written while the name is declared as correlation key are indexed when they are
+ * written, so this is only required for variables which were written before, e.g. before the name was
+ * declared or before the index existed.
+ * <p>
+ * Once all variables are indexed, a property marks the variable name as indexed, so the variables are
+ * not searched again on the next startup.
+ *
+ * @return the id of the last variable of the batch to continue with or <code>null</code> if all
+ *         variables with the given name are indexed
+ */
+public class IndexCorrelationKeyVariablesCmd implements Command<String> {
+
+  public static final String INDEXED_PROPERTY_NAME_PREFIX = "correlation.key.index.";
+
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+
+  protected String variableName;
+  protected String lastVariableId;
+  protected int batchSize;
+
+  public IndexCorrelationKeyVariablesCmd(String variableName, String lastVariableId) {
+    this(variableName, lastVariableId, DEFAULT_BATCH_SIZE);
+  }
+
+  public IndexCorrelationKeyVariablesCmd(String variableName, String lastVariableId, int batchSize) {
+    this.variableName = variableName;
+    this.lastVariableId = lastVariableId;
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  public String execute(CommandContext commandContext) {
+    ensureNotNull("variableName", variableName);
+
+    PropertyManager propertyManager = commandContext.getPropertyManager();
+    String propertyName = getIndexedPropertyName(variableName);
+    if (propertyManager.findPropertyById(propertyName) != null) {
+      return null;
+    }
+
+    // make sure that only one engine of the cluster indexes the variables at a time
+    propertyManager.acquireExclusiveLockForStartup();
+    if (propertyManager.findPropertyById(propertyName) != null) {
+      return null;
+    }
+
+    CorrelationKeyManager correlationKeyManager = commandContext.getCorrelationKeyManager();
+    List<VariableInstanceEntity> variableInstances = correlationKeyManager.findVariableInstancesToIndex(variableName, lastVariableId, batchSize);
+    for (VariableInstanceEntity variableInstance : variableInstances) {
+      String value = CorrelationKeyManager.getIndexedValue(variableInstance);
+      if (value != null) {
+        correlationKeyManager.insertCorrelationKey(variableInstance, value);
+      }
+    }
+
+    if (variableInstances.size() == batchSize) {
+      return variableInstances.get(variableInstances.size() - 1).getId();
+    }
+
+    propertyManager.insert(new PropertyEntity(propertyName, variableName));
+    return null;
+  }
+
+  /**
+   * @return the name of the property which marks the variable name as indexed; the variable name
+   *         is hashed since property names are limited to 64 characters
+   */
+  public static String getIndexedPropertyName(String variableName) {
+    return INDEXED_PROPERTY_NAME_PREFIX + UUID.nameUUIDFromBytes(variableName.getBytes(StandardCharsets.UTF_8));
+  }
+
+}
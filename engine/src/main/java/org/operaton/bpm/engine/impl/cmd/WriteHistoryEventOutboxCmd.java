@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.cmd;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.operaton.bpm.engine.impl.history.handler.AsyncDbHistoryEventHandler;
+import org.operaton.bpm.engine.impl.interceptor.Command;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.persistence.entity.HistoryEventOutboxEntryEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.HistoryEventOutboxManager;
+
+/**
+ * Writes the history events of the oldest history event outbox entries to the history
+ * tables and deletes the entries in the same transaction. Entries which cannot be
+ * deserialized are quarantined.
+ */
+public class WriteHistoryEventOutboxCmd implements Command<Integer> {
+
+  protected AsyncDbHistoryEventHandler historyEventHandler;
+  protected int maxEntries;
+  protected String entryId;
+
+  public WriteHistoryEventOutboxCmd(AsyncDbHistoryEventHandler historyEventHandler, int maxEntries) {
+    this.historyEventHandler = historyEventHandler;
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * Writes a single entry, if it was not written yet.
+   */
+  public WriteHistoryEventOutboxCmd(AsyncDbHistoryEventHandler historyEventHandler, String entryId) {
+    this.historyEventHandler = historyEventHandler;
+    this.maxEntries = 1;
+    this.entryId = entryId;
+  }
+
+  @Override
+  public Integer execute(CommandContext commandContext) {
+    HistoryEventOutboxManager outboxManager = commandContext.getHistoryEventOutboxManager();
+    return outboxManager.writeOutboxEntries(findEntries(outboxManager), historyEventHandler);
+  }
+
+  protected List<HistoryEventOutboxEntryEntity> findEntries(HistoryEventOutboxManager outboxManager) {
+    if (entryId == null) {
+      return outboxManager.findPendingOutboxEntries(maxEntries);
+    }
+    HistoryEventOutboxEntryEntity entry = outboxManager.findPendingOutboxEntryById(entryId);
+    return entry != null ? Collections.singletonList(entry) : Collections.emptyList();
+  }
+
+}
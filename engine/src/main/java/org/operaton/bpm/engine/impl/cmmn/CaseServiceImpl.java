@@ -26,6 +26,7 @@ import org.operaton.bpm.engine.exception.NullValueException;
 import org.operaton.bpm.engine.exception.cmmn.CaseExecutionNotFoundException;
 import org.operaton.bpm.engine.impl.ServiceImpl;
 import org.operaton.bpm.engine.impl.cmmn.cmd.GetCaseExecutionVariableCmd;
+import org.operaton.bpm.engine.impl.cmmn.cmd.GetCaseExecutionVariableInstanceCmd;
 import org.operaton.bpm.engine.impl.cmmn.cmd.GetCaseExecutionVariableTypedCmd;
 import org.operaton.bpm.engine.impl.cmmn.cmd.GetCaseExecutionVariablesCmd;
 import org.operaton.bpm.engine.impl.cmmn.entity.runtime.CaseExecutionQueryImpl;
@@ -35,6 +36,7 @@ import org.operaton.bpm.engine.runtime.CaseExecutionQuery;
 import org.operaton.bpm.engine.runtime.CaseInstance;
 import org.operaton.bpm.engine.runtime.CaseInstanceBuilder;
 import org.operaton.bpm.engine.runtime.CaseInstanceQuery;
+import org.operaton.bpm.engine.runtime.VariableInstance;
 import org.operaton.bpm.engine.variable.VariableMap;
 import org.operaton.bpm.engine.variable.value.TypedValue;
 
@@ -173,6 +175,16 @@ public class CaseServiceImpl extends ServiceImpl implements CaseService {
     return getCaseExecutionVariableTyped(caseExecutionId, variableName, true, deserializeValue);
   }
 
+  @Override
+  public VariableInstance getVariableInstance(String caseExecutionId, String variableName) {
+    return commandExecutor.execute(new GetCaseExecutionVariableInstanceCmd(caseExecutionId, variableName, false));
+  }
+
+  @Override
+  public VariableInstance getVariableInstanceLocal(String caseExecutionId, String variableName) {
+    return commandExecutor.execute(new GetCaseExecutionVariableInstanceCmd(caseExecutionId, variableName, true));
+  }
+
   @SuppressWarnings("unchecked")
   protected <T extends TypedValue> T getCaseExecutionVariableTyped(String caseExecutionId, String variableName, boolean isLocal, boolean deserializeValue) {
     try {
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.cmmn.cmd;
+
+import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import org.operaton.bpm.engine.exception.cmmn.CaseExecutionNotFoundException;
+import org.operaton.bpm.engine.impl.cfg.CommandChecker;
+import org.operaton.bpm.engine.impl.cmd.AbstractGetVariableInstanceCmd;
+import org.operaton.bpm.engine.impl.cmmn.entity.runtime.CaseExecutionEntity;
+import org.operaton.bpm.engine.impl.core.variable.scope.AbstractVariableScope;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+
+public class GetCaseExecutionVariableInstanceCmd extends AbstractGetVariableInstanceCmd {
+
+  private static final long serialVersionUID = 1L;
+
+  protected String caseExecutionId;
+
+  public GetCaseExecutionVariableInstanceCmd(String caseExecutionId, String variableName, boolean isLocal) {
+    super(variableName, isLocal);
+    this.caseExecutionId = caseExecutionId;
+  }
+
+  @Override
+  protected AbstractVariableScope getVariableScope(CommandContext commandContext) {
+    ensureNotNull("caseExecutionId", caseExecutionId);
+
+    CaseExecutionEntity caseExecution = commandContext
+      .getCaseExecutionManager()
+      .findCaseExecutionById(caseExecutionId);
+
+    ensureNotNull(CaseExecutionNotFoundException.class, "case execution " + caseExecutionId + " doesn't exist", "caseExecution", caseExecution);
+
+    for(CommandChecker checker : commandContext.getProcessEngineConfiguration().getCommandCheckers()) {
+      checker.checkReadCaseInstance(caseExecution);
+    }
+
+    return caseExecution;
+  }
+
+}
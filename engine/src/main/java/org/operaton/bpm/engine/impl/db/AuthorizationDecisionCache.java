@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.db;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.operaton.commons.utils.cache.Cache;
+import org.operaton.commons.utils.cache.ConcurrentSegmentedCache;
+
+/**
+ * Caches the results of {@link AuthorizationCheck authorization checks} across commands.
+ * <p>
+ * The cached decisions belong to a version of the authorizations. The version is the revision of the
+ * {@value #VERSION_PROPERTY_NAME} row in the property table, which is incremented in the same transaction
+ * as every write to the authorization table. A command reads the version once before it performs its
+ * first check; if another engine of the cluster has changed authorizations since the decisions were
+ * cached, the version differs and all cached decisions are discarded.
+ */
+public class AuthorizationDecisionCache {
+
+  public static final String VERSION_PROPERTY_NAME = "authorization.version";
+
+  protected final Cache<String, Boolean> decisions;
+
+  protected volatile long version = -1;
+
+  public AuthorizationDecisionCache(int capacity) {
+    this.decisions = new ConcurrentSegmentedCache<>(capacity);
+  }
+
+  /**
+   * @return the cached decision for the check or <code>null</code> if the decision is not known
+   *   for the given version of the authorizations
+   */
+  public Boolean get(long version, AuthorizationCheck authCheck) {
+    if (!ensureVersion(version)) {
+      return null;
+    }
+    return decisions.get(createKey(authCheck));
+  }
+
+  public void put(long version, AuthorizationCheck authCheck, boolean isAuthorized) {
+    // do not cache decisions which were made based on outdated authorizations
+    if (ensureVersion(version)) {
+      decisions.put(createKey(authCheck), isAuthorized);
+    }
+  }
+
+  public void clear() {
+    decisions.clear();
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public int size() {
+    return decisions.size();
+  }
+
+  /**
+   * @return true if the given version is the current version of this cache
+   */
+  protected boolean ensureVersion(long version) {
+    if (version == this.version) {
+      return true;
+    }
+    synchronized (this) {
+      if (version > this.version) {
+        decisions.clear();
+        this.version = version;
+      }
+      return version == this.version;
+    }
+  }
+
+  protected String createKey(AuthorizationCheck authCheck) {
+    StringBuilder key = new StringBuilder();
+    key.append(authCheck.getAuthUserId()).append('|');
+
+    List<String> groupIds = authCheck.getAuthGroupIds();
+    if (groupIds != null) {
+      List<String> sortedGroupIds = new ArrayList<>(groupIds);
+      sortedGroupIds.sort(null);
+      for (String groupId : sortedGroupIds) {
+        key.append(groupId).append(',');
+      }
+    }
+
+    key.append('|')
+      .append(authCheck.isRevokeAuthorizationCheckEnabled())
+      .append('|')
+      .append(authCheck.getAuthDefaultPerm())
+      .append('|');
+
+    appendPermissionChecks(key, authCheck.getPermissionChecks());
+    return key.toString();
+  }
+
+  protected void appendPermissionChecks(StringBuilder key, CompositePermissionCheck compositeCheck) {
+    if (compositeCheck == null) {
+      return;
+    }
+
+    key.append(compositeCheck.isDisjunctive() ? "or(" : "and(");
+    for (PermissionCheck atomicCheck : compositeCheck.getAtomicChecks()) {
+      key.append(atomicCheck.getPerms())
+        .append(':')
+        .append(atomicCheck.getResourceType())
+        .append(':')
+        .append(atomicCheck.getResourceId())
+        .append(':')
+        .append(atomicCheck.getAuthorizationNotFoundReturnValue())
+        .append(';');
+    }
+    for (CompositePermissionCheck subCheck : compositeCheck.getCompositeChecks()) {
+      appendPermissionChecks(key, subCheck);
+    }
+    key.append(')');
+  }
+
+}
@@ -808,6 +808,83 @@ public class EnginePersistenceLogger extends ProcessEngineLogger {
 
   // exception code 110 is already taken. See requiredOperatonAdminOrPermissionException() for details.
 
+  public void idBlockPrefetchFailed(Throwable cause) {
+    logWarn(
+      "111",
+      "Prefetching the next block of ids failed, fetching it synchronously instead: {}",
+      cause.getMessage());
+  }
+
+  public void idBlockSizeAdapted(int oldIdBlockSize, int newIdBlockSize) {
+    logDebug(
+      "112", "Adapted id block size from {} to {}", oldIdBlockSize, newIdBlockSize);
+  }
+
+  public ProcessEngineException serializeHistoryEventOutboxEntryException(Exception cause) {
+    return new ProcessEngineException(exceptionMessage(
+      "113", "Cannot serialize the history events of the current command into the history event outbox: {}",
+      cause.getMessage()), cause);
+  }
+
+  public ProcessEngineException deserializeHistoryEventOutboxEntryException(String entryId, Exception cause) {
+    return new ProcessEngineException(exceptionMessage(
+      "114", "Cannot deserialize the history events of history event outbox entry '{}': {}",
+      entryId, cause.getMessage()), cause);
+  }
+
+  public void historyEventOutboxConcurrentlyWritten(OptimisticLockingException e) {
+    logDebug(
+      "115", "History event outbox entries were concurrently written by another writer: {}", e.getMessage());
+  }
+
+  public void exceptionWhileWritingHistoryEventOutbox(Exception e) {
+    logWarn(
+      "116", "Exception while writing the history event outbox, retrying with the next write: {}", e.getMessage(), e);
+  }
+
+  public void historyEventOutboxEntriesWritten(int entries) {
+    logDebug(
+      "117", "Wrote {} history event outbox entries", entries);
+  }
+
+  public void quarantineHistoryEventOutboxEntry(String entryId, Exception cause) {
+    logError(
+      "122", "History event outbox entry '{}' cannot be written and is quarantined: {}", entryId, cause.getMessage(), cause);
+  }
+
+  public void warmingDeploymentCache(int definitions) {
+    logDebug(
+      "118", "Warming the deployment cache with the latest versions of {} process definitions", definitions);
+  }
+
+  public void deploymentCacheWarmed(int warmedDefinitions, int failedDefinitions, long millis) {
+    logInfo(
+      "119", "Warmed the deployment cache with {} process definitions in {} ms, {} process definitions could not be loaded",
+      warmedDefinitions, millis, failedDefinitions);
+  }
+
+  public void exceptionWhileWarmingDeploymentCache(String processDefinitionId, Exception e) {
+    logWarn(
+      "120", "Exception while loading process definition '{}' into the deployment cache: {}",
+      processDefinitionId, e.getMessage(), e);
+  }
+
+  public void exceptionWhileWarmingDeploymentCache(Throwable e) {
+    logWarn(
+      "121", "Exception while warming the deployment cache: {}", e.getMessage(), e);
+  }
+
+  public void correlationKeyVariablesIndexed(String variableName) {
+    logInfo(
+      "123", "All process variables with name '{}' are contained in the correlation key index", variableName);
+  }
+
+  public void exceptionWhileIndexingCorrelationKeyVariables(String variableName, Exception e) {
+    logWarn(
+      "124", "Exception while adding the process variables with name '{}' to the correlation key index, "
+          + "messages are correlated without the index by this variable: {}", variableName, e.getMessage(), e);
+  }
+
   public static List<SQLException> findRelatedSqlExceptions(Throwable exception) {
     List<SQLException> sqlExceptionList = new ArrayList<>();
     Throwable cause = exception;
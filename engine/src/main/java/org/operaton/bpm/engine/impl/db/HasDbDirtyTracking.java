@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.db;
+
+/**
+ * Entities that keep track of changes to their persistent state themselves can implement
+ * this interface. If dirty tracking is enabled in the process engine configuration, the
+ * entity cache relies on these methods instead of keeping a copy of the
+ * {@link DbEntity#getPersistentState() persistent state} and comparing it on flush.
+ * <p>
+ * Implementations must mark themselves as dirty whenever a value contained in the
+ * persistent state changes.
+ */
+public interface HasDbDirtyTracking {
+
+  /**
+   * @return true if the persistent state has changed since the last call to {@link #resetDirty()}
+   */
+  boolean isDirty();
+
+  /**
+   * Called after the entity was loaded from or flushed to the database.
+   */
+  void resetDirty();
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.db;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+import org.operaton.bpm.engine.impl.cmd.GetNextIdBlockCmd;
+
+/**
+ * A {@link DbIdGenerator} that hands out ids without locking and fetches the
+ * next block of ids in the background before the current block is used up.
+ * <p>
+ * Once half of the current block is consumed, the next block is requested on
+ * a separate thread. Threads only synchronize when switching to the next block,
+ * which normally is already available at this point.
+ * <p>
+ * The block size adapts to the observed consumption rate: If a block is used up
+ * faster than half of the {@link #setTargetBlockDurationMillis(long) target duration},
+ * the size is doubled up to the {@link #setMaxIdBlockSize(int) maximum size}. If it
+ * lasts longer than four times the target duration, the size is halved down to
+ * the configured {@link #setIdBlockSize(int) id block size}.
+ */
+public class PrefetchingDbIdGenerator extends DbIdGenerator {
+
+  protected static final EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
+
+  protected int maxIdBlockSize = 10000;
+  protected long targetBlockDurationMillis = 1000;
+
+  protected final AtomicReference<IdRange> currentRange = new AtomicReference<>(IdRange.EMPTY);
+  protected CompletableFuture<IdBlock> prefetchedBlock;
+  protected volatile int currentIdBlockSize;
+
+  protected ExecutorService prefetchExecutor;
+
+  @Override
+  public String getNextId() {
+    while (true) {
+      IdRange range = currentRange.get();
+      long id = range.nextId.getAndIncrement();
+      if (id <= range.lastId) {
+        if (id == range.prefetchId) {
+          prefetchNextBlock();
+        }
+        return Long.toString(id);
+      }
+      switchRange(range);
+    }
+  }
+
+  /**
+   * Replaces the exhausted range with the prefetched block, unless another
+   * thread did so already.
+   */
+  protected synchronized void switchRange(IdRange exhaustedRange) {
+    if (currentRange.get() != exhaustedRange) {
+      return;
+    }
+    if (exhaustedRange != IdRange.EMPTY) {
+      adaptIdBlockSize(System.currentTimeMillis() - exhaustedRange.createdAt);
+    }
+    currentRange.set(new IdRange(takeNextBlock()));
+  }
+
+  protected synchronized IdBlock takeNextBlock() {
+    CompletableFuture<IdBlock> nextBlock = prefetchedBlock;
+    prefetchedBlock = null;
+
+    if (nextBlock != null) {
+      try {
+        return nextBlock.join();
+      } catch (CompletionException e) {
+        LOG.idBlockPrefetchFailed(e.getCause());
+      }
+    }
+    return fetchBlock(getCurrentIdBlockSize());
+  }
+
+  protected synchronized void prefetchNextBlock() {
+    if (prefetchedBlock == null) {
+      int blockSize = getCurrentIdBlockSize();
+      prefetchedBlock = CompletableFuture.supplyAsync(() -> fetchBlock(blockSize), getPrefetchExecutor());
+    }
+  }
+
+  protected IdBlock fetchBlock(int blockSize) {
+    return commandExecutor.execute(new GetNextIdBlockCmd(blockSize));
+  }
+
+  protected void adaptIdBlockSize(long blockDurationMillis) {
+    int oldIdBlockSize = getCurrentIdBlockSize();
+    int newIdBlockSize = oldIdBlockSize;
+
+    if (blockDurationMillis < targetBlockDurationMillis / 2) {
+      newIdBlockSize = (int) Math.min(oldIdBlockSize * 2L, Math.max(maxIdBlockSize, idBlockSize));
+    } else if (blockDurationMillis > targetBlockDurationMillis * 4) {
+      newIdBlockSize = Math.max(oldIdBlockSize / 2, idBlockSize);
+    }
+
+    if (newIdBlockSize != oldIdBlockSize) {
+      currentIdBlockSize = newIdBlockSize;
+      LOG.idBlockSizeAdapted(oldIdBlockSize, newIdBlockSize);
+    }
+  }
+
+  @Override
+  protected synchronized void getNewBlock() {
+    switchRange(currentRange.get());
+  }
+
+  @Override
+  public synchronized void reset() {
+    super.reset();
+    if (currentRange != null) {
+      currentRange.set(IdRange.EMPTY);
+    }
+    if (prefetchedBlock != null) {
+      prefetchedBlock.cancel(false);
+      prefetchedBlock = null;
+    }
+    currentIdBlockSize = idBlockSize;
+  }
+
+  /**
+   * Stops the thread prefetching id blocks.
+   */
+  public synchronized void close() {
+    if (prefetchExecutor != null) {
+      prefetchExecutor.shutdownNow();
+      prefetchExecutor = null;
+    }
+  }
+
+  protected synchronized ExecutorService getPrefetchExecutor() {
+    if (prefetchExecutor == null) {
+      prefetchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "operaton-id-block-prefetch");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    return prefetchExecutor;
+  }
+
+  public int getCurrentIdBlockSize() {
+    return currentIdBlockSize > 0 ? currentIdBlockSize : idBlockSize;
+  }
+
+  @Override
+  public void setIdBlockSize(int idBlockSize) {
+    super.setIdBlockSize(idBlockSize);
+    this.currentIdBlockSize = idBlockSize;
+  }
+
+  public int getMaxIdBlockSize() {
+    return maxIdBlockSize;
+  }
+
+  public void setMaxIdBlockSize(int maxIdBlockSize) {
+    this.maxIdBlockSize = maxIdBlockSize;
+  }
+
+  public long getTargetBlockDurationMillis() {
+    return targetBlockDurationMillis;
+  }
+
+  public void setTargetBlockDurationMillis(long targetBlockDurationMillis) {
+    this.targetBlockDurationMillis = targetBlockDurationMillis;
+  }
+
+  /**
+   * A block of ids that is consumed through an atomic counter.
+   */
+  protected static class IdRange {
+
+    protected static final IdRange EMPTY = new IdRange(new IdBlock(0, -1));
+
+    protected final AtomicLong nextId;
+    protected final long lastId;
+    protected final long prefetchId;
+    protected final long createdAt;
+
+    protected IdRange(IdBlock idBlock) {
+      this.nextId = new AtomicLong(idBlock.getNextId());
+      this.lastId = idBlock.getLastId();
+      this.prefetchId = idBlock.getNextId() + (idBlock.getLastId() - idBlock.getNextId()) / 2;
+      this.createdAt = System.currentTimeMillis();
+    }
+  }
+
+}
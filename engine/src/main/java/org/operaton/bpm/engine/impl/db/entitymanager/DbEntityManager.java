@@ -128,6 +128,7 @@ public class DbEntityManager implements Session, EntityLoadListener {
       dbEntityCache = jobExecutorContext.getEntityCache();
       if(dbEntityCache == null) {
         dbEntityCache = new DbEntityCache(processEngineConfiguration.getDbEntityCacheKeyMapping());
+        dbEntityCache.setDirtyTrackingEnabled(processEngineConfiguration.isDbEntityDirtyTrackingEnabled());
         jobExecutorContext.setEntityCache(dbEntityCache);
       }
 
@@ -135,6 +136,7 @@ public class DbEntityManager implements Session, EntityLoadListener {
 
       if (processEngineConfiguration != null) {
         dbEntityCache = new DbEntityCache(processEngineConfiguration.getDbEntityCacheKeyMapping());
+        dbEntityCache.setDirtyTrackingEnabled(processEngineConfiguration.isDbEntityDirtyTrackingEnabled());
       } else {
         dbEntityCache = new DbEntityCache();
       }
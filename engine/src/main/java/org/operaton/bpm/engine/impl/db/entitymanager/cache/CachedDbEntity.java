@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.Set;
 
 import org.operaton.bpm.engine.impl.db.DbEntity;
+import org.operaton.bpm.engine.impl.db.HasDbDirtyTracking;
 import org.operaton.bpm.engine.impl.db.HasDbReferences;
 import org.operaton.bpm.engine.impl.db.entitymanager.Recyclable;
 
@@ -37,6 +38,15 @@ public class CachedDbEntity implements Recyclable {
 
   protected DbEntityState entityState;
 
+  /**
+   * If true, the entity tracks its changes itself and no copy of the persistent state is kept
+   *
+   * @see HasDbDirtyTracking
+   */
+  protected boolean dirtyTracking;
+
+  protected boolean forcedDirty;
+
   /**
    * Ids of referenced entities of the same entity type
    */
@@ -48,6 +58,8 @@ public class CachedDbEntity implements Recyclable {
     dbEntity = null;
     copy = null;
     entityState = null;
+    dirtyTracking = false;
+    forcedDirty = false;
   }
 
   /**
@@ -55,16 +67,26 @@ public class CachedDbEntity implements Recyclable {
    * @return true if the entity is dirty (state has changed since it was put into the cache)
    */
   public boolean isDirty() {
+    if (dirtyTracking) {
+      return forcedDirty || ((HasDbDirtyTracking) dbEntity).isDirty();
+    }
     return !dbEntity.getPersistentState().equals(copy);
   }
 
   public void forceSetDirty() {
+    forcedDirty = true;
     // set the value of the copy to some value which will always be different from the new entity state.
     this.copy = -1;
   }
 
   public void makeCopy() {
-    copy = dbEntity.getPersistentState();
+    forcedDirty = false;
+    if (dirtyTracking) {
+      ((HasDbDirtyTracking) dbEntity).resetDirty();
+    }
+    else {
+      copy = dbEntity.getPersistentState();
+    }
   }
 
   @Override
@@ -107,6 +129,14 @@ public class CachedDbEntity implements Recyclable {
     this.entityState = entityState;
   }
 
+  public boolean isDirtyTracking() {
+    return dirtyTracking;
+  }
+
+  public void setDirtyTracking(boolean dirtyTracking) {
+    this.dirtyTracking = dirtyTracking;
+  }
+
   public Class<? extends DbEntity> getEntityType() {
     return dbEntity.getClass();
   }
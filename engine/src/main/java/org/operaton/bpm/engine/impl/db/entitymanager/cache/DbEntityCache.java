@@ -33,6 +33,7 @@ import org.operaton.bpm.engine.ProcessEngineException;
 import org.operaton.bpm.engine.impl.ProcessEngineLogger;
 import org.operaton.bpm.engine.impl.db.DbEntity;
 import org.operaton.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.operaton.bpm.engine.impl.db.HasDbDirtyTracking;
 
 
 /**
@@ -59,6 +60,12 @@ public class DbEntityCache {
 
   protected DbEntityCacheKeyMapping cacheKeyMapping;
 
+  /**
+   * If enabled, entities implementing {@link HasDbDirtyTracking} are not copied when they are
+   * put into the cache; their own change tracking is used to determine whether they are dirty.
+   */
+  protected boolean dirtyTrackingEnabled;
+
   public DbEntityCache() {
     this.cacheKeyMapping = DbEntityCacheKeyMapping.emptyMapping();
   }
@@ -153,6 +160,7 @@ public class DbEntityCache {
   public void putTransient(DbEntity e) {
     CachedDbEntity cachedDbEntity = new CachedDbEntity();
     cachedDbEntity.setEntity(e);
+    cachedDbEntity.setDirtyTracking(isDirtyTracked(e));
     cachedDbEntity.setEntityState(TRANSIENT);
     putInternal(cachedDbEntity);
   }
@@ -165,6 +173,7 @@ public class DbEntityCache {
   public void putPersistent(DbEntity e) {
     CachedDbEntity cachedDbEntity = new CachedDbEntity();
     cachedDbEntity.setEntity(e);
+    cachedDbEntity.setDirtyTracking(isDirtyTracked(e));
     cachedDbEntity.setEntityState(PERSISTENT);
     cachedDbEntity.determineEntityReferences();
     cachedDbEntity.makeCopy();
@@ -187,6 +196,10 @@ public class DbEntityCache {
     putInternal(cachedDbEntity);
   }
 
+  protected boolean isDirtyTracked(DbEntity e) {
+    return dirtyTrackingEnabled && e instanceof HasDbDirtyTracking;
+  }
+
   protected void putInternal(CachedDbEntity entityToAdd) {
     Class<? extends DbEntity> type = entityToAdd.getEntity().getClass();
     Class<?> cacheKey = cacheKeyMapping.getEntityCacheKey(type);
@@ -386,4 +399,12 @@ public class DbEntityCache {
     }
   }
 
+  public boolean isDirtyTrackingEnabled() {
+    return dirtyTrackingEnabled;
+  }
+
+  public void setDirtyTrackingEnabled(boolean dirtyTrackingEnabled) {
+    this.dirtyTrackingEnabled = dirtyTrackingEnabled;
+  }
+
 }
@@ -22,6 +22,7 @@ import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
@@ -35,7 +36,6 @@ import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbBulkOperation;
 import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbEntityOperation;
 import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperationType;
-import org.operaton.bpm.engine.impl.util.CollectionUtil;
 import org.operaton.bpm.engine.impl.util.EnsureUtil;
 import org.operaton.bpm.engine.impl.util.ExceptionUtil;
 
@@ -54,17 +54,29 @@ public class BatchDbSqlSession extends DbSqlSession {
 
   @Override
   public FlushResult executeDbOperations(List<DbOperation> operations) {
-    for (DbOperation operation : operations) {
+    // the operations covered by each staged statement, in the order of staging
+    List<List<DbOperation>> statements = new ArrayList<>();
+
+    int index = 0;
+    while (index < operations.size()) {
+      List<DbOperation> statementOperations = collectMultiRowInsert(operations, index);
 
       try {
         // stage operation
-        executeDbOperation(operation);
+        if (statementOperations.size() > 1) {
+          insertEntities(statementOperations);
+        } else {
+          executeDbOperation(statementOperations.get(0));
+        }
 
       } catch (Exception ex) {
         // exception is wrapped later
         throw ex;
 
       }
+
+      statements.add(statementOperations);
+      index += statementOperations.size();
     }
 
     List<BatchResult> batchResults;
@@ -72,23 +84,68 @@ public class BatchDbSqlSession extends DbSqlSession {
       // applies all operations
       batchResults = flushBatchOperations();
     } catch (PersistenceException e) {
-      return postProcessBatchFailure(operations, e);
+      return postProcessBatchFailure(operations, statements, e);
     }
 
-    return postProcessBatchSuccess(operations, batchResults);
+    return postProcessBatchSuccess(operations, statements, batchResults);
+  }
+
+  /**
+   * Collects the operations starting at the given index that can be inserted with a single
+   * multi-row insert statement, i.e. a run of inserts of the same entity type.
+   *
+   * @return the operations to stage as one statement, at least the operation at the given index
+   */
+  protected List<DbOperation> collectMultiRowInsert(List<DbOperation> operations, int index) {
+    DbOperation first = operations.get(index);
+    if (!dbSqlSessionFactory.isJdbcMultiRowInsert()
+        || first.getOperationType() != DbOperationType.INSERT
+        || dbSqlSessionFactory.getMultiRowInsertStatement(first.getEntityType()) == null) {
+      return Collections.singletonList(first);
+    }
+
+    int maxRows = dbSqlSessionFactory.getJdbcMultiRowInsertMaxRows();
+    int end = index + 1;
+    while (end < operations.size()
+        && end - index < maxRows
+        && operations.get(end).getOperationType() == DbOperationType.INSERT
+        && operations.get(end).getEntityType() == first.getEntityType()) {
+      end++;
+    }
+
+    return operations.subList(index, end);
+  }
+
+  protected void insertEntities(List<DbOperation> operations) {
+    List<DbEntity> entities = new ArrayList<>();
+    for (DbOperation operation : operations) {
+      entities.add(((DbEntityOperation) operation).getEntity());
+    }
+
+    String insertStatement = dbSqlSessionFactory.getMultiRowInsertStatement(operations.get(0).getEntityType());
+    insertStatement = dbSqlSessionFactory.mapStatement(insertStatement);
+
+    LOG.executeDatabaseOperation("INSERT", entities);
+    sqlSession.insert(insertStatement, entities);
   }
 
   protected FlushResult postProcessBatchSuccess(List<DbOperation> operations, List<BatchResult> batchResults) {
-    Iterator<DbOperation> operationsIt = operations.iterator();
+    return postProcessBatchSuccess(operations, toSingleStatements(operations), batchResults);
+  }
+
+  protected FlushResult postProcessBatchSuccess(List<DbOperation> operations,
+                                                List<List<DbOperation>> statements,
+                                                List<BatchResult> batchResults) {
+    Iterator<List<DbOperation>> statementsIt = statements.iterator();
     List<DbOperation> failedOperations = new ArrayList<>();
     for (BatchResult successfulBatch : batchResults) {
       // even if all batches are successful, there can be concurrent modification failures
       // (e.g. 0 rows updated)
-      postProcessJdbcBatchResult(operationsIt, successfulBatch.getUpdateCounts(), null, failedOperations);
+      postProcessJdbcBatchResult(statementsIt, successfulBatch.getUpdateCounts(), null, failedOperations);
     }
 
     // there should be no more operations remaining
-    if (operationsIt.hasNext()) {
+    if (statementsIt.hasNext()) {
       throw LOG.wrongBatchResultsSizeException(operations);
     }
 
@@ -96,6 +153,12 @@ public class BatchDbSqlSession extends DbSqlSession {
   }
 
   protected FlushResult postProcessBatchFailure(List<DbOperation> operations, PersistenceException exception) {
+    return postProcessBatchFailure(operations, toSingleStatements(operations), exception);
+  }
+
+  protected FlushResult postProcessBatchFailure(List<DbOperation> operations,
+                                                List<List<DbOperation>> statements,
+                                                PersistenceException exception) {
     BatchExecutorException batchExecutorException =
         ExceptionUtil.findBatchExecutorException(exception);
 
@@ -107,20 +170,31 @@ public class BatchDbSqlSession extends DbSqlSession {
     List<BatchResult> successfulBatches = batchExecutorException.getSuccessfulBatchResults();
     BatchUpdateException cause = batchExecutorException.getBatchUpdateException();
 
-    Iterator<DbOperation> operationsIt = operations.iterator();
+    Iterator<List<DbOperation>> statementsIt = statements.iterator();
     List<DbOperation> failedOperations = new ArrayList<>();
 
     for (BatchResult successfulBatch : successfulBatches) {
-      postProcessJdbcBatchResult(operationsIt, successfulBatch.getUpdateCounts(), null, failedOperations);
+      postProcessJdbcBatchResult(statementsIt, successfulBatch.getUpdateCounts(), null, failedOperations);
     }
 
     int[] failedBatchUpdateCounts = cause.getUpdateCounts();
-    postProcessJdbcBatchResult(operationsIt, failedBatchUpdateCounts, exception, failedOperations);
+    postProcessJdbcBatchResult(statementsIt, failedBatchUpdateCounts, exception, failedOperations);
 
-    List<DbOperation> remainingOperations = CollectionUtil.collectInList(operationsIt);
+    List<DbOperation> remainingOperations = new ArrayList<>();
+    while (statementsIt.hasNext()) {
+      remainingOperations.addAll(statementsIt.next());
+    }
     return FlushResult.withFailuresAndRemaining(failedOperations, remainingOperations);
   }
 
+  protected static List<List<DbOperation>> toSingleStatements(List<DbOperation> operations) {
+    List<List<DbOperation>> statements = new ArrayList<>();
+    for (DbOperation operation : operations) {
+      statements.add(Collections.singletonList(operation));
+    }
+    return statements;
+  }
+
   /**
    * <p>This method can be called with three cases:
    *
@@ -138,10 +212,12 @@ public class BatchDbSqlSession extends DbSqlSession {
    * <p>See {@link BatchUpdateException#getUpdateCounts()} for the specification
    * of cases 2 and 3.
    *
-   * @return all failed operations
+   * <p>Each statement result applies to all operations that were staged as that statement.
+   * Only inserts are combined into one statement, so the result of a statement that covers
+   * several operations does not need to be attributed to the individual rows.
    */
   protected void postProcessJdbcBatchResult(
-      Iterator<DbOperation> operationsIt,
+      Iterator<List<DbOperation>> statementsIt,
       int[] statementResults,
       PersistenceException failure,
       List<DbOperation> failedOperations) {
@@ -149,40 +225,44 @@ public class BatchDbSqlSession extends DbSqlSession {
 
     for (int statementResult : statementResults) {
       EnsureUtil.ensureTrue("More batch results than scheduled operations detected. This indicates a bug",
-          operationsIt.hasNext());
-
-      DbOperation operation = operationsIt.next();
-
-      if (statementResult == Statement.SUCCESS_NO_INFO) {
-
-        if (requiresAffectedRows(operation.getOperationType())) {
-          throw LOG.batchingNotSupported(operation);
-        } else {
+          statementsIt.hasNext());
+
+      List<DbOperation> statementOperations = statementsIt.next();
+      for (DbOperation operation : statementOperations) {
+        if (statementResult == Statement.SUCCESS_NO_INFO) {
+
+          if (requiresAffectedRows(operation.getOperationType())) {
+            throw LOG.batchingNotSupported(operation);
+          } else {
+            postProcessOperationPerformed(operation, 1, null);
+          }
+
+        } else if (statementResult == Statement.EXECUTE_FAILED) {
+
+          /*
+           * All operations are marked with the root failure exception; this is not quite
+           * correct and leads to the situation that we treat all failed operations in the
+           * same way, whereas they might fail for different reasons.
+           *
+           * More precise would be to use BatchUpdateException#getNextException.
+           * E.g. if we have three failed statements in a batch, #getNextException can be used to
+           * access each operation's individual failure. However, this behavior is not
+           * guaranteed by the java.sql javadocs (it doesn't specify that the number
+           * and order of next exceptions matches the number of failures, unlike for row counts),
+           * so we decided to not rely on it.
+           */
+          postProcessOperationPerformed(operation, 0, failure);
+          failureHandled = true;
+        } else if (statementOperations.size() > 1) {
+          // a multi-row insert reports the affected rows of all its operations
           postProcessOperationPerformed(operation, 1, null);
+        } else { // it is the number of affected rows
+          postProcessOperationPerformed(operation, statementResult, null);
         }
 
-      } else if (statementResult == Statement.EXECUTE_FAILED) {
-
-        /*
-         * All operations are marked with the root failure exception; this is not quite
-         * correct and leads to the situation that we treat all failed operations in the
-         * same way, whereas they might fail for different reasons.
-         *
-         * More precise would be to use BatchUpdateException#getNextException.
-         * E.g. if we have three failed statements in a batch, #getNextException can be used to
-         * access each operation's individual failure. However, this behavior is not
-         * guaranteed by the java.sql javadocs (it doesn't specify that the number
-         * and order of next exceptions matches the number of failures, unlike for row counts),
-         * so we decided to not rely on it.
-         */
-        postProcessOperationPerformed(operation, 0, failure);
-        failureHandled = true;
-      } else { // it is the number of affected rows
-        postProcessOperationPerformed(operation, statementResult, null);
-      }
-
-      if (operation.isFailed()) {
-        failedOperations.add(operation); // the operation is added to the list only if it's marked as failed
+        if (operation.isFailed()) {
+          failedOperations.add(operation); // the operation is added to the list only if it's marked as failed
+        }
       }
     }
 
@@ -191,12 +271,13 @@ public class BatchDbSqlSession extends DbSqlSession {
      */
     if (failure != null && !failureHandled) {
       EnsureUtil.ensureTrue("More batch results than scheduled operations detected. This indicates a bug",
-          operationsIt.hasNext());
+          statementsIt.hasNext());
 
-      DbOperation failedOperation = operationsIt.next();
-      postProcessOperationPerformed(failedOperation, 0, failure);
-      if (failedOperation.isFailed()) {
-        failedOperations.add(failedOperation); // the operation is added to the list only if it's marked as failed
+      for (DbOperation failedOperation : statementsIt.next()) {
+        postProcessOperationPerformed(failedOperation, 0, failure);
+        if (failedOperation.isFailed()) {
+          failedOperations.add(failedOperation); // the operation is added to the list only if it's marked as failed
+        }
       }
     }
   }
@@ -28,6 +28,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 
@@ -46,6 +47,17 @@ public class DbSqlSessionFactory implements SessionFactory {
   public static final String MARIADB = "mariadb";
   public static final String[] SUPPORTED_DATABASES = {MSSQL, DB2, ORACLE, H2, MYSQL, POSTGRES, MARIADB};
 
+  /**
+   * Oracle does not support the <code>insert into ... values (...), (...)</code> syntax.
+   */
+  public static final String[] MULTI_ROW_INSERT_UNSUPPORTED_DATABASES = {ORACLE};
+
+  /**
+   * Keeps the number of bind parameters of a multi-row insert well below the limit of
+   * SQL Server (2100 parameters per statement).
+   */
+  public static final int DEFAULT_MULTI_ROW_INSERT_MAX_ROWS = 50;
+
   protected static final Map<String, Map<String, String>> databaseSpecificStatements = new HashMap<>();
 
   public static final Map<String, String> databaseSpecificLimitBeforeStatements = new HashMap<>();
@@ -117,6 +129,14 @@ public class DbSqlSessionFactory implements SessionFactory {
    */
   public static final int MAXIMUM_NUMBER_PARAMS = 2000;
 
+  /*
+   * The default number of bytes which are loaded per command when the content of a byte array
+   * is streamed. On PostgreSQL, MySQL and MariaDB, selecting a part of a byte array reads the
+   * whole value in the database, so streaming a content of n chunks reads it n times. Larger
+   * chunks trade memory for fewer reads on these databases.
+   */
+  public static final Map<String, Integer> databaseSpecificByteArrayChunkSize = new HashMap<>();
+
   private static final String CONSTANT_EVENT = "constant.event";
 
   private static final String CONSTANT_OP_MESSAGE = "constant.op_message";
@@ -236,6 +256,7 @@ public class DbSqlSessionFactory implements SessionFactory {
       databaseSpecificLimitBeforeNativeQueryStatements.put(mysqlLikeDatabase, "");
       databaseSpecificDistinct.put(mysqlLikeDatabase, "distinct");
       databaseSpecificNumericCast.put(mysqlLikeDatabase, "");
+      databaseSpecificByteArrayChunkSize.put(mysqlLikeDatabase, 8 * 1024 * 1024);
 
       databaseSpecificCountDistinctBeforeStart.put(mysqlLikeDatabase, defaultDistinctCountBeforeStart);
       databaseSpecificCountDistinctBeforeEnd.put(mysqlLikeDatabase, defaultDistinctCountBeforeEnd);
@@ -382,6 +403,7 @@ public class DbSqlSessionFactory implements SessionFactory {
       databaseSpecificOrderByStatements.put(postgresLikeDatabase, defaultOrderBy);
       databaseSpecificLimitBeforeNativeQueryStatements.put(postgresLikeDatabase, "");
       databaseSpecificDistinct.put(postgresLikeDatabase, "distinct");
+      databaseSpecificByteArrayChunkSize.put(postgresLikeDatabase, 8 * 1024 * 1024);
 
       databaseSpecificCountDistinctBeforeStart.put(postgresLikeDatabase, "SELECT COUNT(*) FROM (SELECT DISTINCT");
       databaseSpecificCountDistinctBeforeEnd.put(postgresLikeDatabase, "");
@@ -417,6 +439,9 @@ public class DbSqlSessionFactory implements SessionFactory {
       addDatabaseSpecificStatement(postgresLikeDatabase, "updateByteArray", "updateByteArray_postgres");
       addDatabaseSpecificStatement(postgresLikeDatabase, "selectByteArray", "selectByteArray_postgres");
       addDatabaseSpecificStatement(postgresLikeDatabase, "selectByteArrays", "selectByteArrays_postgres");
+      addDatabaseSpecificStatement(postgresLikeDatabase, "insertHistoryEventOutboxEntry", "insertHistoryEventOutboxEntry_postgres");
+      addDatabaseSpecificStatement(postgresLikeDatabase, "selectHistoryEventOutboxEntry", "selectHistoryEventOutboxEntry_postgres");
+      addDatabaseSpecificStatement(postgresLikeDatabase, "selectPendingHistoryEventOutboxEntries", "selectPendingHistoryEventOutboxEntries_postgres");
       addDatabaseSpecificStatement(postgresLikeDatabase, "selectResourceByDeploymentIdAndResourceName", "selectResourceByDeploymentIdAndResourceName_postgres");
       addDatabaseSpecificStatement(postgresLikeDatabase, "selectResourceByDeploymentIdAndResourceNames", "selectResourceByDeploymentIdAndResourceNames_postgres");
       addDatabaseSpecificStatement(postgresLikeDatabase, "selectResourceByDeploymentIdAndResourceId", "selectResourceByDeploymentIdAndResourceId_postgres");
@@ -596,6 +621,8 @@ public class DbSqlSessionFactory implements SessionFactory {
     addDatabaseSpecificStatement(ORACLE, "deleteHistoricBatchesByRemovalTime", "deleteHistoricBatchesByRemovalTime_oracle");
     addDatabaseSpecificStatement(ORACLE, "deleteAuthorizationsByRemovalTime", "deleteAuthorizationsByRemovalTime_oracle");
     addDatabaseSpecificStatement(ORACLE, "deleteTaskMetricsByRemovalTime", "deleteTaskMetricsByRemovalTime_oracle");
+    addDatabaseSpecificStatement(ORACLE, "selectByteArrayLength", "selectByteArrayLength_oracle");
+    addDatabaseSpecificStatement(ORACLE, "selectByteArrayChunk", "selectByteArrayChunk_oracle");
 
     constants = new HashMap<>();
     constants.put(CONSTANT_EVENT, "cast('event' as nvarchar2(255))");
@@ -695,6 +722,8 @@ public class DbSqlSessionFactory implements SessionFactory {
     addDatabaseSpecificStatement(DB2, "deleteAuthorizationsByRemovalTime", "deleteAuthorizationsByRemovalTime_postgres_or_db2");
     addDatabaseSpecificStatement(DB2, "deleteTaskMetricsByRemovalTime", "deleteTaskMetricsByRemovalTime_postgres_or_db2");
     addDatabaseSpecificStatement(DB2, "updateByteArraysByBatchId", "updateByteArraysByBatchId_db2");
+    addDatabaseSpecificStatement(DB2, "selectByteArrayLength", "selectByteArrayLength_db2");
+    addDatabaseSpecificStatement(DB2, "selectByteArrayChunk", "selectByteArrayChunk_db2");
 
     constants = new HashMap<>();
     constants.put(CONSTANT_EVENT, "'event'");
@@ -836,6 +865,8 @@ public class DbSqlSessionFactory implements SessionFactory {
     addDatabaseSpecificStatement(MSSQL, "updateDecisionInputByteArraysByDecisionInstanceId", "updateDecisionInputByteArraysByDecisionInstanceId_mssql");
     addDatabaseSpecificStatement(MSSQL, "updateDecisionOutputByteArraysByDecisionInstanceId", "updateDecisionOutputByteArraysByDecisionInstanceId_mssql");
     addDatabaseSpecificStatement(MSSQL, "updateByteArraysByBatchId", "updateByteArraysByBatchId_mssql");
+    addDatabaseSpecificStatement(MSSQL, "selectByteArrayLength", "selectByteArrayLength_mssql");
+    addDatabaseSpecificStatement(MSSQL, "selectByteArrayChunk", "selectByteArrayChunk_mssql");
 
     constants = new HashMap<>();
     constants.put(CONSTANT_EVENT, "'event'");
@@ -873,6 +904,15 @@ public class DbSqlSessionFactory implements SessionFactory {
 
   protected boolean jdbcBatchProcessing;
 
+  /**
+   * If enabled, runs of inserts of the same entity type are combined into multi-row insert
+   * statements, provided the mapping files contain an <code>insertMultiple</code> statement
+   * for the type. Only applies with {@link #jdbcBatchProcessing}.
+   */
+  protected boolean jdbcMultiRowInsert = false;
+  protected int jdbcMultiRowInsertMaxRows = DEFAULT_MULTI_ROW_INSERT_MAX_ROWS;
+  protected Map<Class<?>, Optional<String>> multiRowInsertStatements = new ConcurrentHashMap<>();
+
   public DbSqlSessionFactory(boolean jdbcBatchProcessing) {
     this.jdbcBatchProcessing = jdbcBatchProcessing;
   }
@@ -907,6 +947,22 @@ public class DbSqlSessionFactory implements SessionFactory {
     return getStatement(persistentObjectClass, deleteStatements, "delete");
   }
 
+  /**
+   * @return the statement that inserts a list of entities of the given type with a single
+   *   multi-row insert, or <code>null</code> if there is none for the type or the database
+   */
+  public String getMultiRowInsertStatement(Class<?> persistentObjectClass) {
+    return multiRowInsertStatements.computeIfAbsent(persistentObjectClass, type -> {
+      if (Arrays.asList(MULTI_ROW_INSERT_UNSUPPORTED_DATABASES).contains(databaseType)) {
+        return Optional.empty();
+      }
+      String statement = "insertMultiple" + ClassNameUtil.getClassNameWithoutPackage(type);
+      statement = statement.substring(0, statement.length() - 6); // "Entity".length() = 6
+      boolean exists = sqlSessionFactory.getConfiguration().hasStatement(mapStatement(statement), false);
+      return exists ? Optional.of(statement) : Optional.empty();
+    }).orElse(null);
+  }
+
   public String getSelectStatement(Class<?> persistentObjectClass) {
     return getStatement(persistentObjectClass, selectStatements, "select");
   }
@@ -1018,6 +1074,22 @@ public class DbSqlSessionFactory implements SessionFactory {
     this.selectStatements = selectStatements;
   }
 
+  public boolean isJdbcMultiRowInsert() {
+    return jdbcMultiRowInsert;
+  }
+
+  public void setJdbcMultiRowInsert(boolean jdbcMultiRowInsert) {
+    this.jdbcMultiRowInsert = jdbcMultiRowInsert;
+  }
+
+  public int getJdbcMultiRowInsertMaxRows() {
+    return jdbcMultiRowInsertMaxRows;
+  }
+
+  public void setJdbcMultiRowInsertMaxRows(int jdbcMultiRowInsertMaxRows) {
+    this.jdbcMultiRowInsertMaxRows = jdbcMultiRowInsertMaxRows;
+  }
+
   public boolean isDbIdentityUsed() {
     return isDbIdentityUsed;
   }
@@ -16,8 +16,11 @@
  */
 package org.operaton.bpm.engine.impl.dmn;
 
+import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureOnlyOneNotNull;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 import org.operaton.bpm.dmn.engine.DmnDecisionResult;
@@ -27,6 +30,7 @@ import org.operaton.bpm.engine.exception.NotValidException;
 import org.operaton.bpm.engine.exception.NullValueException;
 import org.operaton.bpm.engine.exception.dmn.DecisionDefinitionNotFoundException;
 import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+import org.operaton.bpm.engine.impl.dmn.cmd.EvaluateDecisionBatchCmd;
 import org.operaton.bpm.engine.impl.dmn.cmd.EvaluateDecisionCmd;
 import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
 
@@ -95,6 +99,26 @@ public class DecisionEvaluationBuilderImpl implements DecisionsEvaluationBuilder
     }
   }
 
+  @Override
+  public List<DmnDecisionResult> evaluateAll(Collection<? extends Map<String, Object>> variables) {
+    ensureOnlyOneNotNull(NotValidException.class, "either decision definition id or key must be set", decisionDefinitionId, decisionDefinitionKey);
+    ensureNotNull(NotValidException.class, "variables", variables);
+
+    if (isTenantIdSet && decisionDefinitionId != null) {
+      throw LOG.exceptionEvaluateDecisionDefinitionByIdAndTenantId();
+    }
+
+    try {
+      return commandExecutor.execute(new EvaluateDecisionBatchCmd(this, variables));
+    }
+    catch (NullValueException e) {
+      throw new NotValidException(e.getMessage(), e);
+    }
+    catch (DecisionDefinitionNotFoundException e) {
+      throw new NotFoundException(e.getMessage(), e);
+    }
+  }
+
   public static DecisionsEvaluationBuilder evaluateDecisionByKey(CommandExecutor commandExecutor, String decisionDefinitionKey) {
     DecisionEvaluationBuilderImpl builder = new DecisionEvaluationBuilderImpl(commandExecutor);
     builder.decisionDefinitionKey = decisionDefinitionKey;
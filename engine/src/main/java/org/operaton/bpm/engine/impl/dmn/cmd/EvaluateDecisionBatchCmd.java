@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.dmn.cmd;
+
+import static org.operaton.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.operaton.bpm.dmn.engine.DmnDecisionResult;
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.impl.cfg.CommandChecker;
+import org.operaton.bpm.engine.impl.context.Context;
+import org.operaton.bpm.engine.impl.dmn.DecisionEvaluationBuilderImpl;
+import org.operaton.bpm.engine.impl.dmn.invocation.DecisionBatchInvocation;
+import org.operaton.bpm.engine.impl.interceptor.Command;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.repository.DecisionDefinition;
+import org.operaton.bpm.engine.variable.VariableMap;
+import org.operaton.bpm.engine.variable.Variables;
+
+/**
+ * Evaluates the decision with the given key or id once for each of the given
+ * variable maps.
+ *
+ * The decision definition is resolved like in {@link EvaluateDecisionCmd}. It is
+ * authorized and logged once for all evaluations.
+ */
+public class EvaluateDecisionBatchCmd implements Command<List<DmnDecisionResult>> {
+
+  protected EvaluateDecisionCmd evaluateDecisionCmd;
+  protected Collection<? extends Map<String, Object>> variables;
+
+  public EvaluateDecisionBatchCmd(DecisionEvaluationBuilderImpl builder, Collection<? extends Map<String, Object>> variables) {
+    this.evaluateDecisionCmd = new EvaluateDecisionCmd(builder);
+    this.variables = variables;
+  }
+
+  @Override
+  public List<DmnDecisionResult> execute(CommandContext commandContext) {
+    List<VariableMap> variableMaps = new ArrayList<>(variables.size());
+    for (Map<String, Object> variableMap : variables) {
+      ensureNotNull("variables", variableMap);
+      variableMaps.add(Variables.fromMap(variableMap));
+    }
+
+    DecisionDefinition decisionDefinition = evaluateDecisionCmd.getDecisionDefinition(commandContext);
+
+    for(CommandChecker checker : commandContext.getProcessEngineConfiguration().getCommandCheckers()) {
+      checker.checkEvaluateDecision(decisionDefinition);
+    }
+
+    evaluateDecisionCmd.writeUserOperationLog(commandContext, decisionDefinition);
+
+    return doEvaluateDecisions(decisionDefinition, variableMaps);
+  }
+
+  protected List<DmnDecisionResult> doEvaluateDecisions(DecisionDefinition decisionDefinition, List<VariableMap> variableMaps) {
+    DecisionBatchInvocation invocation = new DecisionBatchInvocation(decisionDefinition, variableMaps);
+    try {
+      Context.getProcessEngineConfiguration()
+        .getDelegateInterceptor()
+        .handleInvocation(invocation);
+    }
+    catch (Exception e) {
+      throw new ProcessEngineException("Exception while evaluating decision with key '" + decisionDefinition.getKey() + "'", e);
+    }
+    return invocation.getInvocationResult();
+  }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.dmn.invocation;
+
+import java.util.List;
+import java.util.Map;
+
+import org.operaton.bpm.dmn.engine.DmnDecision;
+import org.operaton.bpm.dmn.engine.DmnDecisionResult;
+import org.operaton.bpm.dmn.engine.DmnEngine;
+import org.operaton.bpm.engine.impl.context.Context;
+import org.operaton.bpm.engine.impl.delegate.DelegateInvocation;
+import org.operaton.bpm.engine.impl.dmn.entity.repository.DecisionDefinitionEntity;
+import org.operaton.bpm.engine.repository.DecisionDefinition;
+
+/**
+ * {@link DelegateInvocation} invoking a {@link DecisionDefinition}
+ * once for each of the given variable maps.
+ *
+ * The DmnEngine instance is resolved from the Context.
+ *
+ * The invocation result is a list of {@link DmnDecisionResult}s.
+ *
+ * @see DecisionInvocation
+ */
+public class DecisionBatchInvocation extends DelegateInvocation {
+
+  protected DecisionDefinition decisionDefinition;
+  protected List<? extends Map<String, Object>> variables;
+
+  public DecisionBatchInvocation(DecisionDefinition decisionDefinition, List<? extends Map<String, Object>> variables) {
+    super(null, (DecisionDefinitionEntity) decisionDefinition);
+    this.decisionDefinition = decisionDefinition;
+    this.variables = variables;
+  }
+
+  @Override
+  protected void invoke() {
+    final DmnEngine dmnEngine = Context.getProcessEngineConfiguration()
+      .getDmnEngine();
+
+    invocationResult = dmnEngine.evaluateDecisionBatch((DmnDecision) decisionDefinition, variables);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<DmnDecisionResult> getInvocationResult() {
+    return (List<DmnDecisionResult>) super.getInvocationResult();
+  }
+
+  public DecisionDefinition getDecisionDefinition() {
+    return decisionDefinition;
+  }
+
+}
@@ -27,6 +27,7 @@ import jakarta.el.ELException;
 import jakarta.el.MethodNotFoundException;
 import jakarta.el.PropertyNotFoundException;
 import jakarta.el.ValueExpression;
+import java.util.Set;
 
 
 /**
@@ -114,4 +115,13 @@ public class JuelExpression implements Expression {
   public String getExpressionText() {
     return expressionText;
   }
+
+  /**
+   * @return the names of the identifiers used in this expression, e.g. variable or bean names,
+   *   or <code>null</code> if they cannot be determined
+   * @see JuelExpressionManager#getIdentifierNames(String)
+   */
+  public Set<String> getIdentifierNames() {
+    return expressionManager.getIdentifierNames(expressionText);
+  }
 }
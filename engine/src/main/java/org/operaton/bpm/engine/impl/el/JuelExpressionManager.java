@@ -23,12 +23,18 @@ import org.operaton.bpm.engine.impl.dmn.el.ProcessEngineJuelElProvider;
 import org.operaton.bpm.engine.impl.mock.MockElResolver;
 import org.operaton.bpm.engine.impl.util.EnsureUtil;
 import org.operaton.bpm.engine.variable.context.VariableContext;
+import org.operaton.bpm.impl.juel.ConcurrentCache;
 import org.operaton.bpm.impl.juel.ExpressionFactoryImpl;
+import org.operaton.bpm.impl.juel.IdentifierNode;
+import org.operaton.bpm.impl.juel.TreeCache;
 
 import jakarta.el.*;
 import java.lang.reflect.Method;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
 
 /**
  * JUEL-specific implementation of an {@link ExpressionManager}.
@@ -60,6 +66,16 @@ public class JuelExpressionManager implements ExpressionManager, ElProviderCompa
     this.beans = beans;
   }
 
+  /**
+   * @param expressionFactoryProperties the properties of the {@link ExpressionFactoryImpl},
+   *   e.g. {@link ExpressionFactoryImpl#PROP_CACHE_TYPE} to select the expression tree cache;
+   *   they override the values of <code>el.properties</code>
+   */
+  public JuelExpressionManager(Map<Object, Object> beans, Properties expressionFactoryProperties) {
+    expressionFactory = new ExpressionFactoryImpl(ExpressionFactoryImpl.Profile.JEE6, expressionFactoryProperties, true);
+    this.beans = beans;
+  }
+
   @Override
   public Expression createExpression(String expression) {
     ensureInitialized();
@@ -83,6 +99,32 @@ public class JuelExpressionManager implements ExpressionManager, ElProviderCompa
     this.expressionFactory = expressionFactory;
   }
 
+  /**
+   * @return the cache of parsed expressions, e.g. a {@link ConcurrentCache} which provides hit and
+   *   miss statistics, or <code>null</code> if the expression factory does not cache
+   */
+  public TreeCache getTreeCache() {
+    if (expressionFactory instanceof ExpressionFactoryImpl expressionFactoryImpl) {
+      return expressionFactoryImpl.getTreeStore().getCache();
+    }
+    return null;
+  }
+
+  /**
+   * @return the names of the identifiers used in the given expression, e.g. variable or bean names,
+   *   or <code>null</code> if the expression factory does not expose the parsed expression tree
+   */
+  public Set<String> getIdentifierNames(String expression) {
+    if (expressionFactory instanceof ExpressionFactoryImpl expressionFactoryImpl) {
+      Set<String> identifierNames = new HashSet<>();
+      for (IdentifierNode identifierNode : expressionFactoryImpl.getTreeStore().get(expression).getIdentifierNodes()) {
+        identifierNames.add(identifierNode.getName());
+      }
+      return identifierNames;
+    }
+    return null;
+  }
+
   public ELContext getElContext(VariableScope variableScope) {
     ensureInitialized();
     ELContext elContext = null;
@@ -40,6 +40,10 @@ public class UelExpressionCondition implements Condition {
     this.expression = expression;
   }
 
+  public Expression getExpression() {
+    return expression;
+  }
+
   @Override
   public boolean evaluate(DelegateExecution execution) {
     return evaluate(execution, execution);
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.externaltask;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Dispatches external task availability notifications to all registered listeners,
+ * analogous to the {@link org.operaton.bpm.engine.impl.util.CompositeCondition}.
+ */
+public class CompositeExternalTaskAvailableListener implements ExternalTaskAvailableListener {
+
+  protected CopyOnWriteArrayList<ExternalTaskAvailableListener> listeners = new CopyOnWriteArrayList<>();
+
+  public void addListener(ExternalTaskAvailableListener listener) {
+    listeners.add(listener);
+  }
+
+  public void removeListener(ExternalTaskAvailableListener listener) {
+    listeners.remove(listener);
+  }
+
+  @Override
+  public void onExternalTasksAvailable(Set<String> topicNames) {
+    for (ExternalTaskAvailableListener listener : listeners) {
+      listener.onExternalTasksAvailable(topicNames);
+    }
+  }
+
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.externaltask;
+
+import java.util.Set;
+
+/**
+ * Notified after a transaction has committed that created or unlocked external tasks,
+ * so that long polling fetch requests for the affected topics can be served immediately.
+ * Listeners are invoked on the committing thread and must not block.
+ */
+public interface ExternalTaskAvailableListener {
+
+  /**
+   * @param topicNames the topics of the external tasks that became available. May contain
+   *   <code>null</code> if the topic of a task is unknown, in which case tasks of any topic
+   *   may have become available.
+   */
+  void onExternalTasksAvailable(Set<String> topicNames);
+
+}
@@ -106,9 +106,16 @@ public class ExternalTaskQueryTopicBuilderImpl implements ExternalTaskQueryTopic
 
   @Override
   public List<LockedExternalTask> execute() {
+    return commandExecutor.execute(createFetchCommand());
+  }
+
+  /**
+   * Creates the command that {@link #execute()} runs, e.g. to fetch for several workers
+   * at once with a {@link org.operaton.bpm.engine.impl.cmd.FetchExternalTasksBatchCmd}.
+   */
+  public FetchExternalTasksCmd createFetchCommand() {
     submitCurrentInstruction();
-    return commandExecutor.execute(
-        new FetchExternalTasksCmd(workerId, maxTasks, instructions, usePriority, orderingProperties));
+    return new FetchExternalTasksCmd(workerId, maxTasks, instructions, usePriority, orderingProperties);
   }
 
   @Override
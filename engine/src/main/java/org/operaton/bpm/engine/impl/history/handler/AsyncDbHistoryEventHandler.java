@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.history.handler;
+
+import static org.operaton.bpm.engine.ProcessEngineConfiguration.HISTORY_REMOVAL_TIME_STRATEGY_END;
+
+import java.util.Date;
+import java.util.List;
+
+import org.operaton.bpm.engine.impl.batch.history.HistoricBatchEntity;
+import org.operaton.bpm.engine.impl.context.Context;
+import org.operaton.bpm.engine.impl.db.entitymanager.DbEntityManager;
+import org.operaton.bpm.engine.impl.history.event.HistoricDecisionEvaluationEvent;
+import org.operaton.bpm.engine.impl.history.event.HistoricProcessInstanceEventEntity;
+import org.operaton.bpm.engine.impl.history.event.HistoricScopeInstanceEvent;
+import org.operaton.bpm.engine.impl.history.event.HistoricVariableUpdateEventEntity;
+import org.operaton.bpm.engine.impl.history.event.HistoryEvent;
+import org.operaton.bpm.engine.impl.history.event.HistoryEventTypes;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+
+/**
+ * <p>History event handler that decouples writing the history from the command which
+ * produces the history events.</p>
+ *
+ * <p>Instead of inserting and updating the history tables, the events of a command are
+ * appended to the history event outbox in the same transaction. The
+ * {@link HistoryEventOutboxWriter} replays the outbox entries in the background and uses
+ * {@link #writeEvents(List)} to write them to the history tables.</p>
+ *
+ * <p>Decision evaluation events are written immediately, since the input and output
+ * instances of a decision cannot be serialized.</p>
+ *
+ * <p>With the removal time strategy <code>end</code>, the removal time of an ended root
+ * process instance or batch is added to its history when the end event is written, since
+ * the rest of its history may still be in the outbox when it ends.</p>
+ */
+public class AsyncDbHistoryEventHandler extends DbHistoryEventHandler {
+
+  @Override
+  public void handleEvent(HistoryEvent historyEvent) {
+    if (historyEvent instanceof HistoricDecisionEvaluationEvent) {
+      super.handleEvent(historyEvent);
+
+    } else if (!addToOutbox(historyEvent)) {
+      super.handleEvent(historyEvent);
+      addRemovalTime(historyEvent);
+    }
+  }
+
+  protected boolean addToOutbox(HistoryEvent historyEvent) {
+    CommandContext commandContext = Context.getCommandContext();
+
+    // the sessions are flushed in reverse order of their creation, opening the
+    // entity manager first ensures that the outbox entries are part of its flush
+    commandContext.getDbEntityManager();
+    return commandContext.getHistoryEventOutboxManager().addHistoryEvent(historyEvent);
+  }
+
+  /**
+   * Writes history events which were read from the history event outbox.
+   */
+  public void writeEvents(List<HistoryEvent> historyEvents) {
+    for (HistoryEvent historyEvent : historyEvents) {
+      if (isInitialEvent(historyEvent)
+          || historyEvent.getId() == null
+          || historyEvent instanceof HistoricVariableUpdateEventEntity) {
+        super.handleEvent(historyEvent);
+      } else {
+        updateHistoryEvent(historyEvent);
+      }
+      addRemovalTime(historyEvent);
+    }
+  }
+
+  /**
+   * Adds the removal time of an ended root process instance or batch to the history which
+   * was written before its end event. The updates are executed after all inserts of the
+   * transaction, so they include the history which is written together with the end event.
+   */
+  protected void addRemovalTime(HistoryEvent historyEvent) {
+    Date removalTime = historyEvent.getRemovalTime();
+    if (removalTime == null || !isHistoryRemovalTimeStrategyEnd()) {
+      return;
+    }
+
+    CommandContext commandContext = Context.getCommandContext();
+    if (historyEvent instanceof HistoricProcessInstanceEventEntity
+        && historyEvent.isEventOfType(HistoryEventTypes.PROCESS_INSTANCE_END)
+        && historyEvent.getProcessInstanceId().equals(historyEvent.getRootProcessInstanceId())) {
+      commandContext.getHistoricProcessInstanceManager()
+        .addRemovalTimeToProcessInstancesByRootProcessInstanceId(historyEvent.getRootProcessInstanceId(), removalTime);
+
+    } else if (historyEvent instanceof HistoricBatchEntity
+        && historyEvent.isEventOfType(HistoryEventTypes.BATCH_END)) {
+      commandContext.getHistoricJobLogManager()
+        .addRemovalTimeToJobLogByBatchId(historyEvent.getId(), removalTime);
+      commandContext.getHistoricIncidentManager()
+        .addRemovalTimeToHistoricIncidentsByBatchId(historyEvent.getId(), removalTime);
+    }
+  }
+
+  protected boolean isHistoryRemovalTimeStrategyEnd() {
+    return HISTORY_REMOVAL_TIME_STRATEGY_END.equals(Context.getProcessEngineConfiguration()
+        .getHistoryRemovalTimeStrategy());
+  }
+
+  /**
+   * Several outbox entries are written in one transaction, so an entity may be updated
+   * by more than one event. Each update is executed in the order of the events, after
+   * all inserts of the transaction.
+   */
+  protected void updateHistoryEvent(HistoryEvent historyEvent) {
+    DbEntityManager dbEntityManager = getDbEntityManager();
+
+    HistoryEvent cachedEvent = dbEntityManager.getCachedEntity(historyEvent.getClass(), historyEvent.getId());
+    if (cachedEvent == historyEvent) {
+      // the event was fired more than once by the same command and is already written with its latest state
+      return;
+    }
+
+    if (historyEvent instanceof HistoricScopeInstanceEvent scopeEvent) {
+      // the start time is required to calculate the duration
+      HistoricScopeInstanceEvent existingEvent = (HistoricScopeInstanceEvent) (cachedEvent != null ? cachedEvent
+          : dbEntityManager.selectById(historyEvent.getClass(), historyEvent.getId()));
+      if (existingEvent != null) {
+        scopeEvent.setStartTime(existingEvent.getStartTime());
+      }
+    }
+
+    String updateStatement = Context.getProcessEngineConfiguration()
+        .getDbSqlSessionFactory()
+        .getUpdateStatement(historyEvent);
+    dbEntityManager.updatePreserveOrder(historyEvent.getClass(), updateStatement, historyEvent);
+  }
+
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.history.handler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.operaton.bpm.engine.OptimisticLockingException;
+import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+import org.operaton.bpm.engine.impl.cmd.WriteHistoryEventOutboxCmd;
+import org.operaton.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
+import org.operaton.bpm.engine.impl.persistence.entity.HistoryEventOutboxEntryEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.HistoryEventOutboxManager;
+
+/**
+ * Writes the entries of the history event outbox to the history tables in the background.
+ * <p>
+ * The writer writes up to {@link #getBatchSize() batch size} entries in one transaction.
+ * It waits for at most the {@link #getWriteInterval() write interval} before it writes
+ * the next batch, which bounds the delay until the history of a command is visible. If a
+ * full batch of entries is pending, the writer starts writing immediately.
+ * <p>
+ * When more than {@link #getMaxBacklog() max backlog} entries are pending, the threads
+ * which add entries are slowed down: after their transaction is committed, they wait
+ * for at most one write interval until the writer has caught up.
+ * <p>
+ * If a batch cannot be written, its entries are written one by one, so that a single entry
+ * cannot block the outbox. An entry which fails {@link #MAX_ENTRY_ATTEMPTS} times in a row
+ * is quarantined.
+ * <p>
+ * The pending entries are only counted per process engine. Entries which are added by other
+ * process engines sharing the same database are written as well, but do not wake up
+ * the writer.
+ * <p>
+ * The writer runs in a thread of the {@link #setThreadFactory(ThreadFactory) thread factory},
+ * so that managed environments can provide the thread.
+ */
+public class HistoryEventOutboxWriter implements Runnable {
+
+  protected static final EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
+
+  public static final int DEFAULT_BATCH_SIZE = 100;
+  public static final long DEFAULT_WRITE_INTERVAL = 1000L;
+  public static final int DEFAULT_MAX_BACKLOG = 10_000;
+  public static final int MAX_ENTRY_ATTEMPTS = 3;
+
+  protected static final ThreadFactory DEFAULT_THREAD_FACTORY = runnable -> {
+    Thread thread = new Thread(runnable, "operaton-history-event-outbox-writer");
+    thread.setDaemon(true);
+    return thread;
+  };
+
+  protected CommandExecutor commandExecutor;
+  protected AsyncDbHistoryEventHandler historyEventHandler;
+
+  protected int batchSize = DEFAULT_BATCH_SIZE;
+  protected long writeInterval = DEFAULT_WRITE_INTERVAL;
+  protected int maxBacklog = DEFAULT_MAX_BACKLOG;
+  protected ThreadFactory threadFactory = DEFAULT_THREAD_FACTORY;
+
+  protected final AtomicInteger backlog = new AtomicInteger();
+  protected final Map<String, Integer> failedEntryAttempts = new ConcurrentHashMap<>();
+  protected final Object monitor = new Object();
+
+  protected volatile boolean isActive = false;
+  protected Thread thread;
+
+  public HistoryEventOutboxWriter(CommandExecutor commandExecutor) {
+    this(commandExecutor, new AsyncDbHistoryEventHandler());
+  }
+
+  public HistoryEventOutboxWriter(CommandExecutor commandExecutor, AsyncDbHistoryEventHandler historyEventHandler) {
+    this.commandExecutor = commandExecutor;
+    this.historyEventHandler = historyEventHandler;
+  }
+
+  public synchronized void start() {
+    if (isActive) {
+      return;
+    }
+    isActive = true;
+    thread = threadFactory.newThread(this);
+    thread.start();
+  }
+
+  /**
+   * Stops the writer thread and writes all remaining entries of the outbox.
+   */
+  public synchronized void stop() {
+    if (!isActive) {
+      return;
+    }
+    isActive = false;
+    synchronized (monitor) {
+      monitor.notifyAll();
+    }
+    try {
+      thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    thread = null;
+
+    writeAll();
+  }
+
+  @Override
+  public void run() {
+    while (isActive) {
+      int writtenEntries = writeBatch();
+
+      if (writtenEntries < batchSize) {
+        synchronized (monitor) {
+          if (isActive && backlog.get() < batchSize) {
+            try {
+              monitor.wait(writeInterval);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+              isActive = false;
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes the oldest entries of the outbox in a single transaction.
+   *
+   * @return the number of written entries
+   */
+  public int writeBatch() {
+    int writtenEntries = 0;
+    try {
+      writtenEntries = commandExecutor.execute(new WriteHistoryEventOutboxCmd(historyEventHandler, batchSize));
+      LOG.historyEventOutboxEntriesWritten(writtenEntries);
+
+    } catch (OptimisticLockingException e) {
+      LOG.historyEventOutboxConcurrentlyWritten(e);
+
+    } catch (Exception e) {
+      LOG.exceptionWhileWritingHistoryEventOutbox(e);
+      writtenEntries = writeEntriesSeparately();
+
+    }
+
+    if (writtenEntries < batchSize) {
+      // less than a batch is pending, the entries written by other process engines
+      // or by deleting commands are not pending anymore either
+      backlog.set(0);
+    } else {
+      int written = writtenEntries;
+      backlog.updateAndGet(pending -> Math.max(0, pending - written));
+    }
+    synchronized (monitor) {
+      monitor.notifyAll();
+    }
+
+    return writtenEntries;
+  }
+
+  /**
+   * Writes the oldest entries in separate transactions after their batch failed.
+   *
+   * @return the number of written or quarantined entries
+   */
+  protected int writeEntriesSeparately() {
+    List<String> entryIds;
+    try {
+      entryIds = commandExecutor.execute(commandContext -> commandContext
+          .getHistoryEventOutboxManager()
+          .findPendingOutboxEntryIds(batchSize));
+    } catch (Exception e) {
+      // e.g. the database is not available, retry with the next write
+      return 0;
+    }
+
+    int writtenEntries = 0;
+    for (String entryId : entryIds) {
+      try {
+        writtenEntries += commandExecutor.execute(new WriteHistoryEventOutboxCmd(historyEventHandler, entryId));
+        failedEntryAttempts.remove(entryId);
+
+      } catch (OptimisticLockingException e) {
+        LOG.historyEventOutboxConcurrentlyWritten(e);
+
+      } catch (Exception e) {
+        int attempts = failedEntryAttempts.merge(entryId, 1, Integer::sum);
+        if (attempts < MAX_ENTRY_ATTEMPTS) {
+          // a later entry may depend on this one, so keep the order
+          break;
+        }
+        failedEntryAttempts.remove(entryId);
+        writtenEntries += quarantineEntry(entryId, e);
+      }
+    }
+    return writtenEntries;
+  }
+
+  protected int quarantineEntry(String entryId, Exception cause) {
+    try {
+      return commandExecutor.execute(commandContext -> {
+        HistoryEventOutboxManager outboxManager = commandContext.getHistoryEventOutboxManager();
+        HistoryEventOutboxEntryEntity entry = outboxManager.findPendingOutboxEntryById(entryId);
+        if (entry == null) {
+          return 0;
+        }
+        outboxManager.quarantineOutboxEntry(entry, cause);
+        return 1;
+      });
+    } catch (Exception e) {
+      LOG.exceptionWhileWritingHistoryEventOutbox(e);
+      return 0;
+    }
+  }
+
+  /**
+   * Writes entries until the outbox is empty or an entry cannot be written.
+   */
+  public void writeAll() {
+    while (writeBatch() >= batchSize) {
+      // continue with the next batch
+    }
+  }
+
+  /**
+   * Called after a transaction which added entries to the outbox was committed.
+   */
+  public void outboxEntriesAdded(int entries) {
+    int pendingEntries = backlog.addAndGet(entries);
+
+    if (pendingEntries >= batchSize) {
+      synchronized (monitor) {
+        monitor.notifyAll();
+
+        if (pendingEntries > maxBacklog && isActive && Thread.currentThread() != thread) {
+          try {
+            monitor.wait(writeInterval);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+      }
+    }
+  }
+
+  public int getBacklog() {
+    return backlog.get();
+  }
+
+  public boolean isActive() {
+    return isActive;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public long getWriteInterval() {
+    return writeInterval;
+  }
+
+  public void setWriteInterval(long writeInterval) {
+    this.writeInterval = writeInterval;
+  }
+
+  public int getMaxBacklog() {
+    return maxBacklog;
+  }
+
+  public void setMaxBacklog(int maxBacklog) {
+    this.maxBacklog = maxBacklog;
+  }
+
+  public ThreadFactory getThreadFactory() {
+    return threadFactory;
+  }
+
+  public void setThreadFactory(ThreadFactory threadFactory) {
+    this.threadFactory = threadFactory;
+  }
+
+  public AsyncDbHistoryEventHandler getHistoryEventHandler() {
+    return historyEventHandler;
+  }
+
+}
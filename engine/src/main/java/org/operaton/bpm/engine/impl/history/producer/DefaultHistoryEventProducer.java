@@ -654,7 +654,13 @@ public class DefaultHistoryEventProducer implements HistoryEventProducer {
       Date removalTime = calculateRemovalTime(evt);
 
       if (removalTime != null) {
-        addRemovalTimeToHistoricProcessInstances(evt.getRootProcessInstanceId(), removalTime);
+        if (isAsyncHistoryEnabled()) {
+          // the history of the process instance may still be in the history event outbox,
+          // the removal time is added to it when this event is written
+          evt.setRemovalTime(removalTime);
+        } else {
+          addRemovalTimeToHistoricProcessInstances(evt.getRootProcessInstanceId(), removalTime);
+        }
 
         if (isDmnEnabled()) {
           addRemovalTimeToHistoricDecisions(evt.getRootProcessInstanceId(), removalTime);
@@ -682,6 +688,11 @@ public class DefaultHistoryEventProducer implements HistoryEventProducer {
       .addRemovalTimeToProcessInstancesByRootProcessInstanceId(rootProcessInstanceId, removalTime);
   }
 
+  protected boolean isAsyncHistoryEnabled() {
+    return Context.getProcessEngineConfiguration()
+      .getHistoryEventOutboxWriter() != null;
+  }
+
   protected boolean isDmnEnabled() {
     return Context.getCommandContext()
       .getProcessEngineConfiguration()
@@ -1060,8 +1071,11 @@ public class DefaultHistoryEventProducer implements HistoryEventProducer {
     if (isHistoryRemovalTimeStrategyEnd()) {
       provideRemovalTime((HistoricBatchEntity) historicBatch);
 
-      addRemovalTimeToHistoricJobLog((HistoricBatchEntity) historicBatch);
-      addRemovalTimeToHistoricIncidents((HistoricBatchEntity) historicBatch);
+      // with asynchronous history, the removal time is added when this event is written
+      if (!isAsyncHistoryEnabled()) {
+        addRemovalTimeToHistoricJobLog((HistoricBatchEntity) historicBatch);
+        addRemovalTimeToHistoricIncidents((HistoricBatchEntity) historicBatch);
+      }
     }
 
     return historicBatch;
@@ -60,6 +60,7 @@ import org.operaton.bpm.engine.impl.persistence.entity.AuthorizationManager;
 import org.operaton.bpm.engine.impl.persistence.entity.BatchManager;
 import org.operaton.bpm.engine.impl.persistence.entity.ByteArrayManager;
 import org.operaton.bpm.engine.impl.persistence.entity.CommentManager;
+import org.operaton.bpm.engine.impl.persistence.entity.CorrelationKeyManager;
 import org.operaton.bpm.engine.impl.persistence.entity.DeploymentManager;
 import org.operaton.bpm.engine.impl.persistence.entity.EventSubscriptionManager;
 import org.operaton.bpm.engine.impl.persistence.entity.ExecutionManager;
@@ -78,6 +79,7 @@ import org.operaton.bpm.engine.impl.persistence.entity.HistoricProcessInstanceMa
 import org.operaton.bpm.engine.impl.persistence.entity.HistoricStatisticsManager;
 import org.operaton.bpm.engine.impl.persistence.entity.HistoricTaskInstanceManager;
 import org.operaton.bpm.engine.impl.persistence.entity.HistoricVariableInstanceManager;
+import org.operaton.bpm.engine.impl.persistence.entity.HistoryEventOutboxManager;
 import org.operaton.bpm.engine.impl.persistence.entity.IdentityInfoManager;
 import org.operaton.bpm.engine.impl.persistence.entity.IdentityLinkManager;
 import org.operaton.bpm.engine.impl.persistence.entity.IncidentManager;
@@ -333,6 +335,10 @@ public class CommandContext {
     return getSession(IdentityLinkManager.class);
   }
 
+  public CorrelationKeyManager getCorrelationKeyManager() {
+    return getSession(CorrelationKeyManager.class);
+  }
+
   public VariableInstanceManager getVariableInstanceManager() {
     return getSession(VariableInstanceManager.class);
   }
@@ -509,6 +515,10 @@ public class CommandContext {
     return getSession(ExternalTaskManager.class);
   }
 
+  public HistoryEventOutboxManager getHistoryEventOutboxManager() {
+    return getSession(HistoryEventOutboxManager.class);
+  }
+
   // getters and setters //////////////////////////////////////////////////////
 
   public void registerCommandContextListener(CommandContextListener commandContextListener) {
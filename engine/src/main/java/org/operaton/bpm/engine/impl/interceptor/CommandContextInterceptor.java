@@ -23,6 +23,8 @@ import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.operaton.bpm.engine.impl.cmd.CommandLogger;
 import org.operaton.bpm.engine.impl.context.Context;
 import org.operaton.bpm.engine.impl.context.ProcessEngineContextImpl;
+import org.operaton.bpm.engine.impl.metrics.MetricsRegistry;
+import org.operaton.bpm.engine.management.Metrics;
 
 /**
  * <p>Interceptor used for opening the {@link CommandContext} and {@link CommandInvocationContext}.</p>
@@ -92,6 +94,7 @@ public class CommandContextInterceptor extends CommandInterceptor {
     boolean isNew = ProcessEngineContextImpl.consume();
     boolean isOuterCommand = (context == null);
     boolean openNew = (isOuterCommand || isNew);
+    long startTime = openNew ? System.nanoTime() : 0;
 
     CommandInvocationContext commandInvocationContext = new CommandInvocationContext(command, processEngineConfiguration, isOuterCommand);
     Context.setCommandInvocationContext(commandInvocationContext);
@@ -130,12 +133,23 @@ public class CommandContextInterceptor extends CommandInterceptor {
 
         // restore the new command context flag
         ProcessEngineContextImpl.set(isNew);
+
+        if (openNew) {
+          recordExecutionDuration(System.nanoTime() - startTime);
+        }
       }
     }
 
     return null;
   }
 
+  protected void recordExecutionDuration(long duration) {
+    MetricsRegistry metricsRegistry = processEngineConfiguration.getMetricsRegistry();
+    if (processEngineConfiguration.isMetricsEnabled() && metricsRegistry != null) {
+      metricsRegistry.recordValue(Metrics.COMMAND_EXECUTION_DURATION, duration);
+    }
+  }
+
   protected boolean isFromSameEngine(CommandContext existingCommandContext) {
     return processEngineConfiguration == existingCommandContext.getProcessEngineConfiguration();
   }
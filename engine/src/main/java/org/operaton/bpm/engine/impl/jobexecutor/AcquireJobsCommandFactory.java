@@ -25,4 +25,13 @@ import org.operaton.bpm.engine.impl.interceptor.Command;
 public interface AcquireJobsCommandFactory {
 
   Command<AcquiredJobs> getCommand(int numJobsToAcquire);
+
+  /**
+   * Creates a command that acquires jobs from the given partition of the job table only.
+   * Factories that do not support partitioning acquire from all jobs, in which case
+   * parallel acquisition loops compete for the same jobs.
+   */
+  default Command<AcquiredJobs> getCommand(int numJobsToAcquire, JobAcquisitionPartition partition) {
+    return getCommand(numJobsToAcquire);
+  }
 }
@@ -35,4 +35,9 @@ public class DefaultAcquireJobsCommandFactory implements AcquireJobsCommandFacto
   public Command<AcquiredJobs> getCommand(int numJobsToAcquire) {
     return new AcquireJobsCmd(jobExecutor, numJobsToAcquire);
   }
+
+  @Override
+  public Command<AcquiredJobs> getCommand(int numJobsToAcquire, JobAcquisitionPartition partition) {
+    return new AcquireJobsCmd(jobExecutor, numJobsToAcquire, partition);
+  }
 }
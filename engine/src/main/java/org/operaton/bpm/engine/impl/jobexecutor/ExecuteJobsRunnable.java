@@ -67,6 +67,7 @@ public class ExecuteJobsRunnable implements Runnable {
         String nextJobId = currentProcessorJobQueue.remove(0);
         if (jobExecutor.isActive()) {
           JobFailureCollector jobFailureCollector = new JobFailureCollector(nextJobId);
+          long startTime = System.nanoTime();
           try {
             executeJob(nextJobId, commandExecutor, jobFailureCollector);
           } catch(Throwable t) {
@@ -74,6 +75,7 @@ public class ExecuteJobsRunnable implements Runnable {
               ExecuteJobHelper.loggingHandler.exceptionWhileExecutingJob(nextJobId, t);
             }
           } finally {
+            jobExecutor.logJobExecutionDuration(processEngine, System.nanoTime() - startTime);
             /*
              * clear MDC of potential leftovers from command execution
              * that have not been cleared in Context#removeCommandInvocationContext()
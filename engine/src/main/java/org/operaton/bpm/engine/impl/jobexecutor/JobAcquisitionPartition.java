@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.operaton.bpm.engine.impl.cfg.IdGenerator;
+import org.operaton.bpm.engine.impl.db.DbIdGenerator;
+
+/**
+ * <p>A disjoint slice of the job table that is acquired by one of several parallel
+ * acquisition loops, see {@link ParallelJobAcquisitionRunnable}.</p>
+ *
+ * <p>Jobs are assigned to a partition by the suffix of their partition key, which is the id
+ * of the root process instance, the id of the process instance or the job id, whichever is
+ * set first. Thus, all jobs of a process hierarchy belong to the same partition and exclusive
+ * jobs are never acquired by two loops at the same time.</p>
+ *
+ * <p>The suffixes are built from the characters the configured {@link IdGenerator} ends its
+ * ids with, see {@link #getKeyAlphabet(IdGenerator)}, and distributed round-robin over the
+ * partitions. The suffixes are just long enough to give every partition at least one of them.
+ * The last partition additionally matches every key that does not end with a character of the
+ * alphabet, so that every job belongs to exactly one partition even if the ids were created by
+ * another id generator.</p>
+ */
+public class JobAcquisitionPartition {
+
+  /** The last characters of the ids created by a {@link DbIdGenerator}. */
+  public static final String DECIMAL_KEY_ALPHABET = "0123456789";
+
+  /** The last characters of UUIDs, which is also assumed for unknown id generators. */
+  public static final String HEXADECIMAL_KEY_ALPHABET = "0123456789abcdef";
+
+  public static final int MAX_PARTITIONS = 16;
+
+  protected final int index;
+  protected final int count;
+
+  public JobAcquisitionPartition(int index, int count) {
+    if (count < 1 || count > MAX_PARTITIONS || index < 0 || index >= count) {
+      throw new IllegalArgumentException("Invalid job acquisition partition " + index + " of " + count);
+    }
+    this.index = index;
+    this.count = count;
+  }
+
+  public int getIndex() {
+    return index;
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  /**
+   * @return the characters the ids of the given id generator end with
+   */
+  public static String getKeyAlphabet(IdGenerator idGenerator) {
+    return idGenerator instanceof DbIdGenerator ? DECIMAL_KEY_ALPHABET : HEXADECIMAL_KEY_ALPHABET;
+  }
+
+  /**
+   * @return the <code>like</code> patterns of which a partition key of this partition matches one
+   */
+  public List<String> getKeySuffixPatterns(String keyAlphabet) {
+    int base = keyAlphabet.length();
+    int suffixLength = 1;
+    int suffixCount = base;
+    while (suffixCount < count) {
+      suffixLength++;
+      suffixCount *= base;
+    }
+
+    List<String> patterns = new ArrayList<>();
+    for (int suffix = index; suffix < suffixCount; suffix += count) {
+      char[] characters = new char[suffixLength];
+      int remainder = suffix;
+      for (int i = suffixLength - 1; i >= 0; i--) {
+        characters[i] = keyAlphabet.charAt(remainder % base);
+        remainder /= base;
+      }
+      patterns.add("%" + new String(characters));
+    }
+    return Collections.unmodifiableList(patterns);
+  }
+
+  /**
+   * @return the <code>like</code> patterns of which a partition key of this partition can also
+   *   match none, or <code>null</code> if the key has to match one of the
+   *   {@link #getKeySuffixPatterns(String) suffix patterns}
+   */
+  public List<String> getForeignKeySuffixPatterns(String keyAlphabet) {
+    if (index != count - 1) {
+      return null;
+    }
+    List<String> patterns = new ArrayList<>();
+    for (int i = 0; i < keyAlphabet.length(); i++) {
+      patterns.add("%" + keyAlphabet.charAt(i));
+    }
+    return Collections.unmodifiableList(patterns);
+  }
+
+  @Override
+  public String toString() {
+    return "JobAcquisitionPartition[" + index + "/" + count + "]";
+  }
+
+}
@@ -56,6 +56,13 @@ public abstract class JobExecutor {
 
   protected int maxJobsPerAcquisition = 3;
 
+  /**
+   * The number of parallel acquisition loops. Each loop acquires jobs from a
+   * disjoint {@link JobAcquisitionPartition partition} of the job table with its
+   * own backoff state, see {@link ParallelJobAcquisitionRunnable}.
+   */
+  protected int acquisitionPartitions = 1;
+
   // waiting when job acquisition is idle
   protected int waitTimeInMillis = 5 * 1000;
   protected float waitIncreaseFactor = 2;
@@ -99,7 +106,11 @@ public abstract class JobExecutor {
   if (acquireJobsCmdFactory == null) {
     acquireJobsCmdFactory =  new DefaultAcquireJobsCommandFactory(this);
   }
-    acquireJobsRunnable = new SequentialJobAcquisitionRunnable(this);
+    if (acquisitionPartitions > 1) {
+      acquireJobsRunnable = new ParallelJobAcquisitionRunnable(this, acquisitionPartitions);
+    } else {
+      acquireJobsRunnable = new SequentialJobAcquisitionRunnable(this);
+    }
   }
 
   protected void ensureCleanup() {
@@ -170,6 +181,22 @@ public abstract class JobExecutor {
     }
   }
 
+  public void logAcquisitionDuration(ProcessEngineImpl engine, long duration) {
+    if (engine != null && engine.getProcessEngineConfiguration().isMetricsEnabled()) {
+      engine.getProcessEngineConfiguration()
+        .getMetricsRegistry()
+        .recordValue(Metrics.JOB_ACQUISITION_DURATION, duration);
+    }
+  }
+
+  public void logJobExecutionDuration(ProcessEngineImpl engine, long duration) {
+    if (engine != null && engine.getProcessEngineConfiguration().isMetricsEnabled()) {
+      engine.getProcessEngineConfiguration()
+        .getMetricsRegistry()
+        .recordValue(Metrics.JOB_EXECUTION_DURATION, duration);
+    }
+  }
+
   public void logRejectedExecution(ProcessEngineImpl engine, int numJobs) {
     if (engine != null) {
       LOG.rejectedJobExecutions(engine.getName(), numJobs);
@@ -304,6 +331,17 @@ public abstract class JobExecutor {
     this.maxJobsPerAcquisition = maxJobsPerAcquisition;
   }
 
+  public int getAcquisitionPartitions() {
+    return acquisitionPartitions;
+  }
+
+  public void setAcquisitionPartitions(int acquisitionPartitions) {
+    if (acquisitionPartitions < 1 || acquisitionPartitions > JobAcquisitionPartition.MAX_PARTITIONS) {
+      throw LOG.invalidAcquisitionPartitions(acquisitionPartitions, JobAcquisitionPartition.MAX_PARTITIONS);
+    }
+    this.acquisitionPartitions = acquisitionPartitions;
+  }
+
   public float getWaitIncreaseFactor() {
     return waitIncreaseFactor;
   }
@@ -344,6 +382,13 @@ public abstract class JobExecutor {
     return acquireJobsCmdFactory.getCommand(numJobs);
   }
 
+  public Command<AcquiredJobs> getAcquireJobsCmd(int numJobs, JobAcquisitionPartition partition) {
+    if (partition == null) {
+      return getAcquireJobsCmd(numJobs);
+    }
+    return acquireJobsCmdFactory.getCommand(numJobs, partition);
+  }
+
   public AcquireJobsCommandFactory getAcquireJobsCmdFactory() {
     return acquireJobsCmdFactory;
   }
@@ -371,6 +416,15 @@ public abstract class JobExecutor {
 		}
 	}
 
+  /**
+   * Starts one of the additional acquisition loops of a {@link ParallelJobAcquisitionRunnable}.
+   * Job executors which schedule the {@link #acquireJobsRunnable} on managed threads
+   * override this method to schedule the loop the same way.
+   */
+  protected void startAdditionalJobAcquisition(Runnable acquisitionRunnable, String name) {
+    new Thread(acquisitionRunnable, name).start();
+  }
+
 	protected void stopJobAcquisitionThread() {
 		try {
 			jobAcquisitionThread.join();
@@ -253,4 +253,15 @@ public class JobExecutorLogger extends ProcessEngineLogger {
     logDebug("040", "Arithmetic exception occurred while computing total queue capacity for logging.");
   }
 
+  public ProcessEngineException invalidAcquisitionPartitions(int acquisitionPartitions, int maxPartitions) {
+    return new ProcessEngineException(exceptionMessage(
+        "041", "Invalid number of job acquisition partitions {}. The number must be between 1 and {}.",
+        acquisitionPartitions, maxPartitions));
+  }
+
+  public void startingParallelJobAcquisition(String name, int acquisitionPartitions) {
+    logInfo(
+        "042", "{} starting {} parallel job acquisition loops", name, acquisitionPartitions);
+  }
+
 }
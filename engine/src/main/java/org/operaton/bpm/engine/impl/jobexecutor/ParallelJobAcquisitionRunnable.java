@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+
+/**
+ * <p>{@link AcquireJobsRunnable} that runs several acquisition loops in parallel.</p>
+ *
+ * <p>
+ *   Every loop is a {@link SequentialJobAcquisitionRunnable} that acquires jobs for all
+ *   registered process engines from its own {@link JobAcquisitionPartition partition} of the
+ *   job table, with its own {@link JobAcquisitionStrategy backoff state}. All loops submit
+ *   the acquired jobs to the execution pool of the same {@link JobExecutor}.
+ * </p>
+ *
+ * <p>
+ *   The first loop runs on the thread that runs this runnable, the other loops are started
+ *   through {@link JobExecutor#startAdditionalJobAcquisition(Runnable, String)}, so they run
+ *   on threads managed the same way as the job acquisition itself.
+ * </p>
+ */
+public class ParallelJobAcquisitionRunnable extends AcquireJobsRunnable {
+
+  protected static final JobExecutorLogger LOG = ProcessEngineLogger.JOB_EXECUTOR_LOGGER;
+
+  protected final List<SequentialJobAcquisitionRunnable> acquisitionRunnables = new ArrayList<>();
+
+  public ParallelJobAcquisitionRunnable(JobExecutor jobExecutor, int acquisitionPartitions) {
+    super(jobExecutor);
+    for (int i = 0; i < acquisitionPartitions; i++) {
+      acquisitionRunnables.add(createAcquisitionRunnable(new JobAcquisitionPartition(i, acquisitionPartitions)));
+    }
+  }
+
+  protected SequentialJobAcquisitionRunnable createAcquisitionRunnable(JobAcquisitionPartition partition) {
+    return new SequentialJobAcquisitionRunnable(jobExecutor, partition);
+  }
+
+  @Override
+  public void run() {
+    LOG.startingParallelJobAcquisition(jobExecutor.getName(), acquisitionRunnables.size());
+
+    CountDownLatch stoppedAcquisitions = new CountDownLatch(acquisitionRunnables.size() - 1);
+    try {
+      for (int i = 1; i < acquisitionRunnables.size(); i++) {
+        SequentialJobAcquisitionRunnable acquisitionRunnable = acquisitionRunnables.get(i);
+        jobExecutor.startAdditionalJobAcquisition(() -> {
+          try {
+            acquisitionRunnable.run();
+          } finally {
+            stoppedAcquisitions.countDown();
+          }
+        }, jobExecutor.getName() + "-" + i);
+      }
+    } catch (RuntimeException e) {
+      stop();
+      throw e;
+    }
+
+    acquisitionRunnables.get(0).run();
+
+    try {
+      stoppedAcquisitions.await();
+    } catch (InterruptedException e) {
+      LOG.interruptedWhileShuttingDownjobExecutor(e);
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public void stop() {
+    super.stop();
+    for (SequentialJobAcquisitionRunnable acquisitionRunnable : acquisitionRunnables) {
+      acquisitionRunnable.stop();
+    }
+  }
+
+  @Override
+  public void jobWasAdded() {
+    super.jobWasAdded();
+    for (SequentialJobAcquisitionRunnable acquisitionRunnable : acquisitionRunnables) {
+      acquisitionRunnable.jobWasAdded();
+    }
+  }
+
+  public List<SequentialJobAcquisitionRunnable> getAcquisitionRunnables() {
+    return Collections.unmodifiableList(acquisitionRunnables);
+  }
+
+}
@@ -45,6 +45,13 @@ public class RuntimeContainerJobExecutor extends JobExecutor {
 
   }
 
+  @Override
+  protected void startAdditionalJobAcquisition(Runnable acquisitionRunnable, String name) {
+    if(!getRuntimeContainerDelegate().getExecutorService().schedule(acquisitionRunnable, true)) {
+      throw new ProcessEngineException("Could not schedule AcquireJobsRunnable for execution.");
+    }
+  }
+
   @Override
   protected void stopExecutingJobs() {
     // nothing to do
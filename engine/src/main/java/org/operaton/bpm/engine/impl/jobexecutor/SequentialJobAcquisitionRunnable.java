@@ -49,8 +49,19 @@ public class SequentialJobAcquisitionRunnable extends AcquireJobsRunnable {
 
   protected JobAcquisitionContext acquisitionContext;
 
+  /**
+   * The partition of the job table this runnable acquires from,
+   * or <code>null</code> if it acquires from all jobs.
+   */
+  protected JobAcquisitionPartition partition;
+
   public SequentialJobAcquisitionRunnable(JobExecutor jobExecutor) {
+    this(jobExecutor, null);
+  }
+
+  public SequentialJobAcquisitionRunnable(JobExecutor jobExecutor, JobAcquisitionPartition partition) {
     super(jobExecutor);
+    this.partition = partition;
     acquisitionContext = initializeAcquisitionContext();
   }
 
@@ -129,6 +140,10 @@ public class SequentialJobAcquisitionRunnable extends AcquireJobsRunnable {
 
   }
 
+  public JobAcquisitionPartition getPartition() {
+    return partition;
+  }
+
   protected void executeJobs(JobAcquisitionContext context, ProcessEngineImpl currentProcessEngine, AcquiredJobs acquiredJobs) {
     // submit those jobs that were acquired in previous cycles but could not be scheduled for execution
     List<List<String>> additionalJobs = context.getAdditionalJobsByEngine().get(currentProcessEngine.getName());
@@ -163,7 +178,9 @@ public class SequentialJobAcquisitionRunnable extends AcquireJobsRunnable {
 
     if (numJobsToAcquire > 0) {
       jobExecutor.logAcquisitionAttempt(currentProcessEngine);
-      acquiredJobs = commandExecutor.execute(jobExecutor.getAcquireJobsCmd(numJobsToAcquire));
+      long startTime = System.nanoTime();
+      acquiredJobs = commandExecutor.execute(jobExecutor.getAcquireJobsCmd(numJobsToAcquire, partition));
+      jobExecutor.logAcquisitionDuration(currentProcessEngine, System.nanoTime() - startTime);
     }
     else {
       acquiredJobs = new AcquiredJobs(numJobsToAcquire);
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.metrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative values, e.g. latencies in nanoseconds.
+ * <p>
+ * Values are counted in log-linear buckets: every power of two is divided into
+ * {@value #SUB_BUCKET_COUNT} equally sized buckets, so the relative error of a reported
+ * value is at most 1/{@value #SUB_BUCKET_COUNT}. Values greater than {@link #MAX_VALUE}
+ * are counted in the last bucket. Each bucket is a {@link LongAdder} which is created
+ * on its first use, so threads recording similar values do not contend on a single counter.
+ */
+public class Histogram {
+
+  protected static final int SUB_BUCKET_BITS = 4;
+  protected static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+  /**
+   * The highest power of two that is still tracked with full precision, about 18 minutes in nanoseconds.
+   */
+  protected static final int MAX_EXPONENT = 40;
+  public static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+  protected static final int BUCKET_COUNT = bucketIndex(MAX_VALUE) + 1;
+
+  protected String name;
+
+  protected final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+  protected final LongAdder sum = new LongAdder();
+  protected final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  public Histogram(String name) {
+    this.name = name;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Records a single value. Negative values are recorded as zero.
+   */
+  public void record(long value) {
+    long recordedValue = Math.max(value, 0);
+    bucket(bucketIndex(recordedValue)).increment();
+    sum.add(recordedValue);
+    max.accumulate(recordedValue);
+  }
+
+  /**
+   * @return a snapshot of the values recorded so far. Values that are recorded while the
+   * snapshot is taken may be partially contained.
+   */
+  public HistogramSnapshot getSnapshot() {
+    long[] counts = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      LongAdder bucket = buckets.get(i);
+      if (bucket != null) {
+        counts[i] = bucket.sum();
+      }
+    }
+    return new HistogramSnapshot(name, counts, sum.sum(), max.get());
+  }
+
+  /**
+   * Resets all counts of this histogram to zero.
+   */
+  public void reset() {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      LongAdder bucket = buckets.get(i);
+      if (bucket != null) {
+        bucket.reset();
+      }
+    }
+    sum.reset();
+    max.reset();
+  }
+
+  protected LongAdder bucket(int index) {
+    LongAdder bucket = buckets.get(index);
+    if (bucket == null) {
+      buckets.compareAndSet(index, null, new LongAdder());
+      bucket = buckets.get(index);
+    }
+    return bucket;
+  }
+
+  protected static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    if (value > MAX_VALUE) {
+      return bucketIndex(MAX_VALUE);
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int shift = exponent - SUB_BUCKET_BITS;
+    return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + (int) ((value >>> shift) - SUB_BUCKET_COUNT);
+  }
+
+  /**
+   * @return the highest value that is counted in the bucket with the given index
+   */
+  protected static long bucketUpperBound(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+    long subBucket = SUB_BUCKET_COUNT + (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+    return ((subBucket + 1) << shift) - 1;
+  }
+
+}
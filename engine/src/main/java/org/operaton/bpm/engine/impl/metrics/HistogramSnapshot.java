@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.metrics;
+
+/**
+ * An immutable view of the values recorded by a {@link Histogram} at a point in time.
+ */
+public class HistogramSnapshot {
+
+  protected final String name;
+  protected final long[] counts;
+  protected final long count;
+  protected final long sum;
+  protected final long max;
+
+  public HistogramSnapshot(String name, long[] counts, long sum, long max) {
+    this.name = name;
+    this.counts = counts;
+    this.sum = sum;
+    this.max = max;
+
+    long total = 0;
+    for (long bucketCount : counts) {
+      total += bucketCount;
+    }
+    this.count = total;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return the number of recorded values
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * @return the sum of all recorded values
+   */
+  public long getSum() {
+    return sum;
+  }
+
+  /**
+   * @return the highest recorded value
+   */
+  public long getMax() {
+    return max;
+  }
+
+  /**
+   * @return the arithmetic mean of all recorded values or zero if no value was recorded
+   */
+  public double getMean() {
+    return count == 0 ? 0 : (double) sum / count;
+  }
+
+  /**
+   * Returns the value below which the given percentage of the recorded values falls.
+   * The result is the upper bound of the bucket that contains this value, but never
+   * higher than the highest recorded value.
+   *
+   * @param percentile a percentage between 0 and 100
+   * @return the value at the given percentile or zero if no value was recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100, but was " + percentile);
+    }
+    if (count == 0) {
+      return 0;
+    }
+
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min(Histogram.bucketUpperBound(i), max);
+      }
+    }
+    return max;
+  }
+
+}
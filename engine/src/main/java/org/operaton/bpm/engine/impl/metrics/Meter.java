@@ -16,17 +16,19 @@
  */
 package org.operaton.bpm.engine.impl.metrics;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * A Meter implementation based on AtomicLong
+ * A Meter implementation based on {@link LongAdder}. Concurrent marks from different
+ * threads are recorded in separate cells, so threads that mark the same meter do not
+ * contend on a single counter.
  *
  * @author Daniel Meyer
  *
  */
 public class Meter {
 
-  protected AtomicLong counter = new AtomicLong(0);
+  protected LongAdder counter = new LongAdder();
 
   protected String name;
 
@@ -35,11 +37,11 @@ public class Meter {
   }
 
   public void mark() {
-    counter.incrementAndGet();
+    counter.increment();
   }
 
   public void markTimes(long times) {
-    counter.addAndGet(times);
+    counter.add(times);
   }
 
   public String getName() {
@@ -50,12 +52,16 @@ public class Meter {
     this.name = name;
   }
 
+  /**
+   * Returns the current count and resets it to zero. Marks that happen concurrently
+   * are either included in the returned count or in the next one.
+   */
   public long getAndClear() {
-    return counter.getAndSet(0);
+    return counter.sumThenReset();
   }
 
   public long get() {
-    return counter.get();
+    return counter.sum();
   }
 
 }
@@ -18,6 +18,7 @@ package org.operaton.bpm.engine.impl.metrics;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * @author Daniel Meyer
@@ -27,6 +28,7 @@ public class MetricsRegistry {
 
   protected Map<String, Meter> dbMeters = new HashMap<>();
   protected Map<String, Meter> diagnosticsMeters = new HashMap<>();
+  protected Map<String, Histogram> histograms = new HashMap<>();
 
   public Meter getDbMeterByName(String name) {
     return dbMeters.get(name);
@@ -83,4 +85,40 @@ public class MetricsRegistry {
     Meter dbMeter = new Meter(name);
     dbMeters.put(name, dbMeter);
   }
+
+  /**
+   * Creates a histogram which is only available in-process through {@link #getSnapshot()}.
+   */
+  public void createHistogram(String name) {
+    histograms.put(name, new Histogram(name));
+  }
+
+  public Histogram getHistogram(String name) {
+    return histograms.get(name);
+  }
+
+  public Map<String, Histogram> getHistograms() {
+    return histograms;
+  }
+
+  public void recordValue(String name, long value) {
+    Histogram histogram = histograms.get(name);
+
+    if (histogram != null) {
+      histogram.record(value);
+    }
+  }
+
+  /**
+   * @return the current values of the database meters and all histograms
+   */
+  public MetricsSnapshot getSnapshot() {
+    Map<String, Long> meterValues = new TreeMap<>();
+    dbMeters.forEach((name, meter) -> meterValues.put(name, meter.get()));
+
+    Map<String, HistogramSnapshot> histogramSnapshots = new TreeMap<>();
+    histograms.forEach((name, histogram) -> histogramSnapshots.put(name, histogram.getSnapshot()));
+
+    return new MetricsSnapshot(meterValues, histogramSnapshots);
+  }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The values of all meters and histograms of a {@link MetricsRegistry} at a point in time.
+ * In contrast to {@link org.operaton.bpm.engine.management.MetricsQuery}, the snapshot is
+ * taken in-process and does not access the database.
+ */
+public class MetricsSnapshot {
+
+  protected final Map<String, Long> meters;
+  protected final Map<String, HistogramSnapshot> histograms;
+
+  public MetricsSnapshot(Map<String, Long> meters, Map<String, HistogramSnapshot> histograms) {
+    this.meters = Collections.unmodifiableMap(meters);
+    this.histograms = Collections.unmodifiableMap(histograms);
+  }
+
+  /**
+   * @return the values of the database meters which have not yet been reported, by meter name
+   */
+  public Map<String, Long> getMeters() {
+    return meters;
+  }
+
+  /**
+   * @return the value of the meter with the given name or zero if there is no such meter
+   */
+  public long getMeter(String name) {
+    Long value = meters.get(name);
+    return value != null ? value : 0;
+  }
+
+  public Map<String, HistogramSnapshot> getHistograms() {
+    return histograms;
+  }
+
+  /**
+   * @return the snapshot of the histogram with the given name or <code>null</code> if there is no such histogram
+   */
+  public HistogramSnapshot getHistogram(String name) {
+    return histograms.get(name);
+  }
+
+}
@@ -38,6 +38,7 @@ import org.operaton.bpm.engine.impl.persistence.entity.AuthorizationEntity;
 import org.operaton.bpm.engine.impl.persistence.entity.AuthorizationManager;
 import org.operaton.bpm.engine.impl.persistence.entity.BatchManager;
 import org.operaton.bpm.engine.impl.persistence.entity.ByteArrayManager;
+import org.operaton.bpm.engine.impl.persistence.entity.CorrelationKeyManager;
 import org.operaton.bpm.engine.impl.persistence.entity.DeploymentManager;
 import org.operaton.bpm.engine.impl.persistence.entity.EventSubscriptionManager;
 import org.operaton.bpm.engine.impl.persistence.entity.ExecutionManager;
@@ -53,6 +54,7 @@ import org.operaton.bpm.engine.impl.persistence.entity.HistoricJobLogManager;
 import org.operaton.bpm.engine.impl.persistence.entity.HistoricProcessInstanceManager;
 import org.operaton.bpm.engine.impl.persistence.entity.HistoricTaskInstanceManager;
 import org.operaton.bpm.engine.impl.persistence.entity.HistoricVariableInstanceManager;
+import org.operaton.bpm.engine.impl.persistence.entity.HistoryEventOutboxManager;
 import org.operaton.bpm.engine.impl.persistence.entity.IdentityInfoManager;
 import org.operaton.bpm.engine.impl.persistence.entity.IdentityLinkManager;
 import org.operaton.bpm.engine.impl.persistence.entity.JobDefinitionManager;
@@ -243,6 +245,10 @@ public abstract class AbstractManager implements Session {
     return getSession(EventSubscriptionManager.class);
   }
 
+  protected CorrelationKeyManager getCorrelationKeyManager() {
+    return getSession(CorrelationKeyManager.class);
+  }
+
   protected IdentityInfoManager getIdentityInfoManager() {
     return getSession(IdentityInfoManager.class);
   }
@@ -263,6 +269,10 @@ public abstract class AbstractManager implements Session {
     return getSession(HistoricBatchManager.class);
   }
 
+  protected HistoryEventOutboxManager getHistoryEventOutboxManager() {
+    return getSession(HistoryEventOutboxManager.class);
+  }
+
   protected TenantManager getTenantManager() {
     return getSession(TenantManager.class);
   }
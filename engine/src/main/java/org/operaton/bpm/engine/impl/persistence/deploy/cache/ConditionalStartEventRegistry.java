@@ -0,0 +1,231 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.persistence.deploy.cache;
+
+import static org.operaton.bpm.engine.impl.el.VariableScopeElResolver.CASE_EXECUTION_KEY;
+import static org.operaton.bpm.engine.impl.el.VariableScopeElResolver.EXECUTION_KEY;
+import static org.operaton.bpm.engine.impl.el.VariableScopeElResolver.EXTERNAL_TASK_KEY;
+import static org.operaton.bpm.engine.impl.el.VariableScopeElResolver.LOGGED_IN_USER_KEY;
+import static org.operaton.bpm.engine.impl.el.VariableScopeElResolver.TASK_KEY;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.operaton.bpm.engine.impl.bpmn.helper.BpmnProperties;
+import org.operaton.bpm.engine.impl.bpmn.parser.ConditionalEventDefinition;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.el.JuelExpression;
+import org.operaton.bpm.engine.impl.el.UelExpressionCondition;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.persistence.entity.EventSubscriptionEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.EventSubscriptionManager;
+import org.operaton.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.operaton.bpm.engine.impl.pvm.process.ActivityImpl;
+
+/**
+ * Keeps the conditional start events of all deployed process definitions in memory and
+ * indexes them by the names of the variables their conditions depend on. This way, only the
+ * conditions which can be affected by the given variables have to be evaluated.
+ * <p>
+ * A condition is indexed by its <code>variableName</code> if one is declared. The identifiers
+ * of a condition expression are only taken as variable names if
+ * {@link ProcessEngineConfigurationImpl#isConditionalStartEventExpressionIndexEnabled()} is set,
+ * since identifiers can also be resolved as beans by the el resolvers of a container, e.g.
+ * Spring, CDI or a process application. All other conditions are always evaluated.
+ * <p>
+ * The registry is invalidated when process definitions are deployed or removed. Since this
+ * can also happen on another node of a cluster, the ids of the conditional start event
+ * subscriptions are compared with the database whenever the registry is accessed.
+ */
+public class ConditionalStartEventRegistry {
+
+  /**
+   * Identifiers which are resolved from the context of an expression instead of its variables.
+   */
+  protected static final Set<String> CONTEXT_IDENTIFIERS =
+      Set.of(EXECUTION_KEY, CASE_EXECUTION_KEY, TASK_KEY, EXTERNAL_TASK_KEY, LOGGED_IN_USER_KEY);
+
+  protected volatile ConditionalStartEvents conditionalStartEvents;
+
+  /**
+   * @return the conditional start events of all tenants which match the subscriptions in the database
+   */
+  public ConditionalStartEvents getConditionalStartEvents(CommandContext commandContext) {
+    EventSubscriptionManager eventSubscriptionManager = commandContext.getEventSubscriptionManager();
+    List<String> subscriptionIds = eventSubscriptionManager.findAllConditionalStartEventSubscriptionIds();
+
+    boolean expressionIndexEnabled = commandContext.getProcessEngineConfiguration().isConditionalStartEventExpressionIndexEnabled();
+
+    ConditionalStartEvents events = conditionalStartEvents;
+    if (events == null || !events.subscriptionIds.equals(subscriptionIds) || events.expressionIndexEnabled != expressionIndexEnabled) {
+      events = createConditionalStartEvents(commandContext, subscriptionIds, expressionIndexEnabled);
+      conditionalStartEvents = events;
+    }
+    return events;
+  }
+
+  public void invalidate() {
+    conditionalStartEvents = null;
+  }
+
+  protected ConditionalStartEvents createConditionalStartEvents(CommandContext commandContext, List<String> subscriptionIds,
+      boolean expressionIndexEnabled) {
+    Map<Object, Object> beans = expressionIndexEnabled ? commandContext.getProcessEngineConfiguration().getBeans() : null;
+
+    List<ConditionalStartEvent> events = new ArrayList<>();
+    for (EventSubscriptionEntity subscription : commandContext.getEventSubscriptionManager().findAllConditionalStartEventSubscriptions()) {
+      ProcessDefinitionEntity processDefinition = subscription.getProcessDefinition();
+      ActivityImpl activity = subscription.getActivity();
+      ConditionalEventDefinition conditionalEventDefinition = activity.getProperties().get(BpmnProperties.CONDITIONAL_EVENT_DEFINITION);
+
+      events.add(new ConditionalStartEvent(processDefinition.getId(), processDefinition.getKey(),
+          processDefinition.getTenantId(), activity.getId(), getVariableNames(conditionalEventDefinition, expressionIndexEnabled, beans)));
+    }
+
+    return new ConditionalStartEvents(subscriptionIds, events, expressionIndexEnabled);
+  }
+
+  /**
+   * @return the names of the variables the condition depends on or <code>null</code> if the
+   *   condition has to be evaluated regardless of the given variables
+   */
+  protected Set<String> getVariableNames(ConditionalEventDefinition conditionalEventDefinition, boolean expressionIndexEnabled,
+      Map<Object, Object> beans) {
+    if (conditionalEventDefinition.getVariableName() != null) {
+      // the condition is only evaluated if the variable is given
+      return Collections.singleton(conditionalEventDefinition.getVariableName());
+    }
+
+    if (expressionIndexEnabled
+        && conditionalEventDefinition.getCondition() instanceof UelExpressionCondition condition
+        && condition.getExpression() instanceof JuelExpression expression) {
+
+      Set<String> identifierNames = expression.getIdentifierNames();
+      if (identifierNames == null || identifierNames.isEmpty()) {
+        return null;
+      }
+      for (String identifierName : identifierNames) {
+        if (CONTEXT_IDENTIFIERS.contains(identifierName) || (beans != null && beans.containsKey(identifierName))) {
+          return null;
+        }
+      }
+      return identifierNames;
+    }
+
+    // e.g. a script condition or an identifier which may be a bean
+    return null;
+  }
+
+  /**
+   * An immutable snapshot of the registry.
+   */
+  public static class ConditionalStartEvents {
+
+    protected final List<String> subscriptionIds;
+    protected final List<ConditionalStartEvent> events;
+    protected final boolean expressionIndexEnabled;
+    protected final Map<String, BitSet> eventsByVariableName = new HashMap<>();
+    protected final BitSet eventsWithoutVariableNames = new BitSet();
+
+    public ConditionalStartEvents(List<String> subscriptionIds, List<ConditionalStartEvent> events, boolean expressionIndexEnabled) {
+      this.subscriptionIds = subscriptionIds;
+      this.events = Collections.unmodifiableList(events);
+      this.expressionIndexEnabled = expressionIndexEnabled;
+
+      for (int i = 0; i < events.size(); i++) {
+        Set<String> variableNames = events.get(i).getVariableNames();
+        if (variableNames == null) {
+          eventsWithoutVariableNames.set(i);
+        } else {
+          for (String variableName : variableNames) {
+            eventsByVariableName.computeIfAbsent(variableName, k -> new BitSet()).set(i);
+          }
+        }
+      }
+    }
+
+    public List<ConditionalStartEvent> getAll() {
+      return events;
+    }
+
+    /**
+     * @return the conditional start events whose conditions depend on at least one of the given
+     *   variables or whose variables are unknown
+     */
+    public List<ConditionalStartEvent> findByVariableNames(Collection<String> variableNames) {
+      BitSet candidates = (BitSet) eventsWithoutVariableNames.clone();
+      for (String variableName : variableNames) {
+        BitSet eventsOfVariable = eventsByVariableName.get(variableName);
+        if (eventsOfVariable != null) {
+          candidates.or(eventsOfVariable);
+        }
+      }
+
+      List<ConditionalStartEvent> result = new ArrayList<>(candidates.cardinality());
+      for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+        result.add(events.get(i));
+      }
+      return result;
+    }
+  }
+
+  public static class ConditionalStartEvent {
+
+    protected final String processDefinitionId;
+    protected final String processDefinitionKey;
+    protected final String tenantId;
+    protected final String activityId;
+    protected final Set<String> variableNames;
+
+    public ConditionalStartEvent(String processDefinitionId, String processDefinitionKey, String tenantId, String activityId, Set<String> variableNames) {
+      this.processDefinitionId = processDefinitionId;
+      this.processDefinitionKey = processDefinitionKey;
+      this.tenantId = tenantId;
+      this.activityId = activityId;
+      this.variableNames = variableNames;
+    }
+
+    public String getProcessDefinitionId() {
+      return processDefinitionId;
+    }
+
+    public String getProcessDefinitionKey() {
+      return processDefinitionKey;
+    }
+
+    public String getTenantId() {
+      return tenantId;
+    }
+
+    public String getActivityId() {
+      return activityId;
+    }
+
+    /**
+     * @return the names of the variables the condition depends on or <code>null</code> if they are unknown
+     */
+    public Set<String> getVariableNames() {
+      return variableNames;
+    }
+  }
+
+}
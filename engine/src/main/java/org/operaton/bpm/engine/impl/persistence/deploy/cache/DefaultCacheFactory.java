@@ -17,18 +17,53 @@
 package org.operaton.bpm.engine.impl.persistence.deploy.cache;
 
 
+import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+import org.operaton.bpm.engine.impl.cfg.ConfigurationLogger;
 import org.operaton.commons.utils.cache.Cache;
 import org.operaton.commons.utils.cache.ConcurrentLruCache;
+import org.operaton.commons.utils.cache.ConcurrentSegmentedCache;
 
 /**
  * <p>Provides the default cache implementation for the deployment caches see {@link DeploymentCache}.</p>
  *
+ * <p>The cache type selects the implementation:</p>
+ * <ul>
+ *   <li>{@value #CACHE_TYPE_LRU} (default): a {@link ConcurrentLruCache}</li>
+ *   <li>{@value #CACHE_TYPE_SEGMENTED}: a {@link ConcurrentSegmentedCache} with O(1) hits
+ *   and frequency based admission, recommended for large caches under concurrent load</li>
+ * </ul>
+ *
  * @author Johannes Heinemann
  */
 public class DefaultCacheFactory implements CacheFactory {
 
+  protected static final ConfigurationLogger LOG = ProcessEngineLogger.CONFIG_LOGGER;
+
+  public static final String CACHE_TYPE_LRU = "lru";
+  public static final String CACHE_TYPE_SEGMENTED = "segmented";
+
+  protected final String cacheType;
+
+  public DefaultCacheFactory() {
+    this(CACHE_TYPE_LRU);
+  }
+
+  public DefaultCacheFactory(String cacheType) {
+    if (!CACHE_TYPE_LRU.equalsIgnoreCase(cacheType) && !CACHE_TYPE_SEGMENTED.equalsIgnoreCase(cacheType)) {
+      throw LOG.invalidPropertyValue("cacheType", cacheType);
+    }
+    this.cacheType = cacheType;
+  }
+
   @Override
   public <T> Cache<String, T> createCache(int maxNumberOfElementsInCache) {
+    if (CACHE_TYPE_SEGMENTED.equalsIgnoreCase(cacheType)) {
+      return new ConcurrentSegmentedCache<>(maxNumberOfElementsInCache);
+    }
     return new ConcurrentLruCache<>(maxNumberOfElementsInCache);
   }
+
+  public String getCacheType() {
+    return cacheType;
+  }
 }
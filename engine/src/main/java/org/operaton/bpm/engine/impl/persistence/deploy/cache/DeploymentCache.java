@@ -54,6 +54,7 @@ public class DeploymentCache {
   protected CmmnModelInstanceCache cmmnModelInstanceCache;
   protected DmnModelInstanceCache dmnModelInstanceCache;
   protected CacheDeployer cacheDeployer = new CacheDeployer();
+  protected ConditionalStartEventRegistry conditionalStartEventRegistry = new ConditionalStartEventRegistry();
 
   public DeploymentCache(CacheFactory factory, int cacheCapacity) {
     processDefinitionEntityCache = new ProcessDefinitionCache(factory, cacheCapacity, cacheDeployer);
@@ -69,6 +70,7 @@ public class DeploymentCache {
 
   public void deploy(final DeploymentEntity deployment) {
     cacheDeployer.deploy(deployment);
+    conditionalStartEventRegistry.invalidate();
   }
 
   // PROCESS DEFINITION ////////////////////////////////////////////////////////////////////////////////
@@ -121,6 +123,10 @@ public class DeploymentCache {
     return bpmnModelInstanceCache.findBpmnModelInstanceForDefinition(processDefinitionId);
   }
 
+  public void addBpmnModelInstance(String processDefinitionId, BpmnModelInstance bpmnModelInstance) {
+    bpmnModelInstanceCache.add(processDefinitionId, bpmnModelInstance);
+  }
+
   public void addProcessDefinition(ProcessDefinitionEntity processDefinition) {
     processDefinitionEntityCache.addDefinition(processDefinition);
   }
@@ -128,11 +134,17 @@ public class DeploymentCache {
   public void removeProcessDefinition(String processDefinitionId) {
     processDefinitionEntityCache.removeDefinitionFromCache(processDefinitionId);
     bpmnModelInstanceCache.remove(processDefinitionId);
+    conditionalStartEventRegistry.invalidate();
   }
 
   public void discardProcessDefinitionCache() {
     processDefinitionEntityCache.clear();
     bpmnModelInstanceCache.clear();
+    conditionalStartEventRegistry.invalidate();
+  }
+
+  public ConditionalStartEventRegistry getConditionalStartEventRegistry() {
+    return conditionalStartEventRegistry;
   }
 
   // CAMUNDA FORM DEFINITION ////////////////////////////////////////////////////////////////////////
@@ -327,6 +339,7 @@ public class DeploymentCache {
 
   public void removeDeployment(String deploymentId) {
     bpmnModelInstanceCache.removeAllDefinitionsByDeploymentId(deploymentId);
+    conditionalStartEventRegistry.invalidate();
     if (Context.getProcessEngineConfiguration().isCmmnEnabled()) {
       cmmnModelInstanceCache.removeAllDefinitionsByDeploymentId(deploymentId);
     }
@@ -361,6 +374,7 @@ public class DeploymentCache {
       result.addPurgeInformation(CachePurgeReport.PROCESS_DEF_CACHE, processDefinitionCache.keySet());
       processDefinitionCache.clear();
     }
+    conditionalStartEventRegistry.invalidate();
 
     Cache<String, BpmnModelInstance> theBpmnModelInstanceCache = getBpmnModelInstanceCache();
     if (!theBpmnModelInstanceCache.isEmpty()) {
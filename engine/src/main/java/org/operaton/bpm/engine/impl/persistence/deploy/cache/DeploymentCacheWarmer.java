@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.persistence.deploy.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.operaton.bpm.engine.impl.Page;
+import org.operaton.bpm.engine.impl.ProcessDefinitionQueryImpl;
+import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+import org.operaton.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
+import org.operaton.bpm.engine.repository.ProcessDefinition;
+
+/**
+ * Loads the latest versions of the deployed process definitions into the deployment cache
+ * in the background after the process engine was started.
+ * <p>
+ * Process definitions are always parsed on demand when they are accessed for the first time.
+ * Warming the cache moves this cost of the first accesses to a bounded pool of background
+ * threads, so the process engine, e.g. the job executor, does not wait for it. At most
+ * {@link #getMaxDefinitions() max definitions} process definitions are loaded, starting
+ * with the most recently deployed ones.
+ * <p>
+ * The resources of a deployment are parsed under the lock of the deployment. So the pool only
+ * parses in parallel if the definitions belong to different deployments, and a foreground access
+ * only waits for a warming thread which currently parses the same deployment.
+ */
+public class DeploymentCacheWarmer {
+
+  protected static final EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
+
+  public static final int DEFAULT_POOL_SIZE = 2;
+
+  /** The max time in seconds {@link #stop()} waits for process definitions which are currently loaded. */
+  protected static final long SHUTDOWN_TIMEOUT = 10L;
+
+  protected CommandExecutor commandExecutor;
+
+  protected int poolSize = DEFAULT_POOL_SIZE;
+  protected int maxDefinitions;
+
+  protected final AtomicInteger warmedDefinitions = new AtomicInteger();
+  protected final AtomicInteger failedDefinitions = new AtomicInteger();
+  protected volatile long warmingDuration = -1;
+
+  protected ExecutorService executorService;
+  protected CompletableFuture<Void> warming;
+
+  public DeploymentCacheWarmer(CommandExecutor commandExecutor, int maxDefinitions) {
+    this.commandExecutor = commandExecutor;
+    this.maxDefinitions = maxDefinitions;
+  }
+
+  public synchronized void start() {
+    if (executorService != null) {
+      return;
+    }
+    executorService = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(), createThreadFactory());
+
+    long startTime = System.nanoTime();
+    warming = CompletableFuture
+        .supplyAsync(this::findProcessDefinitionIds, executorService)
+        .thenCompose(this::warm)
+        .whenComplete((result, e) -> {
+          if (e != null) {
+            LOG.exceptionWhileWarmingDeploymentCache(e);
+          }
+          warmingDuration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+          LOG.deploymentCacheWarmed(warmedDefinitions.get(), failedDefinitions.get(), warmingDuration);
+        });
+  }
+
+  /**
+   * Stops warming the cache. Process definitions which are currently loaded are completed.
+   */
+  public synchronized void stop() {
+    if (executorService == null) {
+      return;
+    }
+    executorService.shutdownNow();
+    try {
+      executorService.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    executorService = null;
+  }
+
+  /**
+   * Waits until all process definitions were loaded into the cache.
+   *
+   * @return true if the cache was warmed before the timeout elapsed
+   */
+  public boolean awaitWarming(long timeout, TimeUnit unit) throws InterruptedException {
+    CompletableFuture<Void> currentWarming;
+    synchronized (this) {
+      currentWarming = warming;
+    }
+    if (currentWarming == null) {
+      return false;
+    }
+    try {
+      currentWarming.get(timeout, unit);
+      return true;
+    } catch (TimeoutException e) {
+      return false;
+    } catch (ExecutionException e) {
+      // the failure was logged when the warming completed
+      return true;
+    }
+  }
+
+  protected List<String> findProcessDefinitionIds() {
+    return commandExecutor.execute(commandContext -> {
+      ProcessDefinitionQueryImpl query = new ProcessDefinitionQueryImpl();
+      query.latestVersion().orderByDeploymentTime().desc();
+
+      List<String> processDefinitionIds = new ArrayList<>();
+      for (ProcessDefinition processDefinition : commandContext.getProcessDefinitionManager()
+          .findProcessDefinitionsByQueryCriteria(query, new Page(0, maxDefinitions))) {
+        processDefinitionIds.add(processDefinition.getId());
+      }
+      return processDefinitionIds;
+    });
+  }
+
+  protected CompletableFuture<Void> warm(List<String> processDefinitionIds) {
+    LOG.warmingDeploymentCache(processDefinitionIds.size());
+
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[processDefinitionIds.size()];
+    for (int i = 0; i < futures.length; i++) {
+      String processDefinitionId = processDefinitionIds.get(i);
+      futures[i] = CompletableFuture.runAsync(() -> warm(processDefinitionId), executorService);
+    }
+    return CompletableFuture.allOf(futures);
+  }
+
+  protected void warm(String processDefinitionId) {
+    try {
+      commandExecutor.execute(commandContext -> commandContext.getProcessEngineConfiguration()
+          .getDeploymentCache()
+          .findDeployedProcessDefinitionById(processDefinitionId));
+      warmedDefinitions.incrementAndGet();
+
+    } catch (Exception e) {
+      failedDefinitions.incrementAndGet();
+      LOG.exceptionWhileWarmingDeploymentCache(processDefinitionId, e);
+    }
+  }
+
+  protected ThreadFactory createThreadFactory() {
+    AtomicInteger threadNumber = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "operaton-deployment-cache-warmer-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * @return the number of process definitions which were loaded into the cache
+   */
+  public int getWarmedDefinitions() {
+    return warmedDefinitions.get();
+  }
+
+  /**
+   * @return the number of process definitions which could not be loaded into the cache
+   */
+  public int getFailedDefinitions() {
+    return failedDefinitions.get();
+  }
+
+  /**
+   * @return the time in milliseconds it took to warm the cache or -1 if warming is not completed
+   */
+  public long getWarmingDuration() {
+    return warmingDuration;
+  }
+
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  public void setPoolSize(int poolSize) {
+    this.poolSize = poolSize;
+  }
+
+  public int getMaxDefinitions() {
+    return maxDefinitions;
+  }
+
+  public void setMaxDefinitions(int maxDefinitions) {
+    this.maxDefinitions = maxDefinitions;
+  }
+
+}
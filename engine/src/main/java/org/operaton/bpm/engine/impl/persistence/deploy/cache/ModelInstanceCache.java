@@ -90,6 +90,10 @@ public abstract class ModelInstanceCache<InstanceType extends ModelInstance, Def
     }
   }
 
+  public void add(String definitionId, InstanceType modelInstance) {
+    instanceCache.put(definitionId, modelInstance);
+  }
+
   public void remove(String definitionId) {
     instanceCache.remove(definitionId);
   }
@@ -32,9 +32,18 @@ import java.util.concurrent.Callable;
  */
 public abstract class ResourceDefinitionCache<T extends ResourceDefinitionEntity> {
 
+  /** The number of locks which guard loading the resources of the deployments into the cache. */
+  protected static final int DEPLOYMENT_LOCK_COUNT = 64;
+
   protected Cache<String, T> cache;
   protected CacheDeployer cacheDeployer;
 
+  /**
+   * Definitions are loaded under the lock of their deployment, so definitions of different
+   * deployments can be parsed in parallel, e.g. by the {@link DeploymentCacheWarmer}.
+   */
+  protected final Object[] deploymentLocks = createDeploymentLocks();
+
   protected ResourceDefinitionCache(CacheFactory factory, int cacheCapacity, CacheDeployer cacheDeployer) {
     this.cache = factory.createCache(cacheCapacity);
     this.cacheDeployer = cacheDeployer;
@@ -105,7 +114,7 @@ public abstract class ResourceDefinitionCache<T extends ResourceDefinitionEntity
     String deploymentId = definition.getDeploymentId();
     T cachedDefinition = cache.get(definitionId);
     if (cachedDefinition == null) {
-      synchronized (this) {
+      synchronized (getDeploymentLock(deploymentId)) {
         cachedDefinition = cache.get(definitionId);
         if (cachedDefinition == null) {
           DeploymentEntity deployment = Context
@@ -125,6 +134,18 @@ public abstract class ResourceDefinitionCache<T extends ResourceDefinitionEntity
     return cachedDefinition;
   }
 
+  protected Object getDeploymentLock(String deploymentId) {
+    return deploymentLocks[Math.floorMod(deploymentId.hashCode(), deploymentLocks.length)];
+  }
+
+  protected static Object[] createDeploymentLocks() {
+    Object[] locks = new Object[DEPLOYMENT_LOCK_COUNT];
+    for (int i = 0; i < locks.length; i++) {
+      locks[i] = new Object();
+    }
+    return locks;
+  }
+
   public void addDefinition(T definition) {
     cache.put(definition.getId(), definition);
   }
@@ -19,11 +19,13 @@ package org.operaton.bpm.engine.impl.persistence.entity;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.operaton.bpm.engine.impl.db.DbEntity;
+import org.operaton.bpm.engine.impl.db.HasDbDirtyTracking;
 import org.operaton.bpm.engine.impl.db.HasDbRevision;
 
-public class AcquirableJobEntity implements DbEntity, HasDbRevision {
+public class AcquirableJobEntity implements DbEntity, HasDbRevision, HasDbDirtyTracking {
 
   public static final boolean DEFAULT_EXCLUSIVE = true;
 
@@ -39,6 +41,8 @@ public class AcquirableJobEntity implements DbEntity, HasDbRevision {
 
   protected boolean isExclusive = DEFAULT_EXCLUSIVE;
 
+  protected boolean dirty;
+
 
   @Override
   public Object getPersistentState() {
@@ -54,6 +58,28 @@ public class AcquirableJobEntity implements DbEntity, HasDbRevision {
     return revision + 1;
   }
 
+  @Override
+  public boolean isDirty() {
+    return dirty;
+  }
+
+  @Override
+  public void resetDirty() {
+    dirty = false;
+  }
+
+  /**
+   * Marks this entity as dirty if the new value of a persistent field differs from the old one.
+   *
+   * @return the new value
+   */
+  protected <T> T trackChange(T oldValue, T newValue) {
+    if (!Objects.equals(oldValue, newValue)) {
+      dirty = true;
+    }
+    return newValue;
+  }
+
   // getters and setters //////////////////////////////////////////////////////
 
   @Override
@@ -81,7 +107,7 @@ public class AcquirableJobEntity implements DbEntity, HasDbRevision {
   }
 
   public void setDuedate(Date duedate) {
-    this.duedate = duedate;
+    this.duedate = trackChange(this.duedate, duedate);
   }
 
   public String getLockOwner() {
@@ -89,7 +115,7 @@ public class AcquirableJobEntity implements DbEntity, HasDbRevision {
   }
 
   public void setLockOwner(String lockOwner) {
-    this.lockOwner = lockOwner;
+    this.lockOwner = trackChange(this.lockOwner, lockOwner);
   }
 
   public Date getLockExpirationTime() {
@@ -97,7 +123,7 @@ public class AcquirableJobEntity implements DbEntity, HasDbRevision {
   }
 
   public void setLockExpirationTime(Date lockExpirationTime) {
-    this.lockExpirationTime = lockExpirationTime;
+    this.lockExpirationTime = trackChange(this.lockExpirationTime, lockExpirationTime);
   }
 
   public String getRootProcessInstanceId() {
@@ -59,10 +59,13 @@ import org.operaton.bpm.engine.impl.batch.history.HistoricBatchQueryImpl;
 import org.operaton.bpm.engine.impl.cfg.CommandChecker;
 import org.operaton.bpm.engine.impl.context.Context;
 import org.operaton.bpm.engine.impl.db.AuthorizationCheck;
+import org.operaton.bpm.engine.impl.db.AuthorizationDecisionCache;
 import org.operaton.bpm.engine.impl.db.CompositePermissionCheck;
 import org.operaton.bpm.engine.impl.db.DbEntity;
 import org.operaton.bpm.engine.impl.db.EnginePersistenceLogger;
 import org.operaton.bpm.engine.impl.db.ListQueryParameterObject;
+import org.operaton.bpm.engine.impl.db.entitymanager.cache.CachedDbEntity;
+import org.operaton.bpm.engine.impl.db.entitymanager.cache.DbEntityState;
 import org.operaton.bpm.engine.impl.db.PermissionCheck;
 import org.operaton.bpm.engine.impl.db.PermissionCheckBuilder;
 import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperation;
@@ -159,6 +162,30 @@ public class AuthorizationManager extends AbstractManager {
 
   protected Boolean isRevokeAuthCheckUsed = null;
 
+  /**
+   * The version of the authorizations which is used for the {@link AuthorizationDecisionCache}.
+   * Like {@link #availableAuthorizedGroupIds}, it is fetched once per command. Is <code>null</code> if
+   * cached decisions must not be used in this command.
+   */
+  protected Integer authorizationVersion = null;
+  protected boolean isAuthorizationVersionFetched = false;
+  protected boolean isAuthorizationModified = false;
+  protected boolean isAuthorizationVersionIncremented = false;
+
+  /**
+   * The entities of the resources which get default authorizations when they are created.
+   * A grant on such a resource which was created by the current command does not increment
+   * the authorization version, since no decision about the resource can have been cached.
+   */
+  protected static final Map<Integer, Class<? extends DbEntity>> NEW_RESOURCE_ENTITY_TYPES = Map.of(
+      Resources.TASK.resourceType(), TaskEntity.class,
+      Resources.PROCESS_INSTANCE.resourceType(), ExecutionEntity.class,
+      Resources.FILTER.resourceType(), FilterEntity.class,
+      Resources.DEPLOYMENT.resourceType(), DeploymentEntity.class,
+      Resources.USER.resourceType(), UserEntity.class,
+      Resources.GROUP.resourceType(), GroupEntity.class,
+      Resources.TENANT.resourceType(), TenantEntity.class);
+
   public PermissionCheckBuilder newPermissionCheckBuilder() {
     return new PermissionCheckBuilder();
   }
@@ -172,6 +199,7 @@ public class AuthorizationManager extends AbstractManager {
   public void insert(DbEntity authorization) {
     checkAuthorization(CREATE, AUTHORIZATION, null);
     getDbEntityManager().insert(authorization);
+    onAuthorizationSaved((AuthorizationEntity) authorization);
   }
 
   public List<Authorization> selectAuthorizationByQueryCriteria(AuthorizationQueryImpl authorizationQuery) {
@@ -210,6 +238,7 @@ public class AuthorizationManager extends AbstractManager {
   public void update(AuthorizationEntity authorization) {
     checkAuthorization(UPDATE, AUTHORIZATION, authorization.getId());
     getDbEntityManager().merge(authorization);
+    onAuthorizationSaved(authorization);
   }
 
   @Override
@@ -217,6 +246,7 @@ public class AuthorizationManager extends AbstractManager {
     checkAuthorization(DELETE, AUTHORIZATION, authorization.getId());
     deleteAuthorizationsByResourceId(AUTHORIZATION, authorization.getId());
     super.delete(authorization);
+    onAuthorizationsModified();
   }
 
   // authorization checks ///////////////////////////////////////////
@@ -306,7 +336,75 @@ public class AuthorizationManager extends AbstractManager {
     boolean isRevokeAuthorizationCheckEnabled = isRevokeAuthCheckEnabled(userId, groupIds);
     CompositePermissionCheck compositePermissionCheck = createCompositePermissionCheck(permissionCheck);
     AuthorizationCheck authCheck = new AuthorizationCheck(userId, filteredGroupIds, compositePermissionCheck, isRevokeAuthorizationCheckEnabled);
-    return getDbEntityManager().selectBoolean("isUserAuthorizedForResource", authCheck);
+    return isUserAuthorizedForResource(authCheck);
+  }
+
+  protected boolean isUserAuthorizedForResource(AuthorizationCheck authCheck) {
+    AuthorizationDecisionCache decisionCache = Context.getProcessEngineConfiguration().getAuthorizationDecisionCache();
+    Integer version = decisionCache != null ? getAuthorizationVersion() : null;
+
+    if (version == null) {
+      return getDbEntityManager().selectBoolean("isUserAuthorizedForResource", authCheck);
+    }
+
+    Boolean isAuthorized = decisionCache.get(version, authCheck);
+    if (isAuthorized == null) {
+      isAuthorized = getDbEntityManager().selectBoolean("isUserAuthorizedForResource", authCheck);
+      decisionCache.put(version, authCheck, isAuthorized);
+    }
+    return isAuthorized;
+  }
+
+  protected Integer getAuthorizationVersion() {
+    if (isAuthorizationModified) {
+      // the decisions of this command must reflect its own, not yet committed changes
+      return null;
+    }
+    if (!isAuthorizationVersionFetched) {
+      authorizationVersion = (Integer) getDbEntityManager()
+          .selectOne("selectPropertyRevision", AuthorizationDecisionCache.VERSION_PROPERTY_NAME);
+      isAuthorizationVersionFetched = true;
+    }
+    return authorizationVersion;
+  }
+
+  /**
+   * Increments the version of the authorizations once per command, so that all engines discard
+   * their cached authorization decisions after the transaction was committed.
+   */
+  protected void onAuthorizationsModified() {
+    if (!isAuthorizationVersionIncremented && Context.getProcessEngineConfiguration().getAuthorizationDecisionCache() != null) {
+      getDbEntityManager().update(PropertyEntity.class, "incrementPropertyRevision",
+          AuthorizationDecisionCache.VERSION_PROPERTY_NAME);
+      isAuthorizationVersionIncremented = true;
+    }
+    isAuthorizationModified = true;
+  }
+
+  protected void onAuthorizationSaved(AuthorizationEntity authorization) {
+    if (isGrantOnNewResource(authorization)) {
+      // the decisions of this command must still reflect the grant
+      isAuthorizationModified = true;
+    } else {
+      onAuthorizationsModified();
+    }
+  }
+
+  /**
+   * @return true if the authorization grants permissions on a single resource that was
+   * created by the current command, e.g. the default authorization of a new task's assignee
+   */
+  protected boolean isGrantOnNewResource(AuthorizationEntity authorization) {
+    Class<? extends DbEntity> entityType = NEW_RESOURCE_ENTITY_TYPES.get(authorization.getResourceType());
+    if (entityType == null
+        || authorization.getAuthorizationType() != Authorization.AUTH_TYPE_GRANT
+        || authorization.getResourceId() == null
+        || Authorization.ANY.equals(authorization.getResourceId())) {
+      return false;
+    }
+    CachedDbEntity cachedResource = getDbEntityManager().getDbEntityCache()
+        .getCachedEntity(entityType, authorization.getResourceId());
+    return cachedResource != null && cachedResource.getEntityState() == DbEntityState.TRANSIENT;
   }
 
   protected boolean isRevokeAuthCheckEnabled(String userId, List<String> groupIds) {
@@ -351,7 +449,7 @@ public class AuthorizationManager extends AbstractManager {
 
     boolean isRevokeAuthorizationCheckEnabled = isRevokeAuthCheckEnabled(userId, groupIds);
     AuthorizationCheck authCheck = new AuthorizationCheck(userId, filteredGroupIds, compositePermissionCheck, isRevokeAuthorizationCheckEnabled);
-    return getDbEntityManager().selectBoolean("isUserAuthorizedForResource", authCheck);
+    return isUserAuthorizedForResource(authCheck);
   }
 
   public boolean isAuthorized(CompositePermissionCheck compositePermissionCheck) {
@@ -485,6 +583,7 @@ public class AuthorizationManager extends AbstractManager {
       deleteParams.put(RESOURCE_TYPE, resource.resourceType());
       deleteParams.put(RESOURCE_ID, resourceId);
       getDbEntityManager().delete(AuthorizationEntity.class, "deleteAuthorizationsForResourceId", deleteParams);
+      onAuthorizationsModified();
     }
 
   }
@@ -501,6 +600,7 @@ public class AuthorizationManager extends AbstractManager {
       deleteParams.put(RESOURCE_ID, resourceId);
       deleteParams.put(USER_ID, userId);
       getDbEntityManager().delete(AuthorizationEntity.class, "deleteAuthorizationsForResourceIdAndUserId", deleteParams);
+      onAuthorizationsModified();
     }
 
   }
@@ -517,6 +617,7 @@ public class AuthorizationManager extends AbstractManager {
       deleteParams.put(RESOURCE_ID, resourceId);
       deleteParams.put(GROUP_ID, groupId);
       getDbEntityManager().delete(AuthorizationEntity.class, "deleteAuthorizationsForResourceIdAndGroupId", deleteParams);
+      onAuthorizationsModified();
     }
 
   }
@@ -1175,7 +1276,7 @@ public class AuthorizationManager extends AbstractManager {
     return availableAuthorizedGroupIds;
   }
 
-  protected boolean isAuthCheckExecuted() {
+  public boolean isAuthCheckExecuted() {
 
     Authentication currentAuthentication = getCurrentAuthentication();
     CommandContext commandContext = Context.getCommandContext();
@@ -1229,6 +1330,8 @@ public class AuthorizationManager extends AbstractManager {
     }
     parameters.put(BATCH_SIZE, batchSize);
 
+    onAuthorizationsModified();
+
     return getDbEntityManager()
         .deletePreserveOrder(AuthorizationEntity.class, "deleteAuthorizationsByRemovalTime",
             new ListQueryParameterObject(parameters, 0, batchSize));
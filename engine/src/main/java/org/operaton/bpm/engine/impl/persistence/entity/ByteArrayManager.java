@@ -16,11 +16,14 @@
  */
 package org.operaton.bpm.engine.impl.persistence.entity;
 
+import org.operaton.bpm.engine.ProcessEngineException;
 import org.operaton.bpm.engine.impl.db.ListQueryParameterObject;
 import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.operaton.bpm.engine.impl.persistence.AbstractManager;
 import org.operaton.bpm.engine.impl.util.ClockUtil;
 
+import java.sql.Blob;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
@@ -42,6 +45,54 @@ public class ByteArrayManager extends AbstractManager {
     getDbEntityManager().delete(ByteArrayEntity.class, "deleteByteArrayNoRevisionCheck", byteArrayEntityId);
   }
 
+  /**
+   * @return the revision of the {@link ByteArrayEntity} with the given id under the key
+   *         <code>revision</code> and the number of bytes of its content under the key
+   *         <code>length</code>, or <code>null</code> if it does not exist. The length is
+   *         <code>null</code> if the byte array has no content.
+   */
+  @SuppressWarnings("unchecked")
+  public Map<String, Object> findByteArrayLength(String byteArrayEntityId) {
+    return (Map<String, Object>) getDbEntityManager().selectOne("selectByteArrayLength", byteArrayEntityId);
+  }
+
+  /**
+   * Loads a part of the content of the {@link ByteArrayEntity} with the given id without
+   * loading the entity itself. On Oracle, the part is read from the LOB locator of the content.
+   * On PostgreSQL, MySQL and MariaDB, the database reads the whole content to select a part of it.
+   *
+   * @param revision the revision of the byte array when its length was determined
+   * @param offset the zero-based position of the first byte to load
+   * @param length the maximum number of bytes to load
+   * @return the loaded bytes, which are fewer than requested at the end of the content,
+   *         or <code>null</code> if the byte array does not exist anymore or has been
+   *         updated since the given revision
+   */
+  public byte[] findByteArrayChunk(String byteArrayEntityId, int revision, long offset, int length) {
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("id", byteArrayEntityId);
+    parameters.put("revision", revision);
+    parameters.put("offset", offset + 1);
+    parameters.put("length", length);
+
+    Object chunk = getDbEntityManager().selectOne("selectByteArrayChunk", parameters);
+    if (chunk instanceof Blob blob) {
+      return readBlobChunk(byteArrayEntityId, blob, offset, length);
+    }
+    return (byte[]) chunk;
+  }
+
+  protected byte[] readBlobChunk(String byteArrayEntityId, Blob blob, long offset, int length) {
+    try {
+      int chunkLength = (int) Math.max(0, Math.min(length, blob.length() - offset));
+      byte[] chunk = chunkLength > 0 ? blob.getBytes(offset + 1, chunkLength) : new byte[0];
+      blob.free();
+      return chunk;
+    } catch (SQLException e) {
+      throw new ProcessEngineException("Cannot read content of byte array '" + byteArrayEntityId + "'", e);
+    }
+  }
+
   public void insertByteArray(ByteArrayEntity arr) {
     arr.setCreateTime(ClockUtil.getCurrentTime());
     getDbEntityManager().insert(arr);
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.persistence.entity;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.operaton.bpm.engine.impl.db.DbEntity;
+
+/**
+ * An entry of the correlation key index. It mirrors the value of a process
+ * variable whose name is declared as correlation key, so that messages can be
+ * correlated by the value with a single index lookup instead of a join against
+ * the variable table.
+ * <p>
+ * The id of the entry is the id of the variable instance it mirrors.
+ *
+ * @see org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl#setCorrelationKeyVariableNames(java.util.Set)
+ */
+public class CorrelationKeyEntity implements DbEntity, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /** the max length of an indexed value, longer values are not indexed */
+  public static final int MAX_VALUE_LENGTH = 255;
+
+  protected String id;
+  protected String processInstanceId;
+  protected String name;
+  protected String type;
+  protected String value;
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  @Override
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public String getProcessInstanceId() {
+    return processInstanceId;
+  }
+
+  public void setProcessInstanceId(String processInstanceId) {
+    this.processInstanceId = processInstanceId;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public void setType(String type) {
+    this.type = type;
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  public void setValue(String value) {
+    this.value = value;
+  }
+
+  @Override
+  public Object getPersistentState() {
+    Map<String, Object> persistentState = new HashMap<>();
+    persistentState.put("processInstanceId", processInstanceId);
+    persistentState.put("type", type);
+    persistentState.put("value", value);
+    return persistentState;
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName()
+        + "[id=" + id
+        + ", processInstanceId=" + processInstanceId
+        + ", name=" + name
+        + ", type=" + type
+        + ", value=" + value
+        + "]";
+  }
+
+}
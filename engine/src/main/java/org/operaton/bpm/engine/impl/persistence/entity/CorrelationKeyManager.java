@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.persistence.entity;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.operaton.bpm.engine.impl.Direction;
+import org.operaton.bpm.engine.impl.QueryOrderingProperty;
+import org.operaton.bpm.engine.impl.QueryPropertyImpl;
+import org.operaton.bpm.engine.impl.db.ListQueryParameterObject;
+import org.operaton.bpm.engine.impl.persistence.AbstractManager;
+import org.operaton.bpm.engine.impl.variable.serializer.ValueFields;
+
+/**
+ * Maintains the correlation key index.
+ *
+ * @see CorrelationKeyEntity
+ */
+public class CorrelationKeyManager extends AbstractManager {
+
+  protected static final QueryOrderingProperty VARIABLE_ID_ORDERING_PROPERTY =
+      new QueryOrderingProperty(new QueryPropertyImpl("ID_"), Direction.ASCENDING);
+
+  public CorrelationKeyEntity findCorrelationKeyById(String id) {
+    return getDbEntityManager().selectById(CorrelationKeyEntity.class, id);
+  }
+
+  /**
+   * @return the ids of the process instances with a variable of the given name, type and indexed value,
+   *         see {@link #getIndexedValue(ValueFields)}
+   */
+  @SuppressWarnings("unchecked")
+  public List<String> findProcessInstanceIdsByCorrelationKey(String name, String type, String value) {
+    Map<String, String> parameters = new HashMap<>();
+    parameters.put("name", name);
+    parameters.put("type", type);
+    parameters.put("value", value);
+    return getDbEntityManager().selectList("selectProcessInstanceIdsByCorrelationKey", parameters);
+  }
+
+  public void insertCorrelationKey(CorrelationKeyEntity correlationKey) {
+    getDbEntityManager().insert(correlationKey);
+  }
+
+  public void insertCorrelationKey(VariableInstanceEntity variableInstance, String value) {
+    CorrelationKeyEntity correlationKey = new CorrelationKeyEntity();
+    correlationKey.setId(variableInstance.getId());
+    correlationKey.setProcessInstanceId(variableInstance.getProcessInstanceId());
+    correlationKey.setName(variableInstance.getName());
+    correlationKey.setType(variableInstance.getSerializerName());
+    correlationKey.setValue(value);
+
+    insertCorrelationKey(correlationKey);
+  }
+
+  public void deleteCorrelationKey(CorrelationKeyEntity correlationKey) {
+    getDbEntityManager().delete(correlationKey);
+  }
+
+  public void deleteCorrelationKeysByProcessInstanceId(String processInstanceId) {
+    getDbEntityManager().delete(CorrelationKeyEntity.class, "deleteCorrelationKeysByProcessInstanceId", processInstanceId);
+  }
+
+  /**
+   * @return the process variables with the given name which have no entry in the index yet,
+   *         ordered by id and starting after the given id (may be <code>null</code>)
+   */
+  @SuppressWarnings("unchecked")
+  public List<VariableInstanceEntity> findVariableInstancesToIndex(String name, String afterId, int maxResults) {
+    Map<String, String> parameters = new HashMap<>();
+    parameters.put("name", name);
+    parameters.put("afterId", afterId);
+
+    ListQueryParameterObject parameter = new ListQueryParameterObject(parameters, 0, maxResults);
+    parameter.setOrderingProperties(Collections.singletonList(VARIABLE_ID_ORDERING_PROPERTY));
+    return getDbEntityManager().selectList("selectVariableInstancesToIndexAsCorrelationKey", parameter);
+  }
+
+  /**
+   * Returns the representation of a variable value in the index. Variables and query conditions
+   * share the same representation as both are written by the variable serializers.
+   *
+   * @return the indexed value or <code>null</code> if values of this kind are not indexed
+   *         (e.g. null, empty or long strings, doubles and serialized values)
+   */
+  public static String getIndexedValue(ValueFields valueFields) {
+    if (valueFields.getDoubleValue() != null || valueFields.getTextValue2() != null) {
+      return null;
+    }
+    if (valueFields.getLongValue() != null) {
+      return valueFields.getLongValue().toString();
+    }
+
+    String textValue = valueFields.getTextValue();
+    if (textValue != null && !textValue.isEmpty() && textValue.length() <= CorrelationKeyEntity.MAX_VALUE_LENGTH) {
+      return textValue;
+    }
+    return null;
+  }
+
+}
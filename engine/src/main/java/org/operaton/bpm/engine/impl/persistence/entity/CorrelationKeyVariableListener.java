@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.persistence.entity;
+
+import org.operaton.bpm.engine.impl.context.Context;
+import org.operaton.bpm.engine.impl.core.variable.scope.AbstractVariableScope;
+import org.operaton.bpm.engine.impl.core.variable.scope.VariableInstanceLifecycleListener;
+import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+
+/**
+ * Keeps the correlation key index in sync with the process variables which are
+ * declared as correlation keys.
+ *
+ * @see org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl#setCorrelationKeyVariableNames(java.util.Set)
+ */
+public class CorrelationKeyVariableListener implements VariableInstanceLifecycleListener<VariableInstanceEntity> {
+
+  public static final CorrelationKeyVariableListener INSTANCE = new CorrelationKeyVariableListener();
+
+  @Override
+  public void onCreate(VariableInstanceEntity variableInstance, AbstractVariableScope sourceScope) {
+    if (isCorrelationKey(variableInstance)) {
+      String value = CorrelationKeyManager.getIndexedValue(variableInstance);
+      if (value != null) {
+        insertCorrelationKey(variableInstance, value);
+      }
+    }
+  }
+
+  @Override
+  public void onDelete(VariableInstanceEntity variableInstance, AbstractVariableScope sourceScope) {
+    if (isCorrelationKey(variableInstance)) {
+      CommandContext commandContext = Context.getCommandContext();
+      CorrelationKeyEntity correlationKey = commandContext.getCorrelationKeyManager().findCorrelationKeyById(variableInstance.getId());
+      if (correlationKey != null && !commandContext.getDbEntityManager().isDeleted(correlationKey)) {
+        commandContext.getCorrelationKeyManager().deleteCorrelationKey(correlationKey);
+      }
+    }
+  }
+
+  @Override
+  public void onUpdate(VariableInstanceEntity variableInstance, AbstractVariableScope sourceScope) {
+    if (!isCorrelationKey(variableInstance)) {
+      return;
+    }
+
+    CommandContext commandContext = Context.getCommandContext();
+    CorrelationKeyManager correlationKeyManager = commandContext.getCorrelationKeyManager();
+    CorrelationKeyEntity correlationKey = correlationKeyManager.findCorrelationKeyById(variableInstance.getId());
+    String value = CorrelationKeyManager.getIndexedValue(variableInstance);
+
+    if (correlationKey == null) {
+      if (value != null) {
+        insertCorrelationKey(variableInstance, value);
+      }
+    } else {
+      boolean deleted = commandContext.getDbEntityManager().isDeleted(correlationKey);
+      if (value == null) {
+        if (!deleted) {
+          correlationKeyManager.deleteCorrelationKey(correlationKey);
+        }
+      } else {
+        if (deleted) {
+          // the variable was removed and set again in the same command
+          commandContext.getDbEntityManager().undoDelete(correlationKey);
+        }
+        correlationKey.setProcessInstanceId(variableInstance.getProcessInstanceId());
+        correlationKey.setType(variableInstance.getSerializerName());
+        correlationKey.setValue(value);
+      }
+    }
+  }
+
+  protected void insertCorrelationKey(VariableInstanceEntity variableInstance, String value) {
+    Context.getCommandContext().getCorrelationKeyManager().insertCorrelationKey(variableInstance, value);
+  }
+
+  protected boolean isCorrelationKey(VariableInstanceEntity variableInstance) {
+    // task variables are no process variables in terms of message correlation
+    return !variableInstance.isTransient()
+        && variableInstance.getProcessInstanceId() != null
+        && variableInstance.getTaskId() == null
+        && Context.getProcessEngineConfiguration().getCorrelationKeyVariableNames().contains(variableInstance.getName());
+  }
+
+}
@@ -21,9 +21,12 @@ import org.operaton.bpm.engine.impl.Page;
 import org.operaton.bpm.engine.impl.ProcessEngineLogger;
 import org.operaton.bpm.engine.impl.db.EnginePersistenceLogger;
 import org.operaton.bpm.engine.impl.db.ListQueryParameterObject;
+import org.operaton.bpm.engine.impl.db.sql.DbSqlSessionFactory;
 import org.operaton.bpm.engine.impl.event.EventType;
 import org.operaton.bpm.engine.impl.jobexecutor.ProcessEventJobHandler;
 import org.operaton.bpm.engine.impl.persistence.AbstractManager;
+import org.operaton.bpm.engine.impl.runtime.CorrelationSet;
+import org.operaton.bpm.engine.impl.util.CollectionUtil;
 import org.operaton.bpm.engine.runtime.EventSubscription;
 import org.operaton.commons.utils.EnsureUtil;
 
@@ -43,6 +46,7 @@ public class EventSubscriptionManager extends AbstractManager {
   private static final String EXECUTION_ID = "executionId";
   private static final String LOCK_RESULT = "lockResult";
   private static final String MESSAGE_NAME = "messageName";
+  private static final int PARAMS_PER_CORRELATION_SET = 4;
 
   protected static final EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
 
@@ -282,6 +286,22 @@ public class EventSubscriptionManager extends AbstractManager {
     return getDbEntityManager().selectList("selectMessageStartEventSubscriptionByName", configureParameterizedQuery(messageName));
   }
 
+  /**
+   * Finds the message event subscriptions of active executions which match at least one of the given
+   * correlation sets by message name, business key, process instance id and tenant id. The correlation
+   * sets are queried in partitions so that the number of statement parameters stays within the limits
+   * of the database.
+   */
+  @SuppressWarnings("unchecked")
+  public List<EventSubscriptionEntity> findMessageEventSubscriptionsByCorrelationSets(List<CorrelationSet> correlationSets) {
+    List<EventSubscriptionEntity> eventSubscriptions = new ArrayList<>();
+    int partitionSize = DbSqlSessionFactory.MAXIMUM_NUMBER_PARAMS / PARAMS_PER_CORRELATION_SET;
+    for (List<CorrelationSet> partition : CollectionUtil.partition(correlationSets, partitionSize)) {
+      eventSubscriptions.addAll(getDbEntityManager().selectList("selectMessageEventSubscriptionsByCorrelationSets", configureParameterizedQuery(partition)));
+    }
+    return eventSubscriptions;
+  }
+
   /**
    * @return the message start event subscription with the given message name and tenant id
    *
@@ -321,6 +341,25 @@ public class EventSubscriptionManager extends AbstractManager {
     return getDbEntityManager().selectList("selectConditionalStartEventSubscription", parameter);
   }
 
+  /**
+   * @return the conditional start event subscriptions of all tenants, regardless of the
+   *   authorizations of the current user
+   */
+  @SuppressWarnings("unchecked")
+  public List<EventSubscriptionEntity> findAllConditionalStartEventSubscriptions() {
+    ListQueryParameterObject parameter = new ListQueryParameterObject();
+    parameter.getTenantCheck().setTenantCheckEnabled(false);
+    return getDbEntityManager().selectList("selectConditionalStartEventSubscription", parameter);
+  }
+
+  /**
+   * @return the ordered ids of the conditional start event subscriptions of all tenants
+   */
+  @SuppressWarnings("unchecked")
+  public List<String> findAllConditionalStartEventSubscriptionIds() {
+    return getDbEntityManager().selectList("selectConditionalStartEventSubscriptionIds");
+  }
+
   protected void configurParameterObject(ListQueryParameterObject parameter) {
     getAuthorizationManager().configureConditionalEventSubscriptionQuery(parameter);
     getTenantManager().configureQuery(parameter);
@@ -549,11 +549,16 @@ public class ExecutionEntity extends PvmExecutionImpl implements Execution, Proc
 
   @Override
   public void removeVariablesLocalInternal() {
+    // the correlation keys of a process instance are deleted together with the process instance
+    List<VariableInstanceLifecycleListener<CoreVariableInstance>> listeners = isProcessInstanceExecution()
+        ? Collections.singletonList(getVariablePersistenceListener())
+        : getVariableRemovalListeners();
+
     for (VariableInstanceEntity variableInstance : variableStore.getVariables()) {
       invokeVariableLifecycleListenersDelete(
           variableInstance,
           this,
-          Collections.singletonList(getVariablePersistenceListener()));
+          listeners);
       removeVariableInternal(variableInstance);
     }
   }
@@ -1235,7 +1240,7 @@ public class ExecutionEntity extends PvmExecutionImpl implements Execution, Proc
       invokeVariableLifecycleListenersDelete(
           variable,
           this,
-          Collections.singletonList(getVariablePersistenceListener()));
+          getVariableRemovalListeners());
     }
     else {
       other.variableStore.addVariable(variable);
@@ -1682,6 +1687,7 @@ public class ExecutionEntity extends PvmExecutionImpl implements Execution, Proc
     listeners.add((VariableInstanceLifecycleListener) VariableInstanceSequenceCounterListener.INSTANCE);
 
     listeners.add((VariableInstanceLifecycleListener) VariableInstanceHistoryListener.INSTANCE);
+    listeners.add((VariableInstanceLifecycleListener) CorrelationKeyVariableListener.INSTANCE);
 
     listeners.add((VariableInstanceLifecycleListener) new VariableListenerInvocationListener(this));
 
@@ -1695,6 +1701,18 @@ public class ExecutionEntity extends PvmExecutionImpl implements Execution, Proc
     return (VariableInstanceLifecycleListener) VariableInstanceEntityPersistenceListener.INSTANCE;
   }
 
+  /**
+   * @return the listeners for variables which are removed internally, i.e. without history
+   *   and variable listeners: the variable is deleted and removed from the correlation key index
+   */
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  protected List<VariableInstanceLifecycleListener<CoreVariableInstance>> getVariableRemovalListeners() {
+    List<VariableInstanceLifecycleListener<CoreVariableInstance>> listeners = new ArrayList<>();
+    listeners.add(getVariablePersistenceListener());
+    listeners.add((VariableInstanceLifecycleListener) CorrelationKeyVariableListener.INSTANCE);
+    return listeners;
+  }
+
   public Collection<VariableInstanceEntity> getVariablesInternal() {
     return variableStore.getVariables();
   }
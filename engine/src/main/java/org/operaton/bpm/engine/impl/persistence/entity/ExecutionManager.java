@@ -23,14 +23,19 @@ import org.operaton.bpm.engine.impl.Page;
 import org.operaton.bpm.engine.impl.ProcessEngineLogger;
 import org.operaton.bpm.engine.impl.ProcessInstanceQueryImpl;
 import org.operaton.bpm.engine.impl.cfg.auth.ResourceAuthorizationProvider;
+import org.operaton.bpm.engine.impl.context.Context;
 import org.operaton.bpm.engine.impl.db.EnginePersistenceLogger;
 import org.operaton.bpm.engine.impl.db.ListQueryParameterObject;
+import org.operaton.bpm.engine.impl.db.sql.DbSqlSessionFactory;
 import org.operaton.bpm.engine.impl.persistence.AbstractManager;
+import org.operaton.bpm.engine.impl.util.CollectionUtil;
 import org.operaton.bpm.engine.impl.util.ImmutablePair;
 import org.operaton.bpm.engine.runtime.Execution;
 import org.operaton.bpm.engine.runtime.ProcessInstance;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -52,6 +57,17 @@ public class ExecutionManager extends AbstractManager {
     getDbEntityManager().delete(execution);
     if (execution.isProcessInstanceExecution()) {
       deleteAuthorizations(Resources.PROCESS_INSTANCE, execution.getProcessInstanceId());
+      deleteCorrelationKeys(execution.getProcessInstanceId());
+    }
+  }
+
+  /**
+   * Removes the correlation key index entries of an ended or deleted process instance. The variables
+   * of a process instance are removed without notifying the correlation key listener.
+   */
+  protected void deleteCorrelationKeys(String processInstanceId) {
+    if (!Context.getProcessEngineConfiguration().getCorrelationKeyVariableNames().isEmpty()) {
+      getCorrelationKeyManager().deleteCorrelationKeysByProcessInstanceId(processInstanceId);
     }
   }
 
@@ -113,6 +129,19 @@ public class ExecutionManager extends AbstractManager {
     return getDbEntityManager().selectList("selectExecutionsByProcessInstanceId", processInstanceId);
   }
 
+  /**
+   * Loads the executions with the given ids with as few queries as possible.
+   * Executions which are already cached are returned from the cache.
+   */
+  @SuppressWarnings("unchecked")
+  public List<ExecutionEntity> findExecutionsByIds(Collection<String> executionIds) {
+    List<ExecutionEntity> executions = new ArrayList<>();
+    for (List<String> partition : CollectionUtil.partition(new ArrayList<>(executionIds), DbSqlSessionFactory.MAXIMUM_NUMBER_PARAMS)) {
+      executions.addAll(getDbEntityManager().selectList("selectExecutionsByIds", partition));
+    }
+    return executions;
+  }
+
   public ExecutionEntity findExecutionById(String executionId) {
     return getDbEntityManager().selectById(ExecutionEntity.class, executionId);
   }
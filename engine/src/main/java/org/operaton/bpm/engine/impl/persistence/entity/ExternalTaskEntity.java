@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.operaton.bpm.engine.EntityTypes;
@@ -36,6 +37,7 @@ import org.operaton.bpm.engine.impl.bpmn.parser.OperatonErrorEventDefinition;
 import org.operaton.bpm.engine.impl.context.Context;
 import org.operaton.bpm.engine.impl.db.DbEntity;
 import org.operaton.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.operaton.bpm.engine.impl.db.HasDbDirtyTracking;
 import org.operaton.bpm.engine.impl.db.HasDbReferences;
 import org.operaton.bpm.engine.impl.db.HasDbRevision;
 import org.operaton.bpm.engine.impl.incident.IncidentContext;
@@ -54,7 +56,7 @@ import org.operaton.bpm.engine.runtime.Incident;
  *
  */
 public class ExternalTaskEntity implements ExternalTask, DbEntity,
-  HasDbRevision, HasDbReferences {
+  HasDbRevision, HasDbReferences, HasDbDirtyTracking {
 
   protected static final EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
   private static final String EXCEPTION_NAME = "externalTask.exceptionByteArray";
@@ -98,6 +100,8 @@ public class ExternalTaskEntity implements ExternalTask, DbEntity,
 
   protected String lastFailureLogId;
 
+  protected boolean dirty;
+
   @Override
   public String getId() {
     return id;
@@ -111,14 +115,14 @@ public class ExternalTaskEntity implements ExternalTask, DbEntity,
     return topicName;
   }
   public void setTopicName(String topic) {
-    this.topicName = topic;
+    this.topicName = trackChange(this.topicName, topic);
   }
   @Override
   public String getWorkerId() {
     return workerId;
   }
   public void setWorkerId(String workerId) {
-    this.workerId = workerId;
+    this.workerId = trackChange(this.workerId, workerId);
   }
   @Override
   public Date getLockExpirationTime() {
@@ -126,7 +130,7 @@ public class ExternalTaskEntity implements ExternalTask, DbEntity,
   }
 
   public void setLockExpirationTime(Date lockExpirationTime) {
-    this.lockExpirationTime = lockExpirationTime;
+    this.lockExpirationTime = trackChange(this.lockExpirationTime, lockExpirationTime);
   }
 
   @Override
@@ -143,14 +147,14 @@ public class ExternalTaskEntity implements ExternalTask, DbEntity,
     return executionId;
   }
   public void setExecutionId(String executionId) {
-    this.executionId = executionId;
+    this.executionId = trackChange(this.executionId, executionId);
   }
   @Override
   public String getProcessDefinitionKey() {
     return processDefinitionKey;
   }
   public void setProcessDefinitionKey(String processDefinitionKey) {
-    this.processDefinitionKey = processDefinitionKey;
+    this.processDefinitionKey = trackChange(this.processDefinitionKey, processDefinitionKey);
   }
 
   @Override
@@ -158,21 +162,21 @@ public class ExternalTaskEntity implements ExternalTask, DbEntity,
     return processDefinitionVersionTag;
   }
   public void setProcessDefinitionVersionTag(String processDefinitionVersionTag) {
-    this.processDefinitionVersionTag = processDefinitionVersionTag;
+    this.processDefinitionVersionTag = trackChange(this.processDefinitionVersionTag, processDefinitionVersionTag);
   }
   @Override
   public String getActivityId() {
     return activityId;
   }
   public void setActivityId(String activityId) {
-    this.activityId = activityId;
+    this.activityId = trackChange(this.activityId, activityId);
   }
   @Override
   public String getActivityInstanceId() {
     return activityInstanceId;
   }
   public void setActivityInstanceId(String activityInstanceId) {
-    this.activityInstanceId = activityInstanceId;
+    this.activityInstanceId = trackChange(this.activityInstanceId, activityInstanceId);
   }
   @Override
   public int getRevision() {
@@ -190,7 +194,7 @@ public class ExternalTaskEntity implements ExternalTask, DbEntity,
     return suspensionState;
   }
   public void setSuspensionState(int suspensionState) {
-    this.suspensionState = suspensionState;
+    this.suspensionState = trackChange(this.suspensionState, suspensionState);
   }
   @Override
   public boolean isSuspended() {
@@ -201,28 +205,28 @@ public class ExternalTaskEntity implements ExternalTask, DbEntity,
     return processInstanceId;
   }
   public void setProcessInstanceId(String processInstanceId) {
-    this.processInstanceId = processInstanceId;
+    this.processInstanceId = trackChange(this.processInstanceId, processInstanceId);
   }
   @Override
   public String getProcessDefinitionId() {
     return processDefinitionId;
   }
   public void setProcessDefinitionId(String processDefinitionId) {
-    this.processDefinitionId = processDefinitionId;
+    this.processDefinitionId = trackChange(this.processDefinitionId, processDefinitionId);
   }
   @Override
   public String getTenantId() {
     return tenantId;
   }
   public void setTenantId(String tenantId) {
-    this.tenantId = tenantId;
+    this.tenantId = trackChange(this.tenantId, tenantId);
   }
   @Override
   public Integer getRetries() {
     return retries;
   }
   public void setRetries(Integer retries) {
-    this.retries = retries;
+    this.retries = trackChange(this.retries, retries);
   }
   @Override
   public String getErrorMessage() {
@@ -239,7 +243,7 @@ public class ExternalTaskEntity implements ExternalTask, DbEntity,
   }
 
   public void setPriority(long priority) {
-    this.priority = priority;
+    this.priority = trackChange(this.priority, priority);
   }
 
   @Override
@@ -286,6 +290,28 @@ public class ExternalTaskEntity implements ExternalTask, DbEntity,
     return persistentState;
   }
 
+  @Override
+  public boolean isDirty() {
+    return dirty;
+  }
+
+  @Override
+  public void resetDirty() {
+    dirty = false;
+  }
+
+  /**
+   * Marks this entity as dirty if the new value of a persistent field differs from the old one.
+   *
+   * @return the new value
+   */
+  protected <T> T trackChange(T oldValue, T newValue) {
+    if (!Objects.equals(oldValue, newValue)) {
+      dirty = true;
+    }
+    return newValue;
+  }
+
   public void insert() {
     Context.getCommandContext()
       .getExternalTaskManager()
@@ -307,9 +333,9 @@ public class ExternalTaskEntity implements ExternalTask, DbEntity,
 
   public void setErrorMessage(String errorMessage) {
     if(errorMessage != null && errorMessage.length() > MAX_EXCEPTION_MESSAGE_LENGTH) {
-      this.errorMessage = errorMessage.substring(0, MAX_EXCEPTION_MESSAGE_LENGTH);
+      this.errorMessage = trackChange(this.errorMessage, errorMessage.substring(0, MAX_EXCEPTION_MESSAGE_LENGTH));
     } else {
-      this.errorMessage = errorMessage;
+      this.errorMessage = trackChange(this.errorMessage, errorMessage);
     }
   }
 
@@ -322,7 +348,7 @@ public class ExternalTaskEntity implements ExternalTask, DbEntity,
 
     if(byteArray == null) {
       byteArray = createExceptionByteArray(EXCEPTION_NAME,exceptionBytes, ResourceTypes.RUNTIME);
-      errorDetailsByteArrayId = byteArray.getId();
+      errorDetailsByteArrayId = trackChange(errorDetailsByteArrayId, byteArray.getId());
       errorDetailsByteArray = byteArray;
     }
     else {
@@ -419,7 +445,7 @@ public class ExternalTaskEntity implements ExternalTask, DbEntity,
       return;
     }
 
-    this.lockExpirationTime = new Date(ClockUtil.getCurrentTime().getTime() + retryDuration);
+    this.lockExpirationTime = trackChange(this.lockExpirationTime, new Date(ClockUtil.getCurrentTime().getTime() + retryDuration));
     produceHistoricExternalTaskFailedEvent();
     setRetriesAndManageIncidents(retries);
   }
@@ -473,8 +499,8 @@ public class ExternalTaskEntity implements ExternalTask, DbEntity,
   }
 
   public void lock(String workerId, long lockDuration) {
-    this.workerId = workerId;
-    this.lockExpirationTime = new Date(ClockUtil.getCurrentTime().getTime() + lockDuration);
+    this.workerId = trackChange(this.workerId, workerId);
+    this.lockExpirationTime = trackChange(this.lockExpirationTime, new Date(ClockUtil.getCurrentTime().getTime() + lockDuration));
   }
 
   public ExecutionEntity getExecution() {
@@ -560,12 +586,12 @@ public class ExternalTaskEntity implements ExternalTask, DbEntity,
   }
 
   public void unlock() {
-    workerId = null;
-    lockExpirationTime = null;
+    workerId = trackChange(workerId, null);
+    lockExpirationTime = trackChange(lockExpirationTime, null);
 
     Context.getCommandContext()
       .getExternalTaskManager()
-      .fireExternalTaskAvailableEvent();
+      .fireExternalTaskAvailableEvent(topicName);
   }
 
   public static ExternalTaskEntity createAndInsert(ExecutionEntity execution, String topic, long priority) {
@@ -613,7 +639,7 @@ public class ExternalTaskEntity implements ExternalTask, DbEntity,
   public void extendLock(long newLockExpirationTime) {
     ensureActive();
     long newTime = ClockUtil.getCurrentTime().getTime() + newLockExpirationTime;
-    this.lockExpirationTime = new Date(newTime);
+    this.lockExpirationTime = trackChange(this.lockExpirationTime, new Date(newTime));
   }
 
   @Override
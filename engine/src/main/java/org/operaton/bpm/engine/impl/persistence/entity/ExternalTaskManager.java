@@ -32,8 +32,10 @@ import org.operaton.bpm.engine.impl.util.ImmutablePair;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.operaton.bpm.engine.impl.ExternalTaskQueryProperty.CREATE_TIME;
 import static org.operaton.bpm.engine.impl.db.sql.DbSqlSessionFactory.POSTGRES;
@@ -45,13 +47,19 @@ import static org.operaton.bpm.engine.impl.util.DatabaseUtil.checkDatabaseType;
  */
 public class ExternalTaskManager extends AbstractManager {
 
+  /**
+   * The topics of the external tasks that became available in the current command,
+   * <code>null</code> if none did.
+   */
+  protected Set<String> availableTopicNames;
+
   public ExternalTaskEntity findExternalTaskById(String id) {
     return getDbEntityManager().selectById(ExternalTaskEntity.class, id);
   }
 
   public void insert(ExternalTaskEntity externalTask) {
     getDbEntityManager().insert(externalTask);
-    fireExternalTaskAvailableEvent();
+    fireExternalTaskAvailableEvent(externalTask.getTopicName());
   }
 
   public void delete(ExternalTaskEntity externalTask) {
@@ -180,10 +188,30 @@ public class ExternalTaskManager extends AbstractManager {
   }
 
   public void fireExternalTaskAvailableEvent() {
-    Context.getCommandContext()
-        .getTransactionContext()
-        .addTransactionListener(TransactionState.COMMITTED, commandContext ->
-        ProcessEngineImpl.EXT_TASK_CONDITIONS.signalAll());
+    fireExternalTaskAvailableEvent(null);
+  }
+
+  /**
+   * Signals the {@link ProcessEngineImpl#EXT_TASK_CONDITIONS} and notifies the
+   * {@link ProcessEngineImpl#EXT_TASK_AVAILABLE_LISTENERS} about the topic once
+   * the transaction has committed. The topics of all tasks which become available
+   * within the same command are reported together.
+   *
+   * @param topicName the topic of the available task or <code>null</code> if unknown
+   */
+  public void fireExternalTaskAvailableEvent(String topicName) {
+    if (availableTopicNames == null) {
+      Set<String> topicNames = new HashSet<>();
+      availableTopicNames = topicNames;
+
+      Context.getCommandContext()
+          .getTransactionContext()
+          .addTransactionListener(TransactionState.COMMITTED, commandContext -> {
+            ProcessEngineImpl.EXT_TASK_CONDITIONS.signalAll();
+            ProcessEngineImpl.EXT_TASK_AVAILABLE_LISTENERS.onExternalTasksAvailable(Collections.unmodifiableSet(topicNames));
+          });
+    }
+    availableTopicNames.add(topicName);
   }
 }
 
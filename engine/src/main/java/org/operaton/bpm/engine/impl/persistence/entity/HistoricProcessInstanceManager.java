@@ -86,6 +86,8 @@ public class HistoricProcessInstanceManager extends AbstractHistoricManager {
       // break down parameter list to not hit query parameter limitations
       List<List<String>> partitions = CollectionUtil.partition(processInstanceIds, DbSqlSessionFactory.MAXIMUM_NUMBER_PARAMS);
       for (List<String> partition : partitions) {
+        deleteHistoryEventsFromOutbox(partition);
+
         commandContext.getHistoricDetailManager().deleteHistoricDetailsByProcessInstanceIds(partition);
         commandContext.getHistoricVariableInstanceManager().deleteHistoricVariableInstanceByProcessInstanceIds(partition);
         commandContext.getCommentManager().deleteCommentsByProcessInstanceIds(partition);
@@ -102,6 +104,22 @@ public class HistoricProcessInstanceManager extends AbstractHistoricManager {
     }
   }
 
+  /**
+   * Writes the history of the process instances which is still in the history event outbox
+   * before it is deleted, so that it cannot be restored afterwards.
+   */
+  @SuppressWarnings("unchecked")
+  protected void deleteHistoryEventsFromOutbox(List<String> processInstanceIds) {
+    if (Context.getProcessEngineConfiguration().getHistoryEventOutboxWriter() != null) {
+      List<String> rootProcessInstanceIds = getDbEntityManager()
+        .selectList("selectHistoricRootProcessInstanceIdsByProcessInstanceIds", processInstanceIds);
+      getHistoryEventOutboxManager().writeOutboxEntries(rootProcessInstanceIds);
+
+      // the events of the deleted root process instances which the current command produced are dropped
+      getHistoryEventOutboxManager().deleteHistoryEvents(processInstanceIds);
+    }
+  }
+
   public long findHistoricProcessInstanceCountByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
     if (isHistoryEnabled()) {
       configureQuery(historicProcessInstanceQuery);
@@ -131,6 +131,10 @@ public class HistoricTaskInstanceManager extends AbstractHistoricManager {
       if (historicTaskInstance != null) {
         CommandContext commandContext = Context.getCommandContext();
 
+        // the history of the task which is still in the outbox must not be written after it is deleted
+        getHistoryEventOutboxManager()
+          .writeOutboxEntries(Collections.singletonList(historicTaskInstance.getRootProcessInstanceId()));
+
         commandContext
           .getHistoricDetailManager()
           .deleteHistoricDetailsByTaskId(taskId);
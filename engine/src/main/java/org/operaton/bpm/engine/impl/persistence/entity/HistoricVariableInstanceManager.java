@@ -24,6 +24,7 @@ import org.operaton.bpm.engine.impl.db.ListQueryParameterObject;
 import org.operaton.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.operaton.bpm.engine.impl.persistence.AbstractHistoricManager;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -41,6 +42,9 @@ public class HistoricVariableInstanceManager extends AbstractHistoricManager {
     if (isHistoryEnabled()) {
       HistoricVariableInstanceEntity historicVariableInstance = findHistoricVariableInstanceByVariableInstanceId(historicVariableInstanceId);
       if (historicVariableInstance != null) {
+        // the history of the variable which is still in the outbox must not be written after it is deleted
+        getHistoryEventOutboxManager()
+          .writeOutboxEntries(Collections.singletonList(historicVariableInstance.getRootProcessInstanceId()));
         historicVariableInstance.delete();
       }
     }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.persistence.entity;
+
+import java.io.Serializable;
+import java.util.Date;
+
+import org.operaton.bpm.engine.impl.db.DbEntity;
+import org.operaton.bpm.engine.impl.db.HasDbRevision;
+
+/**
+ * An entry of the history event outbox. It holds the serialized history events which a
+ * command produced for one root process instance.
+ * <p>
+ * The entries are written in the order of their sequence number, which is assigned by
+ * the database when the entry is inserted. Since a command can only depend on data which
+ * was committed before, an entry always has a higher sequence number than the entries
+ * its events depend on, even if they were added by another process engine.
+ */
+public class HistoryEventOutboxEntryEntity implements DbEntity, HasDbRevision, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /** the state of an entry which is waiting to be written */
+  public static final int STATE_PENDING = 0;
+
+  /** the state of an entry which cannot be written and is kept for inspection */
+  public static final int STATE_QUARANTINED = 1;
+
+  protected String id;
+  protected int revision;
+  protected Long sequence;
+  protected String rootProcessInstanceId;
+  protected int state = STATE_PENDING;
+  protected Date createTime;
+  protected byte[] bytes;
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  @Override
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  @Override
+  public int getRevision() {
+    return revision;
+  }
+
+  @Override
+  public void setRevision(int revision) {
+    this.revision = revision;
+  }
+
+  @Override
+  public int getRevisionNext() {
+    return revision + 1;
+  }
+
+  /**
+   * @return the sequence number assigned by the database, <code>null</code> if the entry
+   * was not read from the database
+   */
+  public Long getSequence() {
+    return sequence;
+  }
+
+  public void setSequence(Long sequence) {
+    this.sequence = sequence;
+  }
+
+  public String getRootProcessInstanceId() {
+    return rootProcessInstanceId;
+  }
+
+  public void setRootProcessInstanceId(String rootProcessInstanceId) {
+    this.rootProcessInstanceId = rootProcessInstanceId;
+  }
+
+  public int getState() {
+    return state;
+  }
+
+  public void setState(int state) {
+    this.state = state;
+  }
+
+  public boolean isPending() {
+    return state == STATE_PENDING;
+  }
+
+  public Date getCreateTime() {
+    return createTime;
+  }
+
+  public void setCreateTime(Date createTime) {
+    this.createTime = createTime;
+  }
+
+  public byte[] getBytes() {
+    return bytes;
+  }
+
+  public void setBytes(byte[] bytes) {
+    this.bytes = bytes;
+  }
+
+  @Override
+  public Object getPersistentState() {
+    // only the state of an entry changes
+    return state;
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName()
+        + "[id=" + id
+        + ", revision=" + revision
+        + ", sequence=" + sequence
+        + ", rootProcessInstanceId=" + rootProcessInstanceId
+        + ", state=" + state
+        + ", createTime=" + createTime
+        + "]";
+  }
+
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.persistence.entity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.impl.Direction;
+import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+import org.operaton.bpm.engine.impl.QueryOrderingProperty;
+import org.operaton.bpm.engine.impl.QueryPropertyImpl;
+import org.operaton.bpm.engine.impl.cfg.TransactionState;
+import org.operaton.bpm.engine.impl.context.Context;
+import org.operaton.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.operaton.bpm.engine.impl.db.ListQueryParameterObject;
+import org.operaton.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.operaton.bpm.engine.impl.history.event.HistoryEvent;
+import org.operaton.bpm.engine.impl.history.handler.AsyncDbHistoryEventHandler;
+import org.operaton.bpm.engine.impl.history.handler.HistoryEventOutboxWriter;
+import org.operaton.bpm.engine.impl.persistence.AbstractManager;
+import org.operaton.bpm.engine.impl.util.ClockUtil;
+import org.operaton.bpm.engine.impl.util.CollectionUtil;
+import org.operaton.bpm.engine.impl.util.ReflectUtil;
+
+/**
+ * Manages the history event outbox which is used if asynchronous history is enabled.
+ * <p>
+ * The history events of a command are collected by this session and are written as
+ * serialized {@link HistoryEventOutboxEntryEntity entries} in the transaction of the
+ * command, one entry per root process instance. The
+ * {@link org.operaton.bpm.engine.impl.history.handler.HistoryEventOutboxWriter} replays
+ * the entries in the order of the sequence number which the database assigns to them.
+ * <p>
+ * Before the history of a process instance is deleted, its pending entries are written
+ * by the deleting command, so that they cannot restore the deleted history later on.
+ * <p>
+ * Only history events and the values they consist of are deserialized from an entry.
+ * An entry which cannot be deserialized or written is quarantined: it stays in the
+ * database for inspection but is no longer written.
+ * <p>
+ * Since every command opens its own session, the collected events are not shared
+ * between threads.
+ */
+public class HistoryEventOutboxManager extends AbstractManager {
+
+  protected static final EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
+
+  protected static final QueryOrderingProperty OUTBOX_ENTRY_ORDERING_PROPERTY =
+      new QueryOrderingProperty(new QueryPropertyImpl("SEQ_"), Direction.ASCENDING);
+
+  /**
+   * The classes besides history events which the events of an entry consist of.
+   */
+  protected static final Set<Class<?>> DESERIALIZABLE_CLASSES = Set.of(
+      ArrayList.class, String.class, Number.class, Byte.class, Short.class, Integer.class, Long.class,
+      Float.class, Double.class, Boolean.class, Character.class, Date.class, Timestamp.class);
+
+  protected static final ObjectInputFilter HISTORY_EVENT_FILTER = filterInfo -> {
+    Class<?> serialClass = filterInfo.serialClass();
+    if (serialClass == null) {
+      return ObjectInputFilter.Status.UNDECIDED;
+    }
+    while (serialClass.isArray()) {
+      serialClass = serialClass.getComponentType();
+    }
+    if (serialClass.isPrimitive()
+        || HistoryEvent.class.isAssignableFrom(serialClass)
+        || DESERIALIZABLE_CLASSES.contains(serialClass)) {
+      return ObjectInputFilter.Status.ALLOWED;
+    }
+    return ObjectInputFilter.Status.REJECTED;
+  };
+
+  /** the collected history events by the id of their root process instance */
+  protected Map<String, List<HistoryEvent>> historyEvents = new LinkedHashMap<>();
+  protected boolean isFlushed = false;
+
+  /** the root process instances whose pending entries were written by the current command */
+  protected Set<String> writtenRootProcessInstanceIds = new HashSet<>();
+
+  /** the root process instances whose history is deleted by the current command */
+  protected Set<String> deletedRootProcessInstanceIds = new HashSet<>();
+
+  /**
+   * Adds a history event to the outbox entry of the current command.
+   *
+   * @return <code>false</code> if the outbox entry of the current command was already
+   * flushed, in which case the caller has to write the event itself
+   */
+  public boolean addHistoryEvent(HistoryEvent historyEvent) {
+    if (isFlushed) {
+      return false;
+    }
+    String rootProcessInstanceId = historyEvent.getRootProcessInstanceId();
+    if (rootProcessInstanceId == null || !deletedRootProcessInstanceIds.contains(rootProcessInstanceId)) {
+      historyEvents.computeIfAbsent(rootProcessInstanceId, id -> new ArrayList<>()).add(historyEvent);
+    }
+    return true;
+  }
+
+  /**
+   * @return whether the current command has added any history event to the outbox
+   */
+  public boolean hasHistoryEvents() {
+    return !historyEvents.isEmpty();
+  }
+
+  @Override
+  public void flush() {
+    isFlushed = true;
+    if (historyEvents.isEmpty()) {
+      return;
+    }
+
+    Date createTime = ClockUtil.getCurrentTime();
+    for (Map.Entry<String, List<HistoryEvent>> eventsByRootProcessInstanceId : historyEvents.entrySet()) {
+      HistoryEventOutboxEntryEntity entry = new HistoryEventOutboxEntryEntity();
+      entry.setRootProcessInstanceId(eventsByRootProcessInstanceId.getKey());
+      entry.setCreateTime(createTime);
+      entry.setBytes(serialize(eventsByRootProcessInstanceId.getValue()));
+      getDbEntityManager().insert(entry);
+    }
+
+    HistoryEventOutboxWriter writer = Context.getProcessEngineConfiguration().getHistoryEventOutboxWriter();
+    if (writer != null) {
+      int addedEntries = historyEvents.size();
+      Context.getCommandContext()
+        .getTransactionContext()
+        .addTransactionListener(TransactionState.COMMITTED, context -> writer.outboxEntriesAdded(addedEntries));
+    }
+
+    historyEvents = Collections.emptyMap();
+  }
+
+  /**
+   * Writes the pending entries of the given root process instances in the current command
+   * and drops the history events which the current command produced for them, since the
+   * current command deletes their history.
+   */
+  public void deleteHistoryEvents(Collection<String> rootProcessInstanceIds) {
+    writeOutboxEntries(rootProcessInstanceIds);
+
+    deletedRootProcessInstanceIds.addAll(rootProcessInstanceIds);
+    historyEvents.keySet().removeAll(rootProcessInstanceIds);
+  }
+
+  /**
+   * Writes the pending entries of the given root process instances in the current command,
+   * so that their history is complete before it is deleted.
+   */
+  public void writeOutboxEntries(Collection<String> rootProcessInstanceIds) {
+    HistoryEventOutboxWriter writer = Context.getProcessEngineConfiguration().getHistoryEventOutboxWriter();
+    if (writer == null) {
+      return;
+    }
+
+    List<String> unwrittenRootProcessInstanceIds = new ArrayList<>();
+    for (String rootProcessInstanceId : rootProcessInstanceIds) {
+      if (rootProcessInstanceId != null && writtenRootProcessInstanceIds.add(rootProcessInstanceId)) {
+        unwrittenRootProcessInstanceIds.add(rootProcessInstanceId);
+      }
+    }
+
+    // break down parameter list to not hit query parameter limitations
+    List<List<String>> partitions = CollectionUtil.partition(unwrittenRootProcessInstanceIds, DbSqlSessionFactory.MAXIMUM_NUMBER_PARAMS);
+    for (List<String> partition : partitions) {
+      writeOutboxEntries(findPendingOutboxEntries(partition, Integer.MAX_VALUE), writer.getHistoryEventHandler());
+    }
+  }
+
+  /**
+   * Writes the events of the given entries to the history tables and deletes the entries.
+   * Entries which cannot be deserialized are quarantined.
+   *
+   * @return the number of written or quarantined entries
+   */
+  public int writeOutboxEntries(List<HistoryEventOutboxEntryEntity> entries, AsyncDbHistoryEventHandler historyEventHandler) {
+    for (HistoryEventOutboxEntryEntity entry : entries) {
+      List<HistoryEvent> entryEvents;
+      try {
+        entryEvents = getHistoryEvents(entry);
+      } catch (ProcessEngineException e) {
+        quarantineOutboxEntry(entry, e);
+        continue;
+      }
+      historyEventHandler.writeEvents(entryEvents);
+      deleteOutboxEntry(entry);
+    }
+    return entries.size();
+  }
+
+  public List<HistoryEventOutboxEntryEntity> findPendingOutboxEntries(int maxResults) {
+    return findPendingOutboxEntries(null, maxResults);
+  }
+
+  /**
+   * @param rootProcessInstanceIds the root process instances of the entries or <code>null</code> to find
+   * the entries of all process instances
+   * @return the oldest pending entries
+   */
+  @SuppressWarnings("unchecked")
+  public List<HistoryEventOutboxEntryEntity> findPendingOutboxEntries(List<String> rootProcessInstanceIds, int maxResults) {
+    ListQueryParameterObject parameter = createPendingOutboxEntriesParameter(rootProcessInstanceIds, maxResults);
+    return getDbEntityManager().selectList("selectPendingHistoryEventOutboxEntries", parameter);
+  }
+
+  @SuppressWarnings("unchecked")
+  public List<String> findPendingOutboxEntryIds(int maxResults) {
+    ListQueryParameterObject parameter = createPendingOutboxEntriesParameter(null, maxResults);
+    return getDbEntityManager().selectList("selectPendingHistoryEventOutboxEntryIds", parameter);
+  }
+
+  protected ListQueryParameterObject createPendingOutboxEntriesParameter(List<String> rootProcessInstanceIds, int maxResults) {
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("state", HistoryEventOutboxEntryEntity.STATE_PENDING);
+    parameters.put("rootProcessInstanceIds", rootProcessInstanceIds);
+
+    ListQueryParameterObject parameter = new ListQueryParameterObject(parameters, 0, maxResults);
+    parameter.setOrderingProperties(Collections.singletonList(OUTBOX_ENTRY_ORDERING_PROPERTY));
+    return parameter;
+  }
+
+  /**
+   * @return the pending outbox entry with the given id or <code>null</code> if it was already
+   * written or quarantined
+   */
+  public HistoryEventOutboxEntryEntity findPendingOutboxEntryById(String entryId) {
+    HistoryEventOutboxEntryEntity entry = getDbEntityManager().selectById(HistoryEventOutboxEntryEntity.class, entryId);
+    if (entry == null || !entry.isPending()) {
+      return null;
+    }
+    return entry;
+  }
+
+  @SuppressWarnings("unchecked")
+  public List<HistoryEvent> getHistoryEvents(HistoryEventOutboxEntryEntity entry) {
+    try (InputStream inputStream = new ByteArrayInputStream(entry.getBytes());
+         ObjectInputStream objectInputStream = new HistoryEventObjectInputStream(inputStream)) {
+      return (List<HistoryEvent>) objectInputStream.readObject();
+
+    } catch (Exception e) {
+      throw LOG.deserializeHistoryEventOutboxEntryException(entry.getId(), e);
+    }
+  }
+
+  /**
+   * Deletes an outbox entry after its events were written. The revision of the entry is
+   * checked, so that an entry is only written once if several writers drain the outbox.
+   */
+  public void deleteOutboxEntry(HistoryEventOutboxEntryEntity entry) {
+    getDbEntityManager().delete(entry);
+  }
+
+  /**
+   * Keeps an entry which cannot be written in the database without writing it again.
+   */
+  public void quarantineOutboxEntry(HistoryEventOutboxEntryEntity entry, Exception cause) {
+    LOG.quarantineHistoryEventOutboxEntry(entry.getId(), cause);
+    entry.setState(HistoryEventOutboxEntryEntity.STATE_QUARANTINED);
+  }
+
+  protected byte[] serialize(List<HistoryEvent> events) {
+    try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+         ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+      // an event which is fired several times in the same command is serialized only once,
+      // the references to it are restored on deserialization
+      objectOutputStream.writeObject(new ArrayList<>(events));
+      objectOutputStream.flush();
+      return outputStream.toByteArray();
+
+    } catch (IOException e) {
+      throw LOG.serializeHistoryEventOutboxEntryException(e);
+    }
+  }
+
+  protected static class HistoryEventObjectInputStream extends ObjectInputStream {
+
+    public HistoryEventObjectInputStream(InputStream in) throws IOException {
+      super(in);
+      setObjectInputFilter(HISTORY_EVENT_FILTER);
+    }
+
+    @Override
+    protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+      try {
+        return super.resolveClass(desc);
+      } catch (ClassNotFoundException e) {
+        // custom history events may be provided by a process application
+        return ReflectUtil.loadClass(desc.getName());
+      }
+    }
+  }
+
+}
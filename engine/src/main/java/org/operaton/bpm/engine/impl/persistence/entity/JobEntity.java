@@ -174,7 +174,7 @@ public abstract class JobEntity extends AcquirableJobEntity
       exec.addJob(this);
 
       ProcessDefinitionImpl processDefinition = exec.getProcessDefinition();
-      this.deploymentId = processDefinition.getDeploymentId();
+      this.deploymentId = trackChange(this.deploymentId, processDefinition.getDeploymentId());
     }
 
     commandContext
@@ -237,12 +237,12 @@ public abstract class JobEntity extends AcquirableJobEntity
   public void setExecution(ExecutionEntity execution) {
     if (execution != null) {
       this.execution = execution;
-      executionId = execution.getId();
+      executionId = trackChange(executionId, execution.getId());
       processInstanceId = execution.getProcessInstanceId();
       rootProcessInstanceId = execution.getRootProcessInstanceId();
       // if the execution is suspended, suspend the job entity as well to prevent unwanted job execution
       if(execution.isSuspended()) {
-        suspensionState = execution.getSuspensionState();
+        suspensionState = trackChange(suspensionState, execution.getSuspensionState());
       }
       this.execution.addJob(this);
     }
@@ -251,7 +251,7 @@ public abstract class JobEntity extends AcquirableJobEntity
       this.execution = execution;
       processInstanceId = null;
       rootProcessInstanceId = null;
-      executionId = null;
+      executionId = trackChange(executionId, null);
     }
   }
 
@@ -277,7 +277,7 @@ public abstract class JobEntity extends AcquirableJobEntity
   }
 
   public void setExecutionId(String executionId) {
-    this.executionId = executionId;
+    this.executionId = trackChange(this.executionId, executionId);
   }
 
   public ExecutionEntity getExecution() {
@@ -317,12 +317,12 @@ public abstract class JobEntity extends AcquirableJobEntity
     if(retries == 0 && this.retries > 0) {
       createFailedJobIncident();
     }
-    this.retries = retries;
+    this.retries = trackChange(this.retries, retries);
   }
 
   // special setter for MyBatis which does not influence incidents
   public void setRetriesFromPersistence(int retries) {
-    this.retries = retries;
+    this.retries = trackChange(this.retries, retries);
   }
 
   protected void createFailedJobIncident() {
@@ -397,7 +397,7 @@ public abstract class JobEntity extends AcquirableJobEntity
   }
 
   public void setSuspensionState(int state) {
-    this.suspensionState = state;
+    this.suspensionState = trackChange(this.suspensionState, state);
   }
 
   public int getSuspensionState() {
@@ -415,7 +415,7 @@ public abstract class JobEntity extends AcquirableJobEntity
   }
 
   public void setProcessDefinitionId(String processDefinitionId) {
-    this.processDefinitionId = processDefinitionId;
+    this.processDefinitionId = trackChange(this.processDefinitionId, processDefinitionId);
   }
 
   @Override
@@ -434,7 +434,7 @@ public abstract class JobEntity extends AcquirableJobEntity
 
     if(byteArray == null) {
       byteArray = createJobExceptionByteArray(exceptionBytes, ResourceTypes.RUNTIME);
-      exceptionByteArrayId = byteArray.getId();
+      exceptionByteArrayId = trackChange(exceptionByteArrayId, byteArray.getId());
       exceptionByteArray = byteArray;
     }
     else {
@@ -452,7 +452,7 @@ public abstract class JobEntity extends AcquirableJobEntity
   }
 
   public void setJobHandlerConfiguration(JobHandlerConfiguration configuration) {
-    this.jobHandlerConfiguration = configuration.toCanonicalString();
+    this.jobHandlerConfiguration = trackChange(this.jobHandlerConfiguration, configuration.toCanonicalString());
   }
 
   public String getJobHandlerType() {
@@ -468,7 +468,7 @@ public abstract class JobEntity extends AcquirableJobEntity
   }
 
   public void setJobHandlerConfigurationRaw(String jobHandlerConfiguration) {
-    this.jobHandlerConfiguration = jobHandlerConfiguration;
+    this.jobHandlerConfiguration = trackChange(this.jobHandlerConfiguration, jobHandlerConfiguration);
   }
 
   @Override
@@ -482,7 +482,7 @@ public abstract class JobEntity extends AcquirableJobEntity
   }
 
   public void setJobDefinitionId(String jobDefinitionId) {
-    this.jobDefinitionId = jobDefinitionId;
+    this.jobDefinitionId = trackChange(this.jobDefinitionId, jobDefinitionId);
   }
 
   public JobDefinition getJobDefinition() {
@@ -493,10 +493,10 @@ public abstract class JobEntity extends AcquirableJobEntity
   public void setJobDefinition(JobDefinition jobDefinition) {
     this.jobDefinition = jobDefinition;
     if (jobDefinition != null) {
-      jobDefinitionId = jobDefinition.getId();
+      jobDefinitionId = trackChange(jobDefinitionId, jobDefinition.getId());
     }
     else {
-      jobDefinitionId = null;
+      jobDefinitionId = trackChange(jobDefinitionId, null);
     }
   }
 
@@ -510,7 +510,7 @@ public abstract class JobEntity extends AcquirableJobEntity
   }
 
   public void setExceptionMessage(String exceptionMessage) {
-    this.exceptionMessage = StringUtil.trimToMaximumLengthAllowed(exceptionMessage);
+    this.exceptionMessage = trackChange(this.exceptionMessage, StringUtil.trimToMaximumLengthAllowed(exceptionMessage));
   }
 
   public String getExceptionByteArrayId() {
@@ -543,8 +543,8 @@ public abstract class JobEntity extends AcquirableJobEntity
           .delete(byteArray);
     }
 
-    this.exceptionByteArrayId = null;
-    this.exceptionMessage = null;
+    this.exceptionByteArrayId = trackChange(this.exceptionByteArrayId, null);
+    this.exceptionMessage = trackChange(this.exceptionMessage, null);
   }
 
   @Override
@@ -553,7 +553,7 @@ public abstract class JobEntity extends AcquirableJobEntity
   }
 
   public void setDeploymentId(String deploymentId) {
-    this.deploymentId = deploymentId;
+    this.deploymentId = trackChange(this.deploymentId, deploymentId);
   }
 
   public boolean isInInconsistentLockState() {
@@ -562,8 +562,8 @@ public abstract class JobEntity extends AcquirableJobEntity
   }
 
   public void resetLock() {
-    this.lockOwner = null;
-    this.lockExpirationTime = null;
+    this.lockOwner = trackChange(this.lockOwner, null);
+    this.lockExpirationTime = trackChange(this.lockExpirationTime, null);
   }
 
   public String getActivityId() {
@@ -581,7 +581,7 @@ public abstract class JobEntity extends AcquirableJobEntity
   }
 
   public void setPriority(long priority) {
-    this.priority = priority;
+    this.priority = trackChange(this.priority, priority);
   }
 
   @Override
@@ -590,7 +590,7 @@ public abstract class JobEntity extends AcquirableJobEntity
   }
 
   public void setTenantId(String tenantId) {
-    this.tenantId = tenantId;
+    this.tenantId = trackChange(this.tenantId, tenantId);
   }
 
   @Override
@@ -624,8 +624,8 @@ public abstract class JobEntity extends AcquirableJobEntity
    */
 
   public void unlock() {
-    this.lockOwner = null;
-    this.lockExpirationTime = null;
+    this.lockOwner = trackChange(this.lockOwner, null);
+    this.lockExpirationTime = trackChange(this.lockExpirationTime, null);
   }
 
   public abstract String getType();
@@ -28,6 +28,7 @@ import org.operaton.bpm.engine.impl.context.Context;
 import org.operaton.bpm.engine.impl.db.ListQueryParameterObject;
 import org.operaton.bpm.engine.impl.db.sql.DbSqlSessionFactory;
 import org.operaton.bpm.engine.impl.jobexecutor.ExclusiveJobAddedNotification;
+import org.operaton.bpm.engine.impl.jobexecutor.JobAcquisitionPartition;
 import org.operaton.bpm.engine.impl.jobexecutor.JobExecutor;
 import org.operaton.bpm.engine.impl.jobexecutor.JobExecutorContext;
 import org.operaton.bpm.engine.impl.jobexecutor.MessageAddedNotification;
@@ -212,8 +213,17 @@ public class JobManager extends AbstractManager {
     return (JobEntity) getDbEntityManager().selectOne("selectJob", jobId);
   }
 
-  @SuppressWarnings("unchecked")
   public List<AcquirableJobEntity> findNextJobsToExecute(Page page) {
+    return findNextJobsToExecute(page, null);
+  }
+
+  /**
+   * Finds the next jobs to execute that belong to the given partition of the job table.
+   *
+   * @param partition the partition to acquire jobs from or <code>null</code> to acquire from all jobs
+   */
+  @SuppressWarnings("unchecked")
+  public List<AcquirableJobEntity> findNextJobsToExecute(Page page, JobAcquisitionPartition partition) {
     ProcessEngineConfigurationImpl engineConfiguration = Context.getProcessEngineConfiguration();
 
     Map<String,Object> params = new HashMap<>();
@@ -256,6 +266,12 @@ public class JobManager extends AbstractManager {
     params.put("applyOrdering", !orderingProperties.isEmpty());
     params.put("applyExclusiveOverProcessHierarchies", engineConfiguration.isJobExecutorAcquireExclusiveOverProcessHierarchies());
 
+    if (partition != null && partition.getCount() > 1) {
+      String keyAlphabet = JobAcquisitionPartition.getKeyAlphabet(engineConfiguration.getIdGenerator());
+      params.put("partitionKeySuffixes", partition.getKeySuffixPatterns(keyAlphabet));
+      params.put("partitionForeignKeySuffixes", partition.getForeignKeySuffixPatterns(keyAlphabet));
+    }
+
     return getDbEntityManager().selectList("selectNextJobsToExecute", params, page);
   }
 
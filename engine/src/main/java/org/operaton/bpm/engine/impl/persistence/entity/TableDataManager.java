@@ -86,6 +86,8 @@ public class TableDataManager extends AbstractManager {
     persistentObjectToTableNameMap.put(ExecutionEntity.class, "ACT_RU_EXECUTION");
     persistentObjectToTableNameMap.put(IdentityLinkEntity.class, "ACT_RU_IDENTITYLINK");
     persistentObjectToTableNameMap.put(VariableInstanceEntity.class, "ACT_RU_VARIABLE");
+    persistentObjectToTableNameMap.put(CorrelationKeyEntity.class, "ACT_RU_CORR_KEY");
+    persistentObjectToTableNameMap.put(HistoryEventOutboxEntryEntity.class, "ACT_RU_HI_OUTBOX");
 
     persistentObjectToTableNameMap.put(JobEntity.class, "ACT_RU_JOB");
     persistentObjectToTableNameMap.put(MessageEntity.class, "ACT_RU_JOB");
@@ -91,7 +91,7 @@ public class TimerEntity extends JobEntity {
         if (isReevaluateTimeCycleWhenDue(commandContext) && isCycleExpression()) {
           String expressionValue = parseExpression(commandContext);
           if (expressionValue != null) {
-            repeat = adjustRepeatBasedOnNewExpression(expressionValue);
+            repeat = trackChange(repeat, adjustRepeatBasedOnNewExpression(expressionValue));
           }
         }
         Date newDueDate = calculateNewDueDate();
@@ -209,7 +209,7 @@ public class TimerEntity extends JobEntity {
   }
 
   public void setRepeat(String repeat) {
-    this.repeat = repeat;
+    this.repeat = trackChange(this.repeat, repeat);
   }
 
   public long getRepeatOffset() {
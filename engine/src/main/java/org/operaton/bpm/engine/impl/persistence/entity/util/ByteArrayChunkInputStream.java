@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.persistence.entity.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+import org.operaton.bpm.engine.impl.cmd.GetByteArrayChunkCmd;
+import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
+import org.operaton.bpm.engine.impl.persistence.entity.ByteArrayEntity;
+
+/**
+ * An {@link InputStream} over the content of a {@link ByteArrayEntity} which loads the
+ * content in chunks while it is read. Every chunk is loaded in a separate command, so
+ * that at most one chunk is held in memory and the stream can be read after the
+ * command which opened it has completed. Use {@link java.nio.channels.Channels#newChannel(InputStream)}
+ * to read the content through a channel.
+ * <p>
+ * The length and the revision of the content are determined when the stream is opened.
+ * The stream fails if the content is updated or deleted while it is read.
+ */
+public class ByteArrayChunkInputStream extends InputStream {
+
+  public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+  protected static final byte[] EMPTY_CHUNK = new byte[0];
+
+  protected final CommandExecutor commandExecutor;
+  protected final String byteArrayId;
+  protected final int revision;
+  protected final long length;
+  protected final int chunkSize;
+
+  protected byte[] chunk = EMPTY_CHUNK;
+  protected int chunkPosition;
+  /** the offset of the first byte of the content which is not loaded yet */
+  protected long nextChunkOffset;
+  protected boolean closed;
+
+  public ByteArrayChunkInputStream(CommandExecutor commandExecutor, String byteArrayId, int revision, long length, int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunk size must be positive: " + chunkSize);
+    }
+    this.commandExecutor = commandExecutor;
+    this.byteArrayId = byteArrayId;
+    this.revision = revision;
+    this.length = length;
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!ensureChunk()) {
+      return -1;
+    }
+    return chunk[chunkPosition++] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    Objects.checkFromIndexSize(off, len, b.length);
+    if (len == 0) {
+      return 0;
+    }
+    if (!ensureChunk()) {
+      return -1;
+    }
+
+    int count = Math.min(len, chunk.length - chunkPosition);
+    System.arraycopy(chunk, chunkPosition, b, off, count);
+    chunkPosition += count;
+    return count;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    ensureOpen();
+    if (n <= 0) {
+      return 0;
+    }
+
+    int buffered = chunk.length - chunkPosition;
+    long skipped = Math.min(n, buffered + length - nextChunkOffset);
+    if (skipped <= buffered) {
+      chunkPosition += (int) skipped;
+    } else {
+      // skipped bytes which are not loaded yet are never loaded
+      nextChunkOffset += skipped - buffered;
+      chunk = EMPTY_CHUNK;
+      chunkPosition = 0;
+    }
+    return skipped;
+  }
+
+  @Override
+  public int available() throws IOException {
+    ensureOpen();
+    return chunk.length - chunkPosition;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    chunk = EMPTY_CHUNK;
+    chunkPosition = 0;
+  }
+
+  public long getLength() {
+    return length;
+  }
+
+  /**
+   * @return true if there is at least one byte left in the current chunk
+   */
+  protected boolean ensureChunk() throws IOException {
+    ensureOpen();
+    if (chunkPosition < chunk.length) {
+      return true;
+    }
+    if (nextChunkOffset >= length) {
+      return false;
+    }
+
+    int size = (int) Math.min(chunkSize, length - nextChunkOffset);
+    byte[] loadedChunk = commandExecutor.execute(new GetByteArrayChunkCmd(byteArrayId, revision, nextChunkOffset, size));
+    if (loadedChunk == null) {
+      throw new IOException("Content of byte array '" + byteArrayId + "' was updated or deleted after "
+          + nextChunkOffset + " of " + length + " bytes were read");
+    }
+    if (loadedChunk.length == 0) {
+      throw new IOException("Content of byte array '" + byteArrayId + "' ended at " + nextChunkOffset
+          + " bytes, but " + length + " bytes were expected");
+    }
+
+    chunk = loadedChunk;
+    chunkPosition = 0;
+    nextChunkOffset += loadedChunk.length;
+    return true;
+  }
+
+  protected void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+  }
+
+}
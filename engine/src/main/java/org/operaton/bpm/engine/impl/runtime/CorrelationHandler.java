@@ -16,6 +16,7 @@
  */
 package org.operaton.bpm.engine.impl.runtime;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.operaton.bpm.engine.impl.interceptor.CommandContext;
@@ -63,4 +64,29 @@ public interface CorrelationHandler {
    */
   List<CorrelationHandlerResult> correlateStartMessages(CommandContext commandContext, String messageName, CorrelationSet correlationSet);
 
+  /**
+   * Correlate each of the given messages to all waiting executions and, unless
+   * only executions are requested, to all process definitions which have a
+   * message start event. The name of a message is taken from its correlation
+   * set.
+   *
+   * <p>The default implementation correlates the messages one after another.
+   * Implementations may resolve the targets of several messages with a single
+   * query.</p>
+   *
+   * @param correlationSets
+   *          the correlation sets of the messages
+   *
+   * @return the matched correlation targets of every message, in the order of
+   *         the given correlation sets. The list of a message is empty if it
+   *         could not be correlated.
+   */
+  default List<List<CorrelationHandlerResult>> correlateMessages(CommandContext commandContext, List<CorrelationSet> correlationSets) {
+    List<List<CorrelationHandlerResult>> results = new ArrayList<>(correlationSets.size());
+    for (CorrelationSet correlationSet : correlationSets) {
+      results.add(correlateMessages(commandContext, correlationSet.getMessageName(), correlationSet));
+    }
+    return results;
+  }
+
 }
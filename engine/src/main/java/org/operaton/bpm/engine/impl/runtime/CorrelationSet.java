@@ -22,6 +22,7 @@ import org.operaton.bpm.engine.impl.MessageCorrelationBuilderImpl;
 
 public class CorrelationSet {
 
+  protected final String messageName;
   protected final String businessKey;
   protected final Map<String, Object> correlationKeys;
   protected final Map<String, Object> localCorrelationKeys;
@@ -32,6 +33,7 @@ public class CorrelationSet {
   protected final boolean isExecutionsOnly;
 
   public CorrelationSet(MessageCorrelationBuilderImpl builder) {
+    this.messageName = builder.getMessageName();
     this.businessKey = builder.getBusinessKey();
     this.processInstanceId = builder.getProcessInstanceId();
     this.correlationKeys = builder.getCorrelationProcessInstanceVariables();
@@ -42,6 +44,10 @@ public class CorrelationSet {
     this.isExecutionsOnly = builder.isExecutionsOnly();
   }
 
+  public String getMessageName() {
+    return messageName;
+  }
+
   public String getBusinessKey() {
     return businessKey;
   }
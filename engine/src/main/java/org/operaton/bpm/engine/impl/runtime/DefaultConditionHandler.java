@@ -23,15 +23,24 @@ import org.operaton.bpm.engine.impl.bpmn.parser.EventSubscriptionDeclaration;
 import org.operaton.bpm.engine.impl.cmd.CommandLogger;
 import org.operaton.bpm.engine.impl.event.EventType;
 import org.operaton.bpm.engine.impl.interceptor.CommandContext;
+import org.operaton.bpm.engine.impl.persistence.deploy.cache.ConditionalStartEventRegistry.ConditionalStartEvent;
+import org.operaton.bpm.engine.impl.persistence.deploy.cache.ConditionalStartEventRegistry.ConditionalStartEvents;
 import org.operaton.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
-import org.operaton.bpm.engine.impl.persistence.entity.EventSubscriptionEntity;
-import org.operaton.bpm.engine.impl.persistence.entity.EventSubscriptionManager;
+import org.operaton.bpm.engine.impl.persistence.entity.AuthorizationManager;
 import org.operaton.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.operaton.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.operaton.bpm.engine.impl.pvm.process.ActivityImpl;
 
+import static org.operaton.bpm.engine.authorization.Permissions.READ;
+import static org.operaton.bpm.engine.authorization.Resources.PROCESS_DEFINITION;
+
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * @author Yana Vasileva
@@ -51,36 +60,69 @@ public class DefaultConditionHandler implements ConditionHandler {
   }
 
   protected List<ConditionHandlerResult> evaluateConditionStartByEventSubscription(CommandContext commandContext, ConditionSet conditionSet) {
-    List<EventSubscriptionEntity> subscriptions = findConditionalStartEventSubscriptions(commandContext, conditionSet);
-    if (subscriptions.isEmpty()) {
+    DeploymentCache deploymentCache = commandContext.getProcessEngineConfiguration().getDeploymentCache();
+    ConditionalStartEvents conditionalStartEvents = deploymentCache.getConditionalStartEventRegistry().getConditionalStartEvents(commandContext);
+
+    // caches the authorization per process definition key
+    Map<String, Boolean> authorizations = new HashMap<>();
+    if (!containsVisibleEvent(commandContext, conditionSet, conditionalStartEvents.getAll(), authorizations)) {
       throw LOG.exceptionWhenEvaluatingConditionalStartEvent();
     }
+
+    Set<String> variableNames = conditionSet.getVariables() != null ? conditionSet.getVariables().keySet() : Collections.emptySet();
+
     List<ConditionHandlerResult> results = new ArrayList<>();
-    for (EventSubscriptionEntity subscription : subscriptions) {
+    for (ConditionalStartEvent conditionalStartEvent : conditionalStartEvents.findByVariableNames(variableNames)) {
+      if (isVisible(commandContext, conditionSet, conditionalStartEvent, authorizations)) {
 
-      ProcessDefinitionEntity processDefinition = subscription.getProcessDefinition();
-      if (!processDefinition.isSuspended()) {
+        ProcessDefinitionEntity processDefinition = deploymentCache.findDeployedProcessDefinitionById(conditionalStartEvent.getProcessDefinitionId());
+        if (!processDefinition.isSuspended()) {
 
-        ActivityImpl activity = subscription.getActivity();
+          ActivityImpl activity = processDefinition.findActivity(conditionalStartEvent.getActivityId());
 
-        if (evaluateCondition(conditionSet, activity)) {
-          results.add(new ConditionHandlerResult(processDefinition, activity));
-        }
+          if (evaluateCondition(conditionSet, activity)) {
+            results.add(new ConditionHandlerResult(processDefinition, activity));
+          }
 
+        }
       }
     }
 
     return results;
   }
 
-  protected List<EventSubscriptionEntity> findConditionalStartEventSubscriptions(CommandContext commandContext, ConditionSet conditionSet) {
-    EventSubscriptionManager eventSubscriptionManager = commandContext.getEventSubscriptionManager();
+  protected boolean containsVisibleEvent(CommandContext commandContext, ConditionSet conditionSet,
+      List<ConditionalStartEvent> conditionalStartEvents, Map<String, Boolean> authorizations) {
+    for (ConditionalStartEvent conditionalStartEvent : conditionalStartEvents) {
+      if (isVisible(commandContext, conditionSet, conditionalStartEvent, authorizations)) {
+        return true;
+      }
+    }
+    return false;
+  }
 
-    if (conditionSet.isTenantIdSet) {
-      return eventSubscriptionManager.findConditionalStartEventSubscriptionByTenantId(conditionSet.getTenantId());
-    } else {
-      return eventSubscriptionManager.findConditionalStartEventSubscription();
+  /**
+   * Applies the same restrictions as the queries of the conditional start event subscriptions:
+   * if a tenant id is given, only the subscriptions of this tenant are considered. Otherwise,
+   * the subscriptions are restricted to the authenticated tenants and the process definitions
+   * the current user is allowed to read.
+   */
+  protected boolean isVisible(CommandContext commandContext, ConditionSet conditionSet,
+      ConditionalStartEvent conditionalStartEvent, Map<String, Boolean> authorizations) {
+    if (conditionSet.isTenantIdSet()) {
+      return Objects.equals(conditionSet.getTenantId(), conditionalStartEvent.getTenantId());
+    }
+
+    if (!commandContext.getTenantManager().isAuthenticatedTenant(conditionalStartEvent.getTenantId())) {
+      return false;
+    }
+
+    AuthorizationManager authorizationManager = commandContext.getAuthorizationManager();
+    if (!authorizationManager.isAuthCheckExecuted()) {
+      return true;
     }
+    return authorizations.computeIfAbsent(conditionalStartEvent.getProcessDefinitionKey(),
+        key -> authorizationManager.isAuthorized(READ, PROCESS_DEFINITION, key));
   }
 
   protected List<ConditionHandlerResult> evaluateConditionStartByProcessDefinitionId(CommandContext commandContext, ConditionSet conditionSet,
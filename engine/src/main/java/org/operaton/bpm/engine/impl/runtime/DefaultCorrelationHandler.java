@@ -17,21 +17,34 @@
 package org.operaton.bpm.engine.impl.runtime;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import org.operaton.bpm.engine.impl.ExecutionQueryImpl;
 import org.operaton.bpm.engine.impl.ProcessEngineLogger;
+import org.operaton.bpm.engine.impl.QueryOperator;
+import org.operaton.bpm.engine.impl.QueryVariableValue;
+import org.operaton.bpm.engine.impl.SingleQueryVariableValueCondition;
 import org.operaton.bpm.engine.impl.bpmn.parser.EventSubscriptionDeclaration;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.operaton.bpm.engine.impl.cmd.CommandLogger;
+import org.operaton.bpm.engine.impl.db.entitymanager.DbEntityManager;
 import org.operaton.bpm.engine.impl.event.EventType;
 import org.operaton.bpm.engine.impl.interceptor.CommandContext;
 import org.operaton.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
+import org.operaton.bpm.engine.impl.persistence.entity.CorrelationKeyManager;
 import org.operaton.bpm.engine.impl.persistence.entity.EventSubscriptionEntity;
 import org.operaton.bpm.engine.impl.persistence.entity.EventSubscriptionManager;
 import org.operaton.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.operaton.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.SuspensionState;
 import org.operaton.bpm.engine.runtime.Execution;
 
 /**
@@ -86,8 +99,142 @@ public class DefaultCorrelationHandler implements CorrelationHandler {
     return results;
   }
 
+  /**
+   * Correlates messages which are only restricted by message name, business key, process instance id
+   * and tenant id with a few set-based queries: the message event subscriptions of all these messages
+   * are selected at once, their executions are loaded at once and then matched in memory. Messages
+   * with correlation keys are correlated one after another.
+   */
+  @Override
+  public List<List<CorrelationHandlerResult>> correlateMessages(CommandContext commandContext, List<CorrelationSet> correlationSets) {
+    List<CorrelationSet> subscriptionCorrelationSets = new ArrayList<>();
+    for (CorrelationSet correlationSet : correlationSets) {
+      if (isCorrelatableBySubscription(correlationSet)) {
+        subscriptionCorrelationSets.add(correlationSet);
+      }
+    }
+
+    Map<String, List<EventSubscriptionEntity>> eventSubscriptionsByMessageName = findMessageEventSubscriptions(commandContext, subscriptionCorrelationSets);
+    // the start message correlations only depend on message name, process definition and tenant
+    Map<List<Object>, List<CorrelationHandlerResult>> startMessageCorrelations = new HashMap<>();
+
+    List<List<CorrelationHandlerResult>> results = new ArrayList<>(correlationSets.size());
+    for (CorrelationSet correlationSet : correlationSets) {
+      String messageName = correlationSet.getMessageName();
+
+      if (isCorrelatableBySubscription(correlationSet)) {
+        List<CorrelationHandlerResult> correlations = correlateMessageToExecutions(commandContext, correlationSet, eventSubscriptionsByMessageName.get(messageName));
+
+        if (!correlationSet.isExecutionsOnly()) {
+          List<Object> startMessageKey = Arrays.asList(messageName, correlationSet.getProcessDefinitionId(), correlationSet.isTenantIdSet(), correlationSet.getTenantId());
+          correlations.addAll(startMessageCorrelations.computeIfAbsent(startMessageKey, key -> correlateStartMessages(commandContext, messageName, correlationSet)));
+        }
+        results.add(correlations);
+
+      } else {
+        results.add(correlateMessages(commandContext, messageName, correlationSet));
+      }
+    }
+
+    return results;
+  }
+
+  protected boolean isCorrelatableBySubscription(CorrelationSet correlationSet) {
+    return correlationSet.getMessageName() != null
+        && (correlationSet.getCorrelationKeys() == null || correlationSet.getCorrelationKeys().isEmpty())
+        && (correlationSet.getLocalCorrelationKeys() == null || correlationSet.getLocalCorrelationKeys().isEmpty());
+  }
+
+  protected Map<String, List<EventSubscriptionEntity>> findMessageEventSubscriptions(CommandContext commandContext, List<CorrelationSet> correlationSets) {
+    Map<String, List<EventSubscriptionEntity>> eventSubscriptionsByMessageName = new HashMap<>();
+    if (correlationSets.isEmpty()) {
+      return eventSubscriptionsByMessageName;
+    }
+
+    Set<EventSubscriptionEntity> eventSubscriptions = new LinkedHashSet<>(commandContext.getEventSubscriptionManager()
+        .findMessageEventSubscriptionsByCorrelationSets(correlationSets));
+
+    // load the executions and their process instances which are not cached yet with a single query
+    DbEntityManager dbEntityManager = commandContext.getDbEntityManager();
+    Set<String> executionIds = new HashSet<>();
+    for (EventSubscriptionEntity eventSubscription : eventSubscriptions) {
+      for (String executionId : Arrays.asList(eventSubscription.getExecutionId(), eventSubscription.getProcessInstanceId())) {
+        if (executionId != null && dbEntityManager.getCachedEntity(ExecutionEntity.class, executionId) == null) {
+          executionIds.add(executionId);
+        }
+      }
+    }
+    if (!executionIds.isEmpty()) {
+      commandContext.getExecutionManager().findExecutionsByIds(executionIds);
+    }
+
+    for (EventSubscriptionEntity eventSubscription : eventSubscriptions) {
+      eventSubscriptionsByMessageName.computeIfAbsent(eventSubscription.getEventName(), name -> new ArrayList<>())
+          .add(eventSubscription);
+    }
+    return eventSubscriptionsByMessageName;
+  }
+
+  protected List<CorrelationHandlerResult> correlateMessageToExecutions(CommandContext commandContext, CorrelationSet correlationSet, List<EventSubscriptionEntity> eventSubscriptions) {
+    List<CorrelationHandlerResult> results = new ArrayList<>();
+    if (eventSubscriptions == null) {
+      return results;
+    }
+
+    DbEntityManager dbEntityManager = commandContext.getDbEntityManager();
+    Set<String> matchedExecutionIds = new HashSet<>();
+    for (EventSubscriptionEntity eventSubscription : eventSubscriptions) {
+      ExecutionEntity execution = eventSubscription.getExecution();
+      if (execution != null
+          && !dbEntityManager.isDeleted(eventSubscription)
+          && !dbEntityManager.isDeleted(execution)
+          && matchesCorrelationSet(execution, correlationSet)
+          && matchedExecutionIds.add(execution.getId())) {
+        results.add(CorrelationHandlerResult.matchedExecution(execution));
+      }
+    }
+    return results;
+  }
+
+  protected boolean matchesCorrelationSet(ExecutionEntity execution, CorrelationSet correlationSet) {
+    return execution.getSuspensionState() == SuspensionState.ACTIVE.getStateCode()
+        && (correlationSet.getBusinessKey() == null || correlationSet.getBusinessKey().equals(execution.getProcessBusinessKey()))
+        && (correlationSet.getProcessInstanceId() == null || correlationSet.getProcessInstanceId().equals(execution.getProcessInstanceId()))
+        && (!correlationSet.isTenantIdSet() || Objects.equals(correlationSet.getTenantId(), execution.getTenantId()));
+  }
+
   protected List<CorrelationHandlerResult> correlateMessageToExecutions(CommandContext commandContext, String messageName, CorrelationSet correlationSet) {
 
+    List<Execution> matchingExecutions;
+
+    List<String> processInstanceIds = findProcessInstanceIdsByCorrelationKeys(commandContext, correlationSet);
+    if (processInstanceIds == null) {
+      matchingExecutions = createExecutionQuery(messageName, correlationSet, correlationSet.getProcessInstanceId())
+          .evaluateExpressionsAndExecuteList(commandContext, null);
+
+    } else if (processInstanceIds.isEmpty()) {
+      matchingExecutions = Collections.emptyList();
+
+    } else {
+      // restrict the query to the process instances found in the correlation key index
+      matchingExecutions = createExecutionQuery(messageName, correlationSet, correlationSet.getProcessInstanceId())
+          .processInstanceIds(new HashSet<>(processInstanceIds))
+          .evaluateExpressionsAndExecuteList(commandContext, null);
+    }
+
+    List<CorrelationHandlerResult> result = new ArrayList<>(matchingExecutions.size());
+
+    for (Execution matchingExecution : matchingExecutions) {
+      CorrelationHandlerResult correlationResult = CorrelationHandlerResult.matchedExecution((ExecutionEntity) matchingExecution);
+      if (!commandContext.getDbEntityManager().isDeleted(correlationResult.getExecutionEntity())) {
+        result.add(correlationResult);
+      }
+    }
+
+    return result;
+  }
+
+  protected ExecutionQueryImpl createExecutionQuery(String messageName, CorrelationSet correlationSet, String processInstanceId) {
     ExecutionQueryImpl query = new ExecutionQueryImpl();
 
     Map<String, Object> correlationKeys = correlationSet.getCorrelationKeys();
@@ -109,7 +256,6 @@ public class DefaultCorrelationHandler implements CorrelationHandler {
       query.processInstanceBusinessKey(businessKey);
     }
 
-    String processInstanceId = correlationSet.getProcessInstanceId();
     if (processInstanceId != null) {
       query.processInstanceId(processInstanceId);
     }
@@ -132,18 +278,46 @@ public class DefaultCorrelationHandler implements CorrelationHandler {
     // restrict to active executions
     query.active();
 
-    List<Execution> matchingExecutions = query.evaluateExpressionsAndExecuteList(commandContext, null);
+    return query;
+  }
 
-    List<CorrelationHandlerResult> result = new ArrayList<>(matchingExecutions.size());
+  /**
+   * Looks up the process instances which have a variable matching one of the correlation keys
+   * in the correlation key index. The index is only used for variable names whose existing
+   * variables were all added to the index. It then contains every process variable with this
+   * name and an indexable value, so the result includes all process instances which can match.
+   *
+   * @return the ids of the process instances or <code>null</code> if none of the correlation
+   *         keys can be looked up in the index
+   */
+  protected List<String> findProcessInstanceIdsByCorrelationKeys(CommandContext commandContext, CorrelationSet correlationSet) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = commandContext.getProcessEngineConfiguration();
+    Set<String> correlationKeyVariableNames = processEngineConfiguration.getCorrelationKeyVariableNames();
+    Set<String> indexedVariableNames = processEngineConfiguration.getIndexedCorrelationKeyVariableNames();
 
-    for (Execution matchingExecution : matchingExecutions) {
-      CorrelationHandlerResult correlationResult = CorrelationHandlerResult.matchedExecution((ExecutionEntity) matchingExecution);
-      if (!commandContext.getDbEntityManager().isDeleted(correlationResult.getExecutionEntity())) {
-        result.add(correlationResult);
+    Map<String, Object> correlationKeys = correlationSet.getCorrelationKeys();
+    if (correlationKeys == null || correlationKeyVariableNames.isEmpty()) {
+      return null;
+    }
+
+    for (Map.Entry<String, Object> correlationKey : correlationKeys.entrySet()) {
+      if (correlationKeyVariableNames.contains(correlationKey.getKey()) && indexedVariableNames.contains(correlationKey.getKey())) {
+        QueryVariableValue queryVariableValue = new QueryVariableValue(correlationKey.getKey(), correlationKey.getValue(), QueryOperator.EQUALS, false);
+        queryVariableValue.initialize(processEngineConfiguration.getVariableSerializers(), processEngineConfiguration.getDatabaseType());
+
+        List<SingleQueryVariableValueCondition> valueConditions = queryVariableValue.getValueConditions();
+        if (valueConditions.size() == 1) {
+          SingleQueryVariableValueCondition valueCondition = valueConditions.get(0);
+          String value = CorrelationKeyManager.getIndexedValue(valueCondition);
+          if (value != null) {
+            return commandContext.getCorrelationKeyManager()
+                .findProcessInstanceIdsByCorrelationKey(correlationKey.getKey(), valueCondition.getType(), value);
+          }
+        }
       }
     }
 
-    return result;
+    return null;
   }
 
   @Override
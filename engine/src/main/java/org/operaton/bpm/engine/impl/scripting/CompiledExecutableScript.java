@@ -51,9 +51,13 @@ public class CompiledExecutableScript extends ExecutableScript {
 
   @Override
   public Object evaluate(ScriptEngine scriptEngine, VariableScope variableScope, Bindings bindings) {
+    return evaluate(getCompiledScript(), variableScope, bindings);
+  }
+
+  protected Object evaluate(CompiledScript compiledScript, VariableScope variableScope, Bindings bindings) {
     try {
       LOG.debugEvaluatingCompiledScript(language);
-      return getCompiledScript().eval(bindings);
+      return compiledScript.eval(bindings);
     } catch (ScriptException e) {
       Throwable cause = e.getCause();
       if (cause instanceof BpmnError bpmnError) {
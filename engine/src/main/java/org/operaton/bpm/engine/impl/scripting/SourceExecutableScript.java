@@ -29,6 +29,7 @@ import org.operaton.bpm.engine.delegate.VariableScope;
 import org.operaton.bpm.engine.impl.ProcessEngineLogger;
 import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.operaton.bpm.engine.impl.context.Context;
+import org.operaton.bpm.engine.impl.scripting.engine.ScriptEnginePool;
 
 /**
  * A script which is provided as source code.
@@ -53,11 +54,18 @@ public class SourceExecutableScript extends CompiledExecutableScript {
 
   @Override
   public Object evaluate(ScriptEngine engine, VariableScope variableScope, Bindings bindings) {
-    if (shouldBeCompiled) {
+    ScriptEnginePool scriptEnginePool = getScriptEnginePool(engine);
+    if (scriptEnginePool != null) {
+      CompiledScript pooledCompiledScript = getPooledCompiledScript(scriptEnginePool, engine);
+      if (pooledCompiledScript != null) {
+        return evaluate(pooledCompiledScript, variableScope, bindings);
+      }
+    }
+    else if (shouldBeCompiled) {
       compileScript(engine);
     }
 
-    if (getCompiledScript() != null) {
+    if (scriptEnginePool == null && getCompiledScript() != null) {
       return super.evaluate(engine, variableScope, bindings);
     }
     else {
@@ -98,6 +106,33 @@ public class SourceExecutableScript extends CompiledExecutableScript {
     }
   }
 
+  /**
+   * @return the pool which keeps the compiled scripts of the given pooled engine, or null if the
+   *   script is compiled once for the first engine that evaluates it, e.g. for a shared engine
+   */
+  protected ScriptEnginePool getScriptEnginePool(ScriptEngine engine) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    ScriptEnginePool scriptEnginePool = processEngineConfiguration.getScriptEnginePool();
+    if (scriptEnginePool != null && processEngineConfiguration.isEnableScriptCompilation()
+        && scriptEnginePool.isPooledEngine(engine)) {
+      return scriptEnginePool;
+    }
+    return null;
+  }
+
+  /**
+   * Compiled scripts are bound to the engine which compiled them. A pooled engine is confined to a
+   * single thread, so the script is compiled per engine and shared with all scripts of the same source.
+   */
+  protected CompiledScript getPooledCompiledScript(ScriptEnginePool scriptEnginePool, ScriptEngine engine) {
+    CompiledScript pooledCompiledScript = scriptEnginePool.getCompiledScript(engine, scriptSource);
+    if (pooledCompiledScript == null) {
+      pooledCompiledScript = compile(engine, language, scriptSource);
+      scriptEnginePool.putCompiledScript(engine, scriptSource, pooledCompiledScript);
+    }
+    return pooledCompiledScript;
+  }
+
   public CompiledScript compile(ScriptEngine scriptEngine, String language, String src) {
     if (scriptEngine instanceof Compilable compilingEngine && !scriptEngine.getFactory().getLanguageName().equalsIgnoreCase("ecmascript")) {
       try {
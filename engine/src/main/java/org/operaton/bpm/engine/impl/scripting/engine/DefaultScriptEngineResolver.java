@@ -16,8 +16,8 @@
  */
 package org.operaton.bpm.engine.impl.scripting.engine;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
@@ -31,7 +31,10 @@ public class DefaultScriptEngineResolver implements ScriptEngineResolver {
 
   protected final ScriptEngineManager scriptEngineManager;
 
-  protected Map<String, ScriptEngine> cachedEngines = new HashMap<>();
+  protected Map<String, ScriptEngine> cachedEngines = new ConcurrentHashMap<>();
+
+  /** pools the engines which cannot be cached, null if pooling is disabled */
+  protected ScriptEnginePool scriptEnginePool;
 
   public DefaultScriptEngineResolver(ScriptEngineManager scriptEngineManager) {
     this.scriptEngineManager = scriptEngineManager;
@@ -76,6 +79,50 @@ public class DefaultScriptEngineResolver implements ScriptEngineResolver {
     return scriptEngine;
   }
 
+  /**
+   * Returns a cached script engine if the engine is thread-safe. Otherwise, an engine is taken from
+   * the {@link ScriptEnginePool} or a new engine is created for the pool. Without a pool, this
+   * behaves like {@link #getScriptEngine(String, boolean)}.
+   */
+  @Override
+  public ScriptEngine acquireScriptEngine(String language, boolean resolveFromCache) {
+    if (scriptEnginePool == null || !resolveFromCache) {
+      return getScriptEngine(language, resolveFromCache);
+    }
+
+    ScriptEngine scriptEngine = cachedEngines.get(language);
+    if (scriptEngine == null) {
+      scriptEngine = scriptEnginePool.acquire(language);
+    }
+    if (scriptEngine == null) {
+      scriptEngine = getScriptEngine(language);
+
+      if (scriptEngine != null) {
+        if (isCachable(scriptEngine)) {
+          cachedEngines.putIfAbsent(language, scriptEngine);
+        } else {
+          scriptEnginePool.registerPooledEngine(scriptEngine);
+        }
+      }
+    }
+    return scriptEngine;
+  }
+
+  @Override
+  public void releaseScriptEngine(String language, ScriptEngine scriptEngine) {
+    if (scriptEnginePool != null) {
+      scriptEnginePool.release(language, scriptEngine);
+    }
+  }
+
+  public ScriptEnginePool getScriptEnginePool() {
+    return scriptEnginePool;
+  }
+
+  public void setScriptEnginePool(ScriptEnginePool scriptEnginePool) {
+    this.scriptEnginePool = scriptEnginePool;
+  }
+
   protected ScriptEngine getScriptEngine(String language) {
     ScriptEngine scriptEngine = null;
     if (ScriptingEngines.JAVASCRIPT_SCRIPTING_LANGUAGE.equalsIgnoreCase(language) ||
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.scripting.engine;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+
+import org.operaton.commons.utils.cache.ConcurrentSegmentedCache;
+
+/**
+ * <p>Pool of script engines which are not thread-safe and therefore cannot be shared by the
+ * {@link DefaultScriptEngineResolver}. Without the pool, such engines are created for every script
+ * evaluation.</p>
+ *
+ * <p>A pooled engine is confined to the thread which acquired it until it is released again. This
+ * allows reusing the engine and the scripts compiled by it. Each evaluation still gets new bindings
+ * (for Graal JS a new polyglot context of the pooled engine), so that global declarations and
+ * modifications of built-in objects do not leak from one evaluation into the next. The number of
+ * idle engines is bounded per language; engines released into a full pool are discarded.</p>
+ *
+ * <p>Thread-safe engines are shared instead of pooled. Their compiled scripts are kept by the
+ * scripts themselves.</p>
+ */
+public class ScriptEnginePool {
+
+  public static final int DEFAULT_MAX_IDLE_ENGINES = 16;
+  public static final int DEFAULT_COMPILED_SCRIPT_CAPACITY = 1000;
+
+  protected final int maxIdleEngines;
+  protected final int compiledScriptCapacity;
+
+  protected final Map<String, Queue<ScriptEngine>> idleEngines = new ConcurrentHashMap<>();
+  protected final Map<String, AtomicInteger> idleEngineCounts = new ConcurrentHashMap<>();
+  protected final Map<ScriptEngine, EngineState> engineStates = new ConcurrentHashMap<>();
+
+  protected final LongAdder hitCount = new LongAdder();
+  protected final LongAdder missCount = new LongAdder();
+  protected final LongAdder discardCount = new LongAdder();
+  protected final LongAdder compiledScriptHitCount = new LongAdder();
+  protected final LongAdder compiledScriptMissCount = new LongAdder();
+
+  public ScriptEnginePool() {
+    this(DEFAULT_MAX_IDLE_ENGINES, DEFAULT_COMPILED_SCRIPT_CAPACITY);
+  }
+
+  /**
+   * @param maxIdleEngines the maximum number of idle engines per language
+   * @param compiledScriptCapacity the maximum number of compiled scripts per engine
+   */
+  public ScriptEnginePool(int maxIdleEngines, int compiledScriptCapacity) {
+    if (maxIdleEngines < 0 || compiledScriptCapacity < 0) {
+      throw new IllegalArgumentException();
+    }
+    this.maxIdleEngines = maxIdleEngines;
+    this.compiledScriptCapacity = compiledScriptCapacity;
+  }
+
+  /**
+   * @return an idle engine for the given language which is now confined to the calling thread, or
+   *   <code>null</code> if the pool holds no idle engine for the language
+   */
+  public ScriptEngine acquire(String language) {
+    Queue<ScriptEngine> engines = idleEngines.get(language);
+    ScriptEngine scriptEngine = engines != null ? engines.poll() : null;
+    if (scriptEngine != null) {
+      idleEngineCounts.get(language).decrementAndGet();
+      hitCount.increment();
+    } else {
+      missCount.increment();
+    }
+    return scriptEngine;
+  }
+
+  /**
+   * Registers a newly created engine which is confined to the calling thread and may be released
+   * into the pool afterwards.
+   */
+  public void registerPooledEngine(ScriptEngine scriptEngine) {
+    engineStates.put(scriptEngine, new EngineState(compiledScriptCapacity));
+  }
+
+  public boolean isPooledEngine(ScriptEngine scriptEngine) {
+    return engineStates.containsKey(scriptEngine);
+  }
+
+  /**
+   * Returns a pooled engine acquired by the calling thread. Engines which were not created for the
+   * pool are ignored.
+   */
+  public void release(String language, ScriptEngine scriptEngine) {
+    if (!isPooledEngine(scriptEngine)) {
+      return;
+    }
+
+    AtomicInteger idleCount = idleEngineCounts.computeIfAbsent(language, key -> new AtomicInteger());
+    if (idleCount.incrementAndGet() <= maxIdleEngines) {
+      idleEngines.computeIfAbsent(language, key -> new ConcurrentLinkedQueue<>()).offer(scriptEngine);
+    } else {
+      idleCount.decrementAndGet();
+      engineStates.remove(scriptEngine);
+      discardCount.increment();
+    }
+  }
+
+  /**
+   * @return the script compiled by the given engine from the given source or <code>null</code>
+   */
+  public CompiledScript getCompiledScript(ScriptEngine scriptEngine, String source) {
+    EngineState state = engineStates.get(scriptEngine);
+    CompiledScript compiledScript = state != null ? state.compiledScripts.get(source) : null;
+    if (compiledScript != null) {
+      compiledScriptHitCount.increment();
+    } else {
+      compiledScriptMissCount.increment();
+    }
+    return compiledScript;
+  }
+
+  public void putCompiledScript(ScriptEngine scriptEngine, String source, CompiledScript compiledScript) {
+    EngineState state = engineStates.get(scriptEngine);
+    if (state != null && compiledScript != null) {
+      state.compiledScripts.put(source, compiledScript);
+    }
+  }
+
+  /**
+   * @return the number of idle engines for the given language
+   */
+  public int getIdleEngineCount(String language) {
+    AtomicInteger idleCount = idleEngineCounts.get(language);
+    return idleCount != null ? Math.max(0, idleCount.get()) : 0;
+  }
+
+  /**
+   * @return the number of idle engines for all languages
+   */
+  public int getIdleEngineCount() {
+    int count = 0;
+    for (String language : idleEngineCounts.keySet()) {
+      count += getIdleEngineCount(language);
+    }
+    return count;
+  }
+
+  public int getMaxIdleEngines() {
+    return maxIdleEngines;
+  }
+
+  /**
+   * @return the number of {@link #acquire(String)} calls which returned an idle engine
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * @return the number of {@link #acquire(String)} calls which required a new engine
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * @return the number of released engines which were discarded because the pool was full
+   */
+  public long getDiscardCount() {
+    return discardCount.sum();
+  }
+
+  /**
+   * @return the number of scripts which did not have to be compiled again
+   */
+  public long getCompiledScriptHitCount() {
+    return compiledScriptHitCount.sum();
+  }
+
+  /**
+   * @return the number of scripts which had to be compiled
+   */
+  public long getCompiledScriptMissCount() {
+    return compiledScriptMissCount.sum();
+  }
+
+  protected static class EngineState {
+
+    protected final ConcurrentSegmentedCache<String, CompiledScript> compiledScripts;
+
+    protected EngineState(int compiledScriptCapacity) {
+      this.compiledScripts = new ConcurrentSegmentedCache<>(compiledScriptCapacity);
+    }
+  }
+
+}
@@ -33,4 +33,23 @@ public interface ScriptEngineResolver {
    * @return the cached engine or null if no script engine can be created for the given language
    */
   ScriptEngine getScriptEngine(String language, boolean resolveFromCache);
+
+  /**
+   * Returns a script engine which is used by the calling thread until it is passed to
+   * {@link #releaseScriptEngine(String, ScriptEngine)}. Implementations may pool engines which are
+   * not thread-safe instead of creating a new engine for every call.
+   *
+   * @param language the language (such as 'groovy' for the script engine)
+   * @return the engine or null if no script engine can be created for the given language
+   */
+  default ScriptEngine acquireScriptEngine(String language, boolean resolveFromCache) {
+    return getScriptEngine(language, resolveFromCache);
+  }
+
+  /**
+   * Releases a script engine returned by {@link #acquireScriptEngine(String, boolean)}.
+   */
+  default void releaseScriptEngine(String language, ScriptEngine scriptEngine) {
+    // nothing to release by default
+  }
 }
@@ -120,6 +120,47 @@ public class ScriptingEngines implements DmnScriptEngineResolver {
     return engine;
   }
 
+  /**
+   * Loads the given script engine by language name for exclusive use by the calling thread. The engine must be
+   * passed to {@link #releaseScriptEngine(String, ScriptEngine)} once the script has been evaluated, so that an
+   * engine from the {@link ScriptEnginePool} can be reused.
+   *
+   * @param language the name of the script language to lookup an implementation for
+   * @return the script engine
+   * @throws ProcessEngineException if no such engine can be found.
+   */
+  public ScriptEngine acquireScriptEngineForLanguage(String language) {
+
+    if (language != null) {
+      language = language.toLowerCase();
+    }
+
+    ProcessApplicationReference pa = Context.getCurrentProcessApplication();
+    ProcessEngineConfigurationImpl config = Context.getProcessEngineConfiguration();
+
+    ScriptEngine engine = null;
+    if (config.isEnableFetchScriptEngineFromProcessApplication() && pa != null) {
+      engine = getPaScriptEngine(language, pa);
+    }
+
+    if(engine == null) {
+      engine = scriptEngineResolver.acquireScriptEngine(language, enableScriptEngineCaching);
+      ensureNotNull("Can't find scripting engine for '" + language + "'", "scriptEngine", engine);
+    }
+
+    return engine;
+  }
+
+  /**
+   * Releases a script engine returned by {@link #acquireScriptEngineForLanguage(String)}.
+   */
+  public void releaseScriptEngine(String language, ScriptEngine scriptEngine) {
+    if (language != null) {
+      language = language.toLowerCase();
+    }
+    scriptEngineResolver.releaseScriptEngine(language, scriptEngine);
+  }
+
   protected ScriptEngine getPaScriptEngine(String language, ProcessApplicationReference pa) {
     try {
       ProcessApplicationInterface processApplication = pa.getProcessApplication();
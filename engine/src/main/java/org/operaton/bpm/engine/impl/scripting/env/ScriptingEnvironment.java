@@ -79,12 +79,17 @@ public class ScriptingEnvironment {
   public Object execute(ExecutableScript script, VariableScope scope) {
 
     // get script engine
-    ScriptEngine scriptEngine = scriptingEngines.getScriptEngineForLanguage(script.getLanguage());
+    ScriptEngine scriptEngine = scriptingEngines.acquireScriptEngineForLanguage(script.getLanguage());
 
-    // create bindings
-    Bindings bindings = scriptingEngines.createBindings(scriptEngine, scope);
+    try {
+      // create bindings
+      Bindings bindings = scriptingEngines.createBindings(scriptEngine, scope);
+
+      return execute(script, scope, bindings, scriptEngine);
 
-    return execute(script, scope, bindings, scriptEngine);
+    } finally {
+      scriptingEngines.releaseScriptEngine(script.getLanguage(), scriptEngine);
+    }
   }
 
   public Object execute(ExecutableScript script, VariableScope scope, Bindings bindings, ScriptEngine scriptEngine) {
@@ -144,7 +144,7 @@ public abstract class Parse extends DefaultHandler {
         saxParser.setProperty(JAXP_SCHEMA_LANGUAGE, W3C_XML_SCHEMA);
         saxParser.setProperty(JAXP_SCHEMA_SOURCE, schemaResource);
       }
-      saxParser.parse(inputStream, new ParseHandler(this));
+      saxParser.parse(inputStream, createParseHandler(saxParser));
     } catch (Exception e) {
       throw LOG.parsingFailureException(name, e);
     }
@@ -152,6 +152,14 @@ public abstract class Parse extends DefaultHandler {
     return this;
   }
 
+  /**
+   * Allows subclasses to register further consumers of the SAX events, so that the XML
+   * does not have to be parsed again.
+   */
+  protected ParseHandler createParseHandler(SAXParser saxParser) throws Exception {
+    return new ParseHandler(this);
+  }
+
   /*
    * JAXP allows users to override the default value via system properties and
    * a central properties file (see https://docs.oracle.com/javase/tutorial/jaxp/properties/scope.html).
@@ -19,9 +19,12 @@ package org.operaton.bpm.engine.impl.util.xml;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
 import org.xml.sax.Locator;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
+import org.xml.sax.ext.Attributes2;
+import org.xml.sax.helpers.AttributesImpl;
 import org.xml.sax.helpers.DefaultHandler;
 
 
@@ -34,9 +37,44 @@ public class ParseHandler extends DefaultHandler {
   protected Parse parse;
   protected Locator locator;
   protected Deque<Element> elementStack = new ArrayDeque<>();
+  /** optional consumer which receives the same content events, e.g. to build a DOM document */
+  protected ContentHandler contentHandler;
 
   public ParseHandler(Parse parse) {
+    this(parse, null);
+  }
+
+  public ParseHandler(Parse parse, ContentHandler contentHandler) {
     this.parse = parse;
+    this.contentHandler = contentHandler;
+  }
+
+  @Override
+  public void startDocument() throws SAXException {
+    if (contentHandler != null) {
+      contentHandler.startDocument();
+    }
+  }
+
+  @Override
+  public void endDocument() throws SAXException {
+    if (contentHandler != null) {
+      contentHandler.endDocument();
+    }
+  }
+
+  @Override
+  public void startPrefixMapping(String prefix, String uri) throws SAXException {
+    if (contentHandler != null) {
+      contentHandler.startPrefixMapping(prefix, uri);
+    }
+  }
+
+  @Override
+  public void endPrefixMapping(String prefix) throws SAXException {
+    if (contentHandler != null) {
+      contentHandler.endPrefixMapping(prefix);
+    }
   }
 
   @Override
@@ -48,16 +86,72 @@ public class ParseHandler extends DefaultHandler {
       elementStack.peek().add(element);
     }
     elementStack.push(element);
+
+    if (contentHandler != null) {
+      contentHandler.startElement(uri, localName, qName, getSpecifiedAttributes(attributes));
+    }
+  }
+
+  /**
+   * Removes the attributes which were not specified in the document but defaulted by the schema,
+   * so that the content handler receives the document as it was deployed.
+   */
+  protected Attributes getSpecifiedAttributes(Attributes attributes) {
+    if (!(attributes instanceof Attributes2 attributes2)) {
+      return attributes;
+    }
+
+    AttributesImpl specifiedAttributes = null;
+    for (int i = 0; i < attributes2.getLength(); i++) {
+      if (!attributes2.isSpecified(i)) {
+        if (specifiedAttributes == null) {
+          specifiedAttributes = new AttributesImpl();
+          for (int j = 0; j < i; j++) {
+            addAttribute(specifiedAttributes, attributes2, j);
+          }
+        }
+      } else if (specifiedAttributes != null) {
+        addAttribute(specifiedAttributes, attributes2, i);
+      }
+    }
+    return specifiedAttributes != null ? specifiedAttributes : attributes;
+  }
+
+  protected void addAttribute(AttributesImpl target, Attributes attributes, int index) {
+    target.addAttribute(attributes.getURI(index), attributes.getLocalName(index), attributes.getQName(index),
+        attributes.getType(index), attributes.getValue(index));
   }
 
   @Override
   public void characters(char[] ch, int start, int length) throws SAXException {
     elementStack.peek().appendText(String.valueOf(ch, start, length));
+
+    if (contentHandler != null) {
+      contentHandler.characters(ch, start, length);
+    }
+  }
+
+  @Override
+  public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+    if (contentHandler != null) {
+      contentHandler.ignorableWhitespace(ch, start, length);
+    }
+  }
+
+  @Override
+  public void processingInstruction(String target, String data) throws SAXException {
+    if (contentHandler != null) {
+      contentHandler.processingInstruction(target, data);
+    }
   }
 
   @Override
   public void endElement(String uri, String localName, String qName) throws SAXException {
     elementStack.pop();
+
+    if (contentHandler != null) {
+      contentHandler.endElement(uri, localName, qName);
+    }
   }
 
   @Override
@@ -78,6 +172,10 @@ public class ParseHandler extends DefaultHandler {
   @Override
   public void setDocumentLocator(Locator locator) {
     this.locator = locator;
+
+    if (contentHandler != null) {
+      contentHandler.setDocumentLocator(locator);
+    }
   }
 
   public void setDefaultNamespace(String defaultNamespace) {
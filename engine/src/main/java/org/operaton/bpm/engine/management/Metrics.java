@@ -84,6 +84,23 @@ public class Metrics {
   public static final String UNIQUE_TASK_WORKERS = "unique-task-workers";
   public static final String TASK_USERS = "task-users";
 
+  /**
+   * Duration of command executions in nanoseconds, including the flush and the commit
+   * of the command context. Latency histograms are only available in-process and are not
+   * reported to the database.
+   */
+  public static final String COMMAND_EXECUTION_DURATION = "command-execution-duration";
+
+  /**
+   * Duration of job executions by the job executor in nanoseconds.
+   */
+  public static final String JOB_EXECUTION_DURATION = "job-execution-duration";
+
+  /**
+   * Duration of job acquisition rounds in nanoseconds.
+   */
+  public static final String JOB_ACQUISITION_DURATION = "job-acquisition-duration";
+
   private Metrics() {
   }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.runtime;
+
+import java.util.List;
+
+import org.operaton.bpm.engine.AuthorizationException;
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.authorization.Permissions;
+import org.operaton.bpm.engine.authorization.Resources;
+import org.operaton.bpm.engine.exception.NullValueException;
+
+/**
+ * A fluent builder for correlating many messages at once.
+ *
+ * <p>
+ * Every message is described by a {@link MessageCorrelationBuilder} created with
+ * {@link org.operaton.bpm.engine.RuntimeService#createMessageCorrelation(String)} and is correlated
+ * to all matching executions and process definitions, like
+ * {@link MessageCorrelationBuilder#correlateAllWithResult()} does. Instead of one transaction per
+ * message, the messages are correlated in chunks: the targets of all messages of a chunk are resolved
+ * with a few queries and the whole chunk is correlated in one transaction.
+ * </p>
+ *
+ * <p>
+ * The messages are correlated in their order. The targets of a chunk are resolved at the beginning of
+ * its transaction. If an earlier message of the chunk created an execution which waits for a later
+ * message, e.g. by starting a process instance, the later message is correlated in a new transaction,
+ * so that it is delivered to this execution.
+ * </p>
+ */
+public interface MessageCorrelationBulkBuilder {
+
+  /**
+   * Adds a message to correlate.
+   *
+   * @param correlation
+   *          the message correlation, created with
+   *          {@link org.operaton.bpm.engine.RuntimeService#createMessageCorrelation(String)}
+   * @return the builder
+   * @throws NullValueException
+   *           when <code>correlation</code> is <code>null</code>
+   */
+  MessageCorrelationBulkBuilder correlation(MessageCorrelationBuilder correlation);
+
+  /**
+   * Adds messages to correlate, in the given order.
+   *
+   * @param correlations
+   *          the message correlations, created with
+   *          {@link org.operaton.bpm.engine.RuntimeService#createMessageCorrelation(String)}
+   * @return the builder
+   * @throws NullValueException
+   *           when <code>correlations</code> is <code>null</code> or contains <code>null</code>
+   */
+  MessageCorrelationBulkBuilder correlations(List<MessageCorrelationBuilder> correlations);
+
+  /**
+   * Sets the maximum number of messages which are correlated in one transaction.
+   * Defaults to 100.
+   *
+   * @param chunkSize
+   *          the number of messages per transaction
+   * @return the builder
+   * @throws ProcessEngineException
+   *           when <code>chunkSize</code> is not positive
+   */
+  MessageCorrelationBulkBuilder chunkSize(int chunkSize);
+
+  /**
+   * Executes the message correlation.
+   *
+   * @see #correlateAllWithResult()
+   */
+  void correlateAll();
+
+  /**
+   * Correlates all messages. Each message is delivered to all executions waiting for it and, unless
+   * {@link MessageCorrelationBuilder#startMessageOnly()} is set, also starts a process instance of every
+   * process definition with a matching message start event. A message which matches nothing is skipped.
+   *
+   * <p>
+   * If the correlation of a message fails, the transaction of its chunk is rolled back and the exception
+   * is thrown. The chunks which have been correlated before remain committed.
+   * </p>
+   *
+   * @return the results of all messages in the order of the messages
+   *
+   * @throws ProcessEngineException
+   *           if a message has neither a message name, business key, correlation keys nor process
+   *           instance id, or if its correlation criteria are invalid
+   * @throws AuthorizationException
+   *           if the user has no {@link Permissions#UPDATE} permission on {@link Resources#PROCESS_INSTANCE}
+   *           or no {@link Permissions#UPDATE_INSTANCE} permission on {@link Resources#PROCESS_DEFINITION}
+   *           (in case of a message that is delivered to an execution) or no {@link Permissions#CREATE}
+   *           permission on {@link Resources#PROCESS_INSTANCE} and no {@link Permissions#CREATE_INSTANCE}
+   *           permission on {@link Resources#PROCESS_DEFINITION} (in case of a message that starts a process)
+   */
+  List<MessageCorrelationResult> correlateAllWithResult();
+
+}
@@ -589,3 +589,31 @@ create index ACT_IDX_PROCDEF_VER_TAG ON ACT_RE_PROCDEF(VERSION_TAG_);
 -- indices for history cleanup: https://jira.camunda.com/browse/CAM-11616
 create index ACT_IDX_AUTH_ROOT_PI on ACT_RU_AUTHORIZATION(ROOT_PROC_INST_ID_);
 create index ACT_IDX_AUTH_RM_TIME on ACT_RU_AUTHORIZATION(REMOVAL_TIME_);
+
+-- correlation keys of process instances
+create table ACT_RU_CORR_KEY (
+    ID_ varchar(64) not null,
+    PROC_INST_ID_ varchar(64) not null,
+    NAME_ varchar(255) not null,
+    TYPE_ varchar(255) not null,
+    VALUE_ varchar(255) not null,
+    primary key (ID_)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
+
+create index ACT_IDX_CORR_KEY_NAME_VALUE on ACT_RU_CORR_KEY(NAME_, VALUE_);
+create index ACT_IDX_CORR_KEY_PROC_INST on ACT_RU_CORR_KEY(PROC_INST_ID_);
+
+-- history event outbox of the asynchronous history
+create table ACT_RU_HI_OUTBOX (
+    ID_ varchar(64) not null,
+    REV_ integer not null,
+    SEQ_ bigint not null auto_increment,
+    ROOT_PROC_INST_ID_ varchar(64),
+    STATE_ integer not null,
+    CREATE_TIME_ datetime(3),
+    BYTES_ LONGBLOB,
+    primary key (ID_),
+    index ACT_IDX_HI_OUTBOX_SEQ (SEQ_)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
+
+create index ACT_IDX_HI_OUTBOX_ROOT_PI on ACT_RU_HI_OUTBOX(ROOT_PROC_INST_ID_);
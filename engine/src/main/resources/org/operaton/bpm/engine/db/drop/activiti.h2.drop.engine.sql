@@ -182,6 +182,11 @@ drop index ACT_IDX_JOB_HANDLER;
 drop index ACT_IDX_AUTH_ROOT_PI;
 drop index ACT_IDX_AUTH_RM_TIME;
 
+drop index ACT_IDX_CORR_KEY_NAME_VALUE;
+drop index ACT_IDX_CORR_KEY_PROC_INST;
+drop index ACT_IDX_HI_OUTBOX_SEQ;
+drop index ACT_IDX_HI_OUTBOX_ROOT_PI;
+
 drop index ACT_IDX_BATCH_ID;
 
 drop table ACT_GE_PROPERTY if exists;
@@ -203,5 +208,7 @@ drop table ACT_RU_METER_LOG if exists;
 drop table ACT_RU_TASK_METER_LOG if exists;
 drop table ACT_RU_EXT_TASK if exists;
 drop table ACT_RU_BATCH if exists;
+drop table ACT_RU_CORR_KEY if exists;
+drop table ACT_RU_HI_OUTBOX if exists;
 drop table ACT_GE_SCHEMA_LOG if exists;
 
@@ -191,6 +191,11 @@ drop index ACT_RE_PROCDEF.ACT_IDX_PROCDEF_VER_TAG;
 drop index ACT_RU_AUTHORIZATION.ACT_IDX_AUTH_ROOT_PI;
 drop index ACT_RU_AUTHORIZATION.ACT_IDX_AUTH_RM_TIME;
 
+drop index ACT_RU_CORR_KEY.ACT_IDX_CORR_KEY_NAME_VALUE;
+drop index ACT_RU_CORR_KEY.ACT_IDX_CORR_KEY_PROC_INST;
+drop index ACT_RU_HI_OUTBOX.ACT_IDX_HI_OUTBOX_SEQ;
+drop index ACT_RU_HI_OUTBOX.ACT_IDX_HI_OUTBOX_ROOT_PI;
+
 drop index ACT_RU_VARIABLE.ACT_IDX_BATCH_ID;
 
 if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_GE_PROPERTY') drop table ACT_GE_PROPERTY;
@@ -212,4 +217,6 @@ if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = '
 if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_TASK_METER_LOG') drop table ACT_RU_TASK_METER_LOG;
 if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_EXT_TASK') drop table ACT_RU_EXT_TASK;
 if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_BATCH') drop table ACT_RU_BATCH;
+if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_CORR_KEY') drop table ACT_RU_CORR_KEY;
+if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_HI_OUTBOX') drop table ACT_RU_HI_OUTBOX;
 if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_GE_SCHEMA_LOG') drop table ACT_GE_SCHEMA_LOG;
@@ -173,6 +173,10 @@ drop index ACT_IDX_JOB_HANDLER on ACT_RU_JOB;
 drop index ACT_IDX_AUTH_ROOT_PI on ACT_RU_AUTHORIZATION;
 drop index ACT_IDX_AUTH_RM_TIME on ACT_RU_AUTHORIZATION;
 
+drop index ACT_IDX_CORR_KEY_NAME_VALUE on ACT_RU_CORR_KEY;
+drop index ACT_IDX_CORR_KEY_PROC_INST on ACT_RU_CORR_KEY;
+drop index ACT_IDX_HI_OUTBOX_ROOT_PI on ACT_RU_HI_OUTBOX;
+
 drop index ACT_IDX_BATCH_ID on ACT_RU_VARIABLE;
 
 drop table if exists ACT_GE_PROPERTY;
@@ -194,4 +198,6 @@ drop table if exists ACT_RU_METER_LOG;
 drop table if exists ACT_RU_TASK_METER_LOG;
 drop table if exists ACT_RU_EXT_TASK;
 drop table if exists ACT_RU_BATCH;
+drop table if exists ACT_RU_CORR_KEY;
+drop table if exists ACT_RU_HI_OUTBOX;
 drop table if exists ACT_GE_SCHEMA_LOG;
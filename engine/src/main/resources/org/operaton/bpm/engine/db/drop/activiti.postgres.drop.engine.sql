@@ -197,6 +197,11 @@ drop index ACT_IDX_PROCDEF_VER_TAG;
 drop index ACT_IDX_AUTH_ROOT_PI;
 drop index ACT_IDX_AUTH_RM_TIME;
 
+drop index ACT_IDX_CORR_KEY_NAME_VALUE;
+drop index ACT_IDX_CORR_KEY_PROC_INST;
+drop index ACT_IDX_HI_OUTBOX_SEQ;
+drop index ACT_IDX_HI_OUTBOX_ROOT_PI;
+
 drop index ACT_IDX_BATCH_ID;
 
 drop table ACT_GE_PROPERTY;
@@ -218,4 +223,6 @@ drop table ACT_RU_METER_LOG;
 drop table ACT_RU_TASK_METER_LOG;
 drop table ACT_RU_EXT_TASK;
 drop table ACT_RU_BATCH;
+drop table ACT_RU_CORR_KEY;
+drop table ACT_RU_HI_OUTBOX;
 drop table ACT_GE_SCHEMA_LOG;
@@ -23,3 +23,29 @@ alter table ACT_HI_COMMENT
         not null default 1;
 
 alter table ACT_RU_EXECUTION add PROC_DEF_KEY_ nvarchar(255);
+
+create table ACT_RU_CORR_KEY (
+    ID_ nvarchar(64) not null,
+    PROC_INST_ID_ nvarchar(64) not null,
+    NAME_ nvarchar(255) not null,
+    TYPE_ nvarchar(255) not null,
+    VALUE_ nvarchar(255) not null,
+    primary key (ID_)
+);
+
+create index ACT_IDX_CORR_KEY_NAME_VALUE on ACT_RU_CORR_KEY(NAME_, VALUE_);
+create index ACT_IDX_CORR_KEY_PROC_INST on ACT_RU_CORR_KEY(PROC_INST_ID_);
+
+create table ACT_RU_HI_OUTBOX (
+    ID_ nvarchar(64) not null,
+    REV_ int not null,
+    SEQ_ bigint identity(1,1) not null,
+    ROOT_PROC_INST_ID_ nvarchar(64),
+    STATE_ int not null,
+    CREATE_TIME_ datetime2,
+    BYTES_ image,
+    primary key (ID_)
+);
+
+create index ACT_IDX_HI_OUTBOX_SEQ on ACT_RU_HI_OUTBOX(SEQ_);
+create index ACT_IDX_HI_OUTBOX_ROOT_PI on ACT_RU_HI_OUTBOX(ROOT_PROC_INST_ID_);
@@ -22,3 +22,29 @@ alter table ACT_HI_COMMENT
     add REV_ integer default 1 not null;
 
 alter table ACT_RU_EXECUTION add PROC_DEF_KEY_ NVARCHAR2(255);
+
+create table ACT_RU_CORR_KEY (
+    ID_ NVARCHAR2(64) not null,
+    PROC_INST_ID_ NVARCHAR2(64) not null,
+    NAME_ NVARCHAR2(255) not null,
+    TYPE_ NVARCHAR2(255) not null,
+    VALUE_ NVARCHAR2(255) not null,
+    primary key (ID_)
+);
+
+create index ACT_IDX_CORR_KEY_NAME_VALUE on ACT_RU_CORR_KEY(NAME_, VALUE_);
+create index ACT_IDX_CORR_KEY_PROC_INST on ACT_RU_CORR_KEY(PROC_INST_ID_);
+
+create table ACT_RU_HI_OUTBOX (
+    ID_ NVARCHAR2(64) not null,
+    REV_ INTEGER not null,
+    SEQ_ NUMBER(19,0) generated by default as identity (order),
+    ROOT_PROC_INST_ID_ NVARCHAR2(64),
+    STATE_ INTEGER not null,
+    CREATE_TIME_ TIMESTAMP(6),
+    BYTES_ BLOB,
+    primary key (ID_)
+);
+
+create index ACT_IDX_HI_OUTBOX_SEQ on ACT_RU_HI_OUTBOX(SEQ_);
+create index ACT_IDX_HI_OUTBOX_ROOT_PI on ACT_RU_HI_OUTBOX(ROOT_PROC_INST_ID_);
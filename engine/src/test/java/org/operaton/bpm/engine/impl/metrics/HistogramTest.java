@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.impl.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class HistogramTest {
+
+  @Test
+  void shouldReportEmptySnapshot() {
+    HistogramSnapshot snapshot = new Histogram("test").getSnapshot();
+
+    assertThat(snapshot.getName()).isEqualTo("test");
+    assertThat(snapshot.getCount()).isZero();
+    assertThat(snapshot.getMean()).isZero();
+    assertThat(snapshot.getValueAtPercentile(99)).isZero();
+  }
+
+  @Test
+  void shouldRecordSmallValuesExactly() {
+    Histogram histogram = new Histogram("test");
+    for (int i = 1; i <= 10; i++) {
+      histogram.record(i);
+    }
+
+    HistogramSnapshot snapshot = histogram.getSnapshot();
+
+    assertThat(snapshot.getCount()).isEqualTo(10);
+    assertThat(snapshot.getSum()).isEqualTo(55);
+    assertThat(snapshot.getMax()).isEqualTo(10);
+    assertThat(snapshot.getMean()).isEqualTo(5.5);
+    assertThat(snapshot.getValueAtPercentile(50)).isEqualTo(5);
+    assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(10);
+  }
+
+  @Test
+  void shouldReportPercentilesWithBoundedError() {
+    Histogram histogram = new Histogram("test");
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i * 1000L);
+    }
+
+    HistogramSnapshot snapshot = histogram.getSnapshot();
+
+    assertThat(snapshot.getValueAtPercentile(50)).isBetween(500_000L, 500_000L + 500_000L / 16);
+    assertThat(snapshot.getValueAtPercentile(99)).isBetween(990_000L, 990_000L + 990_000L / 16);
+    assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(1_000_000L);
+  }
+
+  @Test
+  void shouldCountValuesInMatchingBucket() {
+    for (long value = 0; value < 100_000; value += 7) {
+      int index = Histogram.bucketIndex(value);
+      assertThat(Histogram.bucketUpperBound(index)).isGreaterThanOrEqualTo(value);
+      if (index > 0) {
+        assertThat(Histogram.bucketUpperBound(index - 1)).isLessThan(value);
+      }
+    }
+  }
+
+  @Test
+  void shouldCountValuesAboveMaximumInLastBucket() {
+    Histogram histogram = new Histogram("test");
+    histogram.record(Long.MAX_VALUE);
+    histogram.record(-1);
+
+    HistogramSnapshot snapshot = histogram.getSnapshot();
+
+    assertThat(snapshot.getCount()).isEqualTo(2);
+    assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(Histogram.MAX_VALUE);
+    assertThat(snapshot.getValueAtPercentile(50)).isZero();
+  }
+
+  @Test
+  void shouldReset() {
+    Histogram histogram = new Histogram("test");
+    histogram.record(42);
+
+    histogram.reset();
+
+    HistogramSnapshot snapshot = histogram.getSnapshot();
+    assertThat(snapshot.getCount()).isZero();
+    assertThat(snapshot.getSum()).isZero();
+    assertThat(snapshot.getMax()).isZero();
+  }
+
+  @Test
+  void shouldRejectInvalidPercentile() {
+    HistogramSnapshot snapshot = new Histogram("test").getSnapshot();
+
+    assertThatThrownBy(() -> snapshot.getValueAtPercentile(101))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRecordConcurrently() throws InterruptedException {
+    Histogram histogram = new Histogram("test");
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      Thread thread = new Thread(() -> {
+        for (int j = 0; j < 10_000; j++) {
+          histogram.record(j);
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(histogram.getSnapshot().getCount()).isEqualTo(40_000);
+  }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.api.authorization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.operaton.bpm.engine.authorization.Authorization.ANY;
+import static org.operaton.bpm.engine.authorization.Permissions.CREATE;
+import static org.operaton.bpm.engine.authorization.Permissions.READ;
+import static org.operaton.bpm.engine.authorization.Resources.TASK;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.operaton.bpm.engine.authorization.Authorization;
+import org.operaton.bpm.engine.impl.db.AuthorizationDecisionCache;
+import org.operaton.bpm.engine.impl.persistence.entity.PropertyEntity;
+import org.operaton.bpm.engine.task.Task;
+
+class AuthorizationDecisionCacheTest extends AuthorizationTest {
+
+  protected static final String TASK_ID = "aTaskId";
+
+  protected AuthorizationDecisionCache decisionCache;
+
+  @BeforeEach
+  void enableDecisionCache() {
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      commandContext.getPropertyManager()
+          .insert(new PropertyEntity(AuthorizationDecisionCache.VERSION_PROPERTY_NAME, "0"));
+      return null;
+    });
+
+    decisionCache = new AuthorizationDecisionCache(100);
+    processEngineConfiguration.setAuthorizationDecisionCache(decisionCache);
+  }
+
+  @AfterEach
+  void disableDecisionCache() {
+    processEngineConfiguration.setAuthorizationDecisionCache(null);
+
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      commandContext.getDbEntityManager().delete(commandContext.getPropertyManager()
+          .findPropertyById(AuthorizationDecisionCache.VERSION_PROPERTY_NAME));
+      return null;
+    });
+  }
+
+  @Test
+  void shouldCacheDecision() {
+    // when
+    boolean firstDecision = authorizationService.isUserAuthorized(userId, List.of(groupId), READ, TASK, TASK_ID);
+    boolean secondDecision = authorizationService.isUserAuthorized(userId, List.of(groupId), READ, TASK, TASK_ID);
+
+    // then
+    assertThat(firstDecision).isFalse();
+    assertThat(secondDecision).isFalse();
+    assertThat(decisionCache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldInvalidateDecisionsWhenAuthorizationIsCreated() {
+    // given
+    assertThat(authorizationService.isUserAuthorized(userId, List.of(groupId), READ, TASK, TASK_ID)).isFalse();
+    long version = decisionCache.getVersion();
+
+    // when
+    createGrantAuthorization(TASK, TASK_ID, userId, READ);
+
+    // then
+    assertThat(authorizationService.isUserAuthorized(userId, List.of(groupId), READ, TASK, TASK_ID)).isTrue();
+    assertThat(decisionCache.getVersion()).isGreaterThan(version);
+  }
+
+  @Test
+  void shouldInvalidateDecisionsWhenAuthorizationIsDeleted() {
+    // given
+    Authorization authorization = createGrantAuthorization(TASK, TASK_ID, userId, READ);
+    assertThat(authorizationService.isUserAuthorized(userId, List.of(groupId), READ, TASK, TASK_ID)).isTrue();
+
+    // when
+    runWithoutAuthorization(() -> {
+      authorizationService.deleteAuthorization(authorization.getId());
+      return null;
+    });
+
+    // then
+    assertThat(authorizationService.isUserAuthorized(userId, List.of(groupId), READ, TASK, TASK_ID)).isFalse();
+  }
+
+  @Test
+  void shouldDistinguishGroups() {
+    // given
+    createGrantAuthorizationGroup(TASK, TASK_ID, groupId, READ);
+
+    // when
+    boolean userDecision = authorizationService.isUserAuthorized(userId, null, READ, TASK, TASK_ID);
+    boolean groupDecision = authorizationService.isUserAuthorized(userId, List.of(groupId), READ, TASK, TASK_ID);
+
+    // then
+    assertThat(userDecision).isFalse();
+    assertThat(groupDecision).isTrue();
+    assertThat(decisionCache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotIncrementVersionWhenTaskIsCreated() {
+    // given
+    createGrantAuthorization(TASK, ANY, userId, CREATE);
+    int version = getAuthorizationVersion();
+
+    // when
+    Task task = taskService.newTask();
+    task.setAssignee("demo");
+    taskService.saveTask(task);
+
+    // then
+    assertThat(getAuthorizationVersion()).isEqualTo(version);
+    assertThat(authorizationService.isUserAuthorized("demo", null, READ, TASK, task.getId())).isTrue();
+
+    // when the existing task is assigned to another user
+    runWithoutAuthorization(() -> {
+      taskService.setAssignee(task.getId(), "other");
+      return null;
+    });
+
+    // then
+    assertThat(getAuthorizationVersion()).isGreaterThan(version);
+
+    runWithoutAuthorization(() -> {
+      taskService.deleteTask(task.getId(), true);
+      return null;
+    });
+  }
+
+  protected int getAuthorizationVersion() {
+    return processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> (Integer) commandContext
+        .getDbEntityManager()
+        .selectOne("selectPropertyRevision", AuthorizationDecisionCache.VERSION_PROPERTY_NAME));
+  }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.api.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.operaton.bpm.engine.RepositoryService;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
+import org.operaton.bpm.engine.impl.persistence.deploy.cache.DeploymentCacheWarmer;
+import org.operaton.bpm.engine.impl.util.ClockUtil;
+import org.operaton.bpm.engine.repository.ProcessDefinition;
+import org.operaton.bpm.engine.test.api.runtime.migration.models.ProcessModels;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineTestExtension;
+import org.operaton.bpm.model.bpmn.Bpmn;
+import org.operaton.bpm.model.bpmn.BpmnModelInstance;
+
+class DeploymentCacheWarmerTest {
+
+  protected static final BpmnModelInstance OTHER_PROCESS = Bpmn.createExecutableProcess("otherProcess")
+      .startEvent()
+      .endEvent()
+      .done();
+
+  @RegisterExtension
+  static ProcessEngineExtension engineRule = ProcessEngineExtension.builder()
+    .randomEngineName().closeEngineAfterAllTests()
+    .configurator(configuration -> configuration.setDeploymentCacheWarmingEnabled(true))
+    .build();
+  @RegisterExtension
+  ProcessEngineTestExtension testRule = new ProcessEngineTestExtension(engineRule);
+
+  ProcessEngineConfigurationImpl processEngineConfiguration;
+  RepositoryService repositoryService;
+
+  DeploymentCache deploymentCache;
+  DeploymentCacheWarmer warmer;
+
+  @BeforeEach
+  void setUp() {
+    deploymentCache = processEngineConfiguration.getDeploymentCache();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (warmer != null) {
+      warmer.stop();
+    }
+    ClockUtil.reset();
+  }
+
+  @Test
+  void shouldWarmCacheWhenProcessEngineIsStarted() throws Exception {
+    // given
+    DeploymentCacheWarmer engineWarmer = processEngineConfiguration.getDeploymentCacheWarmer();
+
+    // when
+    boolean warmed = engineWarmer.awaitWarming(10, TimeUnit.SECONDS);
+
+    // then
+    assertThat(warmed).isTrue();
+    assertThat(engineWarmer.getWarmingDuration()).isNotNegative();
+    assertThat(engineWarmer.getFailedDefinitions()).isZero();
+  }
+
+  @Test
+  void shouldLoadLatestVersionsIntoCache() throws Exception {
+    // given
+    ProcessDefinition firstVersion = deployAt(ProcessModels.ONE_TASK_PROCESS, 1000L);
+    ProcessDefinition secondVersion = deployAt(ProcessModels.ONE_TASK_PROCESS, 2000L);
+    ProcessDefinition otherProcess = deployAt(OTHER_PROCESS, 3000L);
+    deploymentCache.purgeCache();
+
+    warmer = new DeploymentCacheWarmer(processEngineConfiguration.getCommandExecutorTxRequired(), 10);
+
+    // when
+    warmer.start();
+
+    // then
+    assertThat(warmer.awaitWarming(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(warmer.getWarmedDefinitions()).isEqualTo(2);
+    assertThat(warmer.getFailedDefinitions()).isZero();
+
+    assertThat(deploymentCache.getProcessDefinitionCache().get(secondVersion.getId())).isNotNull();
+    assertThat(deploymentCache.getProcessDefinitionCache().get(otherProcess.getId())).isNotNull();
+    assertThat(deploymentCache.getProcessDefinitionCache().get(firstVersion.getId())).isNull();
+  }
+
+  @Test
+  void shouldLoadMostRecentlyDeployedDefinitionsFirst() throws Exception {
+    // given
+    ProcessDefinition process = deployAt(ProcessModels.ONE_TASK_PROCESS, 1000L);
+    ProcessDefinition otherProcess = deployAt(OTHER_PROCESS, 2000L);
+    deploymentCache.purgeCache();
+
+    warmer = new DeploymentCacheWarmer(processEngineConfiguration.getCommandExecutorTxRequired(), 1);
+
+    // when
+    warmer.start();
+
+    // then
+    assertThat(warmer.awaitWarming(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(warmer.getWarmedDefinitions()).isEqualTo(1);
+
+    assertThat(deploymentCache.getProcessDefinitionCache().get(otherProcess.getId())).isNotNull();
+    assertThat(deploymentCache.getProcessDefinitionCache().get(process.getId())).isNull();
+  }
+
+  protected ProcessDefinition deployAt(BpmnModelInstance modelInstance, long time) {
+    ClockUtil.setCurrentTime(new Date(time));
+    return testRule.deployAndGetDefinition(modelInstance);
+  }
+
+}
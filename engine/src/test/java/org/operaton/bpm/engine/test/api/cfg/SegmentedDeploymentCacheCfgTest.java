@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.api.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.RepositoryService;
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.persistence.deploy.cache.DefaultCacheFactory;
+import org.operaton.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
+import org.operaton.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.operaton.bpm.engine.runtime.ProcessInstance;
+import org.operaton.bpm.engine.test.api.runtime.migration.models.ProcessModels;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineTestExtension;
+import org.operaton.commons.utils.cache.Cache;
+import org.operaton.commons.utils.cache.ConcurrentSegmentedCache;
+
+class SegmentedDeploymentCacheCfgTest {
+
+  protected static final int CACHE_CAPACITY = 10;
+
+  protected static final String TWO_PROCESSES = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+      + "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\" targetNamespace=\"Examples\">"
+      + "<process id=\"first\" isExecutable=\"true\"><startEvent id=\"start\" /><userTask id=\"task\" />"
+      + "<sequenceFlow id=\"flow\" sourceRef=\"start\" targetRef=\"task\" /></process>"
+      + "<process id=\"second\" isExecutable=\"true\"><startEvent id=\"start\" /></process>"
+      + "</definitions>";
+
+  @RegisterExtension
+  protected static ProcessEngineExtension engineRule = ProcessEngineExtension.builder()
+      .closeEngineAfterAllTests()
+      .randomEngineName()
+      .configurator(configuration -> {
+        configuration.setCacheType(DefaultCacheFactory.CACHE_TYPE_SEGMENTED);
+        configuration.setCacheCapacity(CACHE_CAPACITY);
+      })
+      .build();
+  @RegisterExtension
+  ProcessEngineTestExtension testRule = new ProcessEngineTestExtension(engineRule);
+
+  ProcessEngineConfigurationImpl processEngineConfiguration;
+  RepositoryService repositoryService;
+  RuntimeService runtimeService;
+
+  @Test
+  void shouldUseSegmentedCache() {
+    // given
+    DeploymentCache deploymentCache = processEngineConfiguration.getDeploymentCache();
+
+    // then
+    assertThat(deploymentCache.getProcessDefinitionCache()).isInstanceOf(ConcurrentSegmentedCache.class);
+    assertThat(deploymentCache.getBpmnModelInstanceCache()).isInstanceOf(ConcurrentSegmentedCache.class);
+  }
+
+  @Test
+  void shouldStartProcessInstanceFromSegmentedCache() {
+    // given
+    String processDefinitionId = testRule.deployAndGetDefinition(ProcessModels.ONE_TASK_PROCESS).getId();
+
+    // when
+    ProcessInstance processInstance = runtimeService.startProcessInstanceById(processDefinitionId);
+
+    // then
+    assertThat(processInstance).isNotNull();
+    ConcurrentSegmentedCache<?, ?> cache = (ConcurrentSegmentedCache<?, ?>) processEngineConfiguration
+        .getDeploymentCache()
+        .getProcessDefinitionCache();
+    assertThat(cache.getHitCount()).isPositive();
+  }
+
+  @Test
+  void shouldLoadDefinitionIntoFullCache() {
+    // given a resource with two process definitions
+    testRule.deploy(repositoryService.createDeployment().addString("two-processes.bpmn", TWO_PROCESSES));
+
+    // and a cache which is full of frequently used definitions
+    List<String> hotProcessDefinitionIds = new ArrayList<>();
+    for (int i = 0; i < CACHE_CAPACITY; i++) {
+      hotProcessDefinitionIds.add(testRule.deployAndGetDefinition(ProcessModels.ONE_TASK_PROCESS).getId());
+    }
+    DeploymentCache deploymentCache = processEngineConfiguration.getDeploymentCache();
+    deploymentCache.discardProcessDefinitionCache();
+    for (int i = 0; i < 3; i++) {
+      for (String hotProcessDefinitionId : hotProcessDefinitionIds) {
+        runtimeService.startProcessInstanceById(hotProcessDefinitionId);
+      }
+    }
+
+    // when the first definition of the resource is loaded
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("first");
+
+    // then the loaded definition is still cached
+    assertThat(processInstance).isNotNull();
+    Cache<String, ProcessDefinitionEntity> cache = deploymentCache.getProcessDefinitionCache();
+    assertThat(cache.keySet()).contains(processInstance.getProcessDefinitionId());
+    assertThat(cache.size()).isLessThanOrEqualTo(CACHE_CAPACITY);
+  }
+
+  @Test
+  void shouldFailOnUnknownCacheType() {
+    assertThatThrownBy(() -> new DefaultCacheFactory("unknown"))
+        .isInstanceOf(ProcessEngineException.class)
+        .hasMessageContaining("cacheType");
+  }
+
+}
@@ -19,6 +19,9 @@ package org.operaton.bpm.engine.test.api.dmn;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,11 +30,13 @@ import org.operaton.bpm.dmn.engine.DmnDecisionResult;
 import org.operaton.bpm.dmn.engine.DmnDecisionTableResult;
 import org.operaton.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
 import org.operaton.bpm.engine.DecisionService;
+import org.operaton.bpm.engine.ProcessEngineConfiguration;
 import org.operaton.bpm.engine.RepositoryService;
 import org.operaton.bpm.engine.exception.NotFoundException;
 import org.operaton.bpm.engine.exception.NotValidException;
 import org.operaton.bpm.engine.repository.DecisionDefinition;
 import org.operaton.bpm.engine.test.Deployment;
+import org.operaton.bpm.engine.test.RequiredHistoryLevel;
 import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
 import org.operaton.bpm.engine.test.junit5.ProcessEngineTestExtension;
 import org.operaton.bpm.engine.test.util.ResetDmnConfigUtil;
@@ -295,6 +300,75 @@ class DecisionServiceTest {
     assertThatDecisionHasResult(decisionResult, "Light salad");
   }
 
+  @Deployment(resources = DMN_DECISION_LITERAL_EXPRESSION)
+  @Test
+  void evaluateDecisionBatchByKey() {
+    List<VariableMap> variables = List.of(
+        createVariables(),
+        Variables.createVariables().putValue("status", "bronze").putValue("sum", 100),
+        createVariables());
+
+    List<DmnDecisionResult> decisionResults = decisionService
+        .evaluateDecisionByKey(DECISION_DEFINITION_KEY)
+        .evaluateAll(variables);
+
+    assertThat(decisionResults).hasSize(3);
+    assertThatDecisionHasResult(decisionResults.get(0), RESULT_OF_FIRST_VERSION);
+    assertThatDecisionHasResult(decisionResults.get(1), RESULT_OF_SECOND_VERSION);
+    assertThatDecisionHasResult(decisionResults.get(2), RESULT_OF_FIRST_VERSION);
+  }
+
+  @Deployment(resources = DMN_DECISION_LITERAL_EXPRESSION)
+  @Test
+  void evaluateDecisionBatchById() {
+    DecisionDefinition decisionDefinition = repositoryService.createDecisionDefinitionQuery().singleResult();
+
+    List<DmnDecisionResult> decisionResults = decisionService
+        .evaluateDecisionById(decisionDefinition.getId())
+        .evaluateAll(List.of(createVariables()));
+
+    assertThat(decisionResults).hasSize(1);
+    assertThatDecisionHasResult(decisionResults.get(0), RESULT_OF_FIRST_VERSION);
+  }
+
+  @Deployment(resources = DMN_DECISION_LITERAL_EXPRESSION)
+  @Test
+  void evaluateDecisionBatchWithNullVariables() {
+    var decisionsEvaluationBuilder = decisionService.evaluateDecisionByKey(DECISION_DEFINITION_KEY);
+    List<VariableMap> variables = Collections.singletonList(null);
+
+    assertThatThrownBy(() -> decisionsEvaluationBuilder.evaluateAll(null))
+      .isInstanceOf(NotValidException.class)
+      .hasMessageContaining("variables");
+
+    assertThatThrownBy(() -> decisionsEvaluationBuilder.evaluateAll(variables))
+      .isInstanceOf(NotValidException.class)
+      .hasMessageContaining("variables");
+  }
+
+  @Test
+  void evaluateDecisionBatchByNonExistingKey() {
+    var decisionsEvaluationBuilder = decisionService.evaluateDecisionByKey("unknown");
+    List<VariableMap> variables = List.of(createVariables());
+
+    assertThatThrownBy(() -> decisionsEvaluationBuilder.evaluateAll(variables))
+      .isInstanceOf(NotFoundException.class)
+      .hasMessageContaining("no decision definition deployed with key 'unknown'");
+  }
+
+  @Deployment(resources = DMN_DECISION_LITERAL_EXPRESSION)
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_FULL)
+  @Test
+  void evaluateDecisionBatchWritesHistoryOfEachEvaluation() {
+    List<VariableMap> variables = List.of(createVariables(), createVariables(), createVariables());
+
+    decisionService
+        .evaluateDecisionByKey(DECISION_DEFINITION_KEY)
+        .evaluateAll(variables);
+
+    assertThat(engineRule.getHistoryService().createHistoricDecisionInstanceQuery().count()).isEqualTo(3);
+  }
+
   protected VariableMap createVariables() {
     return Variables.createVariables().putValue("status", "silver").putValue("sum", 723);
   }
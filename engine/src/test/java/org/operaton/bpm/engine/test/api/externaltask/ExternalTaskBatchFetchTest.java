@@ -0,0 +1,216 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.api.externaltask;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.operaton.bpm.engine.ExternalTaskService;
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.externaltask.LockedExternalTask;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.cmd.FetchExternalTasksBatchCmd;
+import org.operaton.bpm.engine.impl.cmd.FetchExternalTasksCmd;
+import org.operaton.bpm.engine.impl.externaltask.ExternalTaskQueryTopicBuilderImpl;
+import org.operaton.bpm.engine.test.Deployment;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineTestExtension;
+import org.operaton.bpm.engine.variable.Variables;
+import org.operaton.bpm.model.bpmn.Bpmn;
+import org.operaton.bpm.model.bpmn.BpmnModelInstance;
+
+/**
+ * Tests fetching and locking external tasks for several workers with the {@link FetchExternalTasksBatchCmd}
+ */
+class ExternalTaskBatchFetchTest {
+
+  protected static final long LOCK_TIME = 10000L;
+
+  @RegisterExtension
+  static ProcessEngineExtension engineRule = ProcessEngineExtension.builder().build();
+  @RegisterExtension
+  ProcessEngineTestExtension testRule = new ProcessEngineTestExtension(engineRule);
+
+  ProcessEngineConfigurationImpl processEngineConfiguration;
+  RuntimeService runtimeService;
+  ExternalTaskService externalTaskService;
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/externaltask/oneExternalTaskProcess.bpmn20.xml")
+  @Test
+  void shouldDistributeTasksFairly() {
+    // given
+    for (int i = 0; i < 5; i++) {
+      runtimeService.startProcessInstanceByKey("oneExternalTaskProcess");
+    }
+
+    // when
+    List<List<LockedExternalTask>> result = fetchAndLock(
+        fetchCommand("worker1", 3, "externalTaskTopic"),
+        fetchCommand("worker2", 3, "externalTaskTopic"));
+
+    // then
+    assertThat(result.get(0)).hasSize(3);
+    assertThat(result.get(1)).hasSize(2);
+    assertThat(externalTaskService.createExternalTaskQuery().workerId("worker1").locked().count()).isEqualTo(3);
+    assertThat(externalTaskService.createExternalTaskQuery().workerId("worker2").locked().count()).isEqualTo(2);
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/externaltask/oneExternalTaskProcess.bpmn20.xml")
+  @Test
+  void shouldRespectMaxResults() {
+    // given
+    for (int i = 0; i < 5; i++) {
+      runtimeService.startProcessInstanceByKey("oneExternalTaskProcess");
+    }
+
+    // when
+    List<List<LockedExternalTask>> result = fetchAndLock(
+        fetchCommand("worker1", 1, "externalTaskTopic"),
+        fetchCommand("worker2", 0, "externalTaskTopic"),
+        fetchCommand("worker3", 2, "externalTaskTopic"));
+
+    // then
+    assertThat(result.get(0)).hasSize(1);
+    assertThat(result.get(1)).isEmpty();
+    assertThat(result.get(2)).hasSize(2);
+    assertThat(externalTaskService.createExternalTaskQuery().locked().count()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldOnlyAssignTasksOfSubscribedTopics() {
+    // given
+    deployTwoTopicsProcess();
+    for (int i = 0; i < 2; i++) {
+      runtimeService.startProcessInstanceByKey("twoTopicsProcess");
+    }
+
+    // when
+    List<List<LockedExternalTask>> result = fetchAndLock(
+        fetchCommand("worker1", 5, "topicA"),
+        fetchCommand("worker2", 5, "topicB"));
+
+    // then
+    assertThat(result.get(0)).hasSize(2).allMatch(task -> task.getTopicName().equals("topicA"));
+    assertThat(result.get(1)).hasSize(2).allMatch(task -> task.getTopicName().equals("topicB"));
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/externaltask/externalTaskPriorityExpression.bpmn20.xml")
+  @Test
+  void shouldAssignTasksInPriorityOrder() {
+    // given each process has one task with the given priority and one without priority
+    for (int i = 1; i <= 3; i++) {
+      runtimeService.startProcessInstanceByKey("twoExternalTaskWithPriorityProcess",
+          Variables.createVariables().putValue("priority", 10 * i));
+    }
+
+    // when
+    List<List<LockedExternalTask>> result = fetchAndLock(
+        fetchCommandWithPriority("worker1", 1, "externalTaskTopic"),
+        fetchCommandWithPriority("worker2", 1, "externalTaskTopic"));
+
+    // then the two tasks with the highest priorities are locked
+    assertThat(result.get(0)).extracting(LockedExternalTask::getPriority).containsExactly(30L);
+    assertThat(result.get(1)).extracting(LockedExternalTask::getPriority).containsExactly(20L);
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/externaltask/oneExternalTaskProcess.bpmn20.xml")
+  @Test
+  void shouldFetchWorkerWithVariableFilterIndividually() {
+    // given
+    runtimeService.startProcessInstanceByKey("oneExternalTaskProcess", Variables.createVariables().putValue("var", "a"));
+    runtimeService.startProcessInstanceByKey("oneExternalTaskProcess", Variables.createVariables().putValue("var", "b"));
+
+    ExternalTaskQueryTopicBuilderImpl filteringBuilder = (ExternalTaskQueryTopicBuilderImpl) externalTaskService
+        .fetchAndLock(5, "worker2")
+        .topic("externalTaskTopic", LOCK_TIME)
+        .processInstanceVariableEquals("var", "b");
+
+    // when
+    List<List<LockedExternalTask>> result = fetchAndLock(
+        fetchCommand("worker1", 1, "externalTaskTopic"),
+        filteringBuilder.createFetchCommand());
+
+    // then every task is locked only once
+    assertThat(result.get(0)).hasSize(1);
+    assertThat(result.get(1)).hasSizeLessThanOrEqualTo(1);
+    if (!result.get(1).isEmpty()) {
+      assertThat(result.get(1).get(0).getId()).isNotEqualTo(result.get(0).get(0).getId());
+    }
+    assertThat(externalTaskService.createExternalTaskQuery().workerId("worker2").count())
+        .isEqualTo(result.get(1).size());
+  }
+
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/externaltask/oneExternalTaskProcess.bpmn20.xml")
+  @Test
+  void shouldFetchUnsatisfiedWorkersIndividuallyIfResultIsTruncated() {
+    // given
+    deployTwoTopicsProcess();
+    runtimeService.startProcessInstanceByKey("twoTopicsProcess");
+    runtimeService.startProcessInstanceByKey("oneExternalTaskProcess");
+
+    // when worker1 can take one task of two topics and worker2 only the task of topicB,
+    // so that the combined query may not return the task of topicB
+    ExternalTaskQueryTopicBuilderImpl twoTopicsBuilder = (ExternalTaskQueryTopicBuilderImpl) externalTaskService
+        .fetchAndLock(1, "worker1")
+        .topic("externalTaskTopic", LOCK_TIME)
+        .topic("topicA", LOCK_TIME);
+
+    List<List<LockedExternalTask>> result = fetchAndLock(
+        twoTopicsBuilder.createFetchCommand(),
+        fetchCommand("worker2", 1, "topicB"));
+
+    // then
+    assertThat(result.get(0)).hasSize(1);
+    assertThat(result.get(1)).extracting(LockedExternalTask::getTopicName).containsExactly("topicB");
+  }
+
+  protected List<List<LockedExternalTask>> fetchAndLock(FetchExternalTasksCmd... fetchCommands) {
+    return processEngineConfiguration.getCommandExecutorTxRequired()
+        .execute(new FetchExternalTasksBatchCmd(List.of(fetchCommands)));
+  }
+
+  protected FetchExternalTasksCmd fetchCommand(String workerId, int maxTasks, String topicName) {
+    return ((ExternalTaskQueryTopicBuilderImpl) externalTaskService
+        .fetchAndLock(maxTasks, workerId)
+        .topic(topicName, LOCK_TIME))
+        .createFetchCommand();
+  }
+
+  protected FetchExternalTasksCmd fetchCommandWithPriority(String workerId, int maxTasks, String topicName) {
+    return ((ExternalTaskQueryTopicBuilderImpl) externalTaskService
+        .fetchAndLock(maxTasks, workerId, true)
+        .topic(topicName, LOCK_TIME))
+        .createFetchCommand();
+  }
+
+  protected void deployTwoTopicsProcess() {
+    BpmnModelInstance process = Bpmn.createExecutableProcess("twoTopicsProcess")
+        .startEvent()
+        .parallelGateway("fork")
+          .serviceTask("taskA").operatonExternalTask("topicA")
+          .endEvent()
+        .moveToNode("fork")
+          .serviceTask("taskB").operatonExternalTask("topicB")
+          .endEvent()
+        .done();
+
+    testRule.deploy(process);
+  }
+
+}
@@ -16,10 +16,14 @@
  */
 package org.operaton.bpm.engine.test.api.externaltask;
 
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,6 +35,7 @@ import org.operaton.bpm.engine.RepositoryService;
 import org.operaton.bpm.engine.RuntimeService;
 import org.operaton.bpm.engine.externaltask.LockedExternalTask;
 import org.operaton.bpm.engine.impl.ProcessEngineImpl;
+import org.operaton.bpm.engine.impl.externaltask.ExternalTaskAvailableListener;
 import org.operaton.bpm.engine.impl.util.SingleConsumerCondition;
 import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
 import org.operaton.bpm.model.bpmn.Bpmn;
@@ -45,6 +50,9 @@ class ExternalTaskConditionsTest {
   @Mock
   public SingleConsumerCondition condition;
 
+  @Mock
+  public ExternalTaskAvailableListener listener;
+
   protected RepositoryService repositoryService;
   protected RuntimeService runtimeService;
   protected ExternalTaskService externalTaskService;
@@ -63,6 +71,7 @@ class ExternalTaskConditionsTest {
     MockitoAnnotations.openMocks(this);
 
     ProcessEngineImpl.EXT_TASK_CONDITIONS.addConsumer(condition);
+    ProcessEngineImpl.EXT_TASK_AVAILABLE_LISTENERS.addListener(listener);
 
     deploymentId = repositoryService
         .createDeployment()
@@ -75,6 +84,7 @@ class ExternalTaskConditionsTest {
   void tearDown() {
 
     ProcessEngineImpl.EXT_TASK_CONDITIONS.removeConsumer(condition);
+    ProcessEngineImpl.EXT_TASK_AVAILABLE_LISTENERS.removeListener(listener);
 
     if (deploymentId != null) {
       repositoryService.deleteDeployment(deploymentId, true);
@@ -127,4 +137,54 @@ class ExternalTaskConditionsTest {
     verify(condition, times(1)).signal();
   }
 
+  @Test
+  void shouldNotifyListenerWithTopicOnTaskCreate() {
+
+    // when
+    runtimeService
+      .startProcessInstanceByKey("theProcess");
+
+    // then
+    verify(listener, times(1)).onExternalTasksAvailable(Set.of("theTopic"));
+  }
+
+  @Test
+  void shouldNotifyListenerWithTopicOnUnlock() {
+
+    // given
+    runtimeService
+      .startProcessInstanceByKey("theProcess");
+
+    reset(listener); // clear notification for create
+
+    LockedExternalTask lockedTask = externalTaskService.fetchAndLock(1, "theWorker")
+      .topic("theTopic", 10000)
+      .execute()
+      .get(0);
+
+    // when
+    externalTaskService.unlock(lockedTask.getId());
+
+    // then
+    verify(listener, times(1)).onExternalTasksAvailable(Set.of("theTopic"));
+  }
+
+  @Test
+  void shouldNotNotifyListenerOnFetchAndLock() {
+
+    // given
+    runtimeService
+      .startProcessInstanceByKey("theProcess");
+
+    reset(listener); // clear notification for create
+
+    // when
+    externalTaskService.fetchAndLock(1, "theWorker")
+      .topic("theTopic", 10000)
+      .execute();
+
+    // then
+    verify(listener, never()).onExternalTasksAvailable(anySet());
+  }
+
 }
@@ -32,6 +32,8 @@ import org.operaton.bpm.engine.impl.ProcessEngineImpl;
 import org.operaton.bpm.engine.impl.jobexecutor.CallerRunsRejectedJobsHandler;
 import org.operaton.bpm.engine.impl.jobexecutor.DefaultJobExecutor;
 import org.operaton.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.operaton.bpm.engine.impl.metrics.Histogram;
+import org.operaton.bpm.engine.impl.metrics.MetricsSnapshot;
 import org.operaton.bpm.engine.management.Metrics;
 import org.operaton.bpm.engine.test.Deployment;
 import org.operaton.bpm.engine.test.concurrency.ConcurrencyTestHelper.ThreadControl;
@@ -84,6 +86,27 @@ class JobExecutorMetricsTest extends AbstractMetricsTest {
     assertThat(acquiredJobs).isEqualTo(3);
   }
 
+  @Deployment(resources = "org/operaton/bpm/engine/test/api/mgmt/metrics/asyncServiceTaskProcess.bpmn20.xml")
+  @Test
+  void testJobDurationHistograms() {
+    // given
+    processEngineConfiguration.getMetricsRegistry().getHistograms().values().forEach(Histogram::reset);
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("asyncServiceTaskProcess");
+    }
+
+    // when
+    testRule.waitForJobExecutorToProcessAllJobs(5000);
+
+    // then
+    MetricsSnapshot snapshot = processEngineConfiguration.getMetricsRegistry().getSnapshot();
+    // the duration of the last job may be recorded after its deletion has been committed
+    assertThat(snapshot.getHistogram(Metrics.JOB_EXECUTION_DURATION).getCount()).isBetween(2L, 3L);
+    assertThat(snapshot.getHistogram(Metrics.JOB_ACQUISITION_DURATION).getCount()).isPositive();
+    assertThat(snapshot.getHistogram(Metrics.COMMAND_EXECUTION_DURATION).getCount()).isPositive();
+    assertThat(snapshot.getHistogram(Metrics.JOB_EXECUTION_DURATION).getValueAtPercentile(50)).isPositive();
+  }
+
   @Deployment(resources = "org/operaton/bpm/engine/test/api/mgmt/metrics/asyncServiceTaskProcess.bpmn20.xml")
   @Test
   void testCompetingJobAcquisitionMetricReporting() {
@@ -20,11 +20,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Collection;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.operaton.bpm.engine.RepositoryService;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
 import org.operaton.bpm.engine.test.Deployment;
 import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineTestExtension;
 import org.operaton.bpm.model.bpmn.BpmnModelInstance;
 import org.operaton.bpm.model.bpmn.instance.Event;
 import org.operaton.bpm.model.bpmn.instance.SequenceFlow;
@@ -35,13 +39,25 @@ import org.operaton.bpm.model.xml.instance.ModelElementInstance;
 /**
  * @author Sebastian Menski
  */
-@ExtendWith(ProcessEngineExtension.class)
 class BpmnModelInstanceCmdTest {
 
   private static final String PROCESS_KEY = "one";
 
+  private static final String PROCESS_RESOURCE = "org/operaton/bpm/engine/test/repository/one.bpmn20.xml";
+
+  @RegisterExtension
+  static ProcessEngineExtension engineRule = ProcessEngineExtension.builder().build();
+  @RegisterExtension
+  ProcessEngineTestExtension testRule = new ProcessEngineTestExtension(engineRule);
+
+  ProcessEngineConfigurationImpl processEngineConfiguration;
   RepositoryService repositoryService;
 
+  @AfterEach
+  void resetConfiguration() {
+    processEngineConfiguration.setSinglePassBpmnParsingEnabled(false);
+  }
+
   @Deployment(resources = "org/operaton/bpm/engine/test/repository/one.bpmn20.xml")
   @Test
   void testRepositoryService() {
@@ -60,4 +76,52 @@ class BpmnModelInstanceCmdTest {
     assertThat(startEvent).isNotNull();
   }
 
+  @Test
+  void shouldCacheModelInstanceBuiltDuringDeployment() {
+    // given
+    processEngineConfiguration.setSinglePassBpmnParsingEnabled(true);
+
+    // when
+    testRule.deploy(PROCESS_RESOURCE);
+
+    // then
+    String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey(PROCESS_KEY).singleResult().getId();
+    DeploymentCache deploymentCache = processEngineConfiguration.getDeploymentCache();
+    BpmnModelInstance cachedModelInstance = deploymentCache.getBpmnModelInstanceCache().get(processDefinitionId);
+    assertThat(cachedModelInstance).isNotNull();
+
+    BpmnModelInstance modelInstance = repositoryService.getBpmnModelInstance(processDefinitionId);
+    assertThat(modelInstance).isSameAs(cachedModelInstance);
+    assertThat((StartEvent) modelInstance.getModelElementById("start")).isNotNull();
+  }
+
+  @Test
+  void shouldNotAddSchemaDefaultAttributesToModelInstanceBuiltDuringDeployment() {
+    // given
+    processEngineConfiguration.setSinglePassBpmnParsingEnabled(true);
+
+    // when
+    testRule.deploy(PROCESS_RESOURCE);
+
+    // then the model instance only contains the attributes of the deployed XML
+    String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey(PROCESS_KEY).singleResult().getId();
+    BpmnModelInstance modelInstance = repositoryService.getBpmnModelInstance(processDefinitionId);
+    StartEvent startEvent = modelInstance.getModelElementById("start");
+    assertThat(startEvent.getDomElement().hasAttribute("isInterrupting")).isFalse();
+    assertThat(startEvent.getDomElement().hasAttribute("parallelMultiple")).isFalse();
+    assertThat(startEvent.getDomElement().hasAttribute("id")).isTrue();
+    assertThat(modelInstance.getModelElementById(PROCESS_KEY).getDomElement().hasAttribute("processType")).isFalse();
+  }
+
+  @Test
+  void shouldNotCacheModelInstanceDuringDeploymentByDefault() {
+    // when
+    testRule.deploy(PROCESS_RESOURCE);
+
+    // then
+    String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey(PROCESS_KEY).singleResult().getId();
+    DeploymentCache deploymentCache = processEngineConfiguration.getDeploymentCache();
+    assertThat(deploymentCache.getBpmnModelInstanceCache().get(processDefinitionId)).isNull();
+  }
+
 }
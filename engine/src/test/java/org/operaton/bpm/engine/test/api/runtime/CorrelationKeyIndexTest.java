@@ -0,0 +1,280 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.api.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.impl.ProcessEngineImpl;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.cmd.IndexCorrelationKeyVariablesCmd;
+import org.operaton.bpm.engine.runtime.ProcessInstance;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineTestExtension;
+import org.operaton.bpm.engine.variable.Variables;
+import org.operaton.bpm.model.bpmn.Bpmn;
+import org.operaton.bpm.model.bpmn.BpmnModelInstance;
+
+class CorrelationKeyIndexTest {
+
+  protected static final String MESSAGE_NAME = "orderReceived";
+
+  protected static final Set<String> CORRELATION_KEY_VARIABLE_NAMES = Set.of("orderId", "orderNumber");
+
+  protected static final BpmnModelInstance PROCESS = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .intermediateCatchEvent("catch").message(MESSAGE_NAME)
+      .userTask("afterMessage")
+      .endEvent()
+      .done();
+
+  @RegisterExtension
+  static ProcessEngineExtension engineRule = ProcessEngineExtension.builder().build();
+  @RegisterExtension
+  ProcessEngineTestExtension testHelper = new ProcessEngineTestExtension(engineRule);
+
+  ProcessEngineConfigurationImpl processEngineConfiguration;
+  RuntimeService runtimeService;
+
+  @BeforeEach
+  void setUp() {
+    processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    runtimeService = engineRule.getRuntimeService();
+
+    processEngineConfiguration.setCorrelationKeyVariableNames(CORRELATION_KEY_VARIABLE_NAMES);
+    ((ProcessEngineImpl) engineRule.getProcessEngine()).indexCorrelationKeyVariables();
+    testHelper.deploy(PROCESS);
+  }
+
+  @AfterEach
+  void tearDown() {
+    processEngineConfiguration.setCorrelationKeyVariableNames(null);
+    resetIndexedVariableNames();
+  }
+
+  @Test
+  void shouldCorrelateByStringCorrelationKey() {
+    // given
+    ProcessInstance first = startProcess("orderId", "A-1");
+    ProcessInstance second = startProcess("orderId", "A-2");
+
+    // when
+    runtimeService.createMessageCorrelation(MESSAGE_NAME)
+      .processInstanceVariableEquals("orderId", "A-2")
+      .correlate();
+
+    // then
+    assertThat(isWaitingForMessage(first)).isTrue();
+    assertThat(isWaitingForMessage(second)).isFalse();
+  }
+
+  @Test
+  void shouldCorrelateByLongCorrelationKey() {
+    // given
+    ProcessInstance processInstance = startProcess("orderNumber", 42L);
+
+    // when
+    runtimeService.createMessageCorrelation(MESSAGE_NAME)
+      .processInstanceVariableEquals("orderNumber", 42L)
+      .correlate();
+
+    // then
+    assertThat(isWaitingForMessage(processInstance)).isFalse();
+  }
+
+  @Test
+  void shouldNotCorrelateByValueOfOtherType() {
+    // given
+    ProcessInstance processInstance = startProcess("orderNumber", 42L);
+
+    // when
+    List<?> results = runtimeService.createMessageCorrelation(MESSAGE_NAME)
+      .processInstanceVariableEquals("orderNumber", "42")
+      .correlateAllWithResult();
+
+    // then
+    assertThat(results).isEmpty();
+    assertThat(isWaitingForMessage(processInstance)).isTrue();
+  }
+
+  @Test
+  void shouldIndexCorrelationKey() {
+    // when
+    ProcessInstance processInstance = startProcess("orderId", "A-1");
+
+    // then
+    assertThat(findProcessInstanceIds("orderId", "string", "A-1")).containsExactly(processInstance.getId());
+  }
+
+  @Test
+  void shouldNotIndexUndeclaredVariable() {
+    // when
+    startProcess("customerId", "C-1");
+
+    // then
+    assertThat(findProcessInstanceIds("customerId", "string", "C-1")).isEmpty();
+  }
+
+  @Test
+  void shouldUpdateIndexWhenVariableIsUpdated() {
+    // given
+    ProcessInstance processInstance = startProcess("orderId", "A-1");
+
+    // when
+    runtimeService.setVariable(processInstance.getId(), "orderId", "A-2");
+
+    // then
+    assertThat(findProcessInstanceIds("orderId", "string", "A-1")).isEmpty();
+    assertThat(findProcessInstanceIds("orderId", "string", "A-2")).containsExactly(processInstance.getId());
+
+    runtimeService.createMessageCorrelation(MESSAGE_NAME)
+      .processInstanceVariableEquals("orderId", "A-2")
+      .correlate();
+    assertThat(isWaitingForMessage(processInstance)).isFalse();
+  }
+
+  @Test
+  void shouldRemoveIndexEntryWhenVariableIsRemoved() {
+    // given
+    ProcessInstance processInstance = startProcess("orderId", "A-1");
+
+    // when
+    runtimeService.removeVariable(processInstance.getId(), "orderId");
+
+    // then
+    assertThat(findProcessInstanceIds("orderId", "string", "A-1")).isEmpty();
+  }
+
+  @Test
+  void shouldRemoveIndexEntryWhenProcessInstanceIsDeleted() {
+    // given
+    ProcessInstance processInstance = startProcess("orderId", "A-1");
+
+    // when
+    runtimeService.deleteProcessInstance(processInstance.getId(), null);
+
+    // then
+    assertThat(findProcessInstanceIds("orderId", "string", "A-1")).isEmpty();
+  }
+
+  @Test
+  void shouldRemoveIndexEntryWhenProcessInstanceCompletes() {
+    // given
+    ProcessInstance processInstance = startProcess("orderId", "A-1");
+    runtimeService.createMessageCorrelation(MESSAGE_NAME)
+      .processInstanceVariableEquals("orderId", "A-1")
+      .correlate();
+
+    // when
+    String taskId = engineRule.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId();
+    engineRule.getTaskService().complete(taskId);
+
+    // then
+    testHelper.assertProcessEnded(processInstance.getId());
+    assertThat(findProcessInstanceIds("orderId", "string", "A-1")).isEmpty();
+  }
+
+  @Test
+  void shouldCorrelateVariableWrittenBeforeDeclarationWithoutIndex() {
+    // given
+    processEngineConfiguration.setCorrelationKeyVariableNames(null);
+    resetIndexedVariableNames();
+    ProcessInstance processInstance = startProcess("orderId", "A-1");
+
+    // when the name is declared, but the existing variables are not indexed yet
+    processEngineConfiguration.setCorrelationKeyVariableNames(CORRELATION_KEY_VARIABLE_NAMES);
+    runtimeService.createMessageCorrelation(MESSAGE_NAME)
+      .processInstanceVariableEquals("orderId", "A-1")
+      .correlate();
+
+    // then the message is correlated by the variable table
+    assertThat(findProcessInstanceIds("orderId", "string", "A-1")).isEmpty();
+    assertThat(isWaitingForMessage(processInstance)).isFalse();
+  }
+
+  @Test
+  void shouldIndexVariablesWrittenBeforeDeclaration() {
+    // given
+    processEngineConfiguration.setCorrelationKeyVariableNames(null);
+    resetIndexedVariableNames();
+    ProcessInstance first = startProcess("orderId", "A-1");
+    ProcessInstance second = startProcess("orderId", "A-2");
+    processEngineConfiguration.setCorrelationKeyVariableNames(CORRELATION_KEY_VARIABLE_NAMES);
+
+    // when
+    int batches = 0;
+    String lastVariableId = null;
+    do {
+      String previousVariableId = lastVariableId;
+      lastVariableId = processEngineConfiguration.getCommandExecutorTxRequired()
+          .execute(new IndexCorrelationKeyVariablesCmd("orderId", previousVariableId, 1));
+      batches++;
+    } while (lastVariableId != null);
+
+    // then
+    assertThat(batches).isEqualTo(3);
+    assertThat(findProcessInstanceIds("orderId", "string", "A-1")).containsExactly(first.getId());
+    assertThat(findProcessInstanceIds("orderId", "string", "A-2")).containsExactly(second.getId());
+    assertThat(engineRule.getManagementService().getProperties())
+      .containsKey(IndexCorrelationKeyVariablesCmd.getIndexedPropertyName("orderId"));
+  }
+
+  @Test
+  void shouldCorrelateByValueWhichIsNotIndexed() {
+    // given
+    String longValue = "x".repeat(300);
+    ProcessInstance processInstance = startProcess("orderId", longValue);
+
+    // when
+    runtimeService.createMessageCorrelation(MESSAGE_NAME)
+      .processInstanceVariableEquals("orderId", longValue)
+      .correlate();
+
+    // then
+    assertThat(isWaitingForMessage(processInstance)).isFalse();
+  }
+
+  protected ProcessInstance startProcess(String variableName, Object value) {
+    return runtimeService.startProcessInstanceByKey("process", Variables.createVariables().putValue(variableName, value));
+  }
+
+  protected boolean isWaitingForMessage(ProcessInstance processInstance) {
+    return runtimeService.createExecutionQuery()
+        .processInstanceId(processInstance.getId())
+        .activityId("catch")
+        .count() > 0;
+  }
+
+  protected void resetIndexedVariableNames() {
+    processEngineConfiguration.getIndexedCorrelationKeyVariableNames().clear();
+    for (String variableName : CORRELATION_KEY_VARIABLE_NAMES) {
+      engineRule.getManagementService().deleteProperty(IndexCorrelationKeyVariablesCmd.getIndexedPropertyName(variableName));
+    }
+  }
+
+  protected List<String> findProcessInstanceIds(String name, String type, String value) {
+    return processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext ->
+        commandContext.getCorrelationKeyManager().findProcessInstanceIdsByCorrelationKey(name, type, value));
+  }
+
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.api.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.TaskService;
+import org.operaton.bpm.engine.runtime.MessageCorrelationBuilder;
+import org.operaton.bpm.engine.runtime.MessageCorrelationResult;
+import org.operaton.bpm.engine.runtime.MessageCorrelationResultType;
+import org.operaton.bpm.engine.runtime.ProcessInstance;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineTestExtension;
+import org.operaton.bpm.engine.variable.Variables;
+import org.operaton.bpm.model.bpmn.Bpmn;
+import org.operaton.bpm.model.bpmn.BpmnModelInstance;
+
+class MessageCorrelationBulkTest {
+
+  protected static final String MESSAGE_NAME = "orderReceived";
+  protected static final String START_MESSAGE_NAME = "newOrder";
+  protected static final String STEP_MESSAGE_NAME = "orderStep";
+
+  protected static final BpmnModelInstance CATCH_PROCESS = Bpmn.createExecutableProcess("catchProcess")
+      .startEvent()
+      .intermediateCatchEvent("catch").message(MESSAGE_NAME)
+      .userTask("afterMessage")
+      .endEvent()
+      .done();
+
+  protected static final BpmnModelInstance START_PROCESS = Bpmn.createExecutableProcess("startProcess")
+      .startEvent().message(START_MESSAGE_NAME)
+      .userTask("afterStart")
+      .endEvent()
+      .done();
+
+  protected static final BpmnModelInstance TWO_STEP_PROCESS = Bpmn.createExecutableProcess("twoStepProcess")
+      .startEvent()
+      .intermediateCatchEvent("firstStep").message(STEP_MESSAGE_NAME)
+      .intermediateCatchEvent("secondStep").message(STEP_MESSAGE_NAME)
+      .userTask("afterSteps")
+      .endEvent()
+      .done();
+
+  @RegisterExtension
+  static ProcessEngineExtension engineRule = ProcessEngineExtension.builder().build();
+  @RegisterExtension
+  ProcessEngineTestExtension testHelper = new ProcessEngineTestExtension(engineRule);
+
+  RuntimeService runtimeService;
+  TaskService taskService;
+
+  @BeforeEach
+  void setUp() {
+    runtimeService = engineRule.getRuntimeService();
+    taskService = engineRule.getTaskService();
+
+    testHelper.deploy(CATCH_PROCESS, START_PROCESS, TWO_STEP_PROCESS);
+  }
+
+  @Test
+  void shouldCorrelateMessagesByBusinessKey() {
+    // given
+    ProcessInstance first = runtimeService.startProcessInstanceByKey("catchProcess", "order-1");
+    ProcessInstance second = runtimeService.startProcessInstanceByKey("catchProcess", "order-2");
+    ProcessInstance third = runtimeService.startProcessInstanceByKey("catchProcess", "order-3");
+
+    // when
+    List<MessageCorrelationResult> results = runtimeService.createMessageCorrelationBulk()
+      .correlation(runtimeService.createMessageCorrelation(MESSAGE_NAME).processInstanceBusinessKey("order-3"))
+      .correlation(runtimeService.createMessageCorrelation(MESSAGE_NAME).processInstanceBusinessKey("order-1"))
+      .correlateAllWithResult();
+
+    // then
+    assertThat(results).extracting(result -> result.getProcessInstance().getId())
+      .containsExactly(third.getId(), first.getId());
+    assertThat(results).extracting(MessageCorrelationResult::getResultType)
+      .containsOnly(MessageCorrelationResultType.Execution);
+
+    assertThat(isWaitingForMessage(first)).isFalse();
+    assertThat(isWaitingForMessage(second)).isTrue();
+    assertThat(isWaitingForMessage(third)).isFalse();
+  }
+
+  @Test
+  void shouldPassPayloadOfEachMessage() {
+    // given
+    ProcessInstance first = runtimeService.startProcessInstanceByKey("catchProcess", "order-1");
+    ProcessInstance second = runtimeService.startProcessInstanceByKey("catchProcess", "order-2");
+
+    // when
+    runtimeService.createMessageCorrelationBulk()
+      .correlation(runtimeService.createMessageCorrelation(MESSAGE_NAME)
+          .processInstanceBusinessKey("order-1")
+          .setVariable("amount", 10))
+      .correlation(runtimeService.createMessageCorrelation(MESSAGE_NAME)
+          .processInstanceId(second.getId())
+          .setVariable("amount", 20))
+      .correlateAll();
+
+    // then
+    assertThat(runtimeService.getVariable(first.getId(), "amount")).isEqualTo(10);
+    assertThat(runtimeService.getVariable(second.getId(), "amount")).isEqualTo(20);
+  }
+
+  @Test
+  void shouldCorrelateMessagesInChunks() {
+    // given
+    List<MessageCorrelationBuilder> correlations = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      runtimeService.startProcessInstanceByKey("catchProcess", "order-" + i);
+      correlations.add(runtimeService.createMessageCorrelation(MESSAGE_NAME).processInstanceBusinessKey("order-" + i));
+    }
+
+    // when
+    List<MessageCorrelationResult> results = runtimeService.createMessageCorrelationBulk()
+      .correlations(correlations)
+      .chunkSize(3)
+      .correlateAllWithResult();
+
+    // then
+    assertThat(results).hasSize(7);
+    assertThat(taskService.createTaskQuery().taskDefinitionKey("afterMessage").count()).isEqualTo(7);
+  }
+
+  @Test
+  void shouldDeliverMessageToAllWaitingExecutions() {
+    // given
+    runtimeService.startProcessInstanceByKey("catchProcess");
+    runtimeService.startProcessInstanceByKey("catchProcess");
+
+    // when
+    List<MessageCorrelationResult> results = runtimeService.createMessageCorrelationBulk()
+      .correlation(runtimeService.createMessageCorrelation(MESSAGE_NAME))
+      .correlateAllWithResult();
+
+    // then
+    assertThat(results).hasSize(2);
+    assertThat(runtimeService.createExecutionQuery().messageEventSubscriptionName(MESSAGE_NAME).count()).isZero();
+  }
+
+  @Test
+  void shouldDeliverMessageOnlyOnceToAnExecution() {
+    // given
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("catchProcess", "order-1");
+
+    // when
+    List<MessageCorrelationResult> results = runtimeService.createMessageCorrelationBulk()
+      .correlation(runtimeService.createMessageCorrelation(MESSAGE_NAME).processInstanceBusinessKey("order-1"))
+      .correlation(runtimeService.createMessageCorrelation(MESSAGE_NAME).processInstanceBusinessKey("order-1"))
+      .correlateAllWithResult();
+
+    // then
+    assertThat(results).hasSize(1);
+    assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldStartProcessInstancesByStartMessages() {
+    // when
+    List<MessageCorrelationResult> results = runtimeService.createMessageCorrelationBulk()
+      .correlation(runtimeService.createMessageCorrelation(START_MESSAGE_NAME).processInstanceBusinessKey("order-1"))
+      .correlation(runtimeService.createMessageCorrelation(START_MESSAGE_NAME).processInstanceBusinessKey("order-2"))
+      .correlateAllWithResult();
+
+    // then
+    assertThat(results).extracting(MessageCorrelationResult::getResultType)
+      .containsExactly(MessageCorrelationResultType.ProcessDefinition, MessageCorrelationResultType.ProcessDefinition);
+    assertThat(results).extracting(result -> result.getProcessInstance().getBusinessKey())
+      .containsExactly("order-1", "order-2");
+    assertThat(runtimeService.createProcessInstanceQuery().processDefinitionKey("startProcess").count()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldCorrelateByCorrelationKeys() {
+    // given
+    ProcessInstance first = runtimeService.startProcessInstanceByKey("catchProcess",
+        Variables.createVariables().putValue("orderId", "A-1"));
+    ProcessInstance second = runtimeService.startProcessInstanceByKey("catchProcess",
+        Variables.createVariables().putValue("orderId", "A-2"));
+
+    // when
+    runtimeService.createMessageCorrelationBulk()
+      .correlation(runtimeService.createMessageCorrelation(MESSAGE_NAME).processInstanceVariableEquals("orderId", "A-2"))
+      .correlateAll();
+
+    // then
+    assertThat(isWaitingForMessage(first)).isTrue();
+    assertThat(isWaitingForMessage(second)).isFalse();
+  }
+
+  @Test
+  void shouldSkipMessageWithoutMatch() {
+    // given
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("catchProcess", "order-1");
+
+    // when
+    List<MessageCorrelationResult> results = runtimeService.createMessageCorrelationBulk()
+      .correlation(runtimeService.createMessageCorrelation(MESSAGE_NAME).processInstanceBusinessKey("unknown"))
+      .correlation(runtimeService.createMessageCorrelation(MESSAGE_NAME).processInstanceBusinessKey("order-1"))
+      .correlateAllWithResult();
+
+    // then
+    assertThat(results).extracting(result -> result.getProcessInstance().getId())
+      .containsExactly(processInstance.getId());
+  }
+
+  @Test
+  void shouldNotCorrelateToSuspendedProcessInstance() {
+    // given
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("catchProcess", "order-1");
+    runtimeService.suspendProcessInstanceById(processInstance.getId());
+
+    // when
+    List<MessageCorrelationResult> results = runtimeService.createMessageCorrelationBulk()
+      .correlation(runtimeService.createMessageCorrelation(MESSAGE_NAME).processInstanceBusinessKey("order-1"))
+      .correlateAllWithResult();
+
+    // then
+    assertThat(results).isEmpty();
+  }
+
+  @Test
+  void shouldDeliverMessagesInOrder() {
+    // given
+    ProcessInstance first = runtimeService.startProcessInstanceByKey("twoStepProcess", "order-1");
+    ProcessInstance second = runtimeService.startProcessInstanceByKey("twoStepProcess", "order-2");
+
+    // when the last message is delivered to both process instances
+    runtimeService.createMessageCorrelationBulk()
+      .correlation(runtimeService.createMessageCorrelation(STEP_MESSAGE_NAME)
+          .processInstanceBusinessKey("order-1")
+          .setVariable("step", 1))
+      .correlation(runtimeService.createMessageCorrelation(STEP_MESSAGE_NAME)
+          .processInstanceBusinessKey("order-2")
+          .setVariable("step", 1))
+      .correlation(runtimeService.createMessageCorrelation(STEP_MESSAGE_NAME)
+          .setVariable("step", 2))
+      .correlateAll();
+
+    // then both process instances received the messages in their order
+    assertThat(runtimeService.getVariable(first.getId(), "step")).isEqualTo(2);
+    assertThat(runtimeService.getVariable(second.getId(), "step")).isEqualTo(2);
+    assertThat(taskService.createTaskQuery().taskDefinitionKey("afterSteps").count()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldDeliverMessageToExecutionCreatedByEarlierMessage() {
+    // given
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("twoStepProcess", "order-1");
+
+    // when the second message waits for the subscription created by the first message
+    List<MessageCorrelationResult> results = runtimeService.createMessageCorrelationBulk()
+      .correlation(runtimeService.createMessageCorrelation(STEP_MESSAGE_NAME).processInstanceBusinessKey("order-1"))
+      .correlation(runtimeService.createMessageCorrelation(STEP_MESSAGE_NAME).processInstanceBusinessKey("order-1"))
+      .correlateAllWithResult();
+
+    // then
+    assertThat(results).hasSize(2);
+    assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskDefinitionKey("afterSteps").count())
+      .isEqualTo(1);
+  }
+
+  @Test
+  void shouldRejectInvalidChunkSize() {
+    var builder = runtimeService.createMessageCorrelationBulk();
+
+    assertThatThrownBy(() -> builder.chunkSize(0))
+      .isInstanceOf(ProcessEngineException.class);
+  }
+
+  protected boolean isWaitingForMessage(ProcessInstance processInstance) {
+    return runtimeService.createExecutionQuery()
+      .processInstanceId(processInstance.getId())
+      .messageEventSubscriptionName(MESSAGE_NAME)
+      .count() > 0;
+  }
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.TaskService;
+import org.operaton.bpm.engine.exception.NotFoundException;
+import org.operaton.bpm.engine.exception.NullValueException;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.operaton.bpm.engine.impl.persistence.entity.util.ByteArrayChunkInputStream;
+import org.operaton.bpm.engine.runtime.ProcessInstance;
+import org.operaton.bpm.engine.runtime.VariableInstance;
+import org.operaton.bpm.engine.task.Task;
+import org.operaton.bpm.engine.test.Deployment;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.variable.Variables;
+import org.operaton.bpm.engine.variable.type.ValueType;
+
+@ExtendWith(ProcessEngineExtension.class)
+class VariableInstanceContentTest {
+
+  protected static final String ONE_TASK_PROCESS = "org/operaton/bpm/engine/test/api/variables/oneTaskProcess.bpmn20.xml";
+
+  RuntimeService runtimeService;
+  TaskService taskService;
+  ProcessEngineConfigurationImpl processEngineConfiguration;
+
+  int defaultChunkSize;
+
+  @BeforeEach
+  void setUp() {
+    defaultChunkSize = processEngineConfiguration.getByteArrayChunkSize();
+    processEngineConfiguration.setByteArrayChunkSize(100);
+  }
+
+  @AfterEach
+  void tearDown() {
+    processEngineConfiguration.setByteArrayChunkSize(defaultChunkSize);
+  }
+
+  @Test
+  @Deployment(resources = ONE_TASK_PROCESS)
+  void shouldStreamBytesVariableInChunks() throws IOException {
+    // given
+    byte[] content = randomBytes(1050);
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+        Variables.createVariables().putValue("bytesVar", content));
+    String variableInstanceId = getVariableInstanceId(processInstance, "bytesVar");
+
+    // when
+    byte[] result;
+    try (InputStream stream = runtimeService.getVariableInstanceContent(variableInstanceId)) {
+      result = stream.readAllBytes();
+    }
+
+    // then
+    assertThat(result).isEqualTo(content);
+  }
+
+  @Test
+  @Deployment(resources = ONE_TASK_PROCESS)
+  void shouldStreamFileVariableInChunks() throws IOException {
+    // given
+    byte[] content = randomBytes(250);
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+        Variables.createVariables().putValue("fileVar", Variables.fileValue("test.bin").file(content).create()));
+    String variableInstanceId = getVariableInstanceId(processInstance, "fileVar");
+
+    // when
+    byte[] result = new byte[content.length];
+    int read;
+    try (InputStream stream = runtimeService.getVariableInstanceContent(variableInstanceId)) {
+      assertThat(stream.skip(150)).isEqualTo(150);
+      read = stream.readNBytes(result, 150, 200);
+      assertThat(stream.read()).isEqualTo(-1);
+    }
+
+    // then
+    assertThat(read).isEqualTo(100);
+    assertThat(result).endsWith(Arrays.copyOfRange(content, 150, 250));
+  }
+
+  @Test
+  void shouldDefaultChunkSizePerDatabase() {
+    // given
+    String databaseType = processEngineConfiguration.getDatabaseType();
+
+    // then
+    assertThat(defaultChunkSize).isEqualTo(DbSqlSessionFactory.databaseSpecificByteArrayChunkSize
+        .getOrDefault(databaseType, ByteArrayChunkInputStream.DEFAULT_CHUNK_SIZE));
+  }
+
+  @Test
+  @Deployment(resources = ONE_TASK_PROCESS)
+  void shouldFailIfContentIsUpdatedWhileStreaming() throws IOException {
+    // given
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+        Variables.createVariables().putValue("bytesVar", randomBytes(250)));
+    String variableInstanceId = getVariableInstanceId(processInstance, "bytesVar");
+
+    try (InputStream stream = runtimeService.getVariableInstanceContent(variableInstanceId)) {
+      assertThat(stream.readNBytes(100)).hasSize(100);
+
+      // when
+      runtimeService.setVariable(processInstance.getId(), "bytesVar", new byte[250]);
+
+      // then
+      assertThatThrownBy(stream::readAllBytes)
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("was updated or deleted");
+    }
+  }
+
+  @Test
+  @Deployment(resources = ONE_TASK_PROCESS)
+  void shouldGetVariableInstanceWithoutContent() throws IOException {
+    // given
+    byte[] content = randomBytes(250);
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+        Variables.createVariables().putValue("bytesVar", content));
+    Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+
+    // when
+    VariableInstance variableInstance = taskService.getVariableInstance(task.getId(), "bytesVar");
+
+    // then
+    assertThat(variableInstance.getId()).isEqualTo(getVariableInstanceId(processInstance, "bytesVar"));
+    assertThat(variableInstance.getTypedValue().getType()).isEqualTo(ValueType.BYTES);
+    assertThat(variableInstance.getTypedValue().getValue()).isNull();
+
+    try (InputStream stream = runtimeService.getVariableInstanceContent(variableInstance.getId())) {
+      assertThat(stream.readAllBytes()).isEqualTo(content);
+    }
+  }
+
+  @Test
+  @Deployment(resources = ONE_TASK_PROCESS)
+  void shouldGetVariableInstanceOnlyFromLocalScope() {
+    // given
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+        Variables.createVariables().putValue("bytesVar", randomBytes(10)));
+    Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+
+    // when
+    VariableInstance taskVariableInstance = taskService.getVariableInstanceLocal(task.getId(), "bytesVar");
+    VariableInstance processVariableInstance = runtimeService.getVariableInstanceLocal(processInstance.getId(), "bytesVar");
+
+    // then
+    assertThat(taskVariableInstance).isNull();
+    assertThat(processVariableInstance.getName()).isEqualTo("bytesVar");
+    assertThat(runtimeService.getVariableInstance(processInstance.getId(), "nonExisting")).isNull();
+  }
+
+  @Test
+  @Deployment(resources = ONE_TASK_PROCESS)
+  void shouldReturnNullForVariableWithoutBinaryContent() {
+    // given
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+        Variables.createVariables().putValue("stringVar", "foo"));
+    String variableInstanceId = getVariableInstanceId(processInstance, "stringVar");
+
+    // when
+    InputStream stream = runtimeService.getVariableInstanceContent(variableInstanceId);
+
+    // then
+    assertThat(stream).isNull();
+  }
+
+  @Test
+  void shouldFailForNonExistingVariableInstance() {
+    assertThatThrownBy(() -> runtimeService.getVariableInstanceContent("nonExisting"))
+      .isInstanceOf(NotFoundException.class)
+      .hasMessageContaining("nonExisting");
+  }
+
+  @Test
+  void shouldFailForNullVariableInstanceId() {
+    assertThatThrownBy(() -> runtimeService.getVariableInstanceContent(null))
+      .isInstanceOf(NullValueException.class)
+      .hasMessageContaining("variableInstanceId");
+  }
+
+  protected String getVariableInstanceId(ProcessInstance processInstance, String variableName) {
+    VariableInstance variableInstance = runtimeService.createVariableInstanceQuery()
+        .processInstanceIdIn(processInstance.getId())
+        .variableName(variableName)
+        .singleResult();
+    return variableInstance.getId();
+  }
+
+  protected static byte[] randomBytes(int length) {
+    byte[] bytes = new byte[length];
+    new Random(42).nextBytes(bytes);
+    return bytes;
+  }
+
+}
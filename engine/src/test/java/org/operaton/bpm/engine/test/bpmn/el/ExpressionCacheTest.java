@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.bpmn.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Properties;
+
+import jakarta.el.ELException;
+import org.junit.jupiter.api.Test;
+import org.operaton.bpm.engine.impl.el.JuelExpressionManager;
+import org.operaton.bpm.impl.juel.Cache;
+import org.operaton.bpm.impl.juel.ConcurrentCache;
+import org.operaton.bpm.impl.juel.ExpressionFactoryImpl;
+import org.operaton.bpm.impl.juel.SimpleContext;
+
+class ExpressionCacheTest {
+
+  @Test
+  void shouldUseLruCacheByDefault() {
+    JuelExpressionManager expressionManager = new JuelExpressionManager();
+
+    assertThat(expressionManager.getTreeCache()).isInstanceOf(Cache.class);
+  }
+
+  @Test
+  void shouldCountHitsAndMisses() {
+    // given
+    JuelExpressionManager expressionManager = new JuelExpressionManager(null,
+        cacheProperties(ExpressionFactoryImpl.CACHE_TYPE_CONCURRENT, 1000));
+
+    // when
+    expressionManager.createExpression("${a == b}");
+    expressionManager.createExpression("${a == b}");
+    expressionManager.createExpression("${a != b}");
+
+    // then
+    ConcurrentCache cache = (ConcurrentCache) expressionManager.getTreeCache();
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.getMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedExpressions() {
+    // given
+    ExpressionFactoryImpl expressionFactory = new ExpressionFactoryImpl(
+        cacheProperties(ExpressionFactoryImpl.CACHE_TYPE_CONCURRENT, 10));
+    SimpleContext context = new SimpleContext();
+
+    // when
+    for (int i = 0; i < 20; i++) {
+      expressionFactory.createValueExpression(context, "${a" + i + "}", Object.class);
+      // keep the first expression in use
+      expressionFactory.createValueExpression(context, "${a0}", Object.class);
+    }
+
+    // then
+    ConcurrentCache cache = (ConcurrentCache) expressionFactory.getTreeStore().getCache();
+    assertThat(cache.size()).isLessThanOrEqualTo(10);
+    assertThat(cache.getEvictionCount()).isGreaterThanOrEqualTo(10);
+    assertThat(cache.get("${a0}")).isNotNull();
+    assertThat(cache.get("${a19}")).isNotNull();
+  }
+
+  @Test
+  void shouldFailForUnknownCacheType() {
+    Properties properties = cacheProperties("unknown", 1000);
+
+    assertThatThrownBy(() -> new ExpressionFactoryImpl(properties))
+      .isInstanceOf(ELException.class)
+      .hasMessageContaining(ExpressionFactoryImpl.PROP_CACHE_TYPE);
+  }
+
+  @Test
+  void shouldKeepElPropertiesWhenConfiguringCacheType() {
+    // given default EL properties which configure the cache size
+    String factoryProperty = "jakarta.el.ExpressionFactory";
+    System.setProperty(factoryProperty, ExpressionFactoryImpl.class.getName());
+    System.setProperty(ExpressionFactoryImpl.PROP_CACHE_SIZE, "42");
+    try {
+      Properties properties = new Properties();
+      properties.setProperty(ExpressionFactoryImpl.PROP_CACHE_TYPE, ExpressionFactoryImpl.CACHE_TYPE_CONCURRENT);
+
+      // when
+      JuelExpressionManager expressionManager = new JuelExpressionManager(null, properties);
+
+      // then
+      ConcurrentCache cache = (ConcurrentCache) expressionManager.getTreeCache();
+      assertThat(cache.getMaxSize()).isEqualTo(42);
+    } finally {
+      System.clearProperty(factoryProperty);
+      System.clearProperty(ExpressionFactoryImpl.PROP_CACHE_SIZE);
+    }
+  }
+
+  protected Properties cacheProperties(String cacheType, int cacheSize) {
+    Properties properties = new Properties();
+    properties.setProperty(ExpressionFactoryImpl.PROP_CACHE_TYPE, cacheType);
+    properties.setProperty(ExpressionFactoryImpl.PROP_CACHE_SIZE, String.valueOf(cacheSize));
+    return properties;
+  }
+
+}
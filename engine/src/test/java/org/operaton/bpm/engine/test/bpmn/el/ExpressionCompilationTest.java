@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.bpmn.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Properties;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.operaton.bpm.impl.juel.ExpressionFactoryImpl;
+import org.operaton.bpm.impl.juel.SimpleContext;
+import org.operaton.bpm.impl.juel.SimpleResolver;
+import org.operaton.bpm.impl.juel.TreeValueExpression;
+import org.operaton.bpm.impl.juel.TypeConverterImpl;
+
+class ExpressionCompilationTest {
+
+  protected static final String[] EXPRESSIONS = {
+      "${a == b}", "${a != b}", "${a < b}", "${a <= b}", "${a > b}", "${a >= b}",
+      "${a + b}", "${a - b}", "${a * b}", "${(a == b) || !(a < b) ? a : b}" };
+
+  protected static final Object[][] OPERANDS = {
+      { 1L, 2L }, { 2L, 2L }, { 3, 2L }, { Long.MAX_VALUE, 1 },
+      { 1.5, 2.5 }, { Double.NaN, Double.NaN }, { 0.0, -0.0 },
+      { "a", "b" }, { "b", "b" }, { true, false }, { true, true },
+      { 1L, "1" }, { 1.5, 1L }, { null, 1L }, { null, null } };
+
+  protected SimpleResolver resolver;
+  protected SimpleContext context;
+
+  @BeforeEach
+  void setUp() {
+    resolver = new SimpleResolver();
+    context = new SimpleContext(resolver);
+  }
+
+  @Test
+  void shouldNotCompileByDefault() {
+    ExpressionFactoryImpl expressionFactory = new ExpressionFactoryImpl(new Properties());
+    TreeValueExpression expression = createExpression(expressionFactory, "${a < b}", 1L, 2L);
+
+    for (int i = 0; i < 100; i++) {
+      expression.getValue(context);
+    }
+
+    assertThat(expressionFactory.getCompileThreshold()).isZero();
+    assertThat(expression.isCompiled()).isFalse();
+  }
+
+  @Test
+  void shouldCompileAfterThreshold() {
+    ExpressionFactoryImpl expressionFactory = new ExpressionFactoryImpl(compileProperties(3));
+    TreeValueExpression expression = createExpression(expressionFactory, "${a < b}", 1L, 2L);
+
+    expression.getValue(context);
+    expression.getValue(context);
+    assertThat(expression.isCompiled()).isFalse();
+
+    assertThat(expression.getValue(context)).isEqualTo(true);
+    assertThat(expression.isCompiled()).isTrue();
+  }
+
+  @Test
+  void shouldEvaluateLikeInterpreter() {
+    ExpressionFactoryImpl interpreter = new ExpressionFactoryImpl(new Properties());
+    ExpressionFactoryImpl compiler = new ExpressionFactoryImpl(compileProperties(1));
+
+    for (String expressionString : EXPRESSIONS) {
+      for (Object[] operands : OPERANDS) {
+        TreeValueExpression interpreted = createExpression(interpreter, expressionString, operands[0], operands[1]);
+        TreeValueExpression compiled = createExpression(compiler, expressionString, operands[0], operands[1]);
+
+        // evaluate twice, so that the compiled expression uses the operand types it observed
+        for (int i = 0; i < 2; i++) {
+          assertThat(evaluate(compiled))
+            .describedAs("%s with a=%s, b=%s", expressionString, operands[0], operands[1])
+            .isEqualTo(evaluate(interpreted));
+        }
+        assertThat(compiled.isCompiled()).isTrue();
+      }
+    }
+  }
+
+  @Test
+  void shouldFallBackWhenOperandTypesChange() {
+    ExpressionFactoryImpl expressionFactory = new ExpressionFactoryImpl(compileProperties(1));
+    TreeValueExpression expression = createExpression(expressionFactory, "${a + b}", 1L, 2L);
+    assertThat(expression.getValue(context)).isEqualTo(3L);
+
+    // when
+    setOperands(1.5, 2L);
+    assertThat(expression.getValue(context)).isEqualTo(3.5);
+
+    setOperands("1", "2");
+    assertThat(expression.getValue(context)).isEqualTo(3L);
+
+    setOperands(1L, 2L);
+    assertThat(expression.getValue(context)).isEqualTo(3L);
+  }
+
+  @Test
+  void shouldNotCompileWithCustomTypeConverter() {
+    ExpressionFactoryImpl expressionFactory = new ExpressionFactoryImpl(compileProperties(1), new TypeConverterImpl());
+    TreeValueExpression expression = createExpression(expressionFactory, "${a < b}", 1L, 2L);
+
+    expression.getValue(context);
+
+    assertThat(expression.isCompiled()).isFalse();
+  }
+
+  protected TreeValueExpression createExpression(ExpressionFactoryImpl expressionFactory, String expression,
+      Object a, Object b) {
+    setOperands(a, b);
+    return expressionFactory.createValueExpression(context, expression, Object.class);
+  }
+
+  protected void setOperands(Object a, Object b) {
+    resolver.getRootPropertyResolver().setProperty("a", a);
+    resolver.getRootPropertyResolver().setProperty("b", b);
+  }
+
+  protected Object evaluate(TreeValueExpression expression) {
+    try {
+      return expression.getValue(context);
+    } catch (RuntimeException e) {
+      return e.getClass();
+    }
+  }
+
+  protected Properties compileProperties(int compileThreshold) {
+    Properties properties = new Properties();
+    properties.setProperty(ExpressionFactoryImpl.PROP_COMPILE_THRESHOLD, String.valueOf(compileThreshold));
+    return properties;
+  }
+
+}
@@ -24,13 +24,18 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.operaton.bpm.engine.ParseException;
 import org.operaton.bpm.engine.ProcessEngineException;
 import org.operaton.bpm.engine.RepositoryService;
 import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.operaton.bpm.engine.impl.event.EventType;
+import org.operaton.bpm.engine.impl.mock.Mocks;
+import org.operaton.bpm.engine.impl.persistence.deploy.cache.ConditionalStartEventRegistry.ConditionalStartEvent;
+import org.operaton.bpm.engine.impl.persistence.deploy.cache.ConditionalStartEventRegistry.ConditionalStartEvents;
 import org.operaton.bpm.engine.impl.persistence.entity.EventSubscriptionEntity;
 import org.operaton.bpm.engine.repository.DeploymentWithDefinitions;
 import org.operaton.bpm.engine.repository.ProcessDefinition;
@@ -58,6 +63,7 @@ class ConditionalStartEventTest {
   private static final String MULTIPLE_CONDITIONS = "multipleConditions";
   private static final String TRUE_CONDITION_PROCESS = "trueConditionProcess";
   private static final String CONDITIONAL_EVENT_PROCESS = "conditionalEventProcess";
+  private static final String VARIABLE_NAME_PROCESS = "variableNameProcess";
 
   private static final BpmnModelInstance MODEL_WITHOUT_CONDITION = Bpmn.createExecutableProcess(CONDITIONAL_EVENT_PROCESS)
       .startEvent()
@@ -73,6 +79,12 @@ class ConditionalStartEventTest {
   RepositoryService repositoryService;
   RuntimeService runtimeService;
 
+  @AfterEach
+  void resetMocks() {
+    Mocks.reset();
+    engineRule.getProcessEngineConfiguration().setConditionalStartEventExpressionIndexEnabled(false);
+  }
+
   @Test
   @Deployment(resources = SINGLE_CONDITIONAL_START_EVENT_XML)
   void testDeploymentCreatesSubscriptions() {
@@ -753,6 +765,132 @@ class ConditionalStartEventTest {
     assertThat(instances).isEmpty();
   }
 
+  @Test
+  void testStartInstanceEvaluatesOnlyConditionsOfGivenVariables() {
+    // given
+    engineRule.getProcessEngineConfiguration().setConditionalStartEventExpressionIndexEnabled(true);
+    ConditionEvaluationCounter counter = new ConditionEvaluationCounter();
+    Mocks.register("counter", counter);
+    deployModel(Bpmn.createExecutableProcess(CONDITIONAL_EVENT_PROCESS)
+        .startEvent()
+          .conditionalEventDefinition()
+          .condition("${counter.evaluate(foo)}")
+          .conditionalEventDefinitionDone()
+        .userTask()
+        .endEvent()
+        .done());
+
+    // when
+    List<ProcessInstance> instances = runtimeService
+        .createConditionEvaluation()
+        .setVariable("bar", true)
+        .evaluateStartConditions();
+
+    // then the condition is not evaluated
+    assertThat(instances).isEmpty();
+    assertThat(counter.getEvaluations()).isZero();
+
+    // when
+    instances = runtimeService
+        .createConditionEvaluation()
+        .setVariable("foo", true)
+        .evaluateStartConditions();
+
+    // then
+    assertThat(instances).hasSize(1);
+    assertThat(counter.getEvaluations()).isEqualTo(1);
+  }
+
+  @Test
+  @Deployment(resources = {TRUE_CONDITION_START_XML, START_INSTANCE_WITH_VARIABLE_NAME_XML})
+  void testConditionalStartEventsAreIndexedByVariableNames() {
+    // given
+    engineRule.getProcessEngineConfiguration().setConditionalStartEventExpressionIndexEnabled(true);
+    deployModel(Bpmn.createExecutableProcess(CONDITIONAL_EVENT_PROCESS)
+        .startEvent()
+          .conditionalEventDefinition()
+          .condition("${foo > 1 && bar}")
+          .conditionalEventDefinitionDone()
+        .userTask()
+        .endEvent()
+        .done());
+
+    // when
+    ConditionalStartEvents conditionalStartEvents = getConditionalStartEvents();
+
+    // then
+    assertThat(conditionalStartEvents.getAll()).hasSize(3);
+    assertThat(conditionalStartEvents.findByVariableNames(List.of("foo")))
+      .extracting(ConditionalStartEvent::getProcessDefinitionKey)
+      .containsExactlyInAnyOrder(TRUE_CONDITION_PROCESS, VARIABLE_NAME_PROCESS, CONDITIONAL_EVENT_PROCESS);
+    assertThat(conditionalStartEvents.findByVariableNames(List.of("bar")))
+      .extracting(ConditionalStartEvent::getProcessDefinitionKey)
+      .containsExactlyInAnyOrder(TRUE_CONDITION_PROCESS, CONDITIONAL_EVENT_PROCESS);
+    assertThat(conditionalStartEvents.findByVariableNames(List.of()))
+      .extracting(ConditionalStartEvent::getProcessDefinitionKey)
+      .containsExactly(TRUE_CONDITION_PROCESS);
+  }
+
+  @Test
+  void testStartInstanceEvaluatesConditionsWithBeansByDefault() {
+    // given a condition which only uses a bean that is not known to the configuration
+    ConditionEvaluationCounter counter = new ConditionEvaluationCounter();
+    Mocks.register("counter", counter);
+    deployModel(Bpmn.createExecutableProcess(CONDITIONAL_EVENT_PROCESS)
+        .startEvent()
+          .conditionalEventDefinition()
+          .condition("${counter.evaluate(true)}")
+          .conditionalEventDefinitionDone()
+        .userTask()
+        .endEvent()
+        .done());
+
+    // when
+    List<ProcessInstance> instances = runtimeService
+        .createConditionEvaluation()
+        .setVariable("bar", true)
+        .evaluateStartConditions();
+
+    // then the condition is evaluated although the bean is no given variable
+    assertThat(instances).hasSize(1);
+    assertThat(counter.getEvaluations()).isEqualTo(1);
+    assertThat(getConditionalStartEvents().findByVariableNames(List.of()))
+      .extracting(ConditionalStartEvent::getProcessDefinitionKey)
+      .containsExactly(CONDITIONAL_EVENT_PROCESS);
+  }
+
+  @Test
+  @Deployment(resources = SINGLE_CONDITIONAL_START_EVENT_XML)
+  void testConditionalStartEventsAreUpdatedAfterRedeployment() {
+    // given
+    ConditionalStartEvents conditionalStartEvents = getConditionalStartEvents();
+    String processDefinitionId = conditionalStartEvents.getAll().get(0).getProcessDefinitionId();
+
+    // when a new version is deployed
+    String newProcessDefinitionId = deployProcess(SINGLE_CONDITIONAL_START_EVENT_XML);
+
+    // then
+    assertThat(getConditionalStartEvents().getAll())
+      .extracting(ConditionalStartEvent::getProcessDefinitionId)
+      .containsExactly(newProcessDefinitionId);
+
+    // when the new version is deleted
+    repositoryService.deleteProcessDefinition(newProcessDefinitionId);
+
+    // then
+    assertThat(getConditionalStartEvents().getAll())
+      .extracting(ConditionalStartEvent::getProcessDefinitionId)
+      .containsExactly(processDefinitionId);
+  }
+
+  protected ConditionalStartEvents getConditionalStartEvents() {
+    ProcessEngineConfigurationImpl processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    return processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext ->
+        processEngineConfiguration.getDeploymentCache()
+          .getConditionalStartEventRegistry()
+          .getConditionalStartEvents(commandContext));
+  }
+
   protected String deployProcess(String resourcePath) {
     List<ProcessDefinition> deployedProcessDefinitions = testRule.deploy(resourcePath).getDeployedProcessDefinitions();
     assertThat(deployedProcessDefinitions).hasSize(1);
@@ -764,4 +902,18 @@ class ConditionalStartEventTest {
     assertThat(deployedProcessDefinitions).hasSize(1);
     return deployedProcessDefinitions.get(0).getId();
   }
+
+  public static class ConditionEvaluationCounter {
+
+    protected int evaluations;
+
+    public boolean evaluate(boolean result) {
+      evaluations++;
+      return result;
+    }
+
+    public int getEvaluations() {
+      return evaluations;
+    }
+  }
 }
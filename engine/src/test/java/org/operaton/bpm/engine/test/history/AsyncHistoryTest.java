@@ -0,0 +1,259 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.operaton.bpm.engine.HistoryService;
+import org.operaton.bpm.engine.ProcessEngineConfiguration;
+import org.operaton.bpm.engine.RepositoryService;
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.TaskService;
+import org.operaton.bpm.engine.history.HistoricActivityInstance;
+import org.operaton.bpm.engine.history.HistoricProcessInstance;
+import org.operaton.bpm.engine.history.HistoricVariableInstance;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.db.entitymanager.DbEntityManager;
+import org.operaton.bpm.engine.impl.history.handler.HistoryEventOutboxWriter;
+import org.operaton.bpm.engine.impl.persistence.entity.HistoryEventOutboxEntryEntity;
+import org.operaton.bpm.engine.repository.Deployment;
+import org.operaton.bpm.engine.repository.ProcessDefinition;
+import org.operaton.bpm.engine.runtime.ProcessInstance;
+import org.operaton.bpm.engine.test.RequiredHistoryLevel;
+import org.operaton.bpm.engine.test.api.runtime.migration.models.ProcessModels;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineTestExtension;
+import org.operaton.bpm.engine.variable.Variables;
+
+@RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_FULL)
+class AsyncHistoryTest {
+
+  @RegisterExtension
+  static ProcessEngineExtension engineRule = ProcessEngineExtension.builder()
+    .randomEngineName().closeEngineAfterAllTests()
+    .configurator(configuration -> configuration.setAsyncHistoryEnabled(true))
+    .build();
+  @RegisterExtension
+  ProcessEngineTestExtension testRule = new ProcessEngineTestExtension(engineRule);
+
+  ProcessEngineConfigurationImpl processEngineConfiguration;
+  RepositoryService repositoryService;
+  RuntimeService runtimeService;
+  TaskService taskService;
+  HistoryService historyService;
+
+  HistoryEventOutboxWriter writer;
+
+  @BeforeEach
+  void setUp() {
+    writer = processEngineConfiguration.getHistoryEventOutboxWriter();
+    // the tests write the outbox themselves
+    writer.stop();
+
+    testRule.deploy(ProcessModels.ONE_TASK_PROCESS);
+  }
+
+  @AfterEach
+  void tearDown() {
+    writer.writeAll();
+  }
+
+  @Test
+  void shouldWriteHistoryWhenOutboxIsWritten() {
+    // given
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey(ProcessModels.PROCESS_KEY);
+
+    // assume
+    assertThat(historyService.createHistoricProcessInstanceQuery().count()).isZero();
+    assertThat(writer.getBacklog()).isEqualTo(1);
+
+    // when
+    int writtenEntries = writer.writeBatch();
+
+    // then
+    assertThat(writtenEntries).isEqualTo(1);
+    assertThat(writer.getBacklog()).isZero();
+
+    HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().singleResult();
+    assertThat(historicProcessInstance.getId()).isEqualTo(processInstance.getId());
+    assertThat(historicProcessInstance.getEndTime()).isNull();
+    assertThat(historyService.createHistoricActivityInstanceQuery().count()).isEqualTo(2);
+
+    completeTask();
+  }
+
+  @Test
+  void shouldWriteEventsOfSeveralCommandsInOneTransaction() {
+    // given
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey(ProcessModels.PROCESS_KEY);
+    completeTask();
+
+    // when
+    int writtenEntries = writer.writeBatch();
+
+    // then
+    assertThat(writtenEntries).isEqualTo(2);
+
+    HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().singleResult();
+    assertThat(historicProcessInstance.getId()).isEqualTo(processInstance.getId());
+    assertThat(historicProcessInstance.getStartTime()).isNotNull();
+    assertThat(historicProcessInstance.getEndTime()).isNotNull();
+    assertThat(historicProcessInstance.getState()).isEqualTo(HistoricProcessInstance.STATE_COMPLETED);
+
+    HistoricActivityInstance userTask = historyService.createHistoricActivityInstanceQuery()
+        .activityId(ProcessModels.USER_TASK_ID)
+        .singleResult();
+    assertThat(userTask.getStartTime()).isNotNull();
+    assertThat(userTask.getEndTime()).isNotNull();
+    assertThat(historyService.createHistoricActivityInstanceQuery().finished().count()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldWriteVariableUpdates() {
+    // given
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey(ProcessModels.PROCESS_KEY,
+        Variables.createVariables().putValue("var", "foo"));
+    runtimeService.setVariable(processInstance.getId(), "var", "bar");
+
+    // when
+    writer.writeAll();
+
+    // then
+    HistoricVariableInstance variable = historyService.createHistoricVariableInstanceQuery().singleResult();
+    assertThat(variable.getValue()).isEqualTo("bar");
+    assertThat(historyService.createHistoricDetailQuery().variableUpdates().count()).isEqualTo(2);
+
+    completeTask();
+  }
+
+  @Test
+  void shouldAddRemovalTimeToHistoryWrittenBeforeProcessInstanceEnds() {
+    // given a process instance whose history is partly written before it ends
+    ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().singleResult();
+    repositoryService.updateProcessDefinitionHistoryTimeToLive(processDefinition.getId(), 5);
+
+    runtimeService.startProcessInstanceById(processDefinition.getId());
+    writer.writeAll();
+    completeTask();
+
+    // when
+    writer.writeAll();
+
+    // then
+    HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().singleResult();
+    assertThat(historicProcessInstance.getRemovalTime()).isNotNull();
+
+    List<HistoricActivityInstance> activityInstances = historyService.createHistoricActivityInstanceQuery().list();
+    assertThat(activityInstances)
+        .hasSize(3)
+        .allSatisfy(activityInstance -> assertThat(activityInstance.getRemovalTime())
+            .isEqualTo(historicProcessInstance.getRemovalTime()));
+  }
+
+  @Test
+  void shouldNotWriteHistoryOfDeletedProcessInstance() {
+    // given a process instance whose history is still in the outbox
+    Deployment deployment = repositoryService.createDeployment()
+        .addModelInstance("process.bpmn", ProcessModels.ONE_TASK_PROCESS)
+        .deploy();
+    ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery()
+        .deploymentId(deployment.getId())
+        .singleResult();
+    runtimeService.startProcessInstanceById(processDefinition.getId());
+
+    // when the process instance is deleted together with its history
+    repositoryService.deleteDeployment(deployment.getId(), true);
+    writer.writeAll();
+
+    // then its history is not restored
+    assertThat(historyService.createHistoricProcessInstanceQuery().count()).isZero();
+    assertThat(historyService.createHistoricActivityInstanceQuery().count()).isZero();
+    assertThat(writer.writeBatch()).isZero();
+  }
+
+  @Test
+  void shouldQuarantineEntryWhichCannotBeDeserialized() throws IOException {
+    // given an outbox entry which contains no history events
+    List<Object> foreignObjects = new ArrayList<>();
+    foreignObjects.add(new HashMap<>());
+    String entryId = insertOutboxEntry(serialize(foreignObjects));
+
+    // and a later entry
+    runtimeService.startProcessInstanceByKey(ProcessModels.PROCESS_KEY);
+
+    try {
+      // when
+      int writtenEntries = writer.writeBatch();
+
+      // then
+      assertThat(writtenEntries).isEqualTo(2);
+      assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(1);
+      assertThat(findOutboxEntry(entryId).getState()).isEqualTo(HistoryEventOutboxEntryEntity.STATE_QUARANTINED);
+
+    } finally {
+      deleteOutboxEntry(entryId);
+    }
+
+    completeTask();
+  }
+
+  protected String insertOutboxEntry(byte[] bytes) {
+    return processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      HistoryEventOutboxEntryEntity entry = new HistoryEventOutboxEntryEntity();
+      entry.setBytes(bytes);
+      commandContext.getDbEntityManager().insert(entry);
+      return entry.getId();
+    });
+  }
+
+  protected HistoryEventOutboxEntryEntity findOutboxEntry(String id) {
+    return processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> commandContext
+        .getDbEntityManager()
+        .selectById(HistoryEventOutboxEntryEntity.class, id));
+  }
+
+  protected void deleteOutboxEntry(String id) {
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      DbEntityManager dbEntityManager = commandContext.getDbEntityManager();
+      dbEntityManager.delete(dbEntityManager.selectById(HistoryEventOutboxEntryEntity.class, id));
+      return null;
+    });
+  }
+
+  protected static byte[] serialize(Object object) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+      objectOutputStream.writeObject(object);
+    }
+    return outputStream.toByteArray();
+  }
+
+  protected void completeTask() {
+    taskService.complete(taskService.createTaskQuery().singleResult().getId());
+  }
+
+}
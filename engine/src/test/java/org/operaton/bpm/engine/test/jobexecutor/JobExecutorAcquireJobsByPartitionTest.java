@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.operaton.bpm.engine.ProcessEngineException;
+import org.operaton.bpm.engine.impl.Page;
+import org.operaton.bpm.engine.impl.db.DbIdGenerator;
+import org.operaton.bpm.engine.impl.jobexecutor.DefaultJobExecutor;
+import org.operaton.bpm.engine.impl.jobexecutor.JobAcquisitionPartition;
+import org.operaton.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.operaton.bpm.engine.impl.persistence.StrongUuidGenerator;
+import org.operaton.bpm.engine.impl.persistence.entity.AcquirableJobEntity;
+import org.operaton.bpm.engine.test.Deployment;
+
+@Deployment(resources = "org/operaton/bpm/engine/test/jobexecutor/simpleAsyncProcess.bpmn20.xml")
+class JobExecutorAcquireJobsByPartitionTest extends AbstractJobExecutorAcquireJobsTest {
+
+  protected static final int NUMBER_OF_JOBS = 50;
+
+  @BeforeEach
+  void setUp() {
+    startProcess("simpleAsyncProcess", "servicetask1", NUMBER_OF_JOBS);
+  }
+
+  @Test
+  void shouldAcquireDisjointPartitions() {
+    // given
+    int partitions = 4;
+
+    // when
+    List<String> acquiredJobIds = new ArrayList<>();
+    for (int i = 0; i < partitions; i++) {
+      for (AcquirableJobEntity job : findAcquirableJobs(new JobAcquisitionPartition(i, partitions))) {
+        acquiredJobIds.add(job.getId());
+      }
+    }
+
+    // then
+    Set<String> allJobIds = new HashSet<>();
+    for (AcquirableJobEntity job : findAcquirableJobs()) {
+      allJobIds.add(job.getId());
+    }
+    assertThat(acquiredJobIds)
+      .hasSize(NUMBER_OF_JOBS)
+      .doesNotHaveDuplicates()
+      .containsExactlyInAnyOrderElementsOf(allJobIds);
+  }
+
+  @Test
+  void shouldAcquireAllJobsWithSinglePartition() {
+    // when
+    List<AcquirableJobEntity> acquirableJobs = findAcquirableJobs(new JobAcquisitionPartition(0, 1));
+
+    // then
+    assertThat(acquirableJobs).hasSize(NUMBER_OF_JOBS);
+  }
+
+  @Test
+  void shouldAcquireDisjointPartitionsWithMoreLoopsThanDigits() {
+    // given
+    int partitions = 12;
+
+    // when
+    List<String> acquiredJobIds = new ArrayList<>();
+    for (int i = 0; i < partitions; i++) {
+      for (AcquirableJobEntity job : findAcquirableJobs(new JobAcquisitionPartition(i, partitions))) {
+        acquiredJobIds.add(job.getId());
+      }
+    }
+
+    // then
+    assertThat(acquiredJobIds)
+      .hasSize(NUMBER_OF_JOBS)
+      .doesNotHaveDuplicates();
+  }
+
+  @Test
+  void shouldUseKeyAlphabetOfIdGenerator() {
+    assertThat(JobAcquisitionPartition.getKeyAlphabet(new DbIdGenerator()))
+      .isEqualTo(JobAcquisitionPartition.DECIMAL_KEY_ALPHABET);
+    assertThat(JobAcquisitionPartition.getKeyAlphabet(new StrongUuidGenerator()))
+      .isEqualTo(JobAcquisitionPartition.HEXADECIMAL_KEY_ALPHABET);
+  }
+
+  @Test
+  void shouldAssignEveryKeySuffixToOnePartition() {
+    // given
+    String keyAlphabet = JobAcquisitionPartition.DECIMAL_KEY_ALPHABET;
+    JobAcquisitionPartition first = new JobAcquisitionPartition(0, 3);
+    JobAcquisitionPartition second = new JobAcquisitionPartition(1, 3);
+    JobAcquisitionPartition last = new JobAcquisitionPartition(2, 3);
+
+    // then
+    assertThat(first.getKeySuffixPatterns(keyAlphabet)).containsExactly("%0", "%3", "%6", "%9");
+    assertThat(second.getKeySuffixPatterns(keyAlphabet)).containsExactly("%1", "%4", "%7");
+    assertThat(last.getKeySuffixPatterns(keyAlphabet)).containsExactly("%2", "%5", "%8");
+    assertThat(first.getForeignKeySuffixPatterns(keyAlphabet)).isNull();
+    assertThat(second.getForeignKeySuffixPatterns(keyAlphabet)).isNull();
+    assertThat(last.getForeignKeySuffixPatterns(keyAlphabet)).hasSize(10);
+  }
+
+  @Test
+  void shouldGiveEveryPartitionKeySuffixes() {
+    // given
+    String keyAlphabet = JobAcquisitionPartition.DECIMAL_KEY_ALPHABET;
+    int partitions = 12;
+
+    // when
+    List<String> allPatterns = new ArrayList<>();
+    for (int i = 0; i < partitions; i++) {
+      List<String> patterns = new JobAcquisitionPartition(i, partitions).getKeySuffixPatterns(keyAlphabet);
+      assertThat(patterns).isNotEmpty();
+      allPatterns.addAll(patterns);
+    }
+
+    // then every two-digit suffix belongs to exactly one partition
+    assertThat(allPatterns)
+      .hasSize(100)
+      .doesNotHaveDuplicates()
+      .contains("%00", "%11", "%99");
+  }
+
+  @Test
+  void shouldRejectInvalidNumberOfPartitions() {
+    JobExecutor jobExecutor = new DefaultJobExecutor();
+
+    assertThatThrownBy(() -> jobExecutor.setAcquisitionPartitions(0))
+      .isInstanceOf(ProcessEngineException.class);
+    assertThatThrownBy(() -> jobExecutor.setAcquisitionPartitions(JobAcquisitionPartition.MAX_PARTITIONS + 1))
+      .isInstanceOf(ProcessEngineException.class);
+  }
+
+  protected List<AcquirableJobEntity> findAcquirableJobs(JobAcquisitionPartition partition) {
+    return configuration.getCommandExecutorTxRequired().execute(commandContext -> commandContext
+        .getJobManager()
+        .findNextJobsToExecute(new Page(0, 100), partition));
+  }
+
+}
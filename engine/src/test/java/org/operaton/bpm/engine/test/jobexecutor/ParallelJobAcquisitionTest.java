@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.operaton.bpm.engine.test.util.JobExecutorWaitUtils.waitForJobExecutorToProcessAllJobs;
+
+import java.text.DateFormat.Field;
+import java.time.Duration;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.ProcessEngines;
+import org.operaton.bpm.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.operaton.bpm.engine.impl.cfg.StandaloneProcessEngineConfiguration;
+import org.operaton.bpm.engine.impl.jobexecutor.DefaultJobExecutor;
+import org.operaton.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.operaton.bpm.engine.impl.jobexecutor.ParallelJobAcquisitionRunnable;
+import org.operaton.bpm.engine.impl.jobexecutor.SequentialJobAcquisitionRunnable;
+import org.operaton.bpm.engine.impl.util.ClockUtil;
+
+class ParallelJobAcquisitionTest {
+
+  private static final String PROCESS_RESOURCE =
+      "org/operaton/bpm/engine/test/jobexecutor/IntermediateTimerEventTest.testCatchingTimerEvent.bpmn20.xml";
+
+  private final List<String> additionalAcquisitions = new CopyOnWriteArrayList<>();
+
+  private JobExecutor jobExecutor;
+  private ProcessEngine engine;
+
+  @BeforeEach
+  void createProcessEngine() {
+    jobExecutor = new DefaultJobExecutor() {
+      @Override
+      protected void startAdditionalJobAcquisition(Runnable acquisitionRunnable, String name) {
+        additionalAcquisitions.add(name);
+        super.startAdditionalJobAcquisition(acquisitionRunnable, name);
+      }
+    };
+    jobExecutor.setAcquisitionPartitions(4);
+
+    StandaloneProcessEngineConfiguration configuration = new StandaloneInMemProcessEngineConfiguration();
+    configuration.setProcessEngineName(getClass().getName() + "-engine");
+    configuration.setJdbcUrl("jdbc:h2:mem:parallel-acquisition-test");
+    configuration.setJobExecutorActivate(false);
+    configuration.setJobExecutor(jobExecutor);
+    configuration.setDbMetricsReporterActivate(false);
+
+    engine = configuration.buildProcessEngine();
+  }
+
+  @AfterEach
+  void closeProcessEngine() {
+    jobExecutor.shutdown();
+    ClockUtil.reset();
+    engine.close();
+    ProcessEngines.unregister(engine);
+  }
+
+  @Test
+  void shouldExecuteJobsOfAllPartitions() {
+    // given
+    engine.getRepositoryService().createDeployment().addClasspathResource(PROCESS_RESOURCE).deploy();
+    jobExecutor.shutdown();
+
+    for (int i = 0; i < 20; i++) {
+      engine.getRuntimeService().startProcessInstanceByKey("intermediateTimerEventExample");
+    }
+    assertThat(engine.getManagementService().createJobQuery().count()).isEqualTo(20);
+
+    Calendar calendar = Calendar.getInstance();
+    calendar.add(Field.DAY_OF_YEAR.getCalendarField(), 6);
+    ClockUtil.setCurrentTime(calendar.getTime());
+
+    // when
+    jobExecutor.start();
+    waitForJobExecutorToProcessAllJobs(10000, 100, jobExecutor, engine.getManagementService());
+
+    // then
+    assertThat(engine.getManagementService().createJobQuery().count()).isZero();
+  }
+
+  @Test
+  void shouldRunOneAcquisitionLoopPerPartition() {
+    // when
+    jobExecutor.start();
+
+    // then
+    assertThat(jobExecutor.getAcquireJobsRunnable()).isInstanceOf(ParallelJobAcquisitionRunnable.class);
+    ParallelJobAcquisitionRunnable runnable = (ParallelJobAcquisitionRunnable) jobExecutor.getAcquireJobsRunnable();
+    assertThat(runnable.getAcquisitionRunnables())
+      .hasSize(4)
+      .extracting(SequentialJobAcquisitionRunnable::getPartition)
+      .extracting("index")
+      .containsExactly(0, 1, 2, 3);
+  }
+
+  @Test
+  void shouldStartAdditionalAcquisitionLoopsThroughJobExecutor() {
+    // when
+    jobExecutor.start();
+
+    // then
+    String name = jobExecutor.getName();
+    await().atMost(Duration.ofSeconds(10))
+      .untilAsserted(() -> assertThat(additionalAcquisitions).containsExactly(name + "-1", name + "-2", name + "-3"));
+  }
+
+}
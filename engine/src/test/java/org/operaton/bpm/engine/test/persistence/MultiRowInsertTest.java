@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.operaton.bpm.engine.HistoryService;
+import org.operaton.bpm.engine.ProcessEngineConfiguration;
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.operaton.bpm.engine.impl.persistence.entity.TaskEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.operaton.bpm.engine.impl.test.RequiredDatabase;
+import org.operaton.bpm.engine.runtime.ProcessInstance;
+import org.operaton.bpm.engine.test.RequiredHistoryLevel;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineTestExtension;
+import org.operaton.bpm.engine.variable.VariableMap;
+import org.operaton.bpm.engine.variable.Variables;
+import org.operaton.bpm.model.bpmn.Bpmn;
+import org.operaton.bpm.model.bpmn.BpmnModelInstance;
+
+/**
+ * Tests flushing runs of inserts of the same entity type with multi-row insert statements
+ */
+@RequiredDatabase(excludes = DbSqlSessionFactory.ORACLE)
+class MultiRowInsertTest {
+
+  protected static final BpmnModelInstance PROCESS = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .userTask("task")
+      .endEvent()
+      .done();
+
+  @RegisterExtension
+  static ProcessEngineExtension engineRule = ProcessEngineExtension.builder().build();
+  @RegisterExtension
+  ProcessEngineTestExtension testRule = new ProcessEngineTestExtension(engineRule);
+
+  ProcessEngineConfigurationImpl processEngineConfiguration;
+  RuntimeService runtimeService;
+  HistoryService historyService;
+
+  DbSqlSessionFactory dbSqlSessionFactory;
+
+  @BeforeEach
+  void enableMultiRowInsert() {
+    dbSqlSessionFactory = processEngineConfiguration.getDbSqlSessionFactory();
+    dbSqlSessionFactory.setJdbcMultiRowInsert(true);
+    dbSqlSessionFactory.setJdbcMultiRowInsertMaxRows(4);
+  }
+
+  @AfterEach
+  void resetMultiRowInsert() {
+    dbSqlSessionFactory.setJdbcMultiRowInsert(processEngineConfiguration.isJdbcMultiRowInsert());
+    dbSqlSessionFactory.setJdbcMultiRowInsertMaxRows(processEngineConfiguration.getJdbcMultiRowInsertMaxRows());
+  }
+
+  @Test
+  void shouldProvideMultiRowInsertStatement() {
+    assertThat(dbSqlSessionFactory.getMultiRowInsertStatement(VariableInstanceEntity.class))
+        .isEqualTo("insertMultipleVariableInstance");
+    assertThat(dbSqlSessionFactory.getMultiRowInsertStatement(TaskEntity.class)).isNull();
+  }
+
+  @Test
+  void shouldInsertVariables() {
+    // given
+    testRule.deploy(PROCESS);
+
+    VariableMap variables = Variables.createVariables();
+    for (int i = 0; i < 10; i++) {
+      variables.putValue("var" + i, i);
+    }
+
+    // when
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("process", variables);
+
+    // then
+    assertThat(runtimeService.getVariables(processInstance.getId())).isEqualTo(variables);
+    assertThat(runtimeService.createVariableInstanceQuery().processInstanceIdIn(processInstance.getId()).count())
+        .isEqualTo(10);
+  }
+
+  @Test
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_AUDIT)
+  void shouldInsertHistoricVariablesAndActivityInstances() {
+    // given
+    testRule.deploy(PROCESS);
+
+    VariableMap variables = Variables.createVariables();
+    for (int i = 0; i < 10; i++) {
+      variables.putValue("var" + i, "value" + i);
+    }
+
+    // when
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("process", variables);
+
+    // then
+    assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId()).count())
+        .isEqualTo(10);
+    assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstance.getId()).count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void shouldUpdateInsertedVariables() {
+    // given
+    testRule.deploy(PROCESS);
+
+    VariableMap variables = Variables.createVariables();
+    for (int i = 0; i < 5; i++) {
+      variables.putValue("var" + i, i);
+    }
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("process", variables);
+
+    // when the revision of the inserted variables was set correctly
+    runtimeService.setVariable(processInstance.getId(), "var0", "updated");
+
+    // then
+    assertThat(runtimeService.getVariable(processInstance.getId(), "var0")).isEqualTo("updated");
+  }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.standalone.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.operaton.bpm.engine.impl.db.IdBlock;
+import org.operaton.bpm.engine.impl.db.PrefetchingDbIdGenerator;
+
+class PrefetchingDbIdGeneratorTest {
+
+  protected InMemoryPrefetchingDbIdGenerator idGenerator;
+
+  @BeforeEach
+  void setUp() {
+    idGenerator = new InMemoryPrefetchingDbIdGenerator();
+    idGenerator.setIdBlockSize(10);
+  }
+
+  @AfterEach
+  void tearDown() {
+    idGenerator.close();
+  }
+
+  @Test
+  void shouldGenerateConsecutiveIds() {
+    // given
+    idGenerator.setTargetBlockDurationMillis(0);
+
+    // when
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      ids.add(idGenerator.getNextId());
+    }
+
+    // then
+    for (int i = 0; i < 25; i++) {
+      assertThat(ids.get(i)).isEqualTo(String.valueOf(i + 1));
+    }
+  }
+
+  @Test
+  void shouldPrefetchNextBlock() {
+    // when
+    for (int i = 0; i < 11; i++) {
+      idGenerator.getNextId();
+    }
+
+    // then
+    assertThat(idGenerator.fetchingThreads).hasSize(2);
+    assertThat(idGenerator.fetchingThreads.get(0)).isEqualTo(Thread.currentThread().getName());
+    assertThat(idGenerator.fetchingThreads.get(1)).isEqualTo("operaton-id-block-prefetch");
+  }
+
+  @Test
+  void shouldIncreaseBlockSizeOnHighConsumption() {
+    // given
+    idGenerator.setTargetBlockDurationMillis(60000);
+    idGenerator.setMaxIdBlockSize(40);
+
+    // when
+    for (int i = 0; i < 1000; i++) {
+      idGenerator.getNextId();
+    }
+
+    // then
+    assertThat(idGenerator.getCurrentIdBlockSize()).isEqualTo(40);
+  }
+
+  @Test
+  void shouldResetToConfiguredBlockSize() {
+    // given
+    idGenerator.setTargetBlockDurationMillis(60000);
+    for (int i = 0; i < 1000; i++) {
+      idGenerator.getNextId();
+    }
+
+    // when
+    idGenerator.reset();
+
+    // then
+    assertThat(idGenerator.getCurrentIdBlockSize()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldGenerateUniqueIdsConcurrently() throws Exception {
+    // given
+    Set<String> ids = ConcurrentHashMap.newKeySet();
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+    // when
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      futures.add(executorService.submit(() -> {
+        for (int i = 0; i < 5000; i++) {
+          ids.add(idGenerator.getNextId());
+        }
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executorService.shutdown();
+
+    // then
+    assertThat(ids).hasSize(40000);
+  }
+
+  /**
+   * Hands out id blocks like the property table without accessing a database.
+   */
+  protected static class InMemoryPrefetchingDbIdGenerator extends PrefetchingDbIdGenerator {
+
+    protected final AtomicLong nextDbId = new AtomicLong(1);
+    protected final List<String> fetchingThreads = new CopyOnWriteArrayList<>();
+
+    @Override
+    protected IdBlock fetchBlock(int blockSize) {
+      fetchingThreads.add(Thread.currentThread().getName());
+      long oldValue = nextDbId.getAndAdd(blockSize);
+      return new IdBlock(oldValue, oldValue + blockSize - 1);
+    }
+  }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.standalone.db.entitymanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+import org.operaton.bpm.engine.impl.db.entitymanager.cache.CachedDbEntity;
+import org.operaton.bpm.engine.impl.db.entitymanager.cache.DbEntityCache;
+import org.operaton.bpm.engine.impl.persistence.entity.ExternalTaskEntity;
+import org.operaton.bpm.engine.impl.persistence.entity.MessageEntity;
+
+class DbEntityCacheDirtyTrackingTest {
+
+  @Test
+  void shouldNotBeDirtyIfUnchanged() {
+    DbEntityCache cache = createCache(true);
+    MessageEntity job = createJob();
+    cache.putPersistent(job);
+
+    CachedDbEntity cachedEntity = cache.getCachedEntity(job);
+    assertThat(cachedEntity.isDirtyTracking()).isTrue();
+    assertThat(cachedEntity.isDirty()).isFalse();
+
+    // setting the same values does not make the entity dirty
+    job.setLockOwner("owner");
+    job.setPriority(5);
+    assertThat(cachedEntity.isDirty()).isFalse();
+  }
+
+  @Test
+  void shouldBeDirtyIfChanged() {
+    DbEntityCache cache = createCache(true);
+    MessageEntity job = createJob();
+    cache.putPersistent(job);
+    CachedDbEntity cachedEntity = cache.getCachedEntity(job);
+
+    job.unlock();
+
+    assertThat(cachedEntity.isDirty()).isTrue();
+
+    // a flush resets the tracked changes
+    cachedEntity.makeCopy();
+    assertThat(cachedEntity.isDirty()).isFalse();
+  }
+
+  @Test
+  void shouldTrackExternalTaskChanges() {
+    DbEntityCache cache = createCache(true);
+    ExternalTaskEntity externalTask = new ExternalTaskEntity();
+    externalTask.setId("externalTask");
+    externalTask.setTopicName("topic");
+    cache.putPersistent(externalTask);
+    CachedDbEntity cachedEntity = cache.getCachedEntity(externalTask);
+
+    externalTask.setTopicName("topic");
+    assertThat(cachedEntity.isDirty()).isFalse();
+
+    externalTask.lock("worker", 1000L);
+    assertThat(cachedEntity.isDirty()).isTrue();
+  }
+
+  @Test
+  void shouldBeDirtyIfForced() {
+    DbEntityCache cache = createCache(true);
+    MessageEntity job = createJob();
+    cache.putPersistent(job);
+    CachedDbEntity cachedEntity = cache.getCachedEntity(job);
+
+    cachedEntity.forceSetDirty();
+
+    assertThat(cachedEntity.isDirty()).isTrue();
+  }
+
+  @Test
+  void shouldCompareCopyIfDisabled() {
+    DbEntityCache cache = createCache(false);
+    MessageEntity job = createJob();
+    cache.putPersistent(job);
+    CachedDbEntity cachedEntity = cache.getCachedEntity(job);
+    assertThat(cachedEntity.isDirtyTracking()).isFalse();
+
+    job.setLockExpirationTime(new Date(0));
+
+    assertThat(cachedEntity.isDirty()).isTrue();
+  }
+
+  protected DbEntityCache createCache(boolean dirtyTrackingEnabled) {
+    DbEntityCache cache = new DbEntityCache();
+    cache.setDirtyTrackingEnabled(dirtyTrackingEnabled);
+    return cache;
+  }
+
+  protected MessageEntity createJob() {
+    MessageEntity job = new MessageEntity();
+    job.setId("job");
+    job.setLockOwner("owner");
+    job.setPriority(5);
+    return job;
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.standalone.scripting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.scripting.engine.ScriptEnginePool;
+import org.operaton.bpm.engine.runtime.ProcessInstance;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineExtension;
+import org.operaton.bpm.engine.test.junit5.ProcessEngineTestExtension;
+import org.operaton.bpm.model.bpmn.Bpmn;
+import org.operaton.bpm.model.bpmn.BpmnModelInstance;
+
+class ScriptEnginePoolGraalJsTest {
+
+  protected static final String GRAALJS = "graal.js";
+
+  @RegisterExtension
+  protected static ProcessEngineExtension engineRule = ProcessEngineExtension.builder()
+      .closeEngineAfterAllTests()
+      .randomEngineName()
+      .configurator(configuration -> {
+        configuration.setEnableScriptEnginePooling(true);
+        configuration.setScriptEnginePoolSize(1);
+      })
+      .build();
+  @RegisterExtension
+  ProcessEngineTestExtension testRule = new ProcessEngineTestExtension(engineRule);
+
+  ProcessEngineConfigurationImpl processEngineConfiguration;
+  RuntimeService runtimeService;
+
+  @Test
+  void shouldEvaluateTopLevelDeclarationsWithReusedEngine() {
+    // given
+    testRule.deploy(createProcess(
+        "let counter = 1;"
+      + "const name = 'pooled';"
+      + "execution.setVariable('result', name + counter);"));
+    ScriptEnginePool scriptEnginePool = processEngineConfiguration.getScriptEnginePool();
+    runtimeService.startProcessInstanceByKey("testProcess");
+    long hitCount = scriptEnginePool.getHitCount();
+
+    // when the script is evaluated again by the pooled engine
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testProcess");
+
+    // then the declarations of the first evaluation are gone
+    assertThat(scriptEnginePool.getHitCount()).isGreaterThan(hitCount);
+    assertThat(runtimeService.getVariable(processInstance.getId(), "result")).isEqualTo("pooled1");
+  }
+
+  @Test
+  void shouldNotLeakGlobalsBetweenEvaluations() {
+    // given
+    testRule.deploy(createProcess(
+        "execution.setVariable('leaked', typeof leakedGlobal !== 'undefined' || Object.prototype.leaked === true);"
+      + "leakedGlobal = true;"
+      + "Object.prototype.leaked = true;"));
+    runtimeService.startProcessInstanceByKey("testProcess");
+
+    // when
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testProcess");
+
+    // then
+    assertThat(runtimeService.getVariable(processInstance.getId(), "leaked")).isEqualTo(false);
+  }
+
+  protected BpmnModelInstance createProcess(String scriptText) {
+    return Bpmn.createExecutableProcess("testProcess")
+      .startEvent()
+      .scriptTask()
+        .scriptFormat(GRAALJS)
+        .scriptText(scriptText)
+      .userTask()
+      .endEvent()
+    .done();
+  }
+
+}
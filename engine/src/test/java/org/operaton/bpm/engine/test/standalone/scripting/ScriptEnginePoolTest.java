@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.engine.test.standalone.scripting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
+import javax.script.ScriptEngineManager;
+import javax.script.SimpleBindings;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.operaton.bpm.engine.impl.scripting.engine.DefaultScriptEngineResolver;
+import org.operaton.bpm.engine.impl.scripting.engine.ScriptEnginePool;
+
+class ScriptEnginePoolTest {
+
+  protected static final String SINGLE_THREADED_LANGUAGE = "single-threaded";
+  protected static final String MULTI_THREADED_LANGUAGE = "multi-threaded";
+
+  protected ScriptEnginePool scriptEnginePool;
+  protected DefaultScriptEngineResolver scriptEngineResolver;
+
+  @BeforeEach
+  void setUp() {
+    ScriptEngineManager scriptEngineManager = new ScriptEngineManager();
+    scriptEngineManager.registerEngineName(SINGLE_THREADED_LANGUAGE, createScriptEngineFactory(null));
+    scriptEngineManager.registerEngineName(MULTI_THREADED_LANGUAGE, createScriptEngineFactory("MULTITHREADED"));
+
+    scriptEnginePool = new ScriptEnginePool(1, 10);
+    scriptEngineResolver = new DefaultScriptEngineResolver(scriptEngineManager);
+    scriptEngineResolver.setScriptEnginePool(scriptEnginePool);
+  }
+
+  @Test
+  void shouldReuseReleasedEngine() {
+    // given
+    ScriptEngine scriptEngine = scriptEngineResolver.acquireScriptEngine(SINGLE_THREADED_LANGUAGE, true);
+    scriptEngineResolver.releaseScriptEngine(SINGLE_THREADED_LANGUAGE, scriptEngine);
+
+    // when
+    ScriptEngine reusedEngine = scriptEngineResolver.acquireScriptEngine(SINGLE_THREADED_LANGUAGE, true);
+
+    // then
+    assertThat(reusedEngine).isSameAs(scriptEngine);
+    assertThat(scriptEnginePool.getHitCount()).isEqualTo(1);
+    assertThat(scriptEnginePool.getMissCount()).isEqualTo(1);
+    assertThat(scriptEnginePool.getIdleEngineCount(SINGLE_THREADED_LANGUAGE)).isZero();
+  }
+
+  @Test
+  void shouldNotShareAcquiredEngine() {
+    ScriptEngine scriptEngine = scriptEngineResolver.acquireScriptEngine(SINGLE_THREADED_LANGUAGE, true);
+
+    assertThat(scriptEngineResolver.acquireScriptEngine(SINGLE_THREADED_LANGUAGE, true)).isNotSameAs(scriptEngine);
+  }
+
+  @Test
+  void shouldDiscardEnginesExceedingPoolSize() {
+    // given
+    ScriptEngine firstEngine = scriptEngineResolver.acquireScriptEngine(SINGLE_THREADED_LANGUAGE, true);
+    ScriptEngine secondEngine = scriptEngineResolver.acquireScriptEngine(SINGLE_THREADED_LANGUAGE, true);
+
+    // when
+    scriptEngineResolver.releaseScriptEngine(SINGLE_THREADED_LANGUAGE, firstEngine);
+    scriptEngineResolver.releaseScriptEngine(SINGLE_THREADED_LANGUAGE, secondEngine);
+
+    // then
+    assertThat(scriptEnginePool.getIdleEngineCount()).isEqualTo(1);
+    assertThat(scriptEnginePool.getDiscardCount()).isEqualTo(1);
+    assertThat(scriptEnginePool.isPooledEngine(firstEngine)).isTrue();
+    assertThat(scriptEnginePool.isPooledEngine(secondEngine)).isFalse();
+  }
+
+  @Test
+  void shouldShareThreadSafeEngine() {
+    // given
+    ScriptEngine scriptEngine = scriptEngineResolver.acquireScriptEngine(MULTI_THREADED_LANGUAGE, true);
+
+    // when
+    ScriptEngine sharedEngine = scriptEngineResolver.acquireScriptEngine(MULTI_THREADED_LANGUAGE, true);
+    scriptEngineResolver.releaseScriptEngine(MULTI_THREADED_LANGUAGE, scriptEngine);
+
+    // then
+    assertThat(sharedEngine).isSameAs(scriptEngine);
+    assertThat(scriptEnginePool.isPooledEngine(scriptEngine)).isFalse();
+    assertThat(scriptEnginePool.getIdleEngineCount()).isZero();
+  }
+
+  @Test
+  void shouldNotCacheCompiledScriptsOfThreadSafeEngine() {
+    // given
+    ScriptEngine scriptEngine = scriptEngineResolver.acquireScriptEngine(MULTI_THREADED_LANGUAGE, true);
+
+    // when
+    scriptEnginePool.putCompiledScript(scriptEngine, "1 + 1", mock(CompiledScript.class));
+
+    // then the compiled script is kept by the script itself
+    assertThat(scriptEnginePool.getCompiledScript(scriptEngine, "1 + 1")).isNull();
+  }
+
+  @Test
+  void shouldCacheCompiledScriptsPerEngine() {
+    // given
+    ScriptEngine scriptEngine = scriptEngineResolver.acquireScriptEngine(SINGLE_THREADED_LANGUAGE, true);
+    ScriptEngine otherEngine = scriptEngineResolver.acquireScriptEngine(SINGLE_THREADED_LANGUAGE, true);
+    CompiledScript compiledScript = mock(CompiledScript.class);
+
+    // when
+    scriptEnginePool.putCompiledScript(scriptEngine, "1 + 1", compiledScript);
+
+    // then
+    assertThat(scriptEnginePool.getCompiledScript(scriptEngine, "1 + 1")).isSameAs(compiledScript);
+    assertThat(scriptEnginePool.getCompiledScript(otherEngine, "1 + 1")).isNull();
+    assertThat(scriptEnginePool.getCompiledScriptHitCount()).isEqualTo(1);
+    assertThat(scriptEnginePool.getCompiledScriptMissCount()).isEqualTo(1);
+  }
+
+  protected ScriptEngineFactory createScriptEngineFactory(String threading) {
+    ScriptEngineFactory scriptEngineFactory = mock(ScriptEngineFactory.class);
+    when(scriptEngineFactory.getParameter("THREADING")).thenReturn(threading);
+    when(scriptEngineFactory.getScriptEngine()).thenAnswer(invocation -> {
+      ScriptEngine scriptEngine = mock(ScriptEngine.class);
+      when(scriptEngine.getFactory()).thenReturn(scriptEngineFactory);
+      when(scriptEngine.createBindings()).thenAnswer(bindingsInvocation -> new SimpleBindings());
+      return scriptEngine;
+    });
+    return scriptEngineFactory;
+  }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.impl.juel;
+
+import jakarta.el.ELContext;
+
+/**
+ * Binary arithmetic or comparison node created by the {@link TreeCompiler} for a hot expression.
+ * <p>
+ * The node remembers the operand types observed on its first evaluation. As long as the operands
+ * keep these types (<code>Long</code>/<code>Integer</code>, <code>Double</code>,
+ * <code>String</code> or <code>Boolean</code>), the operation is computed directly instead of
+ * walking through the generic coercion rules of {@link NumberOperations} and
+ * {@link BooleanOperations}. The results are the same as those of the generic operations with the
+ * default {@link TypeConverter}. As soon as the operand types change, the node permanently falls
+ * back to the generic operator of the {@link AstBinary} it replaces.
+ */
+public final class AstSpecializedBinary extends AstRightValue {
+
+	private enum Operation { ADD, SUB, MUL, EQ, NE, LT, LE, GT, GE }
+
+	private enum OperandType { UNINITIALIZED, LONG, DOUBLE, STRING, BOOLEAN, GENERIC }
+
+	private final AstBinary.SimpleOperator operator;
+	private final Operation operation;
+	private final AstNode left, right;
+
+	private volatile OperandType operandType = OperandType.UNINITIALIZED;
+
+	public AstSpecializedBinary(AstNode left, AstNode right, AstBinary.Operator operator) {
+		this.left = left;
+		this.right = right;
+		this.operation = operationOf(operator);
+		if (operation == null) {
+			throw new IllegalArgumentException("Operator cannot be specialized: " + operator);
+		}
+		this.operator = (AstBinary.SimpleOperator) operator;
+	}
+
+	/**
+	 * Answer <code>true</code> if binary nodes using the given operator can be specialized.
+	 */
+	public static boolean isSpecializable(AstBinary.Operator operator) {
+		return operationOf(operator) != null;
+	}
+
+	private static Operation operationOf(AstBinary.Operator operator) {
+		if (operator == AstBinary.ADD) {
+			return Operation.ADD;
+		} else if (operator == AstBinary.SUB) {
+			return Operation.SUB;
+		} else if (operator == AstBinary.MUL) {
+			return Operation.MUL;
+		} else if (operator == AstBinary.EQ) {
+			return Operation.EQ;
+		} else if (operator == AstBinary.NE) {
+			return Operation.NE;
+		} else if (operator == AstBinary.LT) {
+			return Operation.LT;
+		} else if (operator == AstBinary.LE) {
+			return Operation.LE;
+		} else if (operator == AstBinary.GT) {
+			return Operation.GT;
+		} else if (operator == AstBinary.GE) {
+			return Operation.GE;
+		}
+		return null;
+	}
+
+	public AstBinary.Operator getOperator() {
+		return operator;
+	}
+
+	/**
+	 * Answer <code>true</code> if the operand types changed after the first evaluation, so the
+	 * generic operator is used.
+	 */
+	public boolean isGeneric() {
+		return operandType == OperandType.GENERIC;
+	}
+
+	@Override
+	public Object eval(Bindings bindings, ELContext context) {
+		Object o1 = left.eval(bindings, context);
+		Object o2 = right.eval(bindings, context);
+
+		OperandType expected = operandType;
+		if (expected != OperandType.GENERIC) {
+			OperandType actual = operandTypeOf(o1, o2);
+			if (actual == expected) {
+				return apply(actual, o1, o2);
+			}
+			if (expected == OperandType.UNINITIALIZED && actual != OperandType.GENERIC) {
+				operandType = actual;
+				return apply(actual, o1, o2);
+			}
+			operandType = OperandType.GENERIC;
+		}
+		return operator.apply(bindings, o1, o2);
+	}
+
+	private OperandType operandTypeOf(Object o1, Object o2) {
+		if (o1 == null || o2 == null) {
+			return OperandType.GENERIC;
+		}
+		Class<?> t1 = o1.getClass();
+		Class<?> t2 = o2.getClass();
+		if ((t1 == Long.class || t1 == Integer.class) && (t2 == Long.class || t2 == Integer.class)) {
+			return OperandType.LONG;
+		}
+		if (t1 != t2) {
+			return OperandType.GENERIC;
+		}
+		if (t1 == Double.class) {
+			return OperandType.DOUBLE;
+		}
+		boolean arithmetic = operation == Operation.ADD || operation == Operation.SUB || operation == Operation.MUL;
+		if (t1 == String.class && !arithmetic) {
+			return OperandType.STRING;
+		}
+		if (t1 == Boolean.class && (operation == Operation.EQ || operation == Operation.NE)) {
+			return OperandType.BOOLEAN;
+		}
+		return OperandType.GENERIC;
+	}
+
+	private Object apply(OperandType type, Object o1, Object o2) {
+		return switch (type) {
+			case LONG -> applyLong(((Number) o1).longValue(), ((Number) o2).longValue());
+			case DOUBLE -> applyDouble((Double) o1, (Double) o2);
+			case STRING -> applyString((String) o1, (String) o2);
+			default -> operation == Operation.EQ ? o1.equals(o2) : !o1.equals(o2);
+		};
+	}
+
+	private Object applyLong(long l1, long l2) {
+		return switch (operation) {
+			case ADD -> l1 + l2;
+			case SUB -> l1 - l2;
+			case MUL -> l1 * l2;
+			case EQ -> l1 == l2;
+			case NE -> l1 != l2;
+			case LT -> l1 < l2;
+			case LE -> l1 <= l2;
+			case GT -> l1 > l2;
+			case GE -> l1 >= l2;
+		};
+	}
+
+	private Object applyDouble(Double o1, Double o2) {
+		// same semantics as BooleanOperations: equality uses Double#equals and identical
+		// operands are always greater than or equal to each other, even if they are NaN
+		double d1 = o1;
+		double d2 = o2;
+		return switch (operation) {
+			case ADD -> d1 + d2;
+			case SUB -> d1 - d2;
+			case MUL -> d1 * d2;
+			case EQ -> o1.equals(o2);
+			case NE -> !o1.equals(o2);
+			case LT -> o1 != o2 && d1 < d2;
+			case LE -> o1 == o2 || !(d1 > d2);
+			case GT -> o1 != o2 && d1 > d2;
+			case GE -> o1 == o2 || !(d1 < d2);
+		};
+	}
+
+	private Object applyString(String s1, String s2) {
+		return switch (operation) {
+			case EQ -> s1.equals(s2);
+			case NE -> !s1.equals(s2);
+			case LT -> s1.compareTo(s2) < 0;
+			case LE -> s1.compareTo(s2) <= 0;
+			case GT -> s1.compareTo(s2) > 0;
+			case GE -> s1.compareTo(s2) >= 0;
+			default -> throw new IllegalStateException("Operation not applicable to strings: " + operation);
+		};
+	}
+
+	@Override
+	public String toString() {
+		return "'" + operator.toString() + "'";
+	}
+
+	@Override
+	public void appendStructure(StringBuilder b, Bindings bindings) {
+		left.appendStructure(b, bindings);
+		b.append(' ');
+		b.append(operator);
+		b.append(' ');
+		right.appendStructure(b, bindings);
+	}
+
+	@Override
+	public int getCardinality() {
+		return 2;
+	}
+
+	@Override
+	public AstNode getChild(int i) {
+		return i == 0 ? left : i == 1 ? right : null;
+	}
+}
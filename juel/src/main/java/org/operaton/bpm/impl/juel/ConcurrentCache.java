@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.impl.juel;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe cache with approximate LRU eviction.
+ * In contrast to {@link Cache}, lookups do not acquire a lock: an entry only records the time
+ * of its last access. When the cache size exceeds the limit, the thread adding an entry evicts the
+ * least recently used tenth of the entries. Concurrent additions do not wait for the eviction, so
+ * the cache may temporarily hold more entries than the limit.
+ * <p>
+ * The cache counts hits, misses and evictions, which can be used to tune its size.
+ */
+public final class ConcurrentCache implements TreeCache {
+
+	private final int size;
+	private final int evictionTarget;
+	private final ConcurrentHashMap<String, Entry> entries;
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * Constructor.
+	 * @param size maximum cache size
+	 */
+	public ConcurrentCache(int size) {
+		if (size <= 0) {
+			throw new IllegalArgumentException("Cache size must be positive");
+		}
+		this.size = size;
+		this.evictionTarget = size - Math.max(1, size / 10);
+		this.entries = new ConcurrentHashMap<>(Math.min(size, 1024));
+	}
+
+	@Override
+	public Tree get(String expression) {
+		Entry entry = entries.get(expression);
+		if (entry == null) {
+			missCount.increment();
+			return null;
+		}
+		entry.lastAccess = System.nanoTime();
+		hitCount.increment();
+		return entry.tree;
+	}
+
+	@Override
+	public void put(String expression, Tree tree) {
+		entries.put(expression, new Entry(tree, System.nanoTime()));
+		if (entries.size() > size && evictionLock.tryLock()) {
+			try {
+				evict();
+			} finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private void evict() {
+		int excess = entries.size() - evictionTarget;
+		if (excess <= 0) {
+			return;
+		}
+		List<Map.Entry<String, Entry>> candidates = new ArrayList<>(entries.entrySet());
+		candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+		for (int i = 0; i < excess && i < candidates.size(); i++) {
+			Map.Entry<String, Entry> candidate = candidates.get(i);
+			if (entries.remove(candidate.getKey(), candidate.getValue())) {
+				evictionCount.increment();
+			}
+		}
+	}
+
+	/**
+	 * @return the number of cached trees
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return the maximum cache size
+	 */
+	public int getMaxSize() {
+		return size;
+	}
+
+	/**
+	 * @return the number of lookups that found a tree
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * @return the number of lookups that did not find a tree
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * @return the number of trees removed to stay within the maximum size
+	 */
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	private static final class Entry {
+		final Tree tree;
+		volatile long lastAccess;
+
+		Entry(Tree tree, long lastAccess) {
+			this.tree = tree;
+			this.lastAccess = lastAccess;
+		}
+	}
+}
@@ -55,6 +55,13 @@ import java.util.Properties;
  * <li>
  * <code>jakarta.el.cacheSize</code> - cache size (int, default is 1000)</li>
  * <li>
+ * <code>jakarta.el.cacheType</code> - cache implementation, <code>lru</code> for {@link Cache} or
+ * <code>concurrent</code> for {@link ConcurrentCache} (default is <code>lru</code>)</li>
+ * <li>
+ * <code>jakarta.el.compileThreshold</code> - number of evaluations after which a value expression
+ * is compiled by the {@link TreeCompiler} (int, default is <code>0</code>, which disables
+ * compilation)</li>
+ * <li>
  * <code>jakarta.el.methodInvocations</code> - allow method invocations as in
  * <code>${foo.bar(baz)}</code> (boolean, default is <code>false</code>).</li>
  * <li>
@@ -121,8 +128,29 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 	 */
 	public static final String PROP_CACHE_SIZE = "jakarta.el.cacheSize";
 
+	/**
+	 * <code>jakarta.el.cacheType</code>
+	 */
+	public static final String PROP_CACHE_TYPE = "jakarta.el.cacheType";
+
+	/**
+	 * Cache type for a {@link Cache}
+	 */
+	public static final String CACHE_TYPE_LRU = "lru";
+
+	/**
+	 * Cache type for a {@link ConcurrentCache}
+	 */
+	public static final String CACHE_TYPE_CONCURRENT = "concurrent";
+
+	/**
+	 * <code>jakarta.el.compileThreshold</code>
+	 */
+	public static final String PROP_COMPILE_THRESHOLD = "jakarta.el.compileThreshold";
+
 	private final TreeStore store;
 	private final TypeConverter converter;
+	private int compileThreshold;
 
 	/**
 	 * Create a new expression factory using the default builder and cache implementations. The
@@ -149,6 +177,7 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 		Properties properties = loadProperties("el.properties");
 		this.store = createTreeStore(1000, profile, properties);
 		this.converter = createTypeConverter(properties);
+		this.compileThreshold = getCompileThreshold(properties);
 	}
 
 	/**
@@ -179,6 +208,28 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 	public ExpressionFactoryImpl(Profile profile, Properties properties) {
 		this.store = createTreeStore(1000, profile, properties);
 		this.converter = createTypeConverter(properties);
+		this.compileThreshold = getCompileThreshold(properties);
+	}
+
+	/**
+	 * Create a new expression factory using the default builder and cache implementations. The
+	 * builder and cache are configured from the specified profile and <code>el.properties</code>
+	 * (see above), where the specified properties override the values of
+	 * <code>el.properties</code>. The maximum cache size will be 1000 unless overridden.
+	 *
+	 * @param profile
+	 *            builder profile (individual features may be overridden in properties)
+	 * @param properties
+	 *            overriding the values of <code>el.properties</code> (may be <code>null</code>)
+	 * @param loadElProperties
+	 *            whether <code>el.properties</code> are loaded; if <code>false</code>, the factory
+	 *            is configured using the specified properties only
+	 */
+	public ExpressionFactoryImpl(Profile profile, Properties properties, boolean loadElProperties) {
+		Properties merged = loadElProperties ? mergeProperties(loadProperties("el.properties"), properties) : properties;
+		this.store = createTreeStore(1000, profile, merged);
+		this.converter = createTypeConverter(merged);
+		this.compileThreshold = getCompileThreshold(merged);
 	}
 
 	/**
@@ -213,6 +264,7 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 	public ExpressionFactoryImpl(Profile profile, Properties properties, TypeConverter converter) {
 		this.store = createTreeStore(1000, profile, properties);
 		this.converter = converter;
+		this.compileThreshold = getCompileThreshold(properties);
 	}
 
 	/**
@@ -238,6 +290,32 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 		this.converter = converter;
 	}
 
+	/**
+	 * @return the tree store used to parse and cache parse trees
+	 */
+	public TreeStore getTreeStore() {
+		return store;
+	}
+
+	/**
+	 * @return the number of evaluations after which a value expression is compiled
+	 *         (<code>0</code> if compilation is disabled)
+	 */
+	public int getCompileThreshold() {
+		return compileThreshold;
+	}
+
+	/**
+	 * Set the number of evaluations after which value expressions created by this factory are
+	 * compiled by the {@link TreeCompiler}.
+	 *
+	 * @param compileThreshold
+	 *            number of evaluations (<code>0</code> or less disables compilation)
+	 */
+	public void setCompileThreshold(int compileThreshold) {
+		this.compileThreshold = compileThreshold;
+	}
+
 	private Properties loadDefaultProperties() {
 		String home = System.getProperty("java.home");
 		String path = home + File.separator + "lib" + File.separator + "el.properties";
@@ -259,6 +337,19 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 		return null;
 	}
 
+	private static Properties mergeProperties(Properties defaults, Properties overrides) {
+		Properties merged = new Properties();
+		for (String name : defaults.stringPropertyNames()) {
+			merged.setProperty(name, defaults.getProperty(name));
+		}
+		if (overrides != null) {
+			for (String name : overrides.stringPropertyNames()) {
+				merged.setProperty(name, overrides.getProperty(name));
+			}
+		}
+		return merged;
+	}
+
 	private Properties loadProperties(String path) {
 		Properties properties = new Properties(loadDefaultProperties());
 
@@ -286,6 +377,17 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 		return properties;
 	}
 
+	private int getCompileThreshold(Properties properties) {
+		if (properties == null || !properties.containsKey(PROP_COMPILE_THRESHOLD)) {
+			return 0;
+		}
+		try {
+			return Integer.parseInt(properties.getProperty(PROP_COMPILE_THRESHOLD));
+		} catch (NumberFormatException e) {
+			throw new ELException("Cannot parse EL property " + PROP_COMPILE_THRESHOLD, e);
+		}
+	}
+
 	private boolean getFeatureProperty(Profile profile, Properties properties, Builder.Feature feature, String property) {
 		return Boolean.parseBoolean(properties.getProperty(property, String.valueOf(profile.contains(feature))));
 	}
@@ -324,11 +426,26 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 				throw new ELException("Cannot parse EL property " + PROP_CACHE_SIZE, e);
 			}
 		}
-		Cache cache = cacheSize > 0 ? new Cache(cacheSize) : null;
+		TreeCache cache = cacheSize > 0 ? createTreeCache(cacheSize, properties) : null;
 
 		return new TreeStore(builder, cache);
 	}
 
+	/**
+	 * Create the tree cache. The implementation is selected by property
+	 * <code>jakarta.el.cacheType</code>.
+	 */
+	protected TreeCache createTreeCache(int cacheSize, Properties properties) {
+		String cacheType = properties == null ? null : properties.getProperty(PROP_CACHE_TYPE);
+		if (cacheType == null || CACHE_TYPE_LRU.equalsIgnoreCase(cacheType)) {
+			return new Cache(cacheSize);
+		}
+		if (CACHE_TYPE_CONCURRENT.equalsIgnoreCase(cacheType)) {
+			return new ConcurrentCache(cacheSize);
+		}
+		throw new ELException("Invalid EL property " + PROP_CACHE_TYPE + ": " + cacheType);
+	}
+
 	/**
 	 * Create the factory's type converter. This implementation takes the
 	 * <code>de.odysseus.el.misc.TypeConverter</code> property as the name of a class implementing
@@ -416,7 +533,7 @@ public class ExpressionFactoryImpl extends jakarta.el.ExpressionFactory {
 	@Override
 	public final TreeValueExpression createValueExpression(ELContext context, String expression, Class<?> expectedType) {
 		return new TreeValueExpression(store, context.getFunctionMapper(), context.getVariableMapper(), converter,
-				expression, expectedType);
+				expression, expectedType, compileThreshold);
 	}
 
 	@Override
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.impl.juel;
+
+/**
+ * Compiles the parse tree of a frequently evaluated expression into a specialized tree.
+ * <p>
+ * The compiled tree replaces arithmetic and comparison nodes by {@link AstSpecializedBinary}
+ * nodes, which evaluate operands of a stable type without the generic coercion rules. Boolean
+ * operators, choices and nested expressions are rebuilt around their compiled operands. All
+ * other nodes (identifiers, properties, method and function calls, literals, composite text) are
+ * shared with the original tree and interpreted as before.
+ * <p>
+ * Parse trees are shared by all expressions with the same expression string, whereas the
+ * specialized nodes record the operand types of a single expression. A compiled tree therefore
+ * belongs to exactly one {@link TreeValueExpression}.
+ */
+public final class TreeCompiler {
+
+	private TreeCompiler() {
+	}
+
+	/**
+	 * Compile the given root node. The result is evaluated with the bindings of the original tree.
+	 * @param root root node of a parse tree
+	 * @return the compiled root node, or <code>root</code> if nothing can be specialized
+	 */
+	public static ExpressionNode compile(ExpressionNode root) {
+		return root instanceof AstNode astNode ? compile(astNode) : root;
+	}
+
+	private static AstNode compile(AstNode node) {
+		if (node instanceof AstEval eval) {
+			AstNode child = compile(eval.getChild(0));
+			return child == eval.getChild(0) ? eval : new AstEval(child, eval.isDeferred());
+		}
+		if (node instanceof AstNested nested) {
+			// parentheses do not change the value, so the nested node can be dropped
+			return compile(nested.getChild(0));
+		}
+		if (node instanceof AstBinary binary) {
+			AstNode left = compile(binary.getChild(0));
+			AstNode right = compile(binary.getChild(1));
+			if (AstSpecializedBinary.isSpecializable(binary.getOperator())) {
+				return new AstSpecializedBinary(left, right, binary.getOperator());
+			}
+			if (left == binary.getChild(0) && right == binary.getChild(1)) {
+				return binary;
+			}
+			return new AstBinary(left, right, binary.getOperator());
+		}
+		if (node instanceof AstUnary unary) {
+			AstNode child = compile(unary.getChild(0));
+			return child == unary.getChild(0) ? unary : new AstUnary(child, unary.getOperator());
+		}
+		if (node instanceof AstChoice choice) {
+			AstNode question = compile(choice.getChild(0));
+			AstNode yes = compile(choice.getChild(1));
+			AstNode no = compile(choice.getChild(2));
+			if (question == choice.getChild(0) && yes == choice.getChild(1) && no == choice.getChild(2)) {
+				return choice;
+			}
+			return new AstChoice(question, yes, no);
+		}
+		return node;
+	}
+}
@@ -44,6 +44,13 @@ public class TreeStore {
 		return builder;
 	}
 
+	/**
+	 * @return the tree cache (may be <code>null</code>)
+	 */
+	public TreeCache getCache() {
+		return cache;
+	}
+
 	/**
 	 * Get a {@link Tree}.
 	 * If a tree for the given expression is present in the cache, it is
@@ -41,8 +41,11 @@ public final class TreeValueExpression extends jakarta.el.ValueExpression {
 	private final String expr;
 	private final Class<?> type;
 	private final boolean deferred;
+	private final int compileThreshold;
 
 	private transient ExpressionNode node;
+	private transient volatile ExpressionNode compiledNode;
+	private transient int evaluations;
 
 	private String structure;
 
@@ -55,6 +58,22 @@ public final class TreeValueExpression extends jakarta.el.ValueExpression {
 	 * @param type the expected type (may be <code>null</code>)
 	 */
 	public TreeValueExpression(TreeStore store, FunctionMapper functions, VariableMapper variables, TypeConverter converter, String expr, Class<?> type) {
+		this(store, functions, variables, converter, expr, type, 0);
+	}
+
+	/**
+	 * Create a new value expression, which is compiled by the {@link TreeCompiler} once it has been
+	 * evaluated <code>compileThreshold</code> times. Compilation is only supported for the default
+	 * type converter, since the compiled tree relies on its coercion rules.
+	 * @param store used to get the parse tree from.
+	 * @param functions the function mapper used to bind functions
+	 * @param variables the variable mapper used to bind variables
+	 * @param expr the expression string
+	 * @param type the expected type (may be <code>null</code>)
+	 * @param compileThreshold number of evaluations before the expression is compiled
+	 * (<code>0</code> or less disables compilation)
+	 */
+	public TreeValueExpression(TreeStore store, FunctionMapper functions, VariableMapper variables, TypeConverter converter, String expr, Class<?> type, int compileThreshold) {
 		super();
 
 		Tree tree = store.get(expr);
@@ -65,6 +84,7 @@ public final class TreeValueExpression extends jakarta.el.ValueExpression {
 		this.type = type;
 		this.node = tree.getRoot();
 		this.deferred = tree.isDeferred();
+		this.compileThreshold = converter == null || converter == TypeConverter.DEFAULT ? compileThreshold : 0;
 
 		if (type == null) {
 			throw new NullPointerException(LocalMessages.get("error.value.notype"));
@@ -109,7 +129,28 @@ public final class TreeValueExpression extends jakarta.el.ValueExpression {
    */
 	@Override
 	public Object getValue(ELContext context) throws ELException {
-		return node.getValue(bindings, context, type);
+		return getEvaluationNode().getValue(bindings, context, type);
+	}
+
+	private ExpressionNode getEvaluationNode() {
+		ExpressionNode compiled = compiledNode;
+		if (compiled != null) {
+			return compiled;
+		}
+		// the counter is not synchronized, concurrent evaluations may only delay the compilation
+		if (compileThreshold > 0 && ++evaluations >= compileThreshold) {
+			compiled = TreeCompiler.compile(node);
+			compiledNode = compiled;
+			return compiled;
+		}
+		return node;
+	}
+
+	/**
+	 * Answer <code>true</code> if this expression has been compiled by the {@link TreeCompiler}.
+	 */
+	public boolean isCompiled() {
+		return compiledNode != null;
 	}
 
 	/**
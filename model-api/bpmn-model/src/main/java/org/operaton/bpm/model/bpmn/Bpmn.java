@@ -253,6 +253,7 @@ import org.operaton.bpm.model.xml.ModelParseException;
 import org.operaton.bpm.model.xml.ModelValidationException;
 import org.operaton.bpm.model.xml.impl.instance.ModelElementInstanceImpl;
 import org.operaton.bpm.model.xml.impl.util.IoUtil;
+import org.w3c.dom.Document;
 
 /**
  * <p>Provides access to the operaton BPMN model api.</p>
@@ -296,6 +297,17 @@ public class Bpmn {
     return INSTANCE.doReadModelFromInputStream(stream);
   }
 
+  /**
+   * Allows creating a {@link BpmnModelInstance} for an already parsed DOM {@link Document}.
+   * The document is not validated, use {@link #validateModel(BpmnModelInstance)} if required.
+   *
+   * @param document the DOM document of the model
+   * @return the model for the document
+   */
+  public static BpmnModelInstance readModelFromDocument(Document document) {
+    return INSTANCE.doReadModelFromDocument(document);
+  }
+
   /**
    * Allows writing a {@link BpmnModelInstance} to a File. It will be
    * validated before writing.
@@ -411,6 +423,10 @@ public class Bpmn {
     return bpmnParser.parseModelFromStream(is);
   }
 
+  protected BpmnModelInstance doReadModelFromDocument(Document document) {
+    return bpmnParser.parseModelFromDocument(document);
+  }
+
   protected void doWriteModelToFile(File file, BpmnModelInstance modelInstance) {
     try (OutputStream os = new FileOutputStream(file)) {
       doWriteModelToOutputStream(os, modelInstance);
@@ -16,7 +16,14 @@
  */
 package org.operaton.bpm.model.bpmn;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
 import org.junit.jupiter.api.Test;
+import org.operaton.bpm.model.bpmn.instance.StartEvent;
+import org.w3c.dom.Document;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -29,4 +36,21 @@ class BpmnTest {
   void testBpmn() {
     assertThat(Bpmn.INSTANCE).isNotNull();
   }
+
+  @Test
+  void shouldReadModelFromDocument() throws Exception {
+    // given
+    String xml = Bpmn.convertToString(Bpmn.createExecutableProcess("process").startEvent("start").endEvent().done());
+    DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+    documentBuilderFactory.setNamespaceAware(true);
+    Document document = documentBuilderFactory.newDocumentBuilder()
+        .parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+
+    // when
+    BpmnModelInstance modelInstance = Bpmn.readModelFromDocument(document);
+
+    // then
+    assertThat(modelInstance.getDocument().getDomSource().getNode()).isSameAs(document);
+    assertThat(modelInstance.<StartEvent>getModelElementById("start")).isNotNull();
+  }
 }
@@ -30,10 +30,12 @@ import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
 import org.operaton.bpm.model.xml.ModelInstance;
 import org.operaton.bpm.model.xml.ModelValidationException;
+import org.operaton.bpm.model.xml.impl.instance.DomDocumentImpl;
 import org.operaton.bpm.model.xml.impl.util.DomUtil;
 import org.operaton.bpm.model.xml.impl.util.ReflectUtil;
 import org.operaton.bpm.model.xml.instance.DomDocument;
 import org.operaton.bpm.model.xml.instance.DomElement;
+import org.w3c.dom.Document;
 import org.xml.sax.SAXException;
 
 /**
@@ -136,6 +138,17 @@ public abstract class AbstractModelParser {
 
   }
 
+  /**
+   * Creates a model instance for a DOM document which has already been built, e.g. from the
+   * events of a SAX parser which also feeds another consumer of the same XML. In contrast to
+   * {@link #parseModelFromStream(InputStream)}, the document is not validated.
+   *
+   * @param document the DOM document of the model
+   */
+  public ModelInstance parseModelFromDocument(Document document) {
+    return createModelInstance(new DomDocumentImpl(document));
+  }
+
   public ModelInstance getEmptyModel() {
     DomDocument document = null;
 
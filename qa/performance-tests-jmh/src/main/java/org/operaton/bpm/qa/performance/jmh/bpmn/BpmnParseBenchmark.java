@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.qa.performance.jmh.bpmn;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.impl.bpmn.deployer.BpmnDeployer;
+import org.operaton.bpm.engine.impl.bpmn.parser.BpmnParse;
+import org.operaton.bpm.engine.impl.bpmn.parser.BpmnParser;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.interceptor.CommandExecutor;
+import org.operaton.bpm.engine.impl.persistence.entity.DeploymentEntity;
+import org.operaton.bpm.model.bpmn.Bpmn;
+import org.operaton.bpm.model.bpmn.BpmnModelInstance;
+import org.operaton.bpm.model.bpmn.builder.AbstractFlowNodeBuilder;
+import org.operaton.bpm.qa.performance.jmh.engine.InMemoryProcessEngine;
+
+/**
+ * Measures the parsing of a BPMN 2.0 XML document into process definitions, as done for
+ * every deployment and every time a definition is loaded into the deployment cache.
+ * The process is a sequence of service tasks of configurable length.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BpmnParseBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class ParseState {
+
+    @Param({"10", "100"})
+    public int numberOfTasks;
+
+    @Param({"true", "false"})
+    public boolean validateSchema;
+
+    public ProcessEngine processEngine;
+    public CommandExecutor commandExecutor;
+    public BpmnParser bpmnParser;
+    public DeploymentEntity deployment;
+    public byte[] bpmnXml;
+
+    @Setup
+    public void setUp() {
+      processEngine = InMemoryProcessEngine.build("bpmn-parse-benchmark");
+      ProcessEngineConfigurationImpl configuration = InMemoryProcessEngine.getConfiguration(processEngine);
+      commandExecutor = configuration.getCommandExecutorTxRequired();
+      bpmnParser = configuration.getDeployers().stream()
+          .filter(BpmnDeployer.class::isInstance)
+          .map(deployer -> ((BpmnDeployer) deployer).getBpmnParser())
+          .findFirst()
+          .orElseThrow();
+
+      deployment = new DeploymentEntity();
+      deployment.setId("benchmark-deployment");
+      deployment.setValidatingSchema(validateSchema);
+
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      Bpmn.writeModelToStream(outputStream, createProcess(numberOfTasks));
+      bpmnXml = outputStream.toByteArray();
+    }
+
+    @TearDown
+    public void tearDown() {
+      processEngine.close();
+    }
+  }
+
+  @Benchmark
+  public BpmnParse parse(ParseState state) {
+    // the parse listeners of the engine expect a command context
+    return state.commandExecutor.execute(commandContext -> {
+      BpmnParse bpmnParse = state.bpmnParser.createParse()
+          .sourceInputStream(new ByteArrayInputStream(state.bpmnXml))
+          .deployment(state.deployment)
+          .name("process.bpmn");
+
+      if (!state.validateSchema) {
+        bpmnParse.setSchemaResource(null);
+      }
+
+      return bpmnParse.execute();
+    });
+  }
+
+  protected static BpmnModelInstance createProcess(int numberOfTasks) {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess("process").startEvent();
+    for (int i = 0; i < numberOfTasks; i++) {
+      builder = builder.serviceTask("task" + i).operatonExpression("${true}");
+    }
+    return builder.endEvent().done();
+  }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.qa.performance.jmh.cache;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.operaton.commons.utils.cache.Cache;
+import org.operaton.commons.utils.cache.ConcurrentLruCache;
+import org.operaton.commons.utils.cache.ConcurrentSegmentedCache;
+
+/**
+ * Compares the deployment cache implementations under a skewed read load, similar to
+ * process definition lookups where few definitions are used much more often than others.
+ * Misses are filled with a put, like the deployment cache does after loading a definition.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class CacheBenchmark {
+
+  protected static final int NUMBER_OF_KEYS = 1 << 14;
+
+  @State(Scope.Benchmark)
+  public static class CacheState {
+
+    @Param({"lru", "segmented"})
+    public String cacheType;
+
+    @Param({"1000"})
+    public int capacity;
+
+    public Cache<String, Object> cache;
+    public String[] keys;
+
+    @Setup
+    public void setUp() {
+      if ("segmented".equals(cacheType)) {
+        cache = new ConcurrentSegmentedCache<>(capacity);
+      } else {
+        cache = new ConcurrentLruCache<>(capacity);
+      }
+
+      keys = new String[NUMBER_OF_KEYS];
+      for (int i = 0; i < NUMBER_OF_KEYS; i++) {
+        keys[i] = "processDefinition:" + i;
+        if (i < capacity) {
+          cache.put(keys[i], new Object());
+        }
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class AccessPattern {
+
+    protected static final int PATTERN_LENGTH = 1 << 16;
+
+    public int[] indexes;
+    public int position;
+
+    @Setup
+    public void setUp() {
+      ZipfDistribution distribution = new ZipfDistribution(NUMBER_OF_KEYS, 1.0);
+      Random random = new Random(Thread.currentThread().getId());
+      indexes = new int[PATTERN_LENGTH];
+      for (int i = 0; i < PATTERN_LENGTH; i++) {
+        indexes[i] = distribution.sample(random);
+      }
+    }
+
+    public int next() {
+      position = (position + 1) & (PATTERN_LENGTH - 1);
+      return indexes[position];
+    }
+  }
+
+  @Benchmark
+  public Object skewedReads(CacheState state, AccessPattern pattern) {
+    String key = state.keys[pattern.next()];
+    Object value = state.cache.get(key);
+    if (value == null) {
+      value = new Object();
+      state.cache.put(key, value);
+    }
+    return value;
+  }
+
+  /**
+   * Samples ranks from a Zipf distribution using the precomputed cumulative distribution.
+   */
+  protected static class ZipfDistribution {
+
+    protected final double[] cumulativeProbabilities;
+
+    public ZipfDistribution(int numberOfElements, double exponent) {
+      cumulativeProbabilities = new double[numberOfElements];
+      double sum = 0;
+      for (int i = 0; i < numberOfElements; i++) {
+        sum += 1.0 / Math.pow(i + 1, exponent);
+        cumulativeProbabilities[i] = sum;
+      }
+      for (int i = 0; i < numberOfElements; i++) {
+        cumulativeProbabilities[i] /= sum;
+      }
+    }
+
+    public int sample(Random random) {
+      int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+      return index >= 0 ? index : Math.min(-index - 1, cumulativeProbabilities.length - 1);
+    }
+  }
+
+}
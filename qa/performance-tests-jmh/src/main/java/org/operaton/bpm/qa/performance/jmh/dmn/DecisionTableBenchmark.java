@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.qa.performance.jmh.dmn;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.operaton.bpm.dmn.engine.DmnDecision;
+import org.operaton.bpm.dmn.engine.DmnDecisionTableResult;
+import org.operaton.bpm.dmn.engine.DmnEngine;
+import org.operaton.bpm.dmn.engine.DmnEngineConfiguration;
+
+/**
+ * Measures the evaluation of a decision table with a configurable number of rules. Every
+ * rule matches a single category and a minimum amount, so the table is evaluated like a
+ * typical lookup table with the FIRST hit policy.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecisionTableBenchmark {
+
+  protected static final String DECISION_KEY = "decision";
+  protected static final int NUMBER_OF_VARIABLE_SETS = 1024;
+
+  @State(Scope.Benchmark)
+  public static class DecisionState {
+
+    @Param({"10", "100"})
+    public int numberOfRules;
+
+    public DmnEngine dmnEngine;
+    public DmnDecision decision;
+
+    @Setup
+    public void setUp() {
+      dmnEngine = DmnEngineConfiguration.createDefaultDmnEngineConfiguration().buildEngine();
+      byte[] dmnXml = createDecisionTable(numberOfRules).getBytes(StandardCharsets.UTF_8);
+      decision = dmnEngine.parseDecision(DECISION_KEY, new ByteArrayInputStream(dmnXml));
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Variables {
+
+    public Map<String, Object>[] variableSets;
+    public int position;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp(DecisionState decisionState) {
+      Random random = new Random(Thread.currentThread().getId());
+      variableSets = new Map[NUMBER_OF_VARIABLE_SETS];
+      for (int i = 0; i < NUMBER_OF_VARIABLE_SETS; i++) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("category", "category" + random.nextInt(decisionState.numberOfRules));
+        variables.put("amount", random.nextInt(1000));
+        variableSets[i] = variables;
+      }
+    }
+
+    public Map<String, Object> next() {
+      position = (position + 1) & (NUMBER_OF_VARIABLE_SETS - 1);
+      return variableSets[position];
+    }
+  }
+
+  @Benchmark
+  public DmnDecisionTableResult evaluateDecisionTable(DecisionState state, Variables variables) {
+    return state.dmnEngine.evaluateDecisionTable(state.decision, variables.next());
+  }
+
+  protected static String createDecisionTable(int numberOfRules) {
+    StringBuilder dmn = new StringBuilder()
+      .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+      .append("<definitions xmlns=\"http://www.omg.org/spec/DMN/20151101/dmn.xsd\" id=\"definitions\" name=\"benchmark\"")
+      .append(" namespace=\"http://operaton.org/schema/1.0/dmn\">\n")
+      .append("  <decision id=\"").append(DECISION_KEY).append("\" name=\"Benchmark\">\n")
+      .append("    <decisionTable id=\"decisionTable\" hitPolicy=\"FIRST\">\n")
+      .append("      <input id=\"categoryInput\">\n")
+      .append("        <inputExpression typeRef=\"string\"><text>category</text></inputExpression>\n")
+      .append("      </input>\n")
+      .append("      <input id=\"amountInput\">\n")
+      .append("        <inputExpression typeRef=\"integer\"><text>amount</text></inputExpression>\n")
+      .append("      </input>\n")
+      .append("      <output id=\"result\" name=\"result\" typeRef=\"string\" />\n");
+
+    for (int i = 0; i < numberOfRules; i++) {
+      dmn.append("      <rule id=\"rule").append(i).append("\">\n")
+        .append("        <inputEntry id=\"categoryEntry").append(i).append("\"><text>\"category").append(i).append("\"</text></inputEntry>\n")
+        .append("        <inputEntry id=\"amountEntry").append(i).append("\"><text>&gt;= ").append(i).append("</text></inputEntry>\n")
+        .append("        <outputEntry id=\"resultEntry").append(i).append("\"><text>\"result").append(i).append("\"</text></outputEntry>\n")
+        .append("      </rule>\n");
+    }
+
+    return dmn.append("    </decisionTable>\n")
+      .append("  </decision>\n")
+      .append("</definitions>\n")
+      .toString();
+  }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.qa.performance.jmh.el;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.el.ExpressionFactory;
+import jakarta.el.ValueExpression;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.operaton.bpm.impl.juel.ExpressionFactoryImpl;
+import org.operaton.bpm.impl.juel.SimpleContext;
+
+/**
+ * Measures the evaluation of a typical gateway condition by the JUEL implementation,
+ * both for an already parsed expression and for an expression that is created from its
+ * text on every evaluation, like the engine does for expressions that are not cached.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExpressionBenchmark {
+
+  protected static final String CONDITION = "${order.amount > 100 && order.customer.vip && !empty order.items}";
+
+  @State(Scope.Thread)
+  public static class ExpressionState {
+
+    public ExpressionFactory expressionFactory;
+    public SimpleContext context;
+    public ValueExpression parsedCondition;
+
+    @Setup
+    public void setUp() {
+      expressionFactory = new ExpressionFactoryImpl();
+      context = new SimpleContext();
+      Order order = new Order(250, new Customer(true), List.of("item-1", "item-2"));
+      context.setVariable("order", expressionFactory.createValueExpression(order, Order.class));
+      parsedCondition = expressionFactory.createValueExpression(context, CONDITION, Boolean.class);
+    }
+  }
+
+  @Benchmark
+  public Object evaluateParsedExpression(ExpressionState state) {
+    return state.parsedCondition.getValue(state.context);
+  }
+
+  @Benchmark
+  public Object createAndEvaluateExpression(ExpressionState state) {
+    ValueExpression expression = state.expressionFactory.createValueExpression(state.context, CONDITION, Boolean.class);
+    return expression.getValue(state.context);
+  }
+
+  public static class Order {
+
+    protected final int amount;
+    protected final Customer customer;
+    protected final List<String> items;
+
+    public Order(int amount, Customer customer, List<String> items) {
+      this.amount = amount;
+      this.customer = customer;
+      this.items = items;
+    }
+
+    public int getAmount() {
+      return amount;
+    }
+
+    public Customer getCustomer() {
+      return customer;
+    }
+
+    public List<String> getItems() {
+      return items;
+    }
+  }
+
+  public static class Customer {
+
+    protected final boolean vip;
+
+    public Customer(boolean vip) {
+      this.vip = vip;
+    }
+
+    public boolean isVip() {
+      return vip;
+    }
+  }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.qa.performance.jmh.engine;
+
+import java.util.function.Consumer;
+
+import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.ProcessEngineConfiguration;
+import org.operaton.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.operaton.bpm.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+
+/**
+ * Builds process engines on top of a private in-memory H2 database for benchmarks which
+ * need an engine context. The job executor and the metrics reporter are disabled, so that
+ * no background threads interfere with the measurement.
+ */
+public final class InMemoryProcessEngine {
+
+  private InMemoryProcessEngine() {
+  }
+
+  public static ProcessEngine build(String name) {
+    return build(name, configuration -> { });
+  }
+
+  public static ProcessEngine build(String name, Consumer<ProcessEngineConfigurationImpl> configurator) {
+    ProcessEngineConfigurationImpl configuration = new StandaloneInMemProcessEngineConfiguration();
+    configuration.setProcessEngineName(name);
+    configuration.setJdbcUrl("jdbc:h2:mem:" + name);
+    configuration.setHistory(ProcessEngineConfiguration.HISTORY_NONE);
+    configuration.setJobExecutorActivate(false);
+    configuration.setDbMetricsReporterActivate(false);
+
+    configurator.accept(configuration);
+
+    return configuration.buildProcessEngine();
+  }
+
+  public static ProcessEngineConfigurationImpl getConfiguration(ProcessEngine processEngine) {
+    return (ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration();
+  }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.qa.performance.jmh.idgenerator;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.impl.cfg.IdGenerator;
+import org.operaton.bpm.qa.performance.jmh.engine.InMemoryProcessEngine;
+
+/**
+ * Measures how many ids the database id generator hands out when many threads create
+ * entities at the same time. A small id block size makes the block refills, which hit
+ * the database, part of the measurement.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class IdGeneratorBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class IdGeneratorState {
+
+    @Param({"default", "prefetching"})
+    public String generatorType;
+
+    @Param({"100"})
+    public int idBlockSize;
+
+    public ProcessEngine processEngine;
+    public IdGenerator idGenerator;
+
+    @Setup
+    public void setUp() {
+      processEngine = InMemoryProcessEngine.build("id-generator-benchmark", configuration -> configuration
+          .setIdBlockPrefetchEnabled("prefetching".equals(generatorType))
+          .setIdBlockSize(idBlockSize));
+      idGenerator = InMemoryProcessEngine.getConfiguration(processEngine).getIdGenerator();
+    }
+
+    @TearDown
+    public void tearDown() {
+      processEngine.close();
+    }
+  }
+
+  @Benchmark
+  public String nextId(IdGeneratorState state) {
+    return state.idGenerator.getNextId();
+  }
+
+}
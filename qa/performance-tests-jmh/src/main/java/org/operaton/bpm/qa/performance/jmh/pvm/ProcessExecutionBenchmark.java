@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.qa.performance.jmh.pvm;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.RuntimeService;
+import org.operaton.bpm.engine.TaskService;
+import org.operaton.bpm.engine.runtime.ProcessInstance;
+import org.operaton.bpm.engine.task.Task;
+import org.operaton.bpm.model.bpmn.Bpmn;
+import org.operaton.bpm.model.bpmn.BpmnModelInstance;
+import org.operaton.bpm.model.bpmn.builder.AbstractFlowNodeBuilder;
+import org.operaton.bpm.qa.performance.jmh.engine.InMemoryProcessEngine;
+
+/**
+ * Measures the execution of the atomic operations of the process virtual machine for
+ * whole commands against an in-memory database: starting a process instance which runs
+ * through a sequence of service tasks, and completing a user task.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessExecutionBenchmark {
+
+  protected static final String SERVICE_TASK_PROCESS = "serviceTaskProcess";
+  protected static final String USER_TASK_PROCESS = "userTaskProcess";
+
+  @State(Scope.Benchmark)
+  public static class EngineState {
+
+    @Param({"1", "10"})
+    public int numberOfTasks;
+
+    @Param({"none", "full"})
+    public String history;
+
+    public ProcessEngine processEngine;
+    public RuntimeService runtimeService;
+    public TaskService taskService;
+
+    @Setup
+    public void setUp() {
+      processEngine = InMemoryProcessEngine.build("process-execution-benchmark",
+          configuration -> configuration.setHistory(history));
+      runtimeService = processEngine.getRuntimeService();
+      taskService = processEngine.getTaskService();
+
+      processEngine.getRepositoryService().createDeployment()
+          .addModelInstance("serviceTaskProcess.bpmn", createServiceTaskProcess(numberOfTasks))
+          .addModelInstance("userTaskProcess.bpmn", createUserTaskProcess())
+          .deploy();
+    }
+
+    @TearDown
+    public void tearDown() {
+      processEngine.close();
+    }
+  }
+
+  @Benchmark
+  public ProcessInstance startProcessInstance(EngineState state) {
+    return state.runtimeService.startProcessInstanceByKey(SERVICE_TASK_PROCESS);
+  }
+
+  @Benchmark
+  public String completeUserTask(EngineState state) {
+    String processInstanceId = state.runtimeService.startProcessInstanceByKey(USER_TASK_PROCESS).getId();
+    Task task = state.taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+    state.taskService.complete(task.getId());
+    return task.getId();
+  }
+
+  protected static BpmnModelInstance createServiceTaskProcess(int numberOfTasks) {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess(SERVICE_TASK_PROCESS).startEvent();
+    for (int i = 0; i < numberOfTasks; i++) {
+      builder = builder.serviceTask("task" + i).operatonExpression("${execution.setVariable('counter', " + i + ")}");
+    }
+    return builder.endEvent().done();
+  }
+
+  protected static BpmnModelInstance createUserTaskProcess() {
+    return Bpmn.createExecutableProcess(USER_TASK_PROCESS)
+        .startEvent()
+        .userTask("userTask")
+        .endEvent()
+        .done();
+  }
+
+}
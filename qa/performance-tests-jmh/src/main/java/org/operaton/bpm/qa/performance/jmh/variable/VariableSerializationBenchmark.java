@@ -0,0 +1,211 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.bpm.qa.performance.jmh.variable;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.operaton.bpm.engine.ProcessEngine;
+import org.operaton.bpm.engine.impl.context.Context;
+import org.operaton.bpm.engine.impl.variable.serializer.TypedValueSerializer;
+import org.operaton.bpm.engine.impl.variable.serializer.ValueFields;
+import org.operaton.bpm.engine.impl.variable.serializer.VariableSerializers;
+import org.operaton.bpm.engine.variable.Variables;
+import org.operaton.bpm.engine.variable.value.TypedValue;
+import org.operaton.bpm.qa.performance.jmh.engine.InMemoryProcessEngine;
+
+/**
+ * Measures how a variable value is written to and read from the fields of a variable
+ * instance by the serializers of the engine, including the lookup of the serializer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VariableSerializationBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class SerializerState {
+
+    @Param({"string", "long", "date", "javaObject"})
+    public String valueType;
+
+    public ProcessEngine processEngine;
+    public VariableSerializers serializers;
+    public TypedValue value;
+
+    @Setup
+    public void setUp() {
+      processEngine = InMemoryProcessEngine.build("variable-serialization-benchmark");
+      serializers = InMemoryProcessEngine.getConfiguration(processEngine).getVariableSerializers();
+      value = createValue(valueType);
+    }
+
+    @TearDown
+    public void tearDown() {
+      processEngine.close();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Fields {
+
+    public InMemoryValueFields valueFields = new InMemoryValueFields();
+
+    @Setup
+    public void setUp(SerializerState serializerState) {
+      // the serializer lookup reads the default serialization format from the context
+      Context.setProcessEngineConfiguration(InMemoryProcessEngine.getConfiguration(serializerState.processEngine));
+    }
+
+    @TearDown
+    public void tearDown() {
+      Context.removeProcessEngineConfiguration();
+    }
+  }
+
+  @Benchmark
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  public void writeValue(SerializerState state, Fields fields) {
+    TypedValueSerializer serializer = state.serializers.findSerializerForValue(state.value);
+    serializer.writeValue(state.value, fields.valueFields);
+  }
+
+  @Benchmark
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  public TypedValue writeAndReadValue(SerializerState state, Fields fields) {
+    TypedValueSerializer serializer = state.serializers.findSerializerForValue(state.value);
+    serializer.writeValue(state.value, fields.valueFields);
+    return serializer.readValue(fields.valueFields, true, false);
+  }
+
+  protected static TypedValue createValue(String valueType) {
+    switch (valueType) {
+      case "string":
+        return Variables.stringValue("a string value of moderate length");
+      case "long":
+        return Variables.longValue(4711L);
+      case "date":
+        return Variables.dateValue(new Date(0));
+      case "javaObject":
+        return Variables.objectValue(new Order("order-1", 3))
+            .serializationDataFormat(Variables.SerializationDataFormats.JAVA)
+            .create();
+      default:
+        throw new IllegalArgumentException("Unknown value type " + valueType);
+    }
+  }
+
+  public static class Order implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final String id;
+    protected final List<String> items = new ArrayList<>();
+
+    public Order(String id, int numberOfItems) {
+      this.id = id;
+      for (int i = 0; i < numberOfItems; i++) {
+        items.add(id + "-item-" + i);
+      }
+    }
+  }
+
+  /**
+   * Keeps the value fields in memory instead of a variable instance entity, so that no
+   * byte array entities are created.
+   */
+  public static class InMemoryValueFields implements ValueFields {
+
+    protected String textValue;
+    protected String textValue2;
+    protected Long longValue;
+    protected Double doubleValue;
+    protected byte[] byteArrayValue;
+
+    @Override
+    public String getName() {
+      return "variable";
+    }
+
+    @Override
+    public String getTextValue() {
+      return textValue;
+    }
+
+    @Override
+    public void setTextValue(String textValue) {
+      this.textValue = textValue;
+    }
+
+    @Override
+    public String getTextValue2() {
+      return textValue2;
+    }
+
+    @Override
+    public void setTextValue2(String textValue2) {
+      this.textValue2 = textValue2;
+    }
+
+    @Override
+    public Long getLongValue() {
+      return longValue;
+    }
+
+    @Override
+    public void setLongValue(Long longValue) {
+      this.longValue = longValue;
+    }
+
+    @Override
+    public Double getDoubleValue() {
+      return doubleValue;
+    }
+
+    @Override
+    public void setDoubleValue(Double doubleValue) {
+      this.doubleValue = doubleValue;
+    }
+
+    @Override
+    public byte[] getByteArrayValue() {
+      return byteArrayValue;
+    }
+
+    @Override
+    public void setByteArrayValue(byte[] bytes) {
+      this.byteArrayValue = bytes;
+    }
+  }
+
+}
@@ -49,6 +49,15 @@ public class ManagedJobExecutor extends JobExecutor {
     }
   }
 
+  @Override
+  protected void startAdditionalJobAcquisition(Runnable acquisitionRunnable, String name) {
+    try {
+      this.taskExecutor.execute(acquisitionRunnable);
+    } catch (Exception e) {
+      throw new ProcessEngineException("Could not schedule AcquireJobsRunnable for execution.", e);
+    }
+  }
+
   @Override
   protected void stopExecutingJobs() {
     // nothing to do, the AcquireJobsRunnable instance will
@@ -496,7 +496,7 @@ public class JacksonJsonNode extends SpinJsonNode {
   public SpinJsonPathQuery jsonPath(String expression) {
     ensureNotNull("expression", expression);
     try {
-      JsonPath query = JsonPath.compile(expression);
+      JsonPath query = dataFormat.compileJsonPath(expression);
       return new JacksonJsonPathQuery(this, query, dataFormat);
     } catch(InvalidPathException pex) {
       throw LOG.unableToCompileJsonPathExpression(expression, pex);
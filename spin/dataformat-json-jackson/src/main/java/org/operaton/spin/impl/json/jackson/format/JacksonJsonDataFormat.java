@@ -25,6 +25,7 @@ import java.util.Map;
 import com.jayway.jsonpath.spi.json.JacksonJsonProvider;
 import com.jayway.jsonpath.spi.json.JsonProvider;
 import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
+import org.operaton.commons.utils.cache.ConcurrentSegmentedCache;
 import org.operaton.spin.DataFormats;
 import org.operaton.spin.impl.json.jackson.JacksonJsonLogger;
 import org.operaton.spin.impl.json.jackson.JacksonJsonNode;
@@ -41,6 +42,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.Configuration.ConfigurationBuilder;
+import com.jayway.jsonpath.JsonPath;
 
 /**
  * Spin data format that can wrap Json content and uses
@@ -58,12 +60,17 @@ public class JacksonJsonDataFormat implements DataFormat<SpinJsonNode> {
 
   private static final JacksonJsonLogger LOG = JacksonJsonLogger.JSON_TREE_LOGGER;
 
+  public static final int DEFAULT_JSON_PATH_CACHE_CAPACITY = 1000;
+
   /** The Jackson Object Mapper used by this dataformat */
   protected ObjectMapper objectMapper;
 
   /** The JsonPath configuration */
   protected Configuration jsonPathConfiguration;
 
+  /** The compiled JsonPath expressions, which are immutable and thread-safe */
+  protected ConcurrentSegmentedCache<String, JsonPath> jsonPathCache;
+
   protected List<TypeDetector> typeDetectors;
 
   protected JacksonJsonDataFormatReader dataFormatReader;
@@ -100,6 +107,7 @@ public class JacksonJsonDataFormat implements DataFormat<SpinJsonNode> {
     initWriter();
     initMapper();
     initTypeDetectors();
+    initJsonPathCache();
   }
 
   protected void initMapper() {
@@ -115,6 +123,10 @@ public class JacksonJsonDataFormat implements DataFormat<SpinJsonNode> {
   }
 
 
+  protected void initJsonPathCache() {
+    this.jsonPathCache = new ConcurrentSegmentedCache<>(DEFAULT_JSON_PATH_CACHE_CAPACITY);
+  }
+
   protected void initTypeDetectors() {
     typeDetectors = new ArrayList<>();
     typeDetectors.add(new ListJacksonJsonTypeDetector());
@@ -207,6 +219,30 @@ public class JacksonJsonDataFormat implements DataFormat<SpinJsonNode> {
     this.jsonPathConfiguration = jsonPathConfiguration;
   }
 
+  /**
+   * Returns the compiled JsonPath of the expression. Since the same expressions are
+   * usually evaluated many times, the compiled paths are cached.
+   *
+   * @param expression the JsonPath expression
+   * @return the compiled JsonPath
+   * @throws com.jayway.jsonpath.InvalidPathException if the expression is not a valid JsonPath
+   */
+  public JsonPath compileJsonPath(String expression) {
+    JsonPath jsonPath = jsonPathCache.get(expression);
+    if (jsonPath == null) {
+      jsonPath = JsonPath.compile(expression);
+      jsonPathCache.put(expression, jsonPath);
+    }
+    return jsonPath;
+  }
+
+  /**
+   * @return the cache of compiled JsonPath expressions, which also provides the hit and miss counts
+   */
+  public ConcurrentSegmentedCache<String, JsonPath> getJsonPathCache() {
+    return jsonPathCache;
+  }
+
   /**
    * Returns the configured Jackson {@link ObjectMapper} instance.
    * @return the configured object mapper.
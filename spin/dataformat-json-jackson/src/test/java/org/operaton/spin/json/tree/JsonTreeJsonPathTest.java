@@ -18,11 +18,14 @@ package org.operaton.spin.json.tree;
 
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.operaton.spin.DataFormats;
 import org.operaton.spin.SpinList;
+import org.operaton.spin.impl.json.jackson.format.JacksonJsonDataFormat;
 import org.operaton.spin.json.SpinJsonDataFormatException;
 import org.operaton.spin.json.SpinJsonNode;
 import org.operaton.spin.json.SpinJsonPathException;
 import static org.operaton.spin.Spin.JSON;
+import static org.operaton.spin.Spin.S;
 import static org.operaton.spin.json.JsonTestConstants.EXAMPLE_JSON;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -174,4 +177,18 @@ class JsonTreeJsonPathTest {
     SpinJsonPathQuery pathQuery = json.jsonPath("$.c?(@.id)");
     assertThrows(SpinJsonPathException.class, pathQuery::element);
   }
+
+  @Test
+  void shouldReuseCompiledJsonPath() {
+    JacksonJsonDataFormat dataFormat = new JacksonJsonDataFormat(DataFormats.JSON_DATAFORMAT_NAME);
+    SpinJsonNode json = S(EXAMPLE_JSON, dataFormat);
+
+    assertThat(json.jsonPath("$.order").stringValue()).isEqualTo("order1");
+    assertThat(json.jsonPath("$.order").stringValue()).isEqualTo("order1");
+    assertThat(json.jsonPath("$.id").numberValue()).isNotNull();
+
+    assertThat(dataFormat.getJsonPathCache().size()).isEqualTo(2);
+    assertThat(dataFormat.getJsonPathCache().getHitCount()).isEqualTo(1);
+    assertThat(dataFormat.getJsonPathCache().getMissCount()).isEqualTo(2);
+  }
 }
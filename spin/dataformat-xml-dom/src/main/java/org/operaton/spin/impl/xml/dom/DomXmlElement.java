@@ -28,8 +28,6 @@ import java.util.Collection;
 import java.util.List;
 
 import javax.xml.transform.Transformer;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathFactory;
 
 import org.operaton.spin.SpinList;
 import org.operaton.spin.impl.SpinListImpl;
@@ -56,8 +54,6 @@ public class DomXmlElement extends SpinXmlElement {
 
   protected static Transformer cachedTransformer = null;
 
-  protected static XPathFactory cachedXPathFactory;
-
   protected final Element domElement;
   protected final DomXmlDataFormat dataFormat;
 
@@ -389,8 +385,7 @@ public class DomXmlElement extends SpinXmlElement {
 
   @Override
   public SpinXPathQuery xPath(String expression) {
-    XPath query = getXPathFactory().newXPath();
-    return new DomXPathQuery(this, query, expression, dataFormat);
+    return new DomXPathQuery(this, expression, dataFormat);
   }
 
   /**
@@ -422,18 +417,6 @@ public class DomXmlElement extends SpinXmlElement {
     dataFormat.getWriter().writeToWriter(writer, this.domElement);
   }
 
-  /**
-   * Returns a XPath Factory
-   *
-   * @return the XPath factory
-   */
-  protected XPathFactory getXPathFactory() {
-    if (cachedXPathFactory == null) {
-      cachedXPathFactory = XPathFactory.newInstance();
-    }
-    return cachedXPathFactory;
-  }
-
   @Override
   public <C> C mapTo(Class<C> javaClass) {
     DataFormatMapper mapper = dataFormat.getMapper();
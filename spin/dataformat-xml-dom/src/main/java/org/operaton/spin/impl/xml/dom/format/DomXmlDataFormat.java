@@ -28,6 +28,7 @@ import org.operaton.spin.impl.xml.dom.DomXmlElement;
 import org.operaton.spin.impl.xml.dom.DomXmlLogger;
 import org.operaton.spin.impl.xml.dom.format.spi.DefaultJaxBContextProvider;
 import org.operaton.spin.impl.xml.dom.format.spi.JaxBContextProvider;
+import org.operaton.spin.impl.xml.dom.query.DomXPathExpressionCache;
 import org.operaton.spin.spi.DataFormat;
 import org.operaton.spin.xml.SpinXmlAttribute;
 import org.operaton.spin.xml.SpinXmlElement;
@@ -71,6 +72,11 @@ public class DomXmlDataFormat implements DataFormat<SpinXmlElement> {
   protected DomXmlDataFormatWriter writer;
   protected DomXmlDataFormatMapper mapper;
 
+  /**
+   * the compiled XPath expressions of all elements of this data format
+   */
+  protected DomXPathExpressionCache xPathExpressionCache;
+
   protected final String name;
 
   protected boolean prettyPrint;
@@ -120,6 +126,7 @@ public class DomXmlDataFormat implements DataFormat<SpinXmlElement> {
     this.reader = new DomXmlDataFormatReader(this);
     this.writer = new DomXmlDataFormatWriter(this);
     this.mapper = new DomXmlDataFormatMapper(this);
+    this.xPathExpressionCache = new DomXPathExpressionCache();
   }
 
   @Override
@@ -172,13 +179,25 @@ public class DomXmlDataFormat implements DataFormat<SpinXmlElement> {
     return jaxBContextProvider;
   }
 
+  public DomXPathExpressionCache getXPathExpressionCache() {
+    return xPathExpressionCache;
+  }
+
+  public void setXPathExpressionCache(DomXPathExpressionCache xPathExpressionCache) {
+    this.xPathExpressionCache = xPathExpressionCache;
+  }
+
   public void setDocumentBuilderFactory(DocumentBuilderFactory documentBuilderFactory) {
     this.documentBuilderFactory = documentBuilderFactory;
+    //reader must not reuse document builders of the previous factory
+    this.reader.clearDocumentBuilderPool();
   }
 
   public void setTransformerFactory(TransformerFactory transformerFactory) {
     this.transformerFactory = transformerFactory;
     this.writer.reloadFormattingTemplates();
+    //writer must not reuse transformers of the previous factory
+    this.writer.clearTransformerPools();
   }
 
   public void setJaxBContextProvider(JaxBContextProvider jaxBContextProvider) {
@@ -18,6 +18,8 @@ package org.operaton.spin.impl.xml.dom.format;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.regex.Pattern;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -38,16 +40,31 @@ public class DomXmlDataFormatReader extends TextBasedDataFormatReader {
   private static final DomXmlLogger LOG = DomXmlLogger.XML_DOM_LOGGER;
   private static final Pattern INPUT_MATCHING_PATTERN = Pattern.compile("\\A(\\s)*<");
 
+  /**
+   * The max number of idle document builders which are kept for reuse.
+   */
+  public static final int DEFAULT_POOL_SIZE = 16;
+
   protected DomXmlDataFormat dataFormat;
 
+  /**
+   * Document builders are not thread-safe, so every builder is used by one thread at a time
+   * and returned to the pool afterwards. The pool is replaced if the factory changes.
+   */
+  protected volatile BlockingQueue<DocumentBuilder> documentBuilderPool = new ArrayBlockingQueue<>(DEFAULT_POOL_SIZE);
+
   public DomXmlDataFormatReader(DomXmlDataFormat dataFormat) {
     this.dataFormat = dataFormat;
   }
 
   @Override
   public Element readInput(Reader input) {
+    BlockingQueue<DocumentBuilder> pool = documentBuilderPool;
+    DocumentBuilder documentBuilder = pool.poll();
+    if (documentBuilder == null) {
+      documentBuilder = getDocumentBuilder();
+    }
 
-    DocumentBuilder documentBuilder = getDocumentBuilder();
     try {
       LOG.parsingInput();
       return documentBuilder.parse(new InputSource(input)).getDocumentElement();
@@ -55,9 +72,28 @@ public class DomXmlDataFormatReader extends TextBasedDataFormatReader {
     } catch (SAXException | IOException e) {
       throw LOG.unableToParseInput(e);
 
+    } finally {
+      releaseDocumentBuilder(pool, documentBuilder);
     }
   }
 
+  protected void releaseDocumentBuilder(BlockingQueue<DocumentBuilder> pool, DocumentBuilder documentBuilder) {
+    try {
+      documentBuilder.reset();
+    } catch (UnsupportedOperationException e) {
+      // the builder cannot be restored to its initial state, so it is not reused
+      return;
+    }
+    pool.offer(documentBuilder);
+  }
+
+  /**
+   * Discards the idle document builders, e.g. because the factory was replaced.
+   */
+  public void clearDocumentBuilderPool() {
+    documentBuilderPool = new ArrayBlockingQueue<>(DEFAULT_POOL_SIZE);
+  }
+
   /**
    * @return the DocumentBuilder used by this reader
    */
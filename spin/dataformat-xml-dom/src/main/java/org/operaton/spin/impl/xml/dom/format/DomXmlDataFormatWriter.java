@@ -19,6 +19,8 @@ package org.operaton.spin.impl.xml.dom.format;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Writer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
@@ -46,9 +48,21 @@ public class DomXmlDataFormatWriter implements DataFormatWriter {
 
   protected static final String STRIP_SPACE_XSL = "org/operaton/spin/impl/xml/dom/format/strip-space.xsl";
 
+  /**
+   * The max number of idle transformers which are kept for reuse, per output format.
+   */
+  public static final int DEFAULT_POOL_SIZE = 16;
+
   protected DomXmlDataFormat domXmlDataFormat;
   protected Templates formattingTemplates;
 
+  /**
+   * Transformers are not thread-safe, so every transformer is used by one thread at a time
+   * and returned to its pool afterwards. The pools are replaced if the transformers change.
+   */
+  protected volatile BlockingQueue<Transformer> formattingTransformerPool = new ArrayBlockingQueue<>(DEFAULT_POOL_SIZE);
+  protected volatile BlockingQueue<Transformer> transformerPool = new ArrayBlockingQueue<>(DEFAULT_POOL_SIZE);
+
   public DomXmlDataFormatWriter(DomXmlDataFormat domXmlDataFormat) {
     this.domXmlDataFormat = domXmlDataFormat;
     this.formattingTemplates = reloadFormattingTemplates();
@@ -62,15 +76,30 @@ public class DomXmlDataFormatWriter implements DataFormatWriter {
   protected void writeResult(StreamResult streamResult, Object input) {
     Node node = (Node) input;
     DOMSource domSource = new DOMSource(node);
+    boolean prettyPrint = domXmlDataFormat.isPrettyPrint();
+    BlockingQueue<Transformer> pool = prettyPrint ? formattingTransformerPool : transformerPool;
+
+    Transformer transformer = pool.poll();
+    if (transformer == null) {
+      transformer = prettyPrint ? getFormattingTransformer() : getTransformer();
+    }
+
     try {
-      if (domXmlDataFormat.isPrettyPrint()) {
-        getFormattingTransformer().transform(domSource, streamResult);
-      } else {
-        getTransformer().transform(domSource, streamResult);
-      }
+      transformer.transform(domSource, streamResult);
     } catch (TransformerException e) {
       throw LOG.unableToTransformElement(node, e);
     }
+
+    // the transformer is not reset, since this would also reset its output properties
+    pool.offer(transformer);
+  }
+
+  /**
+   * Discards the idle transformers, e.g. because the transformer factory was replaced.
+   */
+  public void clearTransformerPools() {
+    formattingTransformerPool = new ArrayBlockingQueue<>(DEFAULT_POOL_SIZE);
+    transformerPool = new ArrayBlockingQueue<>(DEFAULT_POOL_SIZE);
   }
 
   /**
@@ -100,6 +129,7 @@ public class DomXmlDataFormatWriter implements DataFormatWriter {
    */
   protected void setFormattingTemplates(Templates formattingTemplates) {
     this.formattingTemplates = formattingTemplates;
+    this.formattingTransformerPool = new ArrayBlockingQueue<>(DEFAULT_POOL_SIZE);
   }
 
   private InputStream getFormattingConfiguration() {
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2025 the Operaton contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.operaton.spin.impl.xml.dom.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+import org.operaton.commons.utils.cache.ConcurrentSegmentedCache;
+import org.w3c.dom.Node;
+
+/**
+ * A bounded cache of compiled XPath expressions, keyed by the expression and the namespaces
+ * it is compiled with.
+ * <p>
+ * A compiled {@link XPathExpression} is neither thread-safe nor reentrant. Therefore, the cache
+ * keeps a small pool of compiled instances per key. An instance is used by one thread at a time
+ * and returned to its pool after the evaluation.
+ *
+ * @see DomXPathNamespaceResolver
+ */
+public class DomXPathExpressionCache {
+
+  public static final int DEFAULT_CAPACITY = 1000;
+
+  /** The max number of compiled instances which are kept per expression. */
+  public static final int DEFAULT_POOL_SIZE = 8;
+
+  protected final ConcurrentSegmentedCache<Key, BlockingQueue<XPathExpression>> cache;
+  protected final int poolSize;
+  protected final XPathFactory xPathFactory = XPathFactory.newInstance();
+
+  protected final LongAdder hitCount = new LongAdder();
+  protected final LongAdder missCount = new LongAdder();
+
+  public DomXPathExpressionCache() {
+    this(DEFAULT_CAPACITY, DEFAULT_POOL_SIZE);
+  }
+
+  public DomXPathExpressionCache(int capacity, int poolSize) {
+    this.cache = new ConcurrentSegmentedCache<>(capacity);
+    this.poolSize = poolSize;
+  }
+
+  /**
+   * Evaluates the expression with a cached compiled instance or compiles it if no instance
+   * is available.
+   *
+   * @param expression the XPath expression
+   * @param resolver the namespaces to compile the expression with
+   * @param node the context node
+   * @param returnType the expected return type as defined by {@link javax.xml.xpath.XPathConstants}
+   * @return the result of the evaluation
+   * @throws XPathExpressionException if the expression cannot be compiled or evaluated
+   */
+  public Object evaluate(String expression, DomXPathNamespaceResolver resolver, Node node, QName returnType) throws XPathExpressionException {
+    Key key = new Key(expression, new NamespaceBindings(resolver.element.namespace(), resolver.namespaces));
+
+    BlockingQueue<XPathExpression> pool = cache.get(key);
+    if (pool == null) {
+      pool = new ArrayBlockingQueue<>(poolSize);
+      cache.put(key, pool);
+    }
+
+    XPathExpression compiledExpression = pool.poll();
+    if (compiledExpression != null) {
+      hitCount.increment();
+    } else {
+      missCount.increment();
+      compiledExpression = compile(key);
+    }
+
+    try {
+      return compiledExpression.evaluate(node, returnType);
+    } finally {
+      pool.offer(compiledExpression);
+    }
+  }
+
+  protected XPathExpression compile(Key key) throws XPathExpressionException {
+    XPath xPath;
+    // the factory is not thread-safe
+    synchronized (xPathFactory) {
+      xPath = xPathFactory.newXPath();
+    }
+    // the bindings do not reference the element, so the cached expression does not retain its document
+    xPath.setNamespaceContext(key.namespaces);
+    return xPath.compile(key.expression);
+  }
+
+  public void clear() {
+    cache.clear();
+  }
+
+  public int size() {
+    return cache.size();
+  }
+
+  /**
+   * @return the number of evaluations which reused a compiled expression
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * @return the number of evaluations which compiled the expression
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  public void resetStatistics() {
+    hitCount.reset();
+    missCount.reset();
+    cache.resetStatistics();
+  }
+
+  protected static class Key {
+
+    protected final String expression;
+    protected final NamespaceBindings namespaces;
+
+    protected Key(String expression, NamespaceBindings namespaces) {
+      this.expression = expression;
+      this.namespaces = namespaces;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key other)) {
+        return false;
+      }
+      return expression.equals(other.expression) && namespaces.equals(other.namespaces);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * expression.hashCode() + namespaces.hashCode();
+    }
+  }
+
+  /**
+   * An immutable copy of the namespaces of a {@link DomXPathNamespaceResolver}.
+   */
+  protected static class NamespaceBindings implements NamespaceContext {
+
+    protected final String defaultNamespace;
+    protected final Map<String, String> namespaces;
+
+    protected NamespaceBindings(String defaultNamespace, Map<String, String> namespaces) {
+      this.defaultNamespace = defaultNamespace;
+      this.namespaces = Collections.unmodifiableMap(new HashMap<>(namespaces));
+    }
+
+    @Override
+    public String getNamespaceURI(String prefix) {
+      if (prefix.equals(XMLConstants.XML_NS_PREFIX)) {
+        return XMLConstants.XML_NS_URI;
+      }
+      if (prefix.equals(XMLConstants.XMLNS_ATTRIBUTE)) {
+        return XMLConstants.XMLNS_ATTRIBUTE_NS_URI;
+      }
+      if (prefix.equals(XMLConstants.DEFAULT_NS_PREFIX)) {
+        return defaultNamespace;
+      }
+      return namespaces.getOrDefault(prefix, XMLConstants.NULL_NS_URI);
+    }
+
+    @Override
+    public String getPrefix(String namespaceURI) {
+      Iterator<String> prefixes = getPrefixes(namespaceURI);
+      return prefixes.hasNext() ? prefixes.next() : null;
+    }
+
+    @Override
+    public Iterator<String> getPrefixes(String namespaceURI) {
+      if (namespaceURI.equals(XMLConstants.XML_NS_URI)) {
+        return Collections.singleton(XMLConstants.XML_NS_PREFIX).iterator();
+      }
+      if (namespaceURI.equals(XMLConstants.XMLNS_ATTRIBUTE_NS_URI)) {
+        return Collections.singleton(XMLConstants.XMLNS_ATTRIBUTE).iterator();
+      }
+      List<String> prefixes = new ArrayList<>();
+      if (namespaceURI.equals(defaultNamespace)) {
+        prefixes.add(XMLConstants.DEFAULT_NS_PREFIX);
+      }
+      for (Map.Entry<String, String> entry : namespaces.entrySet()) {
+        if (namespaceURI.equals(entry.getValue())) {
+          prefixes.add(entry.getKey());
+        }
+      }
+      return prefixes.iterator();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof NamespaceBindings other)) {
+        return false;
+      }
+      return Objects.equals(defaultNamespace, other.defaultNamespace) && namespaces.equals(other.namespaces);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Objects.hashCode(defaultNamespace) + namespaces.hashCode();
+    }
+  }
+
+}
@@ -22,7 +22,7 @@ import static org.operaton.spin.impl.xml.dom.util.DomXmlEnsure.ensureXPathNotNul
 
 import java.util.Map;
 
-import javax.xml.xpath.XPath;
+import javax.xml.namespace.QName;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
 
@@ -47,26 +47,22 @@ public class DomXPathQuery extends SpinXPathQuery {
 
   private static final DomXmlLogger LOG = DomXmlLogger.XML_DOM_LOGGER;
   protected final DomXmlElement domElement;
-  protected final XPath query;
   protected final String expression;
   protected final DomXmlDataFormat dataFormat;
   protected DomXPathNamespaceResolver resolver;
 
-  public DomXPathQuery(DomXmlElement domElement, XPath query, String expression, DomXmlDataFormat dataFormat) {
+  public DomXPathQuery(DomXmlElement domElement, String expression, DomXmlDataFormat dataFormat) {
     this.domElement = domElement;
-    this.query = query;
     this.expression = expression;
     this.dataFormat = dataFormat;
     this.resolver = new DomXPathNamespaceResolver(this.domElement);
-
-    this.query.setNamespaceContext(this.resolver);
   }
 
   @Override
   public SpinXmlElement element() {
     try {
       ensureNotDocumentRootExpression(expression);
-      Element element = (Element) query.evaluate(expression, domElement.unwrap(), XPathConstants.NODE);
+      Element element = (Element) evaluate(XPathConstants.NODE);
       ensureXPathNotNull(element, expression);
       return dataFormat.createElementWrapper(element);
     } catch (XPathExpressionException e) {
@@ -80,7 +76,7 @@ public class DomXPathQuery extends SpinXPathQuery {
   public SpinList<SpinXmlElement> elementList() {
     try {
       ensureNotDocumentRootExpression(expression);
-      NodeList nodeList = (NodeList) query.evaluate(expression, domElement.unwrap(), XPathConstants.NODESET);
+      NodeList nodeList = (NodeList) evaluate(XPathConstants.NODESET);
       ensureXPathNotEmpty(nodeList, expression);
       return new SpinListImpl<>(new DomXmlElementIterable(nodeList, dataFormat));
     } catch (XPathExpressionException e) {
@@ -94,7 +90,7 @@ public class DomXPathQuery extends SpinXPathQuery {
   public SpinXmlAttribute attribute() {
     try {
       ensureNotDocumentRootExpression(expression);
-      Attr attribute = (Attr) query.evaluate(expression, domElement.unwrap(), XPathConstants.NODE);
+      Attr attribute = (Attr) evaluate(XPathConstants.NODE);
       ensureXPathNotNull(attribute, expression);
       return dataFormat.createAttributeWrapper(attribute);
     } catch (XPathExpressionException e) {
@@ -108,7 +104,7 @@ public class DomXPathQuery extends SpinXPathQuery {
   public SpinList<SpinXmlAttribute> attributeList() {
     try {
       ensureNotDocumentRootExpression(expression);
-      NodeList nodeList = (NodeList) query.evaluate(expression, domElement.unwrap(), XPathConstants.NODESET);
+      NodeList nodeList = (NodeList) evaluate(XPathConstants.NODESET);
       ensureXPathNotEmpty(nodeList, expression);
       return new SpinListImpl<>(new DomXmlAttributeIterable(nodeList, dataFormat));
     } catch (XPathExpressionException e) {
@@ -122,7 +118,7 @@ public class DomXPathQuery extends SpinXPathQuery {
   public String string() {
     try {
       ensureNotDocumentRootExpression(expression);
-      return (String) query.evaluate(expression, domElement.unwrap(), XPathConstants.STRING);
+      return (String) evaluate(XPathConstants.STRING);
     } catch (XPathExpressionException e) {
       throw LOG.unableToEvaluateXPathExpressionOnElement(domElement, e);
     } catch (ClassCastException e) {
@@ -134,7 +130,7 @@ public class DomXPathQuery extends SpinXPathQuery {
   public Double number() {
     try {
       ensureNotDocumentRootExpression(expression);
-      return (Double) query.evaluate(expression, domElement.unwrap(), XPathConstants.NUMBER);
+      return (Double) evaluate(XPathConstants.NUMBER);
     } catch (XPathExpressionException e) {
       throw LOG.unableToEvaluateXPathExpressionOnElement(domElement, e);
     } catch (ClassCastException e) {
@@ -146,7 +142,7 @@ public class DomXPathQuery extends SpinXPathQuery {
   public Boolean bool() {
     try {
       ensureNotDocumentRootExpression(expression);
-      return (Boolean) query.evaluate(expression, domElement.unwrap(), XPathConstants.BOOLEAN);
+      return (Boolean) evaluate(XPathConstants.BOOLEAN);
     } catch (XPathExpressionException e) {
       throw LOG.unableToEvaluateXPathExpressionOnElement(domElement, e);
     } catch (ClassCastException e) {
@@ -157,15 +153,20 @@ public class DomXPathQuery extends SpinXPathQuery {
   @Override
   public SpinXPathQuery ns(String prefix, String namespace) {
     resolver.setNamespace(prefix, namespace);
-    query.setNamespaceContext(resolver);
     return this;
   }
 
   @Override
   public SpinXPathQuery ns(Map<String, String> namespaces) {
     resolver.setNamespaces(namespaces);
-    query.setNamespaceContext(resolver);
     return this;
   }
 
+  /**
+   * Evaluates the expression with a compiled instance of the data format's expression cache.
+   */
+  protected Object evaluate(QName returnType) throws XPathExpressionException {
+    return dataFormat.getXPathExpressionCache().evaluate(expression, resolver, domElement.unwrap(), returnType);
+  }
+
 }
@@ -20,11 +20,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.operaton.spin.Spin.S;
 
+import java.io.StringReader;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.operaton.spin.DataFormats;
 import org.operaton.spin.SpinList;
+import org.operaton.spin.impl.xml.dom.format.DomXmlDataFormat;
+import org.operaton.spin.impl.xml.dom.query.DomXPathExpressionCache;
 import org.operaton.spin.xml.SpinXPathException;
 import org.operaton.spin.xml.SpinXPathQuery;
 import org.operaton.spin.xml.SpinXmlAttribute;
@@ -231,4 +235,38 @@ class XmlDomXPathTest {
     assertThat(child.namespace()).isEqualTo("http://operaton.com");
     assertThat(child.attr("id").value()).isEqualTo("child");
   }
+
+  @Test
+  void shouldReuseCompiledExpression() {
+    DomXmlDataFormat dataFormat = new DomXmlDataFormat(DataFormats.XML_DATAFORMAT_NAME);
+    DomXPathExpressionCache cache = dataFormat.getXPathExpressionCache();
+    SpinXmlElement first = read(dataFormat, "<root><child id=\"first\"/></root>");
+    SpinXmlElement second = read(dataFormat, "<root><child id=\"second\"/></root>");
+
+    assertThat(first.xPath("/root/child/@id").string()).isEqualTo("first");
+    assertThat(second.xPath("/root/child/@id").string()).isEqualTo("second");
+
+    assertThat(cache.getMissCount()).isEqualTo(1);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCompileExpressionPerNamespaces() {
+    DomXmlDataFormat dataFormat = new DomXmlDataFormat(DataFormats.XML_DATAFORMAT_NAME);
+    DomXPathExpressionCache cache = dataFormat.getXPathExpressionCache();
+    SpinXmlElement namespacedElement = read(dataFormat, "<root xmlns:bar=\"http://operaton.org\" xmlns:foo=\"http://operaton.com\">"
+        + "<foo:child id=\"foo\"/><bar:child id=\"bar\"/></root>");
+
+    assertThat(namespacedElement.xPath("/root/a:child/@id").ns("a", "http://operaton.com").string()).isEqualTo("foo");
+    assertThat(namespacedElement.xPath("/root/a:child/@id").ns("a", "http://operaton.org").string()).isEqualTo("bar");
+
+    assertThat(cache.getMissCount()).isEqualTo(2);
+    assertThat(cache.getHitCount()).isZero();
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  protected SpinXmlElement read(DomXmlDataFormat dataFormat, String xml) {
+    return dataFormat.createWrapperInstance(dataFormat.getReader().readInput(new StringReader(xml)));
+  }
 }